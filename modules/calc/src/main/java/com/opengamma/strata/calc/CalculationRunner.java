@@ -7,11 +7,17 @@ package com.opengamma.strata.calc;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.runner.BlockingCalculationListener;
+import com.opengamma.strata.calc.runner.CalculationInstrumentation;
 import com.opengamma.strata.calc.runner.CalculationListener;
 import com.opengamma.strata.calc.runner.CalculationTaskRunner;
+import com.opengamma.strata.calc.runner.CalculationTasks;
+import com.opengamma.strata.calc.runner.StreamingResultsListener;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -54,6 +60,36 @@ public interface CalculationRunner extends AutoCloseable {
     return DefaultCalculationRunner.ofMultiThreaded();
   }
 
+  /**
+   * Creates a multi-threaded calculation runner using a work-stealing pool.
+   * <p>
+   * This factory creates a {@link ForkJoinPool} basing the parallelism on the number of available processors.
+   * Each thread has its own queue of tasks, with idle threads stealing tasks from busy ones.
+   * This gives better load balancing than {@link #ofMultiThreaded()} when the cost of the tasks varies widely.
+   * It is recommended to use try-with-resources to manage the runner.
+   * <p>
+   * The underlying {@link #getTaskRunner() task runner} can be used to compare the performance
+   * of different runners on the same {@link CalculationTasks}.
+   * 
+   * @return the calculation runner
+   */
+  public static CalculationRunner ofWorkStealing() {
+    return DefaultCalculationRunner.ofWorkStealing();
+  }
+
+  /**
+   * Creates a calculation runner that runs each task in its own virtual thread.
+   * <p>
+   * Virtual threads are only available from Java 21.
+   * It is recommended to use try-with-resources to manage the runner.
+   * 
+   * @return the calculation runner
+   * @throws UnsupportedOperationException if virtual threads are not supported by the runtime
+   */
+  public static CalculationRunner ofVirtualThreads() {
+    return DefaultCalculationRunner.ofVirtualThreads();
+  }
+
   /**
    * Creates a calculation runner capable of performing calculations, specifying the executor.
    * <p>
@@ -112,6 +148,46 @@ public interface CalculationRunner extends AutoCloseable {
       ReferenceData refData,
       CalculationListener listener);
 
+  /**
+   * Performs calculations for a single set of market data, invoking a listener as each calculation completes
+   * and limiting the number of calculations in progress.
+   * <p>
+   * This is intended for very large sets of calculations where the results are written out as they
+   * are produced, typically using a {@link StreamingResultsListener}.
+   * When the maximum number of calculations are in progress, this method waits before submitting more.
+   * Thus, if the listener is slow, the calculations are slowed down rather than the results accumulating in memory.
+   * <p>
+   * This method blocks until the listener has received all the results.
+   * <p>
+   * The default implementation invokes
+   * {@link #calculateAsync(CalculationRules, List, List, MarketData, ReferenceData, CalculationListener)}
+   * and waits until the listener has been notified that the calculations are complete.
+   * It does not limit the number of calculations in progress.
+   * 
+   * @param calculationRules  the rules defining how the calculation is performed
+   * @param targets  the targets for which values of the measures will be calculated
+   * @param columns  the configuration for the columns that will be calculated,
+   *   including the measure and any column-specific overrides
+   * @param marketData  the market data to be used in the calculations
+   * @param refData  the reference data to be used in the calculations
+   * @param listener  listener that is invoked when individual results are calculated
+   * @param maxPendingTasks  the maximum number of calculation tasks in progress at any time
+   */
+  public default void calculateStreaming(
+      CalculationRules calculationRules,
+      List<? extends CalculationTarget> targets,
+      List<Column> columns,
+      MarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      int maxPendingTasks) {
+
+    ArgChecker.notNegativeOrZero(maxPendingTasks, "maxPendingTasks");
+    BlockingCalculationListener blockingListener = BlockingCalculationListener.of(listener);
+    calculateAsync(calculationRules, targets, columns, marketData, refData, blockingListener);
+    blockingListener.awaitCompletion();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for multiple scenarios, each with a different set of market data.
@@ -158,6 +234,46 @@ public interface CalculationRunner extends AutoCloseable {
       ReferenceData refData,
       CalculationListener listener);
 
+  /**
+   * Performs calculations for multiple scenarios, each with a different set of market data,
+   * invoking a listener as each calculation completes and limiting the number of calculations in progress.
+   * <p>
+   * This is intended for very large sets of calculations where the results are written out as they
+   * are produced, typically using a {@link StreamingResultsListener}.
+   * When the maximum number of calculations are in progress, this method waits before submitting more.
+   * Thus, if the listener is slow, the calculations are slowed down rather than the results accumulating in memory.
+   * <p>
+   * This method blocks until the listener has received all the results.
+   * <p>
+   * The default implementation invokes
+   * {@link #calculateMultiScenarioAsync(CalculationRules, List, List, ScenarioMarketData, ReferenceData, CalculationListener)}
+   * and waits until the listener has been notified that the calculations are complete.
+   * It does not limit the number of calculations in progress.
+   * 
+   * @param calculationRules  the rules defining how the calculation is performed
+   * @param targets  the targets for which values of the measures will be calculated
+   * @param columns  the configuration for the columns that will be calculated,
+   *   including the measure and any column-specific overrides
+   * @param marketData  the market data to be used in the calculations
+   * @param refData  the reference data to be used in the calculations
+   * @param listener  listener that is invoked when individual results are calculated
+   * @param maxPendingTasks  the maximum number of calculation tasks in progress at any time
+   */
+  public default void calculateMultiScenarioStreaming(
+      CalculationRules calculationRules,
+      List<? extends CalculationTarget> targets,
+      List<Column> columns,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      int maxPendingTasks) {
+
+    ArgChecker.notNegativeOrZero(maxPendingTasks, "maxPendingTasks");
+    BlockingCalculationListener blockingListener = BlockingCalculationListener.of(listener);
+    calculateMultiScenarioAsync(calculationRules, targets, columns, marketData, refData, blockingListener);
+    blockingListener.awaitCompletion();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Gets the underlying task runner.
@@ -171,6 +287,26 @@ public interface CalculationRunner extends AutoCloseable {
    */
   public abstract CalculationTaskRunner getTaskRunner();
 
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a runner that records the resources used by each calculation in the specified instrumentation.
+   * <p>
+   * The wall-clock time, CPU time and allocated bytes of each calculation are recorded, aggregated
+   * by the type of calculation function and by measure. The aggregates are available from
+   * {@link CalculationInstrumentation#metrics()} once the calculations are complete.
+   * <p>
+   * The returned runner shares the executor of this runner, thus closing either runner closes both.
+   * <p>
+   * The default implementation returns a standard runner using the instrumented form of the task runner,
+   * see {@link CalculationTaskRunner#withInstrumentation(CalculationInstrumentation)}.
+   *
+   * @param instrumentation  the instrumentation that records the resources used
+   * @return a runner that records the resources used by each calculation
+   */
+  public default CalculationRunner withInstrumentation(CalculationInstrumentation instrumentation) {
+    return new DefaultCalculationRunner(getTaskRunner().withInstrumentation(instrumentation));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Closes any resources held by the component.
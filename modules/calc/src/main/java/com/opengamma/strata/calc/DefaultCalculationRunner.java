@@ -47,6 +47,25 @@ class DefaultCalculationRunner implements CalculationRunner {
     return new DefaultCalculationRunner(CalculationTaskRunner.ofMultiThreaded());
   }
 
+  /**
+   * Creates a multi-threaded calculation runner using a work-stealing pool.
+   * 
+   * @return the calculation runner
+   */
+  static DefaultCalculationRunner ofWorkStealing() {
+    return new DefaultCalculationRunner(CalculationTaskRunner.ofWorkStealing());
+  }
+
+  /**
+   * Creates a calculation runner that runs each task in its own virtual thread.
+   * 
+   * @return the calculation runner
+   * @throws UnsupportedOperationException if virtual threads are not supported by the runtime
+   */
+  static DefaultCalculationRunner ofVirtualThreads() {
+    return new DefaultCalculationRunner(CalculationTaskRunner.ofVirtualThreads());
+  }
+
   /**
    * Creates a calculation runner capable of performing calculations, specifying the executor.
    * <p>
@@ -95,6 +114,20 @@ class DefaultCalculationRunner implements CalculationRunner {
     taskRunner.calculateAsync(tasks, marketData, refData, listener);
   }
 
+  @Override
+  public void calculateStreaming(
+      CalculationRules calculationRules,
+      List<? extends CalculationTarget> targets,
+      List<Column> columns,
+      MarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      int maxPendingTasks) {
+
+    CalculationTasks tasks = CalculationTasks.of(calculationRules, targets, columns, refData);
+    taskRunner.calculateStreaming(tasks, marketData, refData, listener, maxPendingTasks);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public Results calculateMultiScenario(
@@ -121,6 +154,20 @@ class DefaultCalculationRunner implements CalculationRunner {
     taskRunner.calculateMultiScenarioAsync(tasks, marketData, refData, listener);
   }
 
+  @Override
+  public void calculateMultiScenarioStreaming(
+      CalculationRules calculationRules,
+      List<? extends CalculationTarget> targets,
+      List<Column> columns,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      int maxPendingTasks) {
+
+    CalculationTasks tasks = CalculationTasks.of(calculationRules, targets, columns, refData);
+    taskRunner.calculateMultiScenarioStreaming(tasks, marketData, refData, listener, maxPendingTasks);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public CalculationTaskRunner getTaskRunner() {
@@ -10,13 +10,19 @@ import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.runner.CalculationInstrumentation;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.collect.tuple.Pair;
@@ -30,6 +36,17 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default market data factory.
  * <p>
  * This uses two providers, one for observable data and one for time-series.
+ * <p>
+ * If an executor is specified, the non-observable market data in each layer of the dependency tree
+ * is built concurrently using the executor. The items in a layer have no dependencies on each other,
+ * so the result is the same as building them serially.
+ * <p>
+ * If a cache is specified, the non-observable market data built by the market data functions is stored
+ * in the cache, keyed by the inputs used to build it. Market data that has already been built from the
+ * same inputs is taken from the cache instead of being built again.
+ * <p>
+ * If instrumentation is specified, the resources used to build each item of non-observable market data
+ * are recorded. Market data taken from the cache is not recorded.
  */
 final class DefaultMarketDataFactory implements MarketDataFactory {
 
@@ -42,6 +59,15 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   /** Market data functions, keyed by the type of the market data ID they can handle. */
   private final Map<Class<? extends MarketDataId<?>>, MarketDataFunction<?, ?>> functions;
 
+  /** Executes the market data functions, null if market data is built on the calling thread. */
+  private final Executor executor;
+
+  /** Caches the market data built by the market data functions, null if market data is not cached. */
+  private final MarketDataCache cache;
+
+  /** Records the resources used to build the market data, null if not instrumented. */
+  private final CalculationInstrumentation instrumentation;
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance of the factory based on providers of market data and time-series.
@@ -52,14 +78,84 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
    * @param timeSeriesProvider  the provider time-series
    * @param functions  the functions that create the market data
    */
-  @SuppressWarnings("unchecked")
   DefaultMarketDataFactory(
       ObservableDataProvider observableDataProvider,
       TimeSeriesProvider timeSeriesProvider,
       List<MarketDataFunction<?, ?>> functions) {
 
+    this(observableDataProvider, timeSeriesProvider, functions, null);
+  }
+
+  /**
+   * Creates an instance of the factory based on providers of market data and time-series,
+   * specifying the executor used to build the market data.
+   * <p>
+   * The market data functions are used to build the market data.
+   * The independent items of market data in each layer of the dependency tree are built using the executor.
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param functions  the functions that create the market data
+   * @param executor  the executor used to build the market data, null to build on the calling thread
+   */
+  DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions,
+      Executor executor) {
+
+    this(observableDataProvider, timeSeriesProvider, functions, executor, null);
+  }
+
+  /**
+   * Creates an instance of the factory based on providers of market data and time-series,
+   * specifying the executor used to build the market data and the cache of built market data.
+   * <p>
+   * The market data functions are used to build the market data.
+   * The independent items of market data in each layer of the dependency tree are built using the executor.
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param functions  the functions that create the market data
+   * @param executor  the executor used to build the market data, null to build on the calling thread
+   * @param cache  the cache of built market data, null to not cache market data
+   */
+  DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions,
+      Executor executor,
+      MarketDataCache cache) {
+
+    this(observableDataProvider, timeSeriesProvider, functions, executor, cache, null);
+  }
+
+  /**
+   * Creates an instance of the factory based on providers of market data and time-series,
+   * specifying the executor, the cache of built market data and the instrumentation.
+   *
+   * @param observableDataProvider  the provider observable market data
+   * @param timeSeriesProvider  the provider time-series
+   * @param functions  the functions that create the market data
+   * @param executor  the executor used to build the market data, null to build on the calling thread
+   * @param cache  the cache of built market data, null to not cache market data
+   * @param instrumentation  records the resources used to build the market data, null if not instrumented
+   */
+  private DefaultMarketDataFactory(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      List<MarketDataFunction<?, ?>> functions,
+      Executor executor,
+      MarketDataCache cache,
+      CalculationInstrumentation instrumentation) {
+
+    this.instrumentation = instrumentation;
     this.observableDataProvider = observableDataProvider;
     this.timeSeriesProvider = timeSeriesProvider;
+    this.executor = executor;
+    this.cache = cache;
 
     // Use a HashMap instead of an ImmutableMap.Builder so values can be overwritten.
     // If the functions argument includes a missing mapping builder it can overwrite the one inserted below
@@ -69,6 +165,18 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     this.functions = ImmutableMap.copyOf(builderMap);
   }
 
+  //-------------------------------------------------------------------------
+  @Override
+  public MarketDataFactory withInstrumentation(CalculationInstrumentation instrumentation) {
+    return new DefaultMarketDataFactory(
+        observableDataProvider,
+        timeSeriesProvider,
+        ImmutableList.copyOf(functions.values()),
+        executor,
+        cache,
+        ArgChecker.notNull(instrumentation, "instrumentation"));
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public BuiltMarketData create(
@@ -202,18 +310,38 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
   }
 
   //-------------------------------------------------------------------------
+  /**
+   * Finds the market data function that can build the market data identified by an ID.
+   *
+   * @param id  ID of the market data that should be built
+   * @return the market data function
+   */
+  @SuppressWarnings("unchecked")
+  private MarketDataFunction<?, ?> findFunction(MarketDataId<?> id) {
+    // This cast removes a spurious warning
+    Class<? extends MarketDataId<?>> idClass = (Class<? extends MarketDataId<?>>) id.getClass();
+    MarketDataFunction<?, ?> marketDataFunction = functions.get(idClass);
+
+    if (marketDataFunction == null) {
+      throw new IllegalStateException("No market data function available for market data ID of type " + idClass.getName());
+    }
+    return marketDataFunction;
+  }
+
   /**
    * Builds items of non-observable market data using a market data function.
    *
    * @param id  ID of the market data that should be built
+   * @param marketDataFunction  the function that builds the market data
    * @param marketDataConfig  configuration specifying how the market data should be built
    * @param suppliedData  existing set of market data that contains any data required to build the values
    * @param refData  the reference data, used to resolve trades
    * @return a result containing the market data or details of why it wasn't built
    */
   @SuppressWarnings({"unchecked", "rawtypes"})
-  private Result<MarketDataBox<?>> buildNonObservableData(
+  private static Result<MarketDataBox<?>> buildNonObservableData(
       MarketDataId id,
+      MarketDataFunction marketDataFunction,
       MarketDataConfig marketDataConfig,
       BuiltScenarioMarketData suppliedData,
       ReferenceData refData) {
@@ -223,26 +351,90 @@ final class DefaultMarketDataFactory implements MarketDataFactory {
     // In this class a mixture of functions with different types are stored in a map. This loses the type
     // parameter information. When the functions are extracted from the map and used it's impossible to
     // convince the compiler the operations are safe, although the logic guarantees it.
+    return Result.of(() -> marketDataFunction.build(id, marketDataConfig, suppliedData, refData));
+  }
 
-    // This cast removes a spurious warning
-    Class<? extends MarketDataId<?>> idClass = (Class<? extends MarketDataId<?>>) id.getClass();
-    MarketDataFunction marketDataFunction = functions.get(idClass);
+  /**
+   * Builds an item of non-observable market data, using the cache if available.
+   * <p>
+   * If the requirements of the function cannot be determined, the market data is built and not cached.
+   * Failures are not cached.
+   *
+   * @param id  ID of the market data that should be built
+   * @param marketDataFunction  the function that builds the market data
+   * @param marketDataConfig  configuration specifying how the market data should be built
+   * @param suppliedData  existing set of market data that contains any data required to build the values
+   * @param refData  the reference data, used to resolve trades
+   * @return a result containing the market data or details of why it wasn't built
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Result<MarketDataBox<?>> buildOrFindNonObservableData(
+      MarketDataId id,
+      MarketDataFunction marketDataFunction,
+      MarketDataConfig marketDataConfig,
+      BuiltScenarioMarketData suppliedData,
+      ReferenceData refData) {
 
-    if (marketDataFunction == null) {
-      throw new IllegalStateException("No market data function available for market data ID of type " + idClass.getName());
+    if (cache == null) {
+      return instrumentedBuild(id, marketDataFunction, marketDataConfig, suppliedData, refData);
     }
-    return Result.of(() -> marketDataFunction.build(id, marketDataConfig, suppliedData, refData));
+    Result<MarketDataCacheKey> keyResult = Result.of(() -> MarketDataCacheKey.of(
+        id, marketDataFunction.requirements(id, marketDataConfig), marketDataConfig, suppliedData, refData));
+    if (keyResult.isFailure()) {
+      return instrumentedBuild(id, marketDataFunction, marketDataConfig, suppliedData, refData);
+    }
+    MarketDataCacheKey key = keyResult.getValue();
+    Optional<MarketDataBox<?>> cached = cache.find(key);
+    if (cached.isPresent()) {
+      return Result.success(cached.get());
+    }
+    Result<MarketDataBox<?>> result =
+        instrumentedBuild(id, marketDataFunction, marketDataConfig, suppliedData, refData);
+    if (result.isSuccess()) {
+      cache.put(key, result.getValue());
+    }
+    return result;
+  }
+
+  // builds an item of non-observable market data, recording the resources used if instrumented
+  private Result<MarketDataBox<?>> instrumentedBuild(
+      MarketDataId<?> id,
+      MarketDataFunction<?, ?> marketDataFunction,
+      MarketDataConfig marketDataConfig,
+      BuiltScenarioMarketData suppliedData,
+      ReferenceData refData) {
+
+    if (instrumentation == null) {
+      return buildNonObservableData(id, marketDataFunction, marketDataConfig, suppliedData, refData);
+    }
+    return instrumentation.recordMarketData(
+        id, () -> buildNonObservableData(id, marketDataFunction, marketDataConfig, suppliedData, refData));
   }
 
-  @SuppressWarnings("unchecked")
   private Map<MarketDataId<?>, Result<MarketDataBox<?>>> buildNonObservableData(
       Set<? extends MarketDataId<?>> ids,
       MarketDataConfig marketDataConfig,
       BuiltScenarioMarketData marketData,
       ReferenceData refData) {
 
-    return ids.stream()
-        .collect(toImmutableMap(id -> id, id -> buildNonObservableData(id, marketDataConfig, marketData, refData)));
+    if (executor == null || ids.size() <= 1) {
+      return ids.stream()
+          .collect(toImmutableMap(
+              id -> id,
+              id -> buildOrFindNonObservableData(id, findFunction(id), marketDataConfig, marketData, refData)));
+    }
+    // the functions are looked up on the calling thread so a missing function fails in the same way
+    // as the serial path, the results are collected in the iteration order of the IDs
+    Map<MarketDataId<?>, CompletableFuture<Result<MarketDataBox<?>>>> futures = new LinkedHashMap<>();
+    for (MarketDataId<?> id : ids) {
+      MarketDataFunction<?, ?> marketDataFunction = findFunction(id);
+      futures.put(id, CompletableFuture.supplyAsync(
+          () -> buildOrFindNonObservableData(id, marketDataFunction, marketDataConfig, marketData, refData),
+          executor));
+    }
+    return MapStream.of(futures)
+        .mapValues(CompletableFuture::join)
+        .toMap();
   }
 
   /**
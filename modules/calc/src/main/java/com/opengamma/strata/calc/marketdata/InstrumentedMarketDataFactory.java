@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.runner.CalculationInstrumentation;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Market data factory that decorates another factory, recording the resources used to build market data.
+ * <p>
+ * This is the default implementation of {@link MarketDataFactory#withInstrumentation(CalculationInstrumentation)}.
+ * The underlying factory builds all the required market data in a single call, thus the resources
+ * used by each call are apportioned equally between the observable and non-observable identifiers
+ * in the requirements.
+ */
+final class InstrumentedMarketDataFactory implements MarketDataFactory {
+
+  /**
+   * The underlying factory.
+   */
+  private final MarketDataFactory delegate;
+  /**
+   * The instrumentation that records the resources used.
+   */
+  private final CalculationInstrumentation instrumentation;
+
+  /**
+   * Creates an instance.
+   *
+   * @param delegate  the underlying factory
+   * @param instrumentation  the instrumentation that records the resources used
+   */
+  InstrumentedMarketDataFactory(MarketDataFactory delegate, CalculationInstrumentation instrumentation) {
+    this.delegate = ArgChecker.notNull(delegate, "delegate");
+    this.instrumentation = ArgChecker.notNull(instrumentation, "instrumentation");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public BuiltMarketData create(
+      MarketDataRequirements requirements,
+      MarketDataConfig marketDataConfig,
+      MarketData suppliedData,
+      ReferenceData refData) {
+
+    return instrumentation.recordMarketData(
+        ids(requirements),
+        () -> delegate.create(requirements, marketDataConfig, suppliedData, refData));
+  }
+
+  @Override
+  public BuiltScenarioMarketData createMultiScenario(
+      MarketDataRequirements requirements,
+      MarketDataConfig marketDataConfig,
+      MarketData suppliedData,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
+    return instrumentation.recordMarketData(
+        ids(requirements),
+        () -> delegate.createMultiScenario(requirements, marketDataConfig, suppliedData, refData, scenarioDefinition));
+  }
+
+  @Override
+  public BuiltScenarioMarketData createMultiScenario(
+      MarketDataRequirements requirements,
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData suppliedData,
+      ReferenceData refData,
+      ScenarioDefinition scenarioDefinition) {
+
+    return instrumentation.recordMarketData(
+        ids(requirements),
+        () -> delegate.createMultiScenario(requirements, marketDataConfig, suppliedData, refData, scenarioDefinition));
+  }
+
+  // the identifiers of the market data that is built
+  private static ImmutableSet<MarketDataId<?>> ids(MarketDataRequirements requirements) {
+    return ImmutableSet.<MarketDataId<?>>builder()
+        .addAll(requirements.getObservables())
+        .addAll(requirements.getNonObservables())
+        .build();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "InstrumentedMarketDataFactory[" + delegate + "]";
+  }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+
+/**
+ * A market data cache that discards the least recently used market data when full.
+ * <p>
+ * The cache is bounded by the total weight of the market data it holds.
+ * Only the market data values are weighed, the keys do not contribute to the weight.
+ */
+final class LruMarketDataCache implements MarketDataCache {
+
+  /** The maximum total weight of the cached market data. */
+  private final long maximumWeight;
+  /** The function that determines the weight of an item of market data. */
+  private final ToLongFunction<MarketDataBox<?>> weigher;
+  /** The cached market data and its weight, in access order. */
+  private final LinkedHashMap<MarketDataCacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  /** The total weight of the cached market data. */
+  private long totalWeight;
+
+  /**
+   * Creates an instance.
+   *
+   * @param maximumWeight  the maximum total weight of the cached market data
+   * @param weigher  the function that determines the weight of an item of market data
+   */
+  LruMarketDataCache(long maximumWeight, ToLongFunction<MarketDataBox<?>> weigher) {
+    this.maximumWeight = ArgChecker.notNegative(maximumWeight, "maximumWeight");
+    this.weigher = ArgChecker.notNull(weigher, "weigher");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public synchronized Optional<MarketDataBox<?>> find(MarketDataCacheKey key) {
+    Entry entry = entries.get(key);
+    return entry != null ? Optional.of(entry.value) : Optional.empty();
+  }
+
+  @Override
+  public void put(MarketDataCacheKey key, MarketDataBox<?> value) {
+    ArgChecker.notNull(key, "key");
+    ArgChecker.notNull(value, "value");
+    // the weigher is invoked outside the lock as it may be expensive
+    long weight = weigher.applyAsLong(value);
+    ArgChecker.notNegative(weight, "weight");
+    synchronized (this) {
+      Entry previous = entries.remove(key);
+      if (previous != null) {
+        totalWeight -= previous.weight;
+      }
+      if (weight > maximumWeight) {
+        return;
+      }
+      entries.put(key, new Entry(value, weight));
+      totalWeight += weight;
+      Iterator<Entry> it = entries.values().iterator();
+      while (totalWeight > maximumWeight) {
+        totalWeight -= it.next().weight;
+        it.remove();
+      }
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    entries.clear();
+    totalWeight = 0;
+  }
+
+  @Override
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  @Override
+  public synchronized long weight() {
+    return totalWeight;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public synchronized String toString() {
+    return "LruMarketDataCache[size=" + entries.size() + ", weight=" + totalWeight +
+        ", maximumWeight=" + maximumWeight + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  // an item of market data and its weight
+  private static final class Entry {
+
+    private final MarketDataBox<?> value;
+    private final long weight;
+
+    private Entry(MarketDataBox<?> value, long weight) {
+      this.value = value;
+      this.weight = weight;
+    }
+  }
+
+}
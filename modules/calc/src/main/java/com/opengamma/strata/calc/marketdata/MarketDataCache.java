@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+import com.opengamma.strata.data.scenario.MarketDataBox;
+
+/**
+ * A cache of market data built by market data functions.
+ * <p>
+ * This plugin point allows the market data built by a {@link MarketDataFactory} to be reused
+ * across calls to the factory. When the factory is created with a cache, each item of market data
+ * built by a {@link MarketDataFunction} is stored in the cache, keyed by a {@link MarketDataCacheKey}.
+ * The key contains the identifier of the market data and all the inputs used to build it.
+ * If a later call to the factory needs to build the same market data from the same inputs,
+ * the value is taken from the cache instead of being built again.
+ * <p>
+ * This is intended to avoid repeating expensive operations, such as curve calibration,
+ * when the same market data is built many times in the same JVM, for example when
+ * running multiple reports or what-if calculations.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+public interface MarketDataCache {
+
+  /**
+   * Obtains a cache holding up to the specified number of scenario values.
+   * <p>
+   * The weight of each item of market data is the number of scenarios in its box,
+   * with a box containing a single value for all scenarios having a weight of one.
+   * When the total weight exceeds the maximum, the least recently used items are discarded.
+   *
+   * @param maximumSize  the maximum number of scenario values to hold
+   * @return the cache
+   */
+  public static MarketDataCache ofMaximumSize(long maximumSize) {
+    return new LruMarketDataCache(maximumSize, box -> box.isSingleValue() ? 1 : box.getScenarioCount());
+  }
+
+  /**
+   * Obtains a cache holding up to the specified total weight.
+   * <p>
+   * The weigher determines the weight of each item of market data, typically an estimate of its
+   * size in memory. When the total weight exceeds the maximum, the least recently used items are discarded.
+   * An item whose weight exceeds the maximum is not cached.
+   * <p>
+   * The bound applies to the market data values only. The keys are not weighed, thus the memory
+   * used by the keys, including any configuration they hold, is in addition to the maximum weight.
+   *
+   * @param maximumWeight  the maximum total weight of the cached market data
+   * @param weigher  the function that determines the weight of an item of market data
+   * @return the cache
+   */
+  public static MarketDataCache ofMaximumWeight(long maximumWeight, ToLongFunction<MarketDataBox<?>> weigher) {
+    return new LruMarketDataCache(maximumWeight, weigher);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Finds the market data built from the inputs in the key.
+   *
+   * @param key  the key containing the identifier and the inputs of the market data
+   * @return the market data, empty if not in the cache
+   */
+  public abstract Optional<MarketDataBox<?>> find(MarketDataCacheKey key);
+
+  /**
+   * Adds market data to the cache.
+   *
+   * @param key  the key containing the identifier and the inputs of the market data
+   * @param value  the market data built from the inputs
+   */
+  public abstract void put(MarketDataCacheKey key, MarketDataBox<?> value);
+
+  /**
+   * Removes all the market data from the cache.
+   */
+  public abstract void clear();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the number of items of market data in the cache.
+   *
+   * @return the number of items of market data
+   */
+  public abstract int size();
+
+  /**
+   * Returns the total weight of the market data in the cache.
+   * <p>
+   * This is the sum of the weights of the cached items, as determined by the weigher of the cache.
+   *
+   * @return the total weight
+   */
+  public abstract long weight();
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * The key of an item of market data in a {@link MarketDataCache}.
+ * <p>
+ * This contains the identifier of the market data and all the inputs used to build it.
+ * The inputs are the market data configuration, the valuation date and the values of the market data
+ * and time-series declared in the {@linkplain MarketDataFunction#requirements requirements} of the function.
+ * The reference data is compared by identity, as comparing the contents would be too expensive.
+ * <p>
+ * Two keys are equal if the identifier and all the inputs are equal, in which case a market data
+ * function will build the same market data from them.
+ * The hash code is calculated once, when the key is created, and acts as a fingerprint of the inputs.
+ */
+public final class MarketDataCacheKey {
+
+  /** The identifier of the market data. */
+  private final MarketDataId<?> id;
+  /** The configuration used to build the market data. */
+  private final MarketDataConfig marketDataConfig;
+  /** The reference data used to build the market data, compared by identity. */
+  private final ReferenceData refData;
+  /** The valuation date of the input market data. */
+  private final MarketDataBox<LocalDate> valuationDate;
+  /** The values of the input market data, empty if not available. */
+  private final ImmutableMap<MarketDataId<?>, Optional<? extends MarketDataBox<?>>> values;
+  /** The time-series of the input market data. */
+  private final ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> timeSeries;
+  /** The hash code. */
+  private final int hashCode;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a key for market data built from the specified inputs.
+   * <p>
+   * The values of the market data and time-series in the requirements are taken from the market data.
+   *
+   * @param id  the identifier of the market data
+   * @param requirements  the requirements of the market data function that builds the market data
+   * @param marketDataConfig  the configuration used to build the market data
+   * @param marketData  the market data used to build the market data
+   * @param refData  the reference data used to build the market data
+   * @return the key
+   */
+  public static MarketDataCacheKey of(
+      MarketDataId<?> id,
+      MarketDataRequirements requirements,
+      MarketDataConfig marketDataConfig,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    ImmutableMap.Builder<MarketDataId<?>, Optional<? extends MarketDataBox<?>>> values = ImmutableMap.builder();
+    for (MarketDataId<?> inputId : requirements.getObservables()) {
+      values.put(inputId, marketData.findValue(inputId));
+    }
+    for (MarketDataId<?> inputId : requirements.getNonObservables()) {
+      values.put(inputId, marketData.findValue(inputId));
+    }
+    ImmutableMap.Builder<ObservableId, LocalDateDoubleTimeSeries> timeSeries = ImmutableMap.builder();
+    for (ObservableId inputId : requirements.getTimeSeries()) {
+      timeSeries.put(inputId, marketData.getTimeSeries(inputId));
+    }
+    return new MarketDataCacheKey(
+        id, marketDataConfig, refData, marketData.getValuationDate(), values.build(), timeSeries.build());
+  }
+
+  // creates an instance
+  private MarketDataCacheKey(
+      MarketDataId<?> id,
+      MarketDataConfig marketDataConfig,
+      ReferenceData refData,
+      MarketDataBox<LocalDate> valuationDate,
+      ImmutableMap<MarketDataId<?>, Optional<? extends MarketDataBox<?>>> values,
+      ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> timeSeries) {
+
+    this.id = ArgChecker.notNull(id, "id");
+    this.marketDataConfig = ArgChecker.notNull(marketDataConfig, "marketDataConfig");
+    this.refData = ArgChecker.notNull(refData, "refData");
+    this.valuationDate = valuationDate;
+    this.values = values;
+    this.timeSeries = timeSeries;
+    this.hashCode = Objects.hash(
+        id, marketDataConfig, System.identityHashCode(refData), valuationDate, values, timeSeries);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the identifier of the market data.
+   *
+   * @return the identifier
+   */
+  public MarketDataId<?> getId() {
+    return id;
+  }
+
+  /**
+   * Gets the values of the input market data, keyed by identifier.
+   * <p>
+   * The value is empty if the input market data was not available.
+   *
+   * @return the values of the input market data
+   */
+  public Map<MarketDataId<?>, Optional<? extends MarketDataBox<?>>> getValues() {
+    return values;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj instanceof MarketDataCacheKey) {
+      MarketDataCacheKey other = (MarketDataCacheKey) obj;
+      return hashCode == other.hashCode &&
+          refData == other.refData &&
+          id.equals(other.id) &&
+          valuationDate.equals(other.valuationDate) &&
+          values.equals(other.values) &&
+          timeSeries.equals(other.timeSeries) &&
+          marketDataConfig.equals(other.marketDataConfig);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return "MarketDataCacheKey[id=" + id + ", inputs=" + values.keySet() + ", timeSeries=" + timeSeries.keySet() + "]";
+  }
+
+}
@@ -6,10 +6,13 @@
 package com.opengamma.strata.calc.marketdata;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.runner.CalculationInstrumentation;
 import com.opengamma.strata.calc.runner.CalculationTasks;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -74,6 +77,134 @@ public interface MarketDataFactory {
     return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions);
   }
 
+  /**
+   * Obtains an instance of the factory based on providers of market data and time-series,
+   * specifying the executor used to build the market data.
+   * <p>
+   * The market data functions are used to build the market data.
+   * The market data is built in layers, where each layer depends only on the layers built before it.
+   * The items in each layer are built concurrently using the executor.
+   * The resulting market data, including any failures, is the same as when building serially.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param executor  the executor used to build the market data
+   * @param functions  the functions that create the market data
+   * @return the market data factory
+   */
+  public static MarketDataFactory of(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      Executor executor,
+      MarketDataFunction<?, ?>... functions) {
+
+    return of(observableDataProvider, timeSeriesProvider, executor, ImmutableList.copyOf(functions));
+  }
+
+  /**
+   * Obtains an instance of the factory based on providers of market data and time-series,
+   * specifying the executor used to build the market data.
+   * <p>
+   * The market data functions are used to build the market data.
+   * The market data is built in layers, where each layer depends only on the layers built before it.
+   * The items in each layer are built concurrently using the executor.
+   * The resulting market data, including any failures, is the same as when building serially.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param executor  the executor used to build the market data
+   * @param functions  the functions that create the market data
+   * @return the market data factory
+   */
+  public static MarketDataFactory of(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      Executor executor,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    ArgChecker.notNull(executor, "executor");
+    return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions, executor);
+  }
+
+  /**
+   * Obtains an instance of the factory based on providers of market data and time-series,
+   * specifying the cache of built market data.
+   * <p>
+   * The market data functions are used to build the market data.
+   * Each item of market data built by a function is stored in the cache, keyed by the inputs used to build it.
+   * When the same market data is required again and the inputs are unchanged, the cached value is used.
+   * The cache can be shared between factories and is typically retained between calls to the factory.
+   *
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param cache  the cache of built market data
+   * @param functions  the functions that create the market data
+   * @return the market data factory
+   */
+  public static MarketDataFactory of(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      MarketDataCache cache,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    ArgChecker.notNull(cache, "cache");
+    return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions, null, cache);
+  }
+
+  /**
+   * Obtains an instance of the factory based on providers of market data and time-series,
+   * specifying the executor used to build the market data and the cache of built market data.
+   * <p>
+   * The market data functions are used to build the market data.
+   * The items in each layer of the market data are built concurrently using the executor.
+   * Each item of market data built by a function is stored in the cache, keyed by the inputs used to build it.
+   * When the same market data is required again and the inputs are unchanged, the cached value is used.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param observableDataProvider  the provider of observable market data
+   * @param timeSeriesProvider  the provider of time-series
+   * @param executor  the executor used to build the market data
+   * @param cache  the cache of built market data
+   * @param functions  the functions that create the market data
+   * @return the market data factory
+   */
+  public static MarketDataFactory of(
+      ObservableDataProvider observableDataProvider,
+      TimeSeriesProvider timeSeriesProvider,
+      Executor executor,
+      MarketDataCache cache,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    ArgChecker.notNull(executor, "executor");
+    ArgChecker.notNull(cache, "cache");
+    return new DefaultMarketDataFactory(observableDataProvider, timeSeriesProvider, functions, executor, cache);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a factory that records the resources used to build market data in the specified instrumentation.
+   * <p>
+   * The wall-clock time, CPU time and allocated bytes used to build each item of market data are recorded,
+   * keyed by the identifier of the market data. The aggregates are available from
+   * {@link CalculationInstrumentation#metrics()} once the market data has been built.
+   * <p>
+   * The default implementation decorates this factory, recording each call using
+   * {@link CalculationInstrumentation#recordMarketData(java.util.Collection, java.util.function.Supplier)}.
+   * As the building of the individual items cannot be observed, the resources used by each call
+   * are apportioned equally between the identifiers in the requirements.
+   *
+   * @param instrumentation  the instrumentation that records the resources used
+   * @return a factory that records the resources used to build market data
+   */
+  public default MarketDataFactory withInstrumentation(CalculationInstrumentation instrumentation) {
+    return new InstrumentedMarketDataFactory(this, instrumentation);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Builds a set of market data.
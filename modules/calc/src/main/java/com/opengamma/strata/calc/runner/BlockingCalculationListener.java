@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Calculation listener that delegates to another listener and allows the caller to wait
+ * until the calculations are complete.
+ * <p>
+ * This is used to implement a blocking calculation on top of an asynchronous one,
+ * such as the default streaming methods of {@link CalculationTaskRunner}.
+ */
+public final class BlockingCalculationListener implements CalculationListener {
+
+  /** The listener that receives the events. */
+  private final CalculationListener delegate;
+  /** The latch released once the calculations are complete. */
+  private final CountDownLatch complete = new CountDownLatch(1);
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a listener delegating to the specified listener.
+   *
+   * @param delegate  the listener that receives the events
+   * @return the listener
+   */
+  public static BlockingCalculationListener of(CalculationListener delegate) {
+    return new BlockingCalculationListener(delegate);
+  }
+
+  // restricted constructor
+  private BlockingCalculationListener(CalculationListener delegate) {
+    this.delegate = ArgChecker.notNull(delegate, "delegate");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
+    delegate.calculationsStarted(targets, columns);
+  }
+
+  @Override
+  public void resultReceived(CalculationTarget target, CalculationResult result) {
+    delegate.resultReceived(target, result);
+  }
+
+  @Override
+  public void calculationsComplete() {
+    try {
+      delegate.calculationsComplete();
+    } finally {
+      complete.countDown();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Waits until the delegate listener has been notified that the calculations are complete.
+   * <p>
+   * If the thread is interrupted while this method is blocked, then a runtime exception
+   * is thrown, but with the interrupt flag set.
+   */
+  public void awaitCompletion() {
+    try {
+      complete.await();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(ex);
+    }
+  }
+
+}
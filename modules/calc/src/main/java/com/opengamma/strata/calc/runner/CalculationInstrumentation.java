@@ -0,0 +1,275 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.collect.MapStream;
+import com.opengamma.strata.data.MarketDataId;
+
+/**
+ * Records the resources used by calculation tasks and by the building of market data.
+ * <p>
+ * Instrumentation is opt-in. An instance is passed to {@link CalculationTaskRunner#withInstrumentation}
+ * and {@link com.opengamma.strata.calc.marketdata.MarketDataFactory#withInstrumentation}, and the
+ * aggregate measurements are obtained using {@link #metrics()} once the calculations are complete.
+ * <p>
+ * For each execution, the elapsed wall-clock time, the CPU time and the number of bytes allocated
+ * are measured on the executing thread. The CPU time and allocated bytes are only measured if supported
+ * by the Java runtime, see {@link ThreadMXBean}. The allocated bytes are read reflectively from the
+ * extended thread bean of the runtime, when it is present and enabled. Measuring them has a small cost, thus instrumentation
+ * should not be enabled if the measurements are not required.
+ * <p>
+ * This class is mutable and thread-safe.
+ */
+public final class CalculationInstrumentation {
+
+  /**
+   * The thread management bean, used to measure CPU time.
+   */
+  private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+  /**
+   * The method of the thread management bean returning the allocated bytes of a thread, null if not supported.
+   */
+  private static final Method ALLOCATED_BYTES = allocatedBytesMethod();
+
+  /** The metrics of all the tasks. */
+  private final Accumulator taskTotal = new Accumulator();
+  /** The metrics of the tasks, keyed by the type of the calculation function. */
+  private final Map<Class<?>, Accumulator> functions = new ConcurrentHashMap<>();
+  /** The metrics of the tasks, keyed by measure. */
+  private final Map<Measure, Accumulator> measures = new ConcurrentHashMap<>();
+  /** The metrics of building the market data, keyed by the identifier of the market data. */
+  private final Map<MarketDataId<?>, Accumulator> marketData = new ConcurrentHashMap<>();
+
+  // finds the method of the extended thread bean that measures allocations
+  // the extended bean is not part of the portable API, thus it is only accessed reflectively
+  private static Method allocatedBytesMethod() {
+    try {
+      Class<?> extendedType = Class.forName("com.sun.management.ThreadMXBean");
+      if (extendedType.isInstance(THREAD_BEAN) &&
+          Boolean.TRUE.equals(extendedType.getMethod("isThreadAllocatedMemorySupported").invoke(THREAD_BEAN)) &&
+          Boolean.TRUE.equals(extendedType.getMethod("isThreadAllocatedMemoryEnabled").invoke(THREAD_BEAN))) {
+        return extendedType.getMethod("getThreadAllocatedBytes", long.class);
+      }
+    } catch (ReflectiveOperationException | LinkageError | RuntimeException ex) {
+      // allocation measurement is not available
+    }
+    return null;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance with no recorded measurements.
+   *
+   * @return the instrumentation
+   */
+  public static CalculationInstrumentation create() {
+    return new CalculationInstrumentation();
+  }
+
+  // restricted constructor
+  private CalculationInstrumentation() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Executes a calculation task, recording the resources used.
+   * <p>
+   * The resources are recorded against the type of the calculation function of the task,
+   * and apportioned equally between the measures calculated by the task.
+   *
+   * @param <T>  the type of the result
+   * @param task  the task being executed
+   * @param execution  the execution of the task
+   * @return the result of the execution
+   */
+  public <T> T recordTask(CalculationTask task, Supplier<T> execution) {
+    Measurement measurement = new Measurement();
+    try {
+      return execution.get();
+    } finally {
+      long wallTime = measurement.wallTime();
+      long cpuTime = measurement.cpuTime();
+      long allocated = measurement.allocatedBytes();
+      taskTotal.add(1, wallTime, cpuTime, allocated);
+      functions.computeIfAbsent(task.getFunction().getClass(), type -> new Accumulator())
+          .add(1, wallTime, cpuTime, allocated);
+      Set<Measure> taskMeasures = task.getMeasures();
+      int measureCount = taskMeasures.size();
+      for (Measure measure : taskMeasures) {
+        measures.computeIfAbsent(measure, m -> new Accumulator())
+            .add(1, wallTime / measureCount, cpuTime / measureCount, allocated / measureCount);
+      }
+    }
+  }
+
+  /**
+   * Builds an item of market data, recording the resources used.
+   *
+   * @param <T>  the type of the result
+   * @param id  the identifier of the market data being built
+   * @param build  the building of the market data
+   * @return the result of building the market data
+   */
+  public <T> T recordMarketData(MarketDataId<?> id, Supplier<T> build) {
+    Measurement measurement = new Measurement();
+    try {
+      return build.get();
+    } finally {
+      marketData.computeIfAbsent(id, i -> new Accumulator())
+          .add(1, measurement.wallTime(), measurement.cpuTime(), measurement.allocatedBytes());
+    }
+  }
+
+  /**
+   * Builds a set of market data, recording the resources used.
+   * <p>
+   * This is used when the building of the individual items of market data cannot be measured separately.
+   * The resources are apportioned equally between the identifiers.
+   *
+   * @param <T>  the type of the result
+   * @param ids  the identifiers of the market data being built
+   * @param build  the building of the market data
+   * @return the result of building the market data
+   */
+  public <T> T recordMarketData(Collection<? extends MarketDataId<?>> ids, Supplier<T> build) {
+    if (ids.isEmpty()) {
+      return build.get();
+    }
+    Measurement measurement = new Measurement();
+    try {
+      return build.get();
+    } finally {
+      int idCount = ids.size();
+      long wallTime = measurement.wallTime() / idCount;
+      long cpuTime = measurement.cpuTime() / idCount;
+      long allocated = measurement.allocatedBytes() / idCount;
+      for (MarketDataId<?> id : ids) {
+        marketData.computeIfAbsent(id, i -> new Accumulator()).add(1, wallTime, cpuTime, allocated);
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the aggregate measurements recorded so far.
+   *
+   * @return the metrics
+   */
+  public CalculationMetrics metrics() {
+    return CalculationMetrics.of(
+        taskTotal.toMetrics(),
+        MapStream.of(functions).mapValues(Accumulator::toMetrics).toMap(),
+        MapStream.of(measures).mapValues(Accumulator::toMetrics).toMap(),
+        MapStream.of(marketData).mapValues(Accumulator::toMetrics).toMap());
+  }
+
+  /**
+   * Discards all the measurements recorded so far.
+   * <p>
+   * This should not be called while calculations are in progress.
+   */
+  public void reset() {
+    taskTotal.reset();
+    functions.clear();
+    measures.clear();
+    marketData.clear();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "CalculationInstrumentation[tasks=" + taskTotal.count.sum() + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  // the resources used by the current thread since the measurement started
+  private static final class Measurement {
+
+    private final long startWallTime;
+    private final long startCpuTime;
+    private final long startAllocated;
+
+    private Measurement() {
+      this.startCpuTime = cpuTimeNow();
+      this.startAllocated = allocatedNow();
+      this.startWallTime = System.nanoTime();
+    }
+
+    private long wallTime() {
+      return System.nanoTime() - startWallTime;
+    }
+
+    private long cpuTime() {
+      return startCpuTime < 0 ? 0 : Math.max(0, cpuTimeNow() - startCpuTime);
+    }
+
+    private long allocatedBytes() {
+      return startAllocated < 0 ? 0 : Math.max(0, allocatedNow() - startAllocated);
+    }
+
+    // the CPU time of the current thread, negative if not supported
+    private static long cpuTimeNow() {
+      try {
+        return THREAD_BEAN.getCurrentThreadCpuTime();
+      } catch (UnsupportedOperationException ex) {
+        return -1;
+      }
+    }
+
+    // the bytes allocated by the current thread, negative if not supported
+    @SuppressWarnings("deprecation")
+    private static long allocatedNow() {
+      if (ALLOCATED_BYTES == null) {
+        return -1;
+      }
+      try {
+        return (Long) ALLOCATED_BYTES.invoke(THREAD_BEAN, Thread.currentThread().getId());
+      } catch (ReflectiveOperationException | RuntimeException ex) {
+        return -1;
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // the thread-safe sums of the measurements
+  private static final class Accumulator {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder wallTime = new LongAdder();
+    private final LongAdder cpuTime = new LongAdder();
+    private final LongAdder allocated = new LongAdder();
+
+    private void add(long count, long wallTime, long cpuTime, long allocated) {
+      this.count.add(count);
+      this.wallTime.add(wallTime);
+      this.cpuTime.add(cpuTime);
+      this.allocated.add(allocated);
+    }
+
+    private void reset() {
+      count.reset();
+      wallTime.reset();
+      cpuTime.reset();
+      allocated.reset();
+    }
+
+    private ExecutionMetrics toMetrics() {
+      return ExecutionMetrics.of(count.sum(), wallTime.sum(), cpuTime.sum(), allocated.sum());
+    }
+  }
+
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.TypedMetaBean;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.collect.MapStream;
+import com.opengamma.strata.data.MarketDataId;
+
+/**
+ * The resources used by a set of calculations, as recorded by {@link CalculationInstrumentation}.
+ * <p>
+ * This contains the wall-clock time, CPU time and allocated bytes of the calculation tasks,
+ * aggregated by the type of calculation function and by measure, together with the resources
+ * used to build each item of market data.
+ * <p>
+ * The resources used by a task are apportioned equally between the measures it calculates.
+ */
+@BeanDefinition(style = "light")
+public final class CalculationMetrics implements ImmutableBean {
+
+  /**
+   * An instance containing no metrics.
+   */
+  public static final CalculationMetrics EMPTY =
+      new CalculationMetrics(ExecutionMetrics.EMPTY, ImmutableMap.of(), ImmutableMap.of(), ImmutableMap.of());
+
+  /**
+   * The metrics of all the calculation tasks.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ExecutionMetrics taskTotal;
+  /**
+   * The metrics of the calculation tasks, keyed by the type of the calculation function.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableMap<Class<?>, ExecutionMetrics> functions;
+  /**
+   * The metrics of the calculation tasks, keyed by measure.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableMap<Measure, ExecutionMetrics> measures;
+  /**
+   * The metrics of building the market data, keyed by the identifier of the market data.
+   */
+  @PropertyDefinition(validate = "notNull")
+  private final ImmutableMap<MarketDataId<?>, ExecutionMetrics> marketData;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the metrics of the tasks and market data.
+   *
+   * @param taskTotal  the metrics of all the calculation tasks
+   * @param functions  the metrics of the calculation tasks, keyed by the type of the calculation function
+   * @param measures  the metrics of the calculation tasks, keyed by measure
+   * @param marketData  the metrics of building the market data, keyed by the identifier of the market data
+   * @return the metrics
+   */
+  public static CalculationMetrics of(
+      ExecutionMetrics taskTotal,
+      Map<Class<?>, ExecutionMetrics> functions,
+      Map<Measure, ExecutionMetrics> measures,
+      Map<MarketDataId<?>, ExecutionMetrics> marketData) {
+
+    return new CalculationMetrics(taskTotal, functions, measures, marketData);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Finds the metrics of the calculation tasks using the specified type of calculation function.
+   *
+   * @param functionType  the type of the calculation function
+   * @return the metrics, empty if no tasks used the function
+   */
+  public Optional<ExecutionMetrics> findFunction(Class<?> functionType) {
+    return Optional.ofNullable(functions.get(functionType));
+  }
+
+  /**
+   * Finds the metrics of the calculation tasks calculating the specified measure.
+   *
+   * @param measure  the measure
+   * @return the metrics, empty if no tasks calculated the measure
+   */
+  public Optional<ExecutionMetrics> findMeasure(Measure measure) {
+    return Optional.ofNullable(measures.get(measure));
+  }
+
+  /**
+   * Finds the metrics of building the specified market data.
+   *
+   * @param id  the identifier of the market data
+   * @return the metrics, empty if the market data was not built
+   */
+  public Optional<ExecutionMetrics> findMarketData(MarketDataId<?> id) {
+    return Optional.ofNullable(marketData.get(id));
+  }
+
+  /**
+   * Gets the combined metrics of building all the market data.
+   *
+   * @return the metrics of building the market data
+   */
+  public ExecutionMetrics getMarketDataTotal() {
+    return marketData.values().stream().reduce(ExecutionMetrics.EMPTY, ExecutionMetrics::plus);
+  }
+
+  /**
+   * Gets the types of calculation function that used the most wall-clock time, most expensive first.
+   *
+   * @param maxSize  the maximum number of function types to return
+   * @return the metrics keyed by function type, iterating with the most expensive first
+   */
+  public ImmutableMap<Class<?>, ExecutionMetrics> slowestFunctions(int maxSize) {
+    return MapStream.of(functions)
+        .sortedValues(Comparator.comparingLong(ExecutionMetrics::getWallTimeNanos).reversed())
+        .limit(maxSize)
+        .toMap();
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code CalculationMetrics}.
+   */
+  private static final TypedMetaBean<CalculationMetrics> META_BEAN =
+      LightMetaBean.of(
+          CalculationMetrics.class,
+          MethodHandles.lookup(),
+          new String[] {
+              "taskTotal",
+              "functions",
+              "measures",
+              "marketData"},
+          null,
+          ImmutableMap.of(),
+          ImmutableMap.of(),
+          ImmutableMap.of());
+
+  /**
+   * The meta-bean for {@code CalculationMetrics}.
+   * @return the meta-bean, not null
+   */
+  public static TypedMetaBean<CalculationMetrics> meta() {
+    return META_BEAN;
+  }
+
+  static {
+    MetaBean.register(META_BEAN);
+  }
+
+  private CalculationMetrics(
+      ExecutionMetrics taskTotal,
+      Map<Class<?>, ExecutionMetrics> functions,
+      Map<Measure, ExecutionMetrics> measures,
+      Map<MarketDataId<?>, ExecutionMetrics> marketData) {
+    JodaBeanUtils.notNull(taskTotal, "taskTotal");
+    JodaBeanUtils.notNull(functions, "functions");
+    JodaBeanUtils.notNull(measures, "measures");
+    JodaBeanUtils.notNull(marketData, "marketData");
+    this.taskTotal = taskTotal;
+    this.functions = ImmutableMap.copyOf(functions);
+    this.measures = ImmutableMap.copyOf(measures);
+    this.marketData = ImmutableMap.copyOf(marketData);
+  }
+
+  @Override
+  public TypedMetaBean<CalculationMetrics> metaBean() {
+    return META_BEAN;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the metrics of all the calculation tasks.
+   * @return the value of the property, not null
+   */
+  public ExecutionMetrics getTaskTotal() {
+    return taskTotal;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the metrics of the calculation tasks, keyed by the type of the calculation function.
+   * @return the value of the property, not null
+   */
+  public ImmutableMap<Class<?>, ExecutionMetrics> getFunctions() {
+    return functions;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the metrics of the calculation tasks, keyed by measure.
+   * @return the value of the property, not null
+   */
+  public ImmutableMap<Measure, ExecutionMetrics> getMeasures() {
+    return measures;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the metrics of building the market data, keyed by the identifier of the market data.
+   * @return the value of the property, not null
+   */
+  public ImmutableMap<MarketDataId<?>, ExecutionMetrics> getMarketData() {
+    return marketData;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      CalculationMetrics other = (CalculationMetrics) obj;
+      return JodaBeanUtils.equal(taskTotal, other.taskTotal) &&
+          JodaBeanUtils.equal(functions, other.functions) &&
+          JodaBeanUtils.equal(measures, other.measures) &&
+          JodaBeanUtils.equal(marketData, other.marketData);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(taskTotal);
+    hash = hash * 31 + JodaBeanUtils.hashCode(functions);
+    hash = hash * 31 + JodaBeanUtils.hashCode(measures);
+    hash = hash * 31 + JodaBeanUtils.hashCode(marketData);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(160);
+    buf.append("CalculationMetrics{");
+    buf.append("taskTotal").append('=').append(JodaBeanUtils.toString(taskTotal)).append(',').append(' ');
+    buf.append("functions").append('=').append(JodaBeanUtils.toString(functions)).append(',').append(' ');
+    buf.append("measures").append('=').append(JodaBeanUtils.toString(measures)).append(',').append(' ');
+    buf.append("marketData").append('=').append(JodaBeanUtils.toString(marketData));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
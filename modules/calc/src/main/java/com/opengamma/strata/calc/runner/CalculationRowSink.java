@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.List;
+
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.ColumnHeader;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * A sink that receives the results of calculations one row at a time.
+ * <p>
+ * This is used with {@link StreamingResultsListener} to write the results of calculations as they are
+ * produced, for example to a CSV file, without holding the complete set of results in memory.
+ * Each row contains the results for one target, with one result for each column.
+ * <p>
+ * The methods of a sink are invoked by the listener, thus it is guaranteed that they
+ * will only be invoked by a single thread at any time. Implementations are not required to be thread-safe.
+ */
+public interface CalculationRowSink {
+
+  /**
+   * Invoked when the calculations start, before any rows are received.
+   *
+   * @param columns  the headers of the columns that are calculated
+   */
+  public default void started(List<ColumnHeader> columns) {
+    // default implementation does nothing
+  }
+
+  /**
+   * Invoked when all the results for a row have been calculated.
+   * <p>
+   * The sink should not retain the row after this method returns unless necessary.
+   *
+   * @param rowIndex  the index of the row
+   * @param target  the calculation target, such as a trade
+   * @param results  the results of the row, one for each column
+   */
+  public abstract void rowReceived(int rowIndex, CalculationTarget target, List<Result<?>> results);
+
+  /**
+   * Invoked when all the rows have been received.
+   */
+  public default void completed() {
+    // default implementation does nothing
+  }
+
+}
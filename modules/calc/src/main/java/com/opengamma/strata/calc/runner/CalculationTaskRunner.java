@@ -7,11 +7,13 @@ package com.opengamma.strata.calc.runner;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.CalculationRules;
 import com.opengamma.strata.calc.CalculationRunner;
 import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -67,6 +69,33 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.ofMultiThreaded();
   }
 
+  /**
+   * Creates a multi-threaded calculation task runner using a work-stealing pool.
+   * <p>
+   * This factory creates a {@link ForkJoinPool} basing the parallelism on the number of available processors.
+   * Each thread has its own queue of tasks, with idle threads stealing tasks from busy ones.
+   * This gives better load balancing than {@link #ofMultiThreaded()} when the cost of the tasks varies widely.
+   * It is recommended to use try-with-resources to manage the runner.
+   * 
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofWorkStealing() {
+    return DefaultCalculationTaskRunner.ofWorkStealing();
+  }
+
+  /**
+   * Creates a calculation task runner that runs each task in its own virtual thread.
+   * <p>
+   * Virtual threads are only available from Java 21.
+   * It is recommended to use try-with-resources to manage the runner.
+   * 
+   * @return the calculation task runner
+   * @throws UnsupportedOperationException if virtual threads are not supported by the runtime
+   */
+  public static CalculationTaskRunner ofVirtualThreads() {
+    return DefaultCalculationTaskRunner.ofVirtualThreads();
+  }
+
   /**
    * Creates a calculation task runner capable of performing calculations, specifying the executor.
    * <p>
@@ -79,6 +108,56 @@ public interface CalculationTaskRunner extends AutoCloseable {
     return DefaultCalculationTaskRunner.of(executor);
   }
 
+  /**
+   * Creates a multi-threaded calculation task runner that executes tasks in batches.
+   * <p>
+   * This factory creates an executor basing the number of threads on the number of available processors.
+   * Tasks using the same type of calculation function are grouped into chunks of at most the specified size.
+   * Each chunk is executed on a single thread, with the results delivered to the listener in bulk.
+   * This reduces the scheduling overhead when there are a large number of cheap tasks.
+   * 
+   * @param chunkSize  the maximum number of tasks executed together on one thread
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofMultiThreadedBatched(int chunkSize) {
+    return DefaultCalculationTaskRunner.ofMultiThreadedBatched(chunkSize);
+  }
+
+  /**
+   * Creates a calculation task runner that executes tasks in batches, specifying the executor.
+   * <p>
+   * Tasks using the same type of calculation function are grouped into chunks of at most the specified size.
+   * Each chunk is executed on a single thread, with the results delivered to the listener in bulk.
+   * This reduces the scheduling overhead when there are a large number of cheap tasks.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param executor  the executor to use
+   * @param chunkSize  the maximum number of tasks executed together on one thread
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofBatched(ExecutorService executor, int chunkSize) {
+    return DefaultCalculationTaskRunner.ofBatched(executor, chunkSize);
+  }
+
+  /**
+   * Creates a calculation task runner that executes the most expensive tasks first, specifying the executor.
+   * <p>
+   * The tasks are submitted in order of descending cost, as estimated by the model.
+   * The time taken to execute each task is recorded in the model, improving the estimates
+   * used by later calculations. The same model should therefore be used for repeated calculations.
+   * See {@link TaskCostModel}.
+   * <p>
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   * 
+   * @param executor  the executor to use
+   * @param costModel  the model used to estimate the cost of the tasks
+   * @return the calculation task runner
+   */
+  public static CalculationTaskRunner ofCostOrdered(ExecutorService executor, TaskCostModel costModel) {
+    return DefaultCalculationTaskRunner.ofCostOrdered(executor, costModel);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for a single set of market data.
@@ -119,6 +198,44 @@ public interface CalculationTaskRunner extends AutoCloseable {
       ReferenceData refData,
       CalculationListener listener);
 
+  /**
+   * Performs calculations for a single set of market data, invoking a listener as each calculation completes
+   * and limiting the number of calculations in progress.
+   * <p>
+   * This is intended for very large sets of calculations where the results are written out as they
+   * are produced, typically using a {@link StreamingResultsListener}.
+   * A calculation is in progress from the time it is submitted until the listener has received its results.
+   * When the maximum number of calculations are in progress, this method waits before submitting more.
+   * Thus, if the listener is slow, the calculations are slowed down rather than the results accumulating in memory.
+   * <p>
+   * This method blocks until the listener has received all the results.
+   * If the thread is interrupted while this method is blocked, a runtime exception is thrown,
+   * with the interrupted flag set.
+   * <p>
+   * The default implementation invokes
+   * {@link #calculateAsync(CalculationTasks, MarketData, ReferenceData, CalculationListener)}
+   * and waits until the listener has been notified that the calculations are complete.
+   * It does not limit the number of calculations in progress.
+   *
+   * @param tasks  the calculation tasks to invoke
+   * @param marketData  the market data to be used in the calculations
+   * @param refData  the reference data to be used in the calculations
+   * @param listener  listener that is invoked when individual results are calculated
+   * @param maxPendingTasks  the maximum number of tasks in progress at any time
+   */
+  public default void calculateStreaming(
+      CalculationTasks tasks,
+      MarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      int maxPendingTasks) {
+
+    ArgChecker.notNegativeOrZero(maxPendingTasks, "maxPendingTasks");
+    BlockingCalculationListener blockingListener = BlockingCalculationListener.of(listener);
+    calculateAsync(tasks, marketData, refData, blockingListener);
+    blockingListener.awaitCompletion();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Performs calculations for multiple scenarios, each with a different set of market data.
@@ -161,6 +278,64 @@ public interface CalculationTaskRunner extends AutoCloseable {
       ReferenceData refData,
       CalculationListener listener);
 
+  /**
+   * Performs calculations for multiple scenarios, each with a different set of market data,
+   * invoking a listener as each calculation completes and limiting the number of calculations in progress.
+   * <p>
+   * This is intended for very large sets of calculations where the results are written out as they
+   * are produced, typically using a {@link StreamingResultsListener}.
+   * A calculation is in progress from the time it is submitted until the listener has received its results.
+   * When the maximum number of calculations are in progress, this method waits before submitting more.
+   * Thus, if the listener is slow, the calculations are slowed down rather than the results accumulating in memory.
+   * <p>
+   * This method blocks until the listener has received all the results.
+   * If the thread is interrupted while this method is blocked, a runtime exception is thrown,
+   * with the interrupted flag set.
+   * <p>
+   * The default implementation invokes
+   * {@link #calculateMultiScenarioAsync(CalculationTasks, ScenarioMarketData, ReferenceData, CalculationListener)}
+   * and waits until the listener has been notified that the calculations are complete.
+   * It does not limit the number of calculations in progress.
+   *
+   * @param tasks  the calculation tasks to invoke
+   * @param marketData  the market data to be used in the calculations
+   * @param refData  the reference data to be used in the calculations
+   * @param listener  listener that is invoked when individual results are calculated
+   * @param maxPendingTasks  the maximum number of tasks in progress at any time
+   */
+  public default void calculateMultiScenarioStreaming(
+      CalculationTasks tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      int maxPendingTasks) {
+
+    ArgChecker.notNegativeOrZero(maxPendingTasks, "maxPendingTasks");
+    BlockingCalculationListener blockingListener = BlockingCalculationListener.of(listener);
+    calculateMultiScenarioAsync(tasks, marketData, refData, blockingListener);
+    blockingListener.awaitCompletion();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a runner that records the resources used by each task in the specified instrumentation.
+   * <p>
+   * The wall-clock time, CPU time and allocated bytes of each task are recorded, aggregated
+   * by the type of calculation function and by measure. The aggregates are available from
+   * {@link CalculationInstrumentation#metrics()} once the calculations are complete.
+   * <p>
+   * The returned runner shares the executor of this runner, thus closing either runner closes both.
+   * <p>
+   * The default implementation decorates this runner, wrapping the function of each task
+   * so that each calculation is recorded using {@link CalculationInstrumentation#recordTask}.
+   *
+   * @param instrumentation  the instrumentation that records the resources used
+   * @return a runner that records the resources used by each task
+   */
+  public default CalculationTaskRunner withInstrumentation(CalculationInstrumentation instrumentation) {
+    return new InstrumentedCalculationTaskRunner(this, instrumentation);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Closes any resources held by the component.
@@ -8,7 +8,10 @@ package com.opengamma.strata.calc.runner;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
 
 import org.joda.beans.ImmutableBean;
 import org.joda.beans.JodaBeanUtils;
@@ -250,6 +253,29 @@ public final class CalculationTasks implements ImmutableBean {
     return builder.build();
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a copy of these tasks ordered so that the most expensive tasks are first.
+   * <p>
+   * The order of the tasks does not affect the grid of results, but it does affect the order
+   * in which the tasks are submitted for execution. See {@link TaskCostModel}.
+   * <p>
+   * The cost of each task is estimated once. Tasks with the same estimated cost retain their relative order.
+   * The estimator is typically {@link TaskCostModel#estimateCost(CalculationTask)}.
+   *
+   * @param costEstimator  the function estimating the cost of a task
+   * @return the tasks, ordered by descending cost
+   */
+  public CalculationTasks sortedByCost(ToDoubleFunction<CalculationTask> costEstimator) {
+    double[] costs = tasks.stream().mapToDouble(costEstimator).toArray();
+    List<CalculationTask> sorted = IntStream.range(0, tasks.size())
+        .boxed()
+        .sorted(Comparator.comparingDouble((Integer i) -> costs[i]).reversed())
+        .map(tasks::get)
+        .collect(toImmutableList());
+    return new CalculationTasks(sorted, columns);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public String toString() {
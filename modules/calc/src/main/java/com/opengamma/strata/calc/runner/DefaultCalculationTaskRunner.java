@@ -7,14 +7,23 @@ package com.opengamma.strata.calc.runner;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import com.google.common.collect.Lists;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.calc.Column;
@@ -30,6 +39,17 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  * The default calculation task runner.
  * <p>
  * This uses a single instance of {@link ExecutorService}.
+ * <p>
+ * By default, each task is submitted to the executor separately.
+ * If a chunk size greater than one is specified, the tasks are grouped by the type of their
+ * calculation function and split into chunks. Each chunk is executed on a single thread
+ * and the results are delivered to the listener in bulk. This reduces the scheduling overhead
+ * when there are a large number of cheap tasks.
+ * <p>
+ * If a {@link TaskCostModel} is specified, the tasks are submitted in order of descending estimated cost,
+ * and the time taken to execute each task is recorded in the model.
+ * <p>
+ * If {@link CalculationInstrumentation} is specified, the resources used by each task are recorded.
  */
 final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
 
@@ -38,6 +58,22 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * This will typically be multi-threaded, but single or direct executors also work.
    */
   private final ExecutorService executor;
+  /**
+   * The maximum number of tasks executed together on one thread, one if tasks are not batched.
+   */
+  private final int chunkSize;
+  /**
+   * The number of threads expected to be available in the executor, used to size the chunks.
+   */
+  private final int parallelism;
+  /**
+   * The model used to order the tasks by cost and record their runtimes, null if tasks are not ordered.
+   */
+  private final TaskCostModel costModel;
+  /**
+   * The instrumentation recording the resources used by each task, null if not instrumented.
+   */
+  private final CalculationInstrumentation instrumentation;
 
   //-------------------------------------------------------------------------
   /**
@@ -57,6 +93,46 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     return new DefaultCalculationTaskRunner(createExecutor(Runtime.getRuntime().availableProcessors()));
   }
 
+  /**
+   * Creates a standard multi-threaded calculation task runner that executes tasks in batches.
+   * <p>
+   * This factory creates an executor basing the number of threads on the number of available processors.
+   * Tasks using the same type of calculation function are grouped into chunks of at most the specified size.
+   * Each chunk is executed on a single thread, with the results delivered to the listener in bulk.
+   *
+   * @param chunkSize  the maximum number of tasks executed together on one thread
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofMultiThreadedBatched(int chunkSize) {
+    int threads = Runtime.getRuntime().availableProcessors();
+    return new DefaultCalculationTaskRunner(createExecutor(threads), chunkSize, threads);
+  }
+
+  /**
+   * Creates a multi-threaded calculation task runner using a work-stealing pool.
+   * <p>
+   * This factory creates a {@link ForkJoinPool} basing the parallelism on the number of available processors.
+   * Each thread has its own queue of tasks, with idle threads stealing tasks from busy ones.
+   * This gives better load balancing than a fixed pool when the cost of the tasks varies widely.
+   *
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofWorkStealing() {
+    return new DefaultCalculationTaskRunner(createWorkStealingExecutor(Runtime.getRuntime().availableProcessors()));
+  }
+
+  /**
+   * Creates a calculation task runner that runs each task in its own virtual thread.
+   * <p>
+   * Virtual threads are only available from Java 21.
+   *
+   * @return the calculation task runner
+   * @throws UnsupportedOperationException if virtual threads are not supported by the runtime
+   */
+  static DefaultCalculationTaskRunner ofVirtualThreads() {
+    return new DefaultCalculationTaskRunner(createVirtualThreadExecutor());
+  }
+
   /**
    * Creates a calculation task runner capable of performing calculations, specifying the executor.
    * <p>
@@ -69,6 +145,36 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     return new DefaultCalculationTaskRunner(executor);
   }
 
+  /**
+   * Creates a calculation task runner that executes tasks in batches, specifying the executor.
+   * <p>
+   * Tasks using the same type of calculation function are grouped into chunks of at most the specified size.
+   * Each chunk is executed on a single thread, with the results delivered to the listener in bulk.
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param chunkSize  the maximum number of tasks executed together on one thread
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofBatched(ExecutorService executor, int chunkSize) {
+    return new DefaultCalculationTaskRunner(executor, chunkSize, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a calculation task runner that executes the most expensive tasks first, specifying the executor.
+   * <p>
+   * The tasks are submitted in order of descending cost, as estimated by the model.
+   * The time taken to execute each task is recorded in the model, improving later estimates.
+   * It is the callers responsibility to manage the life-cycle of the executor.
+   *
+   * @param executor  the executor to use
+   * @param costModel  the model used to estimate the cost of the tasks
+   * @return the calculation task runner
+   */
+  static DefaultCalculationTaskRunner ofCostOrdered(ExecutorService executor, TaskCostModel costModel) {
+    return new DefaultCalculationTaskRunner(executor, 1, 1, ArgChecker.notNull(costModel, "costModel"), null);
+  }
+
   // create an executor with daemon threads
   private static ExecutorService createExecutor(int threads) {
     int effectiveThreads = (threads <= 0 ? Runtime.getRuntime().availableProcessors() : threads);
@@ -82,6 +188,35 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     return Executors.newFixedThreadPool(effectiveThreads, threadFactory);
   }
 
+  // create a work-stealing executor with daemon threads
+  private static ExecutorService createWorkStealingExecutor(int threads) {
+    int effectiveThreads = (threads <= 0 ? Runtime.getRuntime().availableProcessors() : threads);
+    ForkJoinWorkerThreadFactory threadFactory = pool -> {
+      ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      t.setName("CalculationTaskRunner-" + t.getName());
+      t.setDaemon(true);
+      return t;
+    };
+    // async mode is used as the tasks are never joined
+    return new ForkJoinPool(effectiveThreads, threadFactory, null, true);
+  }
+
+  // create an executor that starts a new virtual thread for each task
+  // reflection is used as the library is compiled against a version of Java without virtual threads
+  private static ExecutorService createVirtualThreadExecutor() {
+    Method method;
+    try {
+      method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (NoSuchMethodException ex) {
+      throw new UnsupportedOperationException("Virtual threads are not supported by this version of Java", ex);
+    }
+    try {
+      return (ExecutorService) method.invoke(null);
+    } catch (ReflectiveOperationException ex) {
+      throw new IllegalStateException("Unable to create virtual thread executor", ex);
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Creates an instance specifying the executor to use.
@@ -89,7 +224,41 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
    * @param executor  the executor that is used to perform the calculations
    */
   private DefaultCalculationTaskRunner(ExecutorService executor) {
+    this(executor, 1, 1);
+  }
+
+  /**
+   * Creates an instance specifying the executor to use and the size of the batches.
+   *
+   * @param executor  the executor that is used to perform the calculations
+   * @param chunkSize  the maximum number of tasks executed together on one thread
+   * @param parallelism  the number of threads expected to be available in the executor
+   */
+  private DefaultCalculationTaskRunner(ExecutorService executor, int chunkSize, int parallelism) {
+    this(executor, chunkSize, parallelism, null, null);
+  }
+
+  /**
+   * Creates an instance specifying the executor to use, the size of the batches and the cost model.
+   *
+   * @param executor  the executor that is used to perform the calculations
+   * @param chunkSize  the maximum number of tasks executed together on one thread
+   * @param parallelism  the number of threads expected to be available in the executor
+   * @param costModel  the model used to order the tasks by cost, null if tasks are not ordered
+   * @param instrumentation  the instrumentation recording the resources used by each task, null if not instrumented
+   */
+  private DefaultCalculationTaskRunner(
+      ExecutorService executor,
+      int chunkSize,
+      int parallelism,
+      TaskCostModel costModel,
+      CalculationInstrumentation instrumentation) {
+
+    this.costModel = costModel;
+    this.instrumentation = instrumentation;
     this.executor = ArgChecker.notNull(executor, "executor");
+    this.chunkSize = ArgChecker.notNegativeOrZero(chunkSize, "chunkSize");
+    this.parallelism = ArgChecker.notNegativeOrZero(parallelism, "parallelism");
   }
 
   //-------------------------------------------------------------------------
@@ -154,6 +323,20 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     calculateMultiScenarioAsync(tasks, md, refData, unwrappingListener);
   }
 
+  @Override
+  public void calculateStreaming(
+      CalculationTasks tasks,
+      MarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      int maxPendingTasks) {
+
+    // the listener is decorated to unwrap ScenarioArrays containing a single result
+    ScenarioMarketData md = ScenarioMarketData.of(1, marketData);
+    UnwrappingListener unwrappingListener = new UnwrappingListener(listener);
+    calculateMultiScenarioStreaming(tasks, md, refData, unwrappingListener, maxPendingTasks);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public Results calculateMultiScenario(
@@ -173,15 +356,75 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
       ReferenceData refData,
       CalculationListener listener) {
 
-    List<CalculationTask> taskList = tasks.getTasks();
+    List<CalculationTask> taskList = orderedTasks(tasks);
     // the listener is invoked via this wrapper
     // the wrapper ensures thread-safety for the listener
     // it also calls the listener with single CalculationResult cells, not CalculationResults
-    Consumer<CalculationResults> consumer =
-        new ListenerWrapper(listener, taskList.size(), tasks.getTargets(), tasks.getColumns());
+    ListenerWrapper consumer = new ListenerWrapper(listener, taskList.size(), tasks.getTargets(), tasks.getColumns());
+
+    if (chunkSize == 1) {
+      // run each task using the executor
+      taskList.forEach(task -> runTask(task, marketData, refData, consumer));
+    } else {
+      // run each batch of tasks using the executor
+      batches(taskList, chunkSize).forEach(batch -> runBatch(batch, marketData, refData, consumer));
+    }
+  }
 
-    // run each task using the executor
-    taskList.forEach(task -> runTask(task, marketData, refData, consumer));
+  @Override
+  public void calculateMultiScenarioStreaming(
+      CalculationTasks tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      int maxPendingTasks) {
+
+    ArgChecker.notNegativeOrZero(maxPendingTasks, "maxPendingTasks");
+    List<CalculationTask> taskList = orderedTasks(tasks);
+    // a permit is acquired for each task before it is submitted
+    // the permit is released once the listener has received the results of the task
+    Semaphore pending = new Semaphore(maxPendingTasks);
+    ListenerWrapper consumer = new ListenerWrapper(
+        listener, taskList.size(), tasks.getTargets(), tasks.getColumns(), pending::release);
+    try {
+      if (chunkSize == 1) {
+        for (CalculationTask task : taskList) {
+          pending.acquire();
+          runTask(task, marketData, refData, consumer);
+        }
+      } else {
+        // the batches must be no larger than the number of permits
+        for (List<CalculationTask> batch : batches(taskList, Math.min(chunkSize, maxPendingTasks))) {
+          pending.acquire(batch.size());
+          runBatch(batch, marketData, refData, consumer);
+        }
+      }
+      // all the permits are available once the listener has received all the results
+      pending.acquire(maxPendingTasks);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(ex);
+    }
+  }
+
+  // orders the tasks by descending cost if there is a cost model
+  private List<CalculationTask> orderedTasks(CalculationTasks tasks) {
+    return costModel != null ? tasks.sortedByCost(costModel::estimateCost).getTasks() : tasks.getTasks();
+  }
+
+  // splits the tasks into batches, each containing tasks with the same type of function
+  private List<List<CalculationTask>> batches(List<CalculationTask> taskList, int maxChunkSize) {
+    Map<Class<?>, List<CalculationTask>> tasksByFunctionType = new LinkedHashMap<>();
+    for (CalculationTask task : taskList) {
+      tasksByFunctionType.computeIfAbsent(task.getFunction().getClass(), type -> new ArrayList<>()).add(task);
+    }
+    List<List<CalculationTask>> batches = new ArrayList<>();
+    for (List<CalculationTask> functionTasks : tasksByFunctionType.values()) {
+      // small groups of tasks are split so that all the threads in the pool have work to do
+      int groupChunkSize = Math.max(1, Math.min(maxChunkSize, (functionTasks.size() + parallelism - 1) / parallelism));
+      batches.addAll(Lists.partition(functionTasks, groupChunkSize));
+    }
+    return batches;
   }
 
   // submits a task to the executor to be run
@@ -193,17 +436,59 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
 
     // the task is executed, with the result passed to the consumer
     // the consumer wraps the listener to ensure thread-safety
-    Supplier<CalculationResults> taskExecutor = () -> task.execute(marketData, refData);
+    Supplier<CalculationResults> taskExecutor = () -> execute(task, marketData, refData);
     CompletableFuture.supplyAsync(taskExecutor, executor).thenAccept(consumer);
   }
 
+  // submits a batch of tasks to the executor to be run on a single thread
+  private void runBatch(
+      List<CalculationTask> batch,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      ListenerWrapper consumer) {
+
+    // the tasks are executed in order, with the results passed to the consumer in bulk
+    Supplier<List<CalculationResults>> batchExecutor = () -> batch.stream()
+        .map(task -> execute(task, marketData, refData))
+        .collect(toImmutableList());
+    CompletableFuture.supplyAsync(batchExecutor, executor).thenAccept(consumer::acceptAll);
+  }
+
+  // executes a task, recording the resources used if instrumented and the time taken if there is a cost model
+  private CalculationResults execute(CalculationTask task, ScenarioMarketData marketData, ReferenceData refData) {
+    if (costModel == null) {
+      return executeInstrumented(task, marketData, refData);
+    }
+    long start = System.nanoTime();
+    CalculationResults results = executeInstrumented(task, marketData, refData);
+    costModel.record(task, System.nanoTime() - start);
+    return results;
+  }
+
+  // executes a task, recording the resources used if instrumented
+  private CalculationResults executeInstrumented(
+      CalculationTask task,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    if (instrumentation == null) {
+      return task.execute(marketData, refData);
+    }
+    return instrumentation.recordTask(task, () -> task.execute(marketData, refData));
+  }
+
   //-------------------------------------------------------------------------
   @Override
-  public void close() {
-    executor.shutdown();
+  public CalculationTaskRunner withInstrumentation(CalculationInstrumentation instrumentation) {
+    return new DefaultCalculationTaskRunner(
+        executor, chunkSize, parallelism, costModel, ArgChecker.notNull(instrumentation, "instrumentation"));
   }
 
   //-------------------------------------------------------------------------
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
 
   //-------------------------------------------------------------------------
   /**
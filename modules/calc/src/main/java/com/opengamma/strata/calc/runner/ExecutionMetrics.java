@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.TypedMetaBean;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Aggregate measurements of the resources used by a number of executions.
+ * <p>
+ * This is used by {@link CalculationMetrics} to summarize the resources used by calculation tasks
+ * and by the functions that build market data.
+ * <p>
+ * The CPU time and allocated bytes are measured on the executing thread.
+ * They are zero if the measurement is not supported by the Java runtime.
+ */
+@BeanDefinition(style = "light")
+public final class ExecutionMetrics implements ImmutableBean {
+
+  /**
+   * An instance representing no executions.
+   */
+  public static final ExecutionMetrics EMPTY = new ExecutionMetrics(0, 0, 0, 0);
+
+  /**
+   * The number of executions.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative")
+  private final long count;
+  /**
+   * The total elapsed wall-clock time of the executions, in nanoseconds.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative")
+  private final long wallTimeNanos;
+  /**
+   * The total CPU time used by the executions, in nanoseconds.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative")
+  private final long cpuTimeNanos;
+  /**
+   * The total number of bytes allocated by the executions.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegative")
+  private final long allocatedBytes;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the aggregate measurements.
+   *
+   * @param count  the number of executions
+   * @param wallTimeNanos  the total elapsed wall-clock time of the executions, in nanoseconds
+   * @param cpuTimeNanos  the total CPU time used by the executions, in nanoseconds
+   * @param allocatedBytes  the total number of bytes allocated by the executions
+   * @return the metrics
+   */
+  public static ExecutionMetrics of(long count, long wallTimeNanos, long cpuTimeNanos, long allocatedBytes) {
+    return new ExecutionMetrics(count, wallTimeNanos, cpuTimeNanos, allocatedBytes);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the total elapsed wall-clock time of the executions.
+   *
+   * @return the wall-clock time
+   */
+  public Duration getWallTime() {
+    return Duration.ofNanos(wallTimeNanos);
+  }
+
+  /**
+   * Gets the total CPU time used by the executions.
+   *
+   * @return the CPU time
+   */
+  public Duration getCpuTime() {
+    return Duration.ofNanos(cpuTimeNanos);
+  }
+
+  /**
+   * Combines these metrics with another set of metrics.
+   *
+   * @param other  the other metrics
+   * @return the combined metrics
+   */
+  public ExecutionMetrics plus(ExecutionMetrics other) {
+    return new ExecutionMetrics(
+        count + other.count,
+        wallTimeNanos + other.wallTimeNanos,
+        cpuTimeNanos + other.cpuTimeNanos,
+        allocatedBytes + other.allocatedBytes);
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code ExecutionMetrics}.
+   */
+  private static final TypedMetaBean<ExecutionMetrics> META_BEAN =
+      LightMetaBean.of(
+          ExecutionMetrics.class,
+          MethodHandles.lookup(),
+          new String[] {
+              "count",
+              "wallTimeNanos",
+              "cpuTimeNanos",
+              "allocatedBytes"},
+          new Object[0]);
+
+  /**
+   * The meta-bean for {@code ExecutionMetrics}.
+   * @return the meta-bean, not null
+   */
+  public static TypedMetaBean<ExecutionMetrics> meta() {
+    return META_BEAN;
+  }
+
+  static {
+    MetaBean.register(META_BEAN);
+  }
+
+  private ExecutionMetrics(
+      long count,
+      long wallTimeNanos,
+      long cpuTimeNanos,
+      long allocatedBytes) {
+    ArgChecker.notNegative(count, "count");
+    ArgChecker.notNegative(wallTimeNanos, "wallTimeNanos");
+    ArgChecker.notNegative(cpuTimeNanos, "cpuTimeNanos");
+    ArgChecker.notNegative(allocatedBytes, "allocatedBytes");
+    this.count = count;
+    this.wallTimeNanos = wallTimeNanos;
+    this.cpuTimeNanos = cpuTimeNanos;
+    this.allocatedBytes = allocatedBytes;
+  }
+
+  @Override
+  public TypedMetaBean<ExecutionMetrics> metaBean() {
+    return META_BEAN;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the number of executions.
+   * @return the value of the property
+   */
+  public long getCount() {
+    return count;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the total elapsed wall-clock time of the executions, in nanoseconds.
+   * @return the value of the property
+   */
+  public long getWallTimeNanos() {
+    return wallTimeNanos;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the total CPU time used by the executions, in nanoseconds.
+   * @return the value of the property
+   */
+  public long getCpuTimeNanos() {
+    return cpuTimeNanos;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the total number of bytes allocated by the executions.
+   * @return the value of the property
+   */
+  public long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ExecutionMetrics other = (ExecutionMetrics) obj;
+      return (count == other.count) &&
+          (wallTimeNanos == other.wallTimeNanos) &&
+          (cpuTimeNanos == other.cpuTimeNanos) &&
+          (allocatedBytes == other.allocatedBytes);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(count);
+    hash = hash * 31 + JodaBeanUtils.hashCode(wallTimeNanos);
+    hash = hash * 31 + JodaBeanUtils.hashCode(cpuTimeNanos);
+    hash = hash * 31 + JodaBeanUtils.hashCode(allocatedBytes);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(160);
+    buf.append("ExecutionMetrics{");
+    buf.append("count").append('=').append(JodaBeanUtils.toString(count)).append(',').append(' ');
+    buf.append("wallTimeNanos").append('=').append(JodaBeanUtils.toString(wallTimeNanos)).append(',').append(' ');
+    buf.append("cpuTimeNanos").append('=').append(JodaBeanUtils.toString(cpuTimeNanos)).append(',').append(' ');
+    buf.append("allocatedBytes").append('=').append(JodaBeanUtils.toString(allocatedBytes));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
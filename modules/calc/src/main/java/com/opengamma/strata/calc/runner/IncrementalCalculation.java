@@ -0,0 +1,479 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.marketdata.MarketDataConfig;
+import com.opengamma.strata.calc.marketdata.MarketDataFunction;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirementsBuilder;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Performs the same calculations repeatedly, only recalculating the results affected by changed market data.
+ * <p>
+ * This is intended for situations such as intraday pricing, where the same {@link CalculationTasks}
+ * are calculated many times and only a small part of the market data changes between each calculation.
+ * <p>
+ * When created, the {@linkplain CalculationTask#requirements(ReferenceData) requirements} of each task
+ * are used to build an index from the identifier of each item of market data to the rows of the results
+ * that depend on it. The first calculation performs all the tasks. Subsequent calculations determine
+ * the market data that has changed since the previous calculation, either by comparing the market data
+ * or from a set of identifiers supplied by the caller. Only the rows whose requirements include
+ * changed market data are recalculated, with the results of the previous calculation used for the rest.
+ * <p>
+ * The requirements of a task typically refer to high-level market data, such as a curve group,
+ * rather than the quotes it is built from. If the {@linkplain MarketDataFunction market data functions}
+ * are supplied when creating the instance, the requirements are expanded using the functions,
+ * such that each row also depends on the market data used to build its requirements, transitively.
+ * Without the functions, only the identifiers in the requirements of the tasks are known,
+ * and changes to any other market data, such as quotes, do not cause rows to be recalculated.
+ * <p>
+ * Rows are recalculated as a whole, thus if any task for a row is affected, all the tasks for that row
+ * are performed. If the requirements of a task cannot be determined, its row is always recalculated.
+ * Any change to the valuation date, or the number of scenarios, causes all rows to be recalculated.
+ * <p>
+ * The calculations rely on each task declaring all the market data it uses in its requirements.
+ * Results that depend on market data not included in the requirements will not be recalculated.
+ * <p>
+ * This class is mutable, holding the results of the previous calculation. It is thread-safe.
+ */
+public final class IncrementalCalculation {
+
+  /**
+   * The runner used to perform the calculations.
+   */
+  private final CalculationTaskRunner runner;
+  /**
+   * The tasks to be calculated.
+   */
+  private final CalculationTasks tasks;
+  /**
+   * The reference data.
+   */
+  private final ReferenceData refData;
+  /**
+   * The tasks, keyed by row index.
+   */
+  private final ImmutableListMultimap<Integer, CalculationTask> tasksByRow;
+  /**
+   * The rows that depend on each item of market data.
+   */
+  private final ImmutableSetMultimap<MarketDataId<?>, Integer> rowsByValueId;
+  /**
+   * The rows that depend on each time-series.
+   */
+  private final ImmutableSetMultimap<ObservableId, Integer> rowsByTimeSeriesId;
+  /**
+   * The rows that must always be recalculated as their requirements are unknown.
+   */
+  private final ImmutableSet<Integer> alwaysRows;
+
+  // Mutable state -----------------------------------------------------
+
+  /**
+   * The market data used in the previous calculation, null if no calculation has been performed.
+   */
+  private ScenarioMarketData previousMarketData;
+  /**
+   * Whether the previous calculation was for a single set of market data.
+   */
+  private boolean previousSingle;
+  /**
+   * The results of the previous calculation, null if no calculation has been performed.
+   */
+  private Results previousResults;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance for the specified tasks.
+   * <p>
+   * The requirements of all the tasks are determined when this method is called.
+   *
+   * @param runner  the runner used to perform the calculations
+   * @param tasks  the tasks to be calculated
+   * @param refData  the reference data
+   * @return the incremental calculation
+   */
+  public static IncrementalCalculation of(CalculationTaskRunner runner, CalculationTasks tasks, ReferenceData refData) {
+    return new IncrementalCalculation(runner, tasks, refData, id -> MarketDataRequirements.empty());
+  }
+
+  /**
+   * Obtains an instance for the specified tasks, expanding the requirements using market data functions.
+   * <p>
+   * The requirements of all the tasks are determined when this method is called.
+   * The requirements of each item of market data that is not observable are then obtained from
+   * the function handling its type of identifier, transitively. This allows changes to the market data
+   * used to build the requirements, such as quotes, to be recognized.
+   * Market data whose requirements cannot be determined is treated as having no dependencies.
+   * <p>
+   * The functions and configuration should be those used to build the market data,
+   * typically those passed to the {@link com.opengamma.strata.calc.marketdata.MarketDataFactory MarketDataFactory}.
+   *
+   * @param runner  the runner used to perform the calculations
+   * @param tasks  the tasks to be calculated
+   * @param refData  the reference data
+   * @param marketDataConfig  the configuration specifying how market data values should be built
+   * @param functions  the functions that create the market data
+   * @return the incremental calculation
+   */
+  public static IncrementalCalculation of(
+      CalculationTaskRunner runner,
+      CalculationTasks tasks,
+      ReferenceData refData,
+      MarketDataConfig marketDataConfig,
+      List<MarketDataFunction<?, ?>> functions) {
+
+    ArgChecker.notNull(marketDataConfig, "marketDataConfig");
+    ArgChecker.notNull(functions, "functions");
+    return new IncrementalCalculation(runner, tasks, refData, new Dependencies(marketDataConfig, functions));
+  }
+
+  // creates an instance, building the index of market data to rows
+  private IncrementalCalculation(
+      CalculationTaskRunner runner,
+      CalculationTasks tasks,
+      ReferenceData refData,
+      Function<MarketDataId<?>, MarketDataRequirements> dependencies) {
+
+    this.runner = ArgChecker.notNull(runner, "runner");
+    this.tasks = ArgChecker.notNull(tasks, "tasks");
+    this.refData = ArgChecker.notNull(refData, "refData");
+
+    ImmutableListMultimap.Builder<Integer, CalculationTask> tasksByRowBuilder = ImmutableListMultimap.builder();
+    ImmutableSetMultimap.Builder<MarketDataId<?>, Integer> valueBuilder = ImmutableSetMultimap.builder();
+    ImmutableSetMultimap.Builder<ObservableId, Integer> timeSeriesBuilder = ImmutableSetMultimap.builder();
+    ImmutableSet.Builder<Integer> alwaysBuilder = ImmutableSet.builder();
+    // use for loop not streams for shorter stack traces
+    for (CalculationTask task : tasks.getTasks()) {
+      Integer row = task.getRowIndex();
+      tasksByRowBuilder.put(row, task);
+      try {
+        MarketDataRequirements reqs = task.requirements(refData);
+        for (MarketDataId<?> id : reqs.getObservables()) {
+          valueBuilder.put(id, row);
+        }
+        for (MarketDataId<?> id : reqs.getNonObservables()) {
+          valueBuilder.put(id, row);
+          MarketDataRequirements dependencyReqs = dependencies.apply(id);
+          for (MarketDataId<?> dependencyId : dependencyReqs.getObservables()) {
+            valueBuilder.put(dependencyId, row);
+          }
+          for (MarketDataId<?> dependencyId : dependencyReqs.getNonObservables()) {
+            valueBuilder.put(dependencyId, row);
+          }
+          for (ObservableId dependencyId : dependencyReqs.getTimeSeries()) {
+            timeSeriesBuilder.put(dependencyId, row);
+          }
+        }
+        for (ObservableId id : reqs.getTimeSeries()) {
+          timeSeriesBuilder.put(id, row);
+        }
+      } catch (RuntimeException ex) {
+        alwaysBuilder.add(row);
+      }
+    }
+    this.tasksByRow = tasksByRowBuilder.build();
+    this.rowsByValueId = valueBuilder.build();
+    this.rowsByTimeSeriesId = timeSeriesBuilder.build();
+    this.alwaysRows = alwaysBuilder.build();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the tasks that are calculated.
+   *
+   * @return the tasks
+   */
+  public CalculationTasks getTasks() {
+    return tasks;
+  }
+
+  /**
+   * Gets the identifiers of the market data that the calculations depend on.
+   * <p>
+   * This includes the market data used to build the requirements, if the instance was created
+   * with market data functions.
+   *
+   * @return the identifiers of the market data
+   */
+  public Set<MarketDataId<?>> getMarketDataIds() {
+    return rowsByValueId.keySet();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Performs calculations for a single set of market data.
+   * <p>
+   * The market data is compared with that of the previous calculation to determine the changes.
+   * Only the rows affected by the changes are recalculated.
+   *
+   * @param marketData  the market data to be used in the calculations
+   * @return the grid of calculation results, based on the tasks and market data
+   */
+  public synchronized Results calculate(MarketData marketData) {
+    ScenarioMarketData md = ScenarioMarketData.of(1, marketData);
+    return calculate(
+        md,
+        true,
+        changedRows(md, true),
+        (subTasks, unused) -> runner.calculate(subTasks, marketData, refData));
+  }
+
+  /**
+   * Performs calculations for a single set of market data, specifying the market data that has changed.
+   * <p>
+   * Only the rows that depend on the specified market data are recalculated.
+   * The caller is responsible for ensuring the set includes all the market data that has changed
+   * since the previous calculation. If there is no previous calculation, or the valuation date
+   * or number of scenarios has changed, all the rows are calculated.
+   * <p>
+   * Only identifiers returned by {@link #getMarketDataIds()} affect the calculation, any other
+   * identifiers are ignored. Thus changed quotes are only recognized if the instance was created
+   * with the market data functions used to build the market data from the quotes.
+   *
+   * @param marketData  the market data to be used in the calculations
+   * @param changedIds  the identifiers of the market data that has changed since the previous calculation
+   * @return the grid of calculation results, based on the tasks and market data
+   */
+  public synchronized Results calculate(MarketData marketData, Set<? extends MarketDataId<?>> changedIds) {
+    ScenarioMarketData md = ScenarioMarketData.of(1, marketData);
+    return calculate(
+        md,
+        true,
+        changedRows(md, changedIds, true),
+        (subTasks, unused) -> runner.calculate(subTasks, marketData, refData));
+  }
+
+  /**
+   * Performs calculations for multiple scenarios, each with a different set of market data.
+   * <p>
+   * The market data is compared with that of the previous calculation to determine the changes.
+   * Only the rows affected by the changes are recalculated.
+   *
+   * @param marketData  the market data to be used in the calculations
+   * @return the grid of calculation results, based on the tasks and market data
+   */
+  public synchronized Results calculateMultiScenario(ScenarioMarketData marketData) {
+    return calculate(
+        marketData,
+        false,
+        changedRows(marketData, false),
+        (subTasks, md) -> runner.calculateMultiScenario(subTasks, md, refData));
+  }
+
+  /**
+   * Performs calculations for multiple scenarios, specifying the market data that has changed.
+   * <p>
+   * Only the rows that depend on the specified market data are recalculated.
+   * The caller is responsible for ensuring the set includes all the market data that has changed
+   * since the previous calculation. If there is no previous calculation, or the valuation date
+   * or number of scenarios has changed, all the rows are calculated.
+   * <p>
+   * Only identifiers returned by {@link #getMarketDataIds()} affect the calculation, any other
+   * identifiers are ignored. Thus changed quotes are only recognized if the instance was created
+   * with the market data functions used to build the market data from the quotes.
+   *
+   * @param marketData  the market data to be used in the calculations
+   * @param changedIds  the identifiers of the market data that has changed since the previous calculation
+   * @return the grid of calculation results, based on the tasks and market data
+   */
+  public synchronized Results calculateMultiScenario(
+      ScenarioMarketData marketData,
+      Set<? extends MarketDataId<?>> changedIds) {
+
+    return calculate(
+        marketData,
+        false,
+        changedRows(marketData, changedIds, false),
+        (subTasks, md) -> runner.calculateMultiScenario(subTasks, md, refData));
+  }
+
+  //-------------------------------------------------------------------------
+  // performs the calculation of the specified rows, merging with the previous results
+  private Results calculate(
+      ScenarioMarketData marketData,
+      boolean single,
+      SortedSet<Integer> rows,
+      BiFunction<CalculationTasks, ScenarioMarketData, Results> calculator) {
+
+    Results results;
+    if (rows == null) {
+      results = calculator.apply(tasks, marketData);
+    } else if (rows.isEmpty()) {
+      results = previousResults;
+    } else {
+      Results subResults = calculator.apply(subTasks(rows), marketData);
+      results = merge(rows, subResults);
+    }
+    previousMarketData = marketData;
+    previousSingle = single;
+    previousResults = results;
+    return results;
+  }
+
+  // creates the tasks for a subset of the rows, renumbering the rows in order
+  private CalculationTasks subTasks(SortedSet<Integer> rows) {
+    List<CalculationTask> subTasks = new ArrayList<>();
+    int subRow = 0;
+    for (Integer row : rows) {
+      for (CalculationTask task : tasksByRow.get(row)) {
+        int taskRow = subRow;
+        List<CalculationTaskCell> cells = task.getCells().stream()
+            .map(cell -> CalculationTaskCell.of(
+                taskRow, cell.getColumnIndex(), cell.getMeasure(), cell.getReportingCurrency()))
+            .collect(toImmutableList());
+        subTasks.add(CalculationTask.of(task.getTarget(), task.getFunction(), task.getParameters(), cells));
+      }
+      subRow++;
+    }
+    return CalculationTasks.of(subTasks, tasks.getColumns());
+  }
+
+  // merges the results of the recalculated rows into the previous results
+  private Results merge(SortedSet<Integer> rows, Results subResults) {
+    int columnCount = previousResults.getColumnCount();
+    List<Result<?>> cells = new ArrayList<>(previousResults.getCells());
+    int subRow = 0;
+    for (Integer row : rows) {
+      for (int column = 0; column < columnCount; column++) {
+        cells.set(row * columnCount + column, subResults.get(subRow, column));
+      }
+      subRow++;
+    }
+    return Results.of(previousResults.getColumns(), cells);
+  }
+
+  //-------------------------------------------------------------------------
+  // finds the rows affected by the specified market data, null if all rows must be calculated
+  private SortedSet<Integer> changedRows(
+      ScenarioMarketData marketData,
+      Set<? extends MarketDataId<?>> changedIds,
+      boolean single) {
+
+    if (isFullCalculation(marketData, single)) {
+      return null;
+    }
+    SortedSet<Integer> rows = new TreeSet<>(alwaysRows);
+    for (MarketDataId<?> id : changedIds) {
+      rows.addAll(rowsByValueId.get(id));
+      if (id instanceof ObservableId) {
+        rows.addAll(rowsByTimeSeriesId.get((ObservableId) id));
+      }
+    }
+    return rows;
+  }
+
+  // finds the rows affected by changes to the market data, null if all rows must be calculated
+  private SortedSet<Integer> changedRows(ScenarioMarketData marketData, boolean single) {
+    if (isFullCalculation(marketData, single)) {
+      return null;
+    }
+    SortedSet<Integer> rows = new TreeSet<>(alwaysRows);
+    for (MarketDataId<?> id : rowsByValueId.keySet()) {
+      if (!Objects.equals(previousMarketData.findValue(id), marketData.findValue(id))) {
+        rows.addAll(rowsByValueId.get(id));
+      }
+    }
+    for (ObservableId id : rowsByTimeSeriesId.keySet()) {
+      if (!previousMarketData.getTimeSeries(id).equals(marketData.getTimeSeries(id))) {
+        rows.addAll(rowsByTimeSeriesId.get(id));
+      }
+    }
+    return rows;
+  }
+
+  // checks if all rows must be calculated, regardless of the changes to the market data
+  private boolean isFullCalculation(ScenarioMarketData marketData, boolean single) {
+    return previousResults == null ||
+        previousSingle != single ||
+        previousMarketData.getScenarioCount() != marketData.getScenarioCount() ||
+        !previousMarketData.getValuationDate().equals(marketData.getValuationDate());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "IncrementalCalculation[tasks=" + tasks.getTasks().size() +
+        ", marketDataIds=" + rowsByValueId.keySet().size() + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  // the market data used to build each item of market data, transitively, determined using the market data functions
+  private static final class Dependencies implements Function<MarketDataId<?>, MarketDataRequirements> {
+
+    private final MarketDataConfig marketDataConfig;
+    private final Map<Class<?>, MarketDataFunction<?, ?>> functions = new HashMap<>();
+    private final Map<MarketDataId<?>, MarketDataRequirements> cache = new HashMap<>();
+
+    private Dependencies(MarketDataConfig marketDataConfig, List<MarketDataFunction<?, ?>> functions) {
+      this.marketDataConfig = marketDataConfig;
+      for (MarketDataFunction<?, ?> function : functions) {
+        this.functions.put(function.getMarketDataIdType(), function);
+      }
+    }
+
+    @Override
+    public MarketDataRequirements apply(MarketDataId<?> id) {
+      MarketDataRequirements cached = cache.get(id);
+      if (cached != null) {
+        return cached;
+      }
+      // guard against cycles, the dependencies of an item still being expanded are treated as empty
+      cache.put(id, MarketDataRequirements.empty());
+      MarketDataRequirements reqs = expand(id);
+      cache.put(id, reqs);
+      return reqs;
+    }
+
+    // the direct requirements of the item, combined with the dependencies of the requirements
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private MarketDataRequirements expand(MarketDataId<?> id) {
+      if (id instanceof ObservableId) {
+        return MarketDataRequirements.empty();
+      }
+      MarketDataFunction function = functions.get(id.getClass());
+      if (function == null) {
+        return MarketDataRequirements.empty();
+      }
+      MarketDataRequirements direct;
+      try {
+        direct = function.requirements(id, marketDataConfig);
+      } catch (RuntimeException ex) {
+        return MarketDataRequirements.empty();
+      }
+      MarketDataRequirementsBuilder builder = MarketDataRequirements.builder().addRequirements(direct);
+      for (MarketDataId<?> dependencyId : direct.getNonObservables()) {
+        builder.addRequirements(apply(dependencyId));
+      }
+      return builder.build();
+    }
+  }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Calculation task runner that decorates another runner, recording the resources used by each task.
+ * <p>
+ * This is the default implementation of {@link CalculationTaskRunner#withInstrumentation(CalculationInstrumentation)}.
+ * The function of each task is wrapped so that each calculation is recorded in the instrumentation
+ * on the thread executing it, without requiring support from the underlying runner.
+ * As such, the underlying runner sees the wrapped functions rather than the original ones.
+ */
+final class InstrumentedCalculationTaskRunner implements CalculationTaskRunner {
+
+  /**
+   * The underlying runner.
+   */
+  private final CalculationTaskRunner delegate;
+  /**
+   * The instrumentation that records the resources used.
+   */
+  private final CalculationInstrumentation instrumentation;
+
+  /**
+   * Creates an instance.
+   *
+   * @param delegate  the underlying runner
+   * @param instrumentation  the instrumentation that records the resources used
+   */
+  InstrumentedCalculationTaskRunner(CalculationTaskRunner delegate, CalculationInstrumentation instrumentation) {
+    this.delegate = ArgChecker.notNull(delegate, "delegate");
+    this.instrumentation = ArgChecker.notNull(instrumentation, "instrumentation");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Results calculate(CalculationTasks tasks, MarketData marketData, ReferenceData refData) {
+    return delegate.calculate(instrument(tasks), marketData, refData);
+  }
+
+  @Override
+  public void calculateAsync(
+      CalculationTasks tasks,
+      MarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener) {
+
+    delegate.calculateAsync(instrument(tasks), marketData, refData, listener);
+  }
+
+  @Override
+  public void calculateStreaming(
+      CalculationTasks tasks,
+      MarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      int maxPendingTasks) {
+
+    delegate.calculateStreaming(instrument(tasks), marketData, refData, listener, maxPendingTasks);
+  }
+
+  @Override
+  public Results calculateMultiScenario(CalculationTasks tasks, ScenarioMarketData marketData, ReferenceData refData) {
+    return delegate.calculateMultiScenario(instrument(tasks), marketData, refData);
+  }
+
+  @Override
+  public void calculateMultiScenarioAsync(
+      CalculationTasks tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener) {
+
+    delegate.calculateMultiScenarioAsync(instrument(tasks), marketData, refData, listener);
+  }
+
+  @Override
+  public void calculateMultiScenarioStreaming(
+      CalculationTasks tasks,
+      ScenarioMarketData marketData,
+      ReferenceData refData,
+      CalculationListener listener,
+      int maxPendingTasks) {
+
+    delegate.calculateMultiScenarioStreaming(instrument(tasks), marketData, refData, listener, maxPendingTasks);
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  // wraps the function of each task so that its calculation is recorded
+  private CalculationTasks instrument(CalculationTasks tasks) {
+    ImmutableList<CalculationTask> instrumentedTasks = tasks.getTasks().stream()
+        .map(task -> CalculationTask.of(
+            task.getTarget(),
+            new InstrumentedFunction(task, instrumentation),
+            task.getParameters(),
+            task.getCells()))
+        .collect(toImmutableList());
+    return CalculationTasks.of(instrumentedTasks, tasks.getColumns());
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "InstrumentedCalculationTaskRunner[" + delegate + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Function that decorates the function of a task, recording each calculation against the task.
+   */
+  private static final class InstrumentedFunction implements CalculationFunction<CalculationTarget> {
+
+    private final CalculationTask task;
+    private final CalculationInstrumentation instrumentation;
+
+    private InstrumentedFunction(CalculationTask task, CalculationInstrumentation instrumentation) {
+      this.task = task;
+      this.instrumentation = instrumentation;
+    }
+
+    @Override
+    public Class<CalculationTarget> targetType() {
+      return task.getFunction().targetType();
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return task.getFunction().supportedMeasures();
+    }
+
+    @Override
+    public Optional<String> identifier(CalculationTarget target) {
+      return task.getFunction().identifier(target);
+    }
+
+    @Override
+    public Currency naturalCurrency(CalculationTarget target, ReferenceData refData) {
+      return task.getFunction().naturalCurrency(target, refData);
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        CalculationTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return task.getFunction().requirements(target, measures, parameters, refData);
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        CalculationTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      return instrumentation.recordTask(
+          task, () -> task.getFunction().calculate(target, measures, parameters, marketData, refData));
+    }
+  }
+
+}
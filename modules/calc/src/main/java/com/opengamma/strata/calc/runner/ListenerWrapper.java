@@ -5,11 +5,10 @@
  */
 package com.opengamma.strata.calc.runner;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -29,6 +28,13 @@ import com.opengamma.strata.collect.ArgChecker;
  * Calculations may be performed in bulk for a given target.
  * The logic in this class unwraps the {@link CalculationResults}, calling the
  * listener with each individual {@link CalculationResult}.
+ * <p>
+ * Results may also be delivered in bulk using {@link #acceptAll(List)}, which
+ * only updates the shared state once for the whole list.
+ * <p>
+ * No locks are used. Results are added to a lock-free queue and counted using an atomic counter.
+ * The thread that increments the counter from zero becomes the only thread delivering results,
+ * and continues until the counter returns to zero. Other threads never block.
  */
 final class ListenerWrapper implements Consumer<CalculationResults> {
 
@@ -37,29 +43,26 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
   /** The wrapped listener. */
   private final CalculationListener listener;
 
-  /** Queue of actions to perform on the delegate. */
-  private final Queue<CalculationResults> queue = new LinkedList<>();
-
-  /** Protects the queue and the executing flag. */
-  private final Lock lock = new ReentrantLock();
+  /** Queue of results waiting to be delivered to the listener. */
+  private final Queue<CalculationResults> queue = new ConcurrentLinkedQueue<>();
 
-  /** This lock is never contended; it is used to guarantee the listener state is visible to all threads. */
-  private final Lock listenerLock = new ReentrantLock();
+  /**
+   * The number of results that have been added to the queue but not yet delivered.
+   * <p>
+   * A thread that changes this from zero is responsible for delivering results until it returns to zero.
+   * The atomic updates also ensure any state changes in the listener are visible to the next delivering thread.
+   */
+  private final AtomicInteger pending = new AtomicInteger();
 
   /** The total number of tasks to be executed. */
   private final int tasksExpected;
 
-  // Mutable state -----------------------------------------------------
+  /** Invoked after the results of each task have been delivered to the listener. */
+  private final Runnable deliveredCallback;
 
-  /**
-   * Flags whether a call to the underlying listener is executing.
-   * If this flag is set when {@link #accept} is called, the result is added to
-   * the queue and the calling thread returns. The executing thread will ensure
-   * all queued results are delivered.
-   */
-  private boolean executing;
+  // Mutable state -----------------------------------------------------
 
-  /** The number of task results that have been received. */
+  /** The number of task results that have been received, only accessed by the delivering thread. */
   private int tasksReceived;
 
   //-------------------------------------------------------------------------
@@ -70,18 +73,39 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
    * @param columns  the columns for which values are being calculated
    */
   ListenerWrapper(CalculationListener listener, int tasksExpected, List<CalculationTarget> targets, List<Column> columns) {
+    this(listener, tasksExpected, targets, columns, () -> { });
+  }
+
+  /**
+   * Creates an instance wrapping the specified listener, specifying a callback invoked
+   * after the results of each task have been delivered.
+   * <p>
+   * The callback is invoked after the listener has received the results of the task,
+   * and after {@link CalculationListener#calculationsComplete()} for the last task.
+   * It is invoked by the delivering thread and may block.
+   *
+   * @param listener  the underlying listener wrapped by this object
+   * @param tasksExpected  the number of tasks to be executed
+   * @param targets  the targets for which values are being calculated
+   * @param columns  the columns for which values are being calculated
+   * @param deliveredCallback  invoked after the results of each task have been delivered
+   */
+  ListenerWrapper(
+      CalculationListener listener,
+      int tasksExpected,
+      List<CalculationTarget> targets,
+      List<Column> columns,
+      Runnable deliveredCallback) {
+
     this.listener = ArgChecker.notNull(listener, "listener");
     this.tasksExpected = ArgChecker.notNegative(tasksExpected, "tasksExpected");
+    this.deliveredCallback = ArgChecker.notNull(deliveredCallback, "deliveredCallback");
 
-    listenerLock.lock();
-    try {
-      listener.calculationsStarted(targets, columns);
-
-      if (tasksExpected == 0) {
-        listener.calculationsComplete();
-      }
-    } finally {
-      listenerLock.unlock();
+    // the tasks are submitted after this constructor completes, so the listener state
+    // is visible to the threads delivering the results
+    listener.calculationsStarted(targets, columns);
+    if (tasksExpected == 0) {
+      listener.calculationsComplete();
     }
   }
 
@@ -101,85 +125,61 @@ final class ListenerWrapper implements Consumer<CalculationResults> {
    */
   @Override
   public void accept(CalculationResults result) {
-    CalculationResults nextResult;
-
-    // Multiple calculation threads can try to acquire this lock at the same time.
-    // The thread which acquires the lock will set the executing flag and proceed into
-    // the body of the method.
-    // If another thread acquires the lock while the first thread is executing it will
-    // add an item to the queue and return.
-    // The lock also ensures the state of the executing flag and the queue are visible
-    // to any thread acquiring the lock.
-    lock.lock();
-    try {
-      if (executing) {
-        // Another thread is already invoking the listener. Add the result to
-        // the queue and return. The other thread will ensure the queued results
-        // are delivered.
-        queue.add(result);
-        return;
-      } else {
-        // There is no thread invoking the listener. Set the executing flag to
-        // ensure no other thread passes this point and invoke the listener.
-        executing = true;
-        nextResult = result;
-      }
-    } finally {
-      lock.unlock();
+    // the result must be queued before the counter is incremented, so that the delivering
+    // thread always finds a result on the queue for each increment it observes
+    queue.add(result);
+    if (pending.getAndIncrement() == 0) {
+      deliver();
     }
+  }
 
-    // The logic in the block above guarantees that there will never be more than one thread in the
-    // rest of the method below this point.
+  /**
+   * Accepts a list of calculation results and delivers them to the listener.
+   * <p>
+   * This behaves as though {@link #accept(CalculationResults)} was called for each result in turn,
+   * but the counter of pending results is only updated once for the whole list.
+   * This is used when tasks are executed in batches.
+   *
+   * @param results  the results of the calculations
+   */
+  void acceptAll(List<CalculationResults> results) {
+    if (results.isEmpty()) {
+      return;
+    }
+    // see accept() for details
+    queue.addAll(results);
+    if (pending.getAndAdd(results.size()) == 0) {
+      deliver();
+    }
+  }
 
-    // Loop until the nextResult and all the results from the queue have been delivered
-    for (;;) {
-      // The logic above means this lock is never contended; the executing flag means
-      // only one thread will ever be in this loop at any given time.
-      // This lock is required to ensure any state changes in the listener are visible to all threads
-      listenerLock.lock();
+  // delivers queued results until there are none pending
+  // must only be called by the thread that incremented the pending count from zero
+  private void deliver() {
+    // The logic in accept() guarantees that there will never be more than one thread in this method
+    // Loop until all the results from the queue have been delivered
+    do {
+      CalculationResults nextResult = queue.remove();
       try {
-        // Invoke the listener while not protected by lock. This allows other threads
-        // to queue results while this thread is delivering them to the listener.
         for (CalculationResult cell : nextResult.getCells()) {
           listener.resultReceived(nextResult.getTarget(), cell);
         }
       } catch (RuntimeException e) {
         log.warn("Exception invoking listener.resultReceived", e);
-      } finally {
-        listenerLock.unlock();
       }
-
-      // The following code must be executed whilst holding the lock to guarantee any changes
-      // to the executing flag and to the state of the queue are visible to all threads
-      lock.lock();
-      try {
-        if (++tasksReceived == tasksExpected) {
-          // The expected number of results have been received, inform the listener.
-          // The listener lock must be acquired to ensure any state changes in the listener are
-          // visible to all threads
-          listenerLock.lock();
-          try {
-            listener.calculationsComplete();
-          } catch (RuntimeException e) {
-            log.warn("Exception invoking listener.calculationsComplete", e);
-          } finally {
-            listenerLock.unlock();
-          }
-          return;
-        } else if (queue.isEmpty()) {
-          // There are no more results to deliver. Unset the executing flag and return.
-          // This allows the next calling thread to deliver results.
-          executing = false;
-          return;
-        } else {
-          // There are results on the queue. This means another thread called accept(),
-          // added a result to the queue and returned while this thread was invoking the listener.
-          // This thread must deliver the results from the queue.
-          nextResult = queue.remove();
+      if (++tasksReceived == tasksExpected) {
+        // The expected number of results have been received, inform the listener
+        try {
+          listener.calculationsComplete();
+        } catch (RuntimeException e) {
+          log.warn("Exception invoking listener.calculationsComplete", e);
         }
-      } finally {
-        lock.unlock();
       }
-    }
+      deliveredCallback.run();
+      // Decrementing the counter to zero allows the next calling thread to deliver results.
+      // If it is not zero, another thread called accept() while this thread was invoking
+      // the listener, and this thread must deliver the queued result.
+    } while (pending.decrementAndGet() != 0);
   }
+
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
+import org.joda.beans.ImmutableBean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.TypedMetaBean;
+import org.joda.beans.gen.BeanDefinition;
+import org.joda.beans.gen.PropertyDefinition;
+import org.joda.beans.impl.light.LightMetaBean;
+
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+
+/**
+ * Calculation parameter controlling whether the scenarios of a calculation are evaluated in parallel.
+ * <p>
+ * By default, the calculation runner evaluates different targets in parallel, but evaluates
+ * all the scenarios of a single target on one thread. When there are few targets and many
+ * scenarios, this can leave most of the threads idle.
+ * <p>
+ * When this parameter is present, calculation functions that support it will evaluate the scenarios
+ * in parallel if the number of scenarios is at least the minimum scenario count.
+ * The scenarios are evaluated using the fork-join framework. If the calculation runner uses a
+ * {@linkplain CalculationTaskRunner#ofWorkStealing() work-stealing pool}, the scenarios are evaluated
+ * by the threads of the runner, otherwise the common pool is used.
+ * <p>
+ * The results are in scenario order and are identical to those of the serial evaluation.
+ * Use {@link CalculationParameter#filter} or a target type parameter to restrict this to
+ * the targets that benefit from it.
+ */
+@BeanDefinition(style = "light")
+public final class ScenarioParallelism
+    implements CalculationParameter, ImmutableBean, Serializable {
+
+  /**
+   * An instance that never evaluates scenarios in parallel.
+   * <p>
+   * This is equivalent to not specifying the parameter.
+   */
+  public static final ScenarioParallelism NONE = new ScenarioParallelism(Integer.MAX_VALUE);
+
+  /**
+   * The minimum number of scenarios for the scenarios to be evaluated in parallel.
+   * <p>
+   * Calculations with fewer scenarios than this are evaluated serially.
+   */
+  @PropertyDefinition(validate = "ArgChecker.notNegativeOrZero")
+  private final int minScenarioCount;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance specifying the minimum number of scenarios for parallel evaluation.
+   *
+   * @param minScenarioCount  the minimum number of scenarios for the scenarios to be evaluated in parallel
+   * @return the parameter
+   */
+  public static ScenarioParallelism of(int minScenarioCount) {
+    return new ScenarioParallelism(minScenarioCount);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks whether a calculation with the specified number of scenarios is evaluated in parallel.
+   *
+   * @param scenarioCount  the number of scenarios
+   * @return true if the scenarios are evaluated in parallel
+   */
+  public boolean isParallel(int scenarioCount) {
+    return scenarioCount >= minScenarioCount;
+  }
+
+  /**
+   * Obtains a scenario array, evaluating the scenarios in parallel if appropriate.
+   * <p>
+   * This is equivalent to {@link ScenarioArray#of(int, IntFunction)}.
+   *
+   * @param <T>  the type of the value
+   * @param scenarioCount  the number of scenarios
+   * @param valueFunction  the function used to obtain each value
+   * @return the scenario array
+   */
+  public <T> ScenarioArray<T> scenarioArray(int scenarioCount, IntFunction<T> valueFunction) {
+    if (!isParallel(scenarioCount)) {
+      return ScenarioArray.of(scenarioCount, valueFunction);
+    }
+    return ScenarioArray.of(IntStream.range(0, scenarioCount).parallel()
+        .mapToObj(valueFunction)
+        .collect(toImmutableList()));
+  }
+
+  /**
+   * Obtains a scenario array of {@code double} values, evaluating the scenarios in parallel if appropriate.
+   * <p>
+   * This is equivalent to {@link DoubleScenarioArray#of(int, IntToDoubleFunction)}.
+   *
+   * @param scenarioCount  the number of scenarios
+   * @param valueFunction  the function used to obtain each value
+   * @return the scenario array
+   */
+  public DoubleScenarioArray doubleScenarioArray(int scenarioCount, IntToDoubleFunction valueFunction) {
+    if (!isParallel(scenarioCount)) {
+      return DoubleScenarioArray.of(scenarioCount, valueFunction);
+    }
+    return DoubleScenarioArray.of(DoubleArray.ofUnsafe(IntStream.range(0, scenarioCount).parallel()
+        .mapToDouble(valueFunction)
+        .toArray()));
+  }
+
+  /**
+   * Obtains a scenario array of currency amounts, evaluating the scenarios in parallel if appropriate.
+   * <p>
+   * This is equivalent to {@link CurrencyScenarioArray#of(int, IntFunction)}.
+   *
+   * @param scenarioCount  the number of scenarios
+   * @param amountFunction  the function used to obtain each amount
+   * @return the scenario array
+   */
+  public CurrencyScenarioArray currencyScenarioArray(int scenarioCount, IntFunction<CurrencyAmount> amountFunction) {
+    if (!isParallel(scenarioCount)) {
+      return CurrencyScenarioArray.of(scenarioCount, amountFunction);
+    }
+    return CurrencyScenarioArray.of(IntStream.range(0, scenarioCount).parallel()
+        .mapToObj(amountFunction)
+        .collect(toImmutableList()));
+  }
+
+  /**
+   * Obtains a scenario array of multi-currency amounts, evaluating the scenarios in parallel if appropriate.
+   * <p>
+   * This is equivalent to {@link MultiCurrencyScenarioArray#of(int, IntFunction)}.
+   *
+   * @param scenarioCount  the number of scenarios
+   * @param amountFunction  the function used to obtain each amount
+   * @return the scenario array
+   */
+  public MultiCurrencyScenarioArray multiCurrencyScenarioArray(
+      int scenarioCount,
+      IntFunction<MultiCurrencyAmount> amountFunction) {
+
+    if (!isParallel(scenarioCount)) {
+      return MultiCurrencyScenarioArray.of(scenarioCount, amountFunction);
+    }
+    return MultiCurrencyScenarioArray.of(IntStream.range(0, scenarioCount).parallel()
+        .mapToObj(amountFunction)
+        .collect(toImmutableList()));
+  }
+
+  //------------------------- AUTOGENERATED START -------------------------
+  /**
+   * The meta-bean for {@code ScenarioParallelism}.
+   */
+  private static final TypedMetaBean<ScenarioParallelism> META_BEAN =
+      LightMetaBean.of(
+          ScenarioParallelism.class,
+          MethodHandles.lookup(),
+          new String[] {
+              "minScenarioCount"},
+          new Object[0]);
+
+  /**
+   * The meta-bean for {@code ScenarioParallelism}.
+   * @return the meta-bean, not null
+   */
+  public static TypedMetaBean<ScenarioParallelism> meta() {
+    return META_BEAN;
+  }
+
+  static {
+    MetaBean.register(META_BEAN);
+  }
+
+  /**
+   * The serialization version id.
+   */
+  private static final long serialVersionUID = 1L;
+
+  private ScenarioParallelism(
+      int minScenarioCount) {
+    ArgChecker.notNegativeOrZero(minScenarioCount, "minScenarioCount");
+    this.minScenarioCount = minScenarioCount;
+  }
+
+  @Override
+  public TypedMetaBean<ScenarioParallelism> metaBean() {
+    return META_BEAN;
+  }
+
+  //-----------------------------------------------------------------------
+  /**
+   * Gets the minimum number of scenarios for the scenarios to be evaluated in parallel.
+   * <p>
+   * Calculations with fewer scenarios than this are evaluated serially.
+   * @return the value of the property
+   */
+  public int getMinScenarioCount() {
+    return minScenarioCount;
+  }
+
+  //-----------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj != null && obj.getClass() == this.getClass()) {
+      ScenarioParallelism other = (ScenarioParallelism) obj;
+      return (minScenarioCount == other.minScenarioCount);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = getClass().hashCode();
+    hash = hash * 31 + JodaBeanUtils.hashCode(minScenarioCount);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(64);
+    buf.append("ScenarioParallelism{");
+    buf.append("minScenarioCount").append('=').append(JodaBeanUtils.toString(minScenarioCount));
+    buf.append('}');
+    return buf.toString();
+  }
+
+  //-------------------------- AUTOGENERATED END --------------------------
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * Calculation listener that passes each completed row of results to a sink.
+ * <p>
+ * Unlike {@link ResultsListener}, this does not build a set of {@link com.opengamma.strata.calc.Results Results}.
+ * Instead, the results for each target are held until all the columns of the row have been calculated,
+ * at which point the row is passed to the {@link CalculationRowSink} and discarded.
+ * The memory used is therefore proportional to the number of incomplete rows, not the total number of rows.
+ * <p>
+ * The rows can be passed to the sink in the order they complete, or in row order.
+ * Passing the rows in row order requires completed rows to be held until all the preceding rows are complete.
+ * These rows have been received by the listener, thus they are not limited by the number of calculations
+ * in progress, and a single slow row can cause many rows to be held.
+ * <p>
+ * This is typically used with the {@code calculateStreaming} methods of {@link CalculationTaskRunner},
+ * which limit the number of calculations that can be in progress at any time.
+ */
+public final class StreamingResultsListener implements CalculationListener {
+
+  /** The sink that receives the rows. */
+  private final CalculationRowSink sink;
+  /** Whether the rows are passed to the sink in row order. */
+  private final boolean ordered;
+  /** The incomplete rows, keyed by row index. */
+  private final Map<Integer, PendingRow> pendingRows = new HashMap<>();
+
+  // Mutable state -----------------------------------------------------
+
+  /** The number of columns. */
+  private int columnCount;
+  /** The index of the next row to pass to the sink, only used when the rows are ordered. */
+  private int nextRowIndex;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a listener that passes rows to the sink in the order they complete.
+   *
+   * @param sink  the sink that receives the rows
+   * @return the listener
+   */
+  public static StreamingResultsListener of(CalculationRowSink sink) {
+    return new StreamingResultsListener(sink, false);
+  }
+
+  /**
+   * Obtains a listener that passes rows to the sink in row order.
+   * <p>
+   * Rows that complete before the preceding rows are held until the preceding rows are complete.
+   *
+   * @param sink  the sink that receives the rows
+   * @return the listener
+   */
+  public static StreamingResultsListener ofOrdered(CalculationRowSink sink) {
+    return new StreamingResultsListener(sink, true);
+  }
+
+  // creates an instance
+  private StreamingResultsListener(CalculationRowSink sink, boolean ordered) {
+    this.sink = ArgChecker.notNull(sink, "sink");
+    this.ordered = ordered;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
+    this.columnCount = columns.size();
+    sink.started(columns.stream().map(Column::toHeader).collect(toImmutableList()));
+  }
+
+  @Override
+  public void resultReceived(CalculationTarget target, CalculationResult result) {
+    int rowIndex = result.getRowIndex();
+    PendingRow row = pendingRows.computeIfAbsent(rowIndex, index -> new PendingRow(target, columnCount));
+    row.add(result);
+    if (!row.isComplete()) {
+      return;
+    }
+    if (!ordered) {
+      pendingRows.remove(rowIndex);
+      sink.rowReceived(rowIndex, target, row.results());
+      return;
+    }
+    // pass all the complete rows that are now in order
+    PendingRow next = pendingRows.get(nextRowIndex);
+    while (next != null && next.isComplete()) {
+      pendingRows.remove(nextRowIndex);
+      sink.rowReceived(nextRowIndex, next.target, next.results());
+      nextRowIndex++;
+      next = pendingRows.get(nextRowIndex);
+    }
+  }
+
+  @Override
+  public void calculationsComplete() {
+    sink.completed();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "StreamingResultsListener[sink=" + sink + ", ordered=" + ordered + "]";
+  }
+
+  //-------------------------------------------------------------------------
+  // the results received for a row
+  private static final class PendingRow {
+
+    private final CalculationTarget target;
+    private final Result<?>[] cells;
+    private int received;
+
+    private PendingRow(CalculationTarget target, int columnCount) {
+      this.target = target;
+      this.cells = new Result<?>[columnCount];
+    }
+
+    private void add(CalculationResult result) {
+      cells[result.getColumnIndex()] = result.getResult();
+      received++;
+    }
+
+    private boolean isComplete() {
+      return received == cells.length;
+    }
+
+    private List<Result<?>> results() {
+      return ImmutableList.copyOf(cells);
+    }
+  }
+
+}
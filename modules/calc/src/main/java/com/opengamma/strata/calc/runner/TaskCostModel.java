@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Model estimating the relative cost of executing calculation tasks.
+ * <p>
+ * The cost of a task is estimated as the cost per measure of its calculation function,
+ * multiplied by the number of measures calculated by the task.
+ * The cost per measure is keyed by the type of the function. It is initially taken from
+ * the costs specified when the model is created, and is then updated from the runtime of
+ * each task recorded by the {@link CalculationTaskRunner}.
+ * The recorded runtimes are combined using an exponential moving average, allowing the model
+ * to adapt if the cost of a function changes, for example when the market data changes.
+ * <p>
+ * If there is no cost for a function type, the average cost of all the known function types is used.
+ * If no costs are known, all tasks are estimated to have the same cost per measure.
+ * <p>
+ * The model is typically used to order tasks so that the most expensive tasks are executed first.
+ * This shortens the overall time taken when the cost of the tasks varies widely, as otherwise
+ * an expensive task submitted last can leave one thread working while the others are idle.
+ * See {@link CalculationTasks#sortedByCost(java.util.function.ToDoubleFunction)} and
+ * {@link CalculationTaskRunner#ofCostOrdered(java.util.concurrent.ExecutorService, TaskCostModel)}.
+ * <p>
+ * This class is mutable and thread-safe. A single instance is intended to be shared
+ * between calculations so that the runtime history accumulates.
+ */
+public final class TaskCostModel {
+
+  /**
+   * The weight given to each new runtime in the moving average.
+   */
+  private static final double SMOOTHING = 0.25;
+  /**
+   * The cost per measure used when no costs are known.
+   */
+  private static final double DEFAULT_COST = 1d;
+
+  /**
+   * The cost per measure, keyed by the type of the calculation function.
+   */
+  private final Map<Class<?>, Double> costs = new ConcurrentHashMap<>();
+  /**
+   * The sum of the costs per measure, maintained as the costs are updated.
+   */
+  private final DoubleAdder totalCost = new DoubleAdder();
+  /**
+   * The number of function types with a cost, maintained as the costs are updated.
+   */
+  private final LongAdder costCount = new LongAdder();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an empty model, with no known costs.
+   *
+   * @return the model
+   */
+  public static TaskCostModel create() {
+    return new TaskCostModel();
+  }
+
+  /**
+   * Creates a model with initial costs per measure for different types of calculation function.
+   * <p>
+   * The costs should be expressed in nanoseconds per measure so that they are comparable
+   * with the runtimes recorded by the runner.
+   *
+   * @param initialCosts  the cost per measure, keyed by the type of the calculation function
+   * @return the model
+   */
+  public static TaskCostModel of(Map<? extends Class<?>, Double> initialCosts) {
+    TaskCostModel model = new TaskCostModel();
+    initialCosts.forEach((type, cost) -> model.update(
+        ArgChecker.notNull(type, "type"), ArgChecker.notNegative(cost, "cost"), 1d));
+    return model;
+  }
+
+  // restricted constructor
+  private TaskCostModel() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Estimates the cost of executing the task.
+   * <p>
+   * The result is only meaningful relative to the cost of other tasks.
+   *
+   * @param task  the task
+   * @return the estimated cost of the task
+   */
+  public double estimateCost(CalculationTask task) {
+    Double cost = costs.get(task.getFunction().getClass());
+    double costPerMeasure = cost != null ? cost : averageCost();
+    return costPerMeasure * task.getMeasures().size();
+  }
+
+  // the average cost per measure of the known function types, from the running total to avoid iterating the costs
+  private double averageCost() {
+    long count = costCount.sum();
+    return count > 0 ? totalCost.sum() / count : DEFAULT_COST;
+  }
+
+  /**
+   * Finds the cost per measure of the specified type of calculation function.
+   *
+   * @param functionType  the type of the calculation function
+   * @return the cost per measure, empty if not known
+   */
+  public OptionalDouble findCostPerMeasure(Class<?> functionType) {
+    Double cost = costs.get(functionType);
+    return cost != null ? OptionalDouble.of(cost) : OptionalDouble.empty();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Records the time taken to execute a task.
+   * <p>
+   * This is called by the runner after each task has been executed.
+   *
+   * @param task  the task that was executed
+   * @param nanos  the time taken to execute the task, in nanoseconds
+   */
+  public void record(CalculationTask task, long nanos) {
+    int measureCount = Math.max(1, task.getMeasures().size());
+    double costPerMeasure = Math.max(0, nanos) / (double) measureCount;
+    update(task.getFunction().getClass(), costPerMeasure, SMOOTHING);
+  }
+
+  // moves the cost of the function type towards the specified cost, maintaining the running total
+  private void update(Class<?> functionType, double cost, double weight) {
+    costs.compute(functionType, (type, old) -> {
+      if (old == null) {
+        totalCost.add(cost);
+        costCount.increment();
+        return cost;
+      }
+      double updated = old + weight * (cost - old);
+      totalCost.add(updated - old);
+      return updated;
+    });
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "TaskCostModel[functionTypes=" + costs.size() + "]";
+  }
+
+}
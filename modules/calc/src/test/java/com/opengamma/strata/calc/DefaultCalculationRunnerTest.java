@@ -7,6 +7,9 @@ package com.opengamma.strata.calc;
 
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +37,44 @@ public class DefaultCalculationRunnerTest {
     }
   }
 
+  @Test
+  public void test_ofWorkStealing() {
+    ImmutableList<CalculationTarget> targets = ImmutableList.of(TARGET);
+    ImmutableList<Column> columns = ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE));
+    CalculationRules rules = CalculationRules.of(CalculationFunctions.empty());
+    MarketData md = MarketData.empty(date(2016, 6, 30));
+
+    try (CalculationRunner test = CalculationRunner.ofWorkStealing()) {
+      assertThat(test.calculate(rules, targets, columns, md, REF_DATA).get(0, 0).isFailure()).isTrue();
+    }
+  }
+
+  @Test
+  public void test_ofVirtualThreads() {
+    ImmutableList<CalculationTarget> targets = ImmutableList.of(TARGET);
+    ImmutableList<Column> columns = ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE));
+    CalculationRules rules = CalculationRules.of(CalculationFunctions.empty());
+    MarketData md = MarketData.empty(date(2016, 6, 30));
+
+    assumeTrue(javaVersion() >= 21, "virtual threads are only available from Java 21");
+    try (CalculationRunner test = CalculationRunner.ofVirtualThreads()) {
+      assertThat(test.calculate(rules, targets, columns, md, REF_DATA).get(0, 0).isFailure()).isTrue();
+    }
+  }
+
+  @Test
+  public void test_ofVirtualThreads_unsupported() {
+    assumeFalse(javaVersion() >= 21, "virtual threads are available from Java 21");
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(() -> CalculationRunner.ofVirtualThreads());
+  }
+
+  // the major version of the runtime, such as 8 or 21
+  private static int javaVersion() {
+    String version = System.getProperty("java.specification.version");
+    return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void calculate() {
@@ -8,11 +8,14 @@ package com.opengamma.strata.calc.marketdata;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +24,8 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.calc.runner.CalculationInstrumentation;
+import com.opengamma.strata.calc.runner.CalculationMetrics;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
@@ -214,6 +219,237 @@ public class DefaultMarketDataFactoryTest {
     assertThat(marketDataB2).isEqualTo(expectedB2);
   }
 
+  /**
+   * Tests building market data that depends on other market data using an executor.
+   */
+  @Test
+  public void buildDataFromOtherDataWithExecutor() {
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"), new TestIdB("3"))
+        .build();
+
+    LocalDateDoubleTimeSeries timeSeries1 = LocalDateDoubleTimeSeries.of(date(2011, 3, 8), 1);
+    LocalDateDoubleTimeSeries timeSeries2 = LocalDateDoubleTimeSeries.of(date(2011, 3, 8), 10);
+    Map<TestIdA, LocalDateDoubleTimeSeries> timeSeriesMap =
+        ImmutableMap.of(
+            new TestIdA("1"), timeSeries1,
+            new TestIdA("2"), timeSeries2);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      MarketDataFactory serialFactory = MarketDataFactory.of(
+          new TestObservableDataProvider(),
+          new TestTimeSeriesProvider(timeSeriesMap),
+          new TestMarketDataFunctionB(),
+          new TestMarketDataFunctionC());
+      MarketDataFactory factory = MarketDataFactory.of(
+          new TestObservableDataProvider(),
+          new TestTimeSeriesProvider(timeSeriesMap),
+          executor,
+          new TestMarketDataFunctionB(),
+          new TestMarketDataFunctionC());
+
+      MarketData suppliedData = MarketData.empty(date(2011, 3, 8));
+      BuiltMarketData marketData = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+      BuiltMarketData expected = serialFactory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+
+      assertThat(marketData.getTimeSeriesFailures().keySet()).isEqualTo(expected.getTimeSeriesFailures().keySet());
+      assertThat(marketData.getValue(new TestIdB("1")))
+          .isEqualTo(new TestMarketDataB(1, new TestMarketDataC(timeSeries1)));
+      assertThat(marketData.getValue(new TestIdB("2")))
+          .isEqualTo(new TestMarketDataB(2, new TestMarketDataC(timeSeries2)));
+      assertThat(marketData.getValueFailures().keySet()).containsExactlyElementsOf(expected.getValueFailures().keySet());
+      assertThat(marketData.findValue(new TestIdB("3"))).isEqualTo(expected.findValue(new TestIdB("3")));
+      assertThat(marketData.getIds()).isEqualTo(expected.getIds());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests an exception is thrown when there is no builder for an ID type using an executor.
+   */
+  @Test
+  public void noMarketDataBuilderAvailableWithExecutor() {
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"))
+        .build();
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      MarketDataFactory factory = MarketDataFactory.of(
+          new TestObservableDataProvider(),
+          new TestTimeSeriesProvider(ImmutableMap.of()),
+          executor,
+          new TestMarketDataFunctionB());
+
+      BuiltScenarioMarketData suppliedData = BuiltScenarioMarketData.builder(date(2011, 3, 8)).build();
+      assertThatIllegalStateException()
+          .isThrownBy(
+              () -> factory.createMultiScenario(
+                  requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA, ScenarioDefinition.empty()))
+          .withMessageStartingWith("No market data function available for market data ID of type");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests that market data built from unchanged inputs is taken from the cache.
+   */
+  @Test
+  public void buildDataWithCache() {
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"))
+        .build();
+    LocalDateDoubleTimeSeries timeSeries1 = LocalDateDoubleTimeSeries.of(date(2011, 3, 8), 1);
+    LocalDateDoubleTimeSeries timeSeries2 = LocalDateDoubleTimeSeries.of(date(2011, 3, 8), 10);
+    Map<TestIdA, LocalDateDoubleTimeSeries> timeSeriesMap =
+        ImmutableMap.of(
+            new TestIdA("1"), timeSeries1,
+            new TestIdA("2"), timeSeries2);
+    CountingFunction<TestMarketDataB, TestIdB> functionB = new CountingFunction<>(new TestMarketDataFunctionB());
+    CountingFunction<TestMarketDataC, TestIdC> functionC = new CountingFunction<>(new TestMarketDataFunctionC());
+    MarketDataCache cache = MarketDataCache.ofMaximumSize(10);
+    MarketDataFactory factory = MarketDataFactory.of(
+        new TestObservableDataProvider(),
+        new TestTimeSeriesProvider(timeSeriesMap),
+        cache,
+        ImmutableList.of(functionB, functionC));
+
+    MarketData suppliedData1 =
+        MarketData.of(date(2011, 3, 8), ImmutableMap.of(new TestIdA("1"), 1d, new TestIdA("2"), 2d));
+    BuiltMarketData marketData1 = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData1, REF_DATA);
+    assertThat(marketData1.getValue(new TestIdB("1")))
+        .isEqualTo(new TestMarketDataB(1, new TestMarketDataC(timeSeries1)));
+    assertThat(functionB.count).isEqualTo(2);
+    assertThat(functionC.count).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(4);
+    assertThat(cache.weight()).isEqualTo(4);
+
+    // nothing has changed so all the data is taken from the cache
+    BuiltMarketData marketData2 = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData1, REF_DATA);
+    assertThat(marketData2.getValue(new TestIdB("1"))).isEqualTo(marketData1.getValue(new TestIdB("1")));
+    assertThat(marketData2.getValue(new TestIdB("2"))).isEqualTo(marketData1.getValue(new TestIdB("2")));
+    assertThat(functionB.count).isEqualTo(2);
+    assertThat(functionC.count).isEqualTo(2);
+
+    // a change to an input of one item causes only that item to be built
+    MarketData suppliedData2 =
+        MarketData.of(date(2011, 3, 8), ImmutableMap.of(new TestIdA("1"), 3d, new TestIdA("2"), 2d));
+    BuiltMarketData marketData3 = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData2, REF_DATA);
+    assertThat(marketData3.getValue(new TestIdB("1")))
+        .isEqualTo(new TestMarketDataB(3, new TestMarketDataC(timeSeries1)));
+    assertThat(marketData3.getValue(new TestIdB("2")))
+        .isEqualTo(new TestMarketDataB(2, new TestMarketDataC(timeSeries2)));
+    assertThat(functionB.count).isEqualTo(3);
+    assertThat(functionC.count).isEqualTo(2);
+
+    // a change to the valuation date causes everything to be built
+    MarketData suppliedData3 =
+        MarketData.of(date(2011, 3, 9), ImmutableMap.of(new TestIdA("1"), 3d, new TestIdA("2"), 2d));
+    factory.create(requirements, MARKET_DATA_CONFIG, suppliedData3, REF_DATA);
+    assertThat(functionB.count).isEqualTo(5);
+    assertThat(functionC.count).isEqualTo(4);
+  }
+
+  @Test
+  public void buildDataWithInstrumentation() {
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"))
+        .build();
+    LocalDateDoubleTimeSeries timeSeries1 = LocalDateDoubleTimeSeries.of(date(2011, 3, 8), 1);
+    LocalDateDoubleTimeSeries timeSeries2 = LocalDateDoubleTimeSeries.of(date(2011, 3, 8), 10);
+    Map<TestIdA, LocalDateDoubleTimeSeries> timeSeriesMap =
+        ImmutableMap.of(
+            new TestIdA("1"), timeSeries1,
+            new TestIdA("2"), timeSeries2);
+    CalculationInstrumentation instrumentation = CalculationInstrumentation.create();
+    MarketDataFactory factory = MarketDataFactory.of(
+        new TestObservableDataProvider(),
+        new TestTimeSeriesProvider(timeSeriesMap),
+        MarketDataCache.ofMaximumSize(10),
+        ImmutableList.of(new TestMarketDataFunctionB(), new TestMarketDataFunctionC()))
+        .withInstrumentation(instrumentation);
+
+    MarketData suppliedData =
+        MarketData.of(date(2011, 3, 8), ImmutableMap.of(new TestIdA("1"), 1d, new TestIdA("2"), 2d));
+    BuiltMarketData marketData = factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+    assertThat(marketData.getValue(new TestIdB("1")))
+        .isEqualTo(new TestMarketDataB(1, new TestMarketDataC(timeSeries1)));
+    CalculationMetrics metrics = instrumentation.metrics();
+    assertThat(metrics.getMarketData()).containsOnlyKeys(
+        new TestIdB("1"), new TestIdB("2"), new TestIdC("1"), new TestIdC("2"));
+    assertThat(metrics.findMarketData(new TestIdB("1")).get().getCount()).isEqualTo(1);
+    assertThat(metrics.getMarketDataTotal().getCount()).isEqualTo(4);
+
+    // market data taken from the cache is not recorded
+    factory.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+    assertThat(instrumentation.metrics().getMarketDataTotal().getCount()).isEqualTo(4);
+  }
+
+  @Test
+  public void buildDataWithInstrumentationDefaultMethod() {
+    MarketDataRequirements requirements = MarketDataRequirements.builder()
+        .addValues(new TestIdB("1"), new TestIdB("2"))
+        .build();
+    LocalDateDoubleTimeSeries timeSeries1 = LocalDateDoubleTimeSeries.of(date(2011, 3, 8), 1);
+    LocalDateDoubleTimeSeries timeSeries2 = LocalDateDoubleTimeSeries.of(date(2011, 3, 8), 10);
+    Map<TestIdA, LocalDateDoubleTimeSeries> timeSeriesMap =
+        ImmutableMap.of(
+            new TestIdA("1"), timeSeries1,
+            new TestIdA("2"), timeSeries2);
+    MarketDataFactory delegate = MarketDataFactory.of(
+        new TestObservableDataProvider(),
+        new TestTimeSeriesProvider(timeSeriesMap),
+        new TestMarketDataFunctionB(),
+        new TestMarketDataFunctionC());
+    // an implementation relying on the default instrumentation method
+    MarketDataFactory factory = new MarketDataFactory() {
+
+      @Override
+      public BuiltMarketData create(
+          MarketDataRequirements requirements,
+          MarketDataConfig marketDataConfig,
+          MarketData suppliedData,
+          ReferenceData refData) {
+        return delegate.create(requirements, marketDataConfig, suppliedData, refData);
+      }
+
+      @Override
+      public BuiltScenarioMarketData createMultiScenario(
+          MarketDataRequirements requirements,
+          MarketDataConfig marketDataConfig,
+          MarketData suppliedData,
+          ReferenceData refData,
+          ScenarioDefinition scenarioDefinition) {
+        return delegate.createMultiScenario(requirements, marketDataConfig, suppliedData, refData, scenarioDefinition);
+      }
+
+      @Override
+      public BuiltScenarioMarketData createMultiScenario(
+          MarketDataRequirements requirements,
+          MarketDataConfig marketDataConfig,
+          ScenarioMarketData suppliedData,
+          ReferenceData refData,
+          ScenarioDefinition scenarioDefinition) {
+        return delegate.createMultiScenario(requirements, marketDataConfig, suppliedData, refData, scenarioDefinition);
+      }
+    };
+    CalculationInstrumentation instrumentation = CalculationInstrumentation.create();
+    MarketDataFactory test = factory.withInstrumentation(instrumentation);
+
+    MarketData suppliedData =
+        MarketData.of(date(2011, 3, 8), ImmutableMap.of(new TestIdA("1"), 1d, new TestIdA("2"), 2d));
+    BuiltMarketData marketData = test.create(requirements, MARKET_DATA_CONFIG, suppliedData, REF_DATA);
+    assertThat(marketData.getValue(new TestIdB("1")))
+        .isEqualTo(new TestMarketDataB(1, new TestMarketDataC(timeSeries1)));
+    CalculationMetrics metrics = instrumentation.metrics();
+    assertThat(metrics.getMarketData()).containsOnlyKeys(new TestIdB("1"), new TestIdB("2"));
+    assertThat(metrics.getMarketDataTotal().getCount()).isEqualTo(2);
+    assertThatIllegalArgumentException().isThrownBy(() -> factory.withInstrumentation(null));
+  }
+
   /**
    * Tests building market data that depends on other market data that is supplied by the user.
    *
@@ -1363,4 +1599,39 @@ public class DefaultMarketDataFactoryTest {
       return TestMarketDataC.class;
     }
   }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Market data function that counts the number of times it builds market data.
+   */
+  private static final class CountingFunction<T, I extends MarketDataId<T>> implements MarketDataFunction<T, I> {
+
+    private final MarketDataFunction<T, I> underlying;
+    private int count;
+
+    private CountingFunction(MarketDataFunction<T, I> underlying) {
+      this.underlying = underlying;
+    }
+
+    @Override
+    public MarketDataRequirements requirements(I id, MarketDataConfig marketDataConfig) {
+      return underlying.requirements(id, marketDataConfig);
+    }
+
+    @Override
+    public synchronized MarketDataBox<T> build(
+        I id,
+        MarketDataConfig marketDataConfig,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      count++;
+      return underlying.build(id, marketDataConfig, marketData, refData);
+    }
+
+    @Override
+    public Class<I> getMarketDataIdType() {
+      return underlying.getMarketDataIdType();
+    }
+  }
 }
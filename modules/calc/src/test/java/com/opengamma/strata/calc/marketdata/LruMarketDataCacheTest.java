@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link MarketDataCache} and {@link LruMarketDataCache}.
+ */
+public class LruMarketDataCacheTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final MarketDataConfig CONFIG = MarketDataConfig.empty();
+  private static final TestObservableId OBS_ID = TestObservableId.of("obs");
+  private static final MarketDataRequirements REQS = MarketDataRequirements.builder().addValues(OBS_ID).build();
+  private static final ScenarioMarketData MARKET_DATA =
+      ScenarioMarketData.of(1, MarketData.of(date(2011, 3, 8), ImmutableMap.of(OBS_ID, 1d)));
+  private static final MarketDataCacheKey KEY1 = key("1");
+  private static final MarketDataCacheKey KEY2 = key("2");
+  private static final MarketDataCacheKey KEY3 = key("3");
+  private static final MarketDataBox<String> VALUE1 = MarketDataBox.ofSingleValue("a");
+  private static final MarketDataBox<String> VALUE2 = MarketDataBox.ofScenarioValues("b", "c");
+  private static final MarketDataBox<String> VALUE3 = MarketDataBox.ofSingleValue("d");
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_ofMaximumSize() {
+    MarketDataCache test = MarketDataCache.ofMaximumSize(3);
+    assertThat(test.find(KEY1)).isEmpty();
+    test.put(KEY1, VALUE1);
+    test.put(KEY2, VALUE2);
+    assertThat(test.find(KEY1)).hasValue(VALUE1);
+    assertThat(test.find(KEY2)).hasValue(VALUE2);
+    assertThat(test.size()).isEqualTo(2);
+    assertThat(test.weight()).isEqualTo(3);
+
+    // key 1 was used most recently, so key 2 is evicted
+    assertThat(test.find(KEY1)).hasValue(VALUE1);
+    test.put(KEY3, VALUE3);
+    assertThat(test.find(KEY1)).hasValue(VALUE1);
+    assertThat(test.find(KEY2)).isEmpty();
+    assertThat(test.find(KEY3)).hasValue(VALUE3);
+    assertThat(test.size()).isEqualTo(2);
+    assertThat(test.weight()).isEqualTo(2);
+    assertThat(test.toString()).isEqualTo("LruMarketDataCache[size=2, weight=2, maximumWeight=3]");
+
+    test.clear();
+    assertThat(test.find(KEY1)).isEmpty();
+    assertThat(test.size()).isEqualTo(0);
+    assertThat(test.weight()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_ofMaximumWeight() {
+    MarketDataCache test = MarketDataCache.ofMaximumWeight(10, box -> box.isSingleValue() ? 5 : 10);
+    test.put(KEY1, VALUE1);
+    test.put(KEY2, VALUE2);
+    assertThat(test.find(KEY1)).isEmpty();
+    assertThat(test.find(KEY2)).hasValue(VALUE2);
+    assertThat(test.weight()).isEqualTo(10);
+
+    // replacing a value updates the weight
+    test.put(KEY2, VALUE3);
+    assertThat(test.find(KEY2)).hasValue(VALUE3);
+    assertThat(test.size()).isEqualTo(1);
+    assertThat(test.weight()).isEqualTo(5);
+  }
+
+  @Test
+  public void test_tooHeavy() {
+    MarketDataCache test = MarketDataCache.ofMaximumSize(1);
+    test.put(KEY1, VALUE1);
+    test.put(KEY2, VALUE2);
+    assertThat(test.find(KEY1)).hasValue(VALUE1);
+    assertThat(test.find(KEY2)).isEmpty();
+    assertThat(test.weight()).isEqualTo(1);
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> MarketDataCache.ofMaximumSize(-1));
+    MarketDataCache test = MarketDataCache.ofMaximumWeight(10, box -> -1);
+    assertThatIllegalArgumentException().isThrownBy(() -> test.put(KEY1, VALUE1));
+  }
+
+  //-------------------------------------------------------------------------
+  private static MarketDataCacheKey key(String name) {
+    return MarketDataCacheKey.of(TestObservableId.of(name), REQS, CONFIG, MARKET_DATA, REF_DATA);
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.marketdata;
+
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link MarketDataCacheKey}.
+ */
+public class MarketDataCacheKeyTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final MarketDataConfig CONFIG = MarketDataConfig.empty();
+  private static final TestId ID = TestId.of("id");
+  private static final TestObservableId OBS_ID1 = TestObservableId.of("1");
+  private static final TestObservableId OBS_ID2 = TestObservableId.of("2");
+  private static final MarketDataRequirements REQS = MarketDataRequirements.builder()
+      .addValues(OBS_ID1, OBS_ID2)
+      .addTimeSeries(OBS_ID1)
+      .build();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    MarketDataCacheKey test = MarketDataCacheKey.of(ID, REQS, CONFIG, marketData(1d, 2d), REF_DATA);
+    assertThat(test.getId()).isEqualTo(ID);
+    assertThat(test.getValues()).containsOnly(
+        entry(OBS_ID1, Optional.of(MarketDataBox.ofSingleValue(1d))),
+        entry(OBS_ID2, Optional.of(MarketDataBox.ofSingleValue(2d))));
+  }
+
+  @Test
+  public void test_missingInput() {
+    ScenarioMarketData marketData =
+        ScenarioMarketData.of(1, MarketData.of(date(2011, 3, 8), ImmutableMap.of(OBS_ID1, 1d)));
+    MarketDataCacheKey test = MarketDataCacheKey.of(ID, REQS, CONFIG, marketData, REF_DATA);
+    assertThat(test.getValues()).containsEntry(OBS_ID2, Optional.empty());
+  }
+
+  @Test
+  public void test_equalsHashCode() {
+    MarketDataCacheKey test = MarketDataCacheKey.of(ID, REQS, CONFIG, marketData(1d, 2d), REF_DATA);
+    MarketDataCacheKey same = MarketDataCacheKey.of(ID, REQS, CONFIG, marketData(1d, 2d), REF_DATA);
+    assertThat(test).isEqualTo(test).isEqualTo(same).hasSameHashCodeAs(same);
+    assertThat(test).isNotEqualTo(MarketDataCacheKey.of(ID, REQS, CONFIG, marketData(1d, 3d), REF_DATA));
+    assertThat(test).isNotEqualTo(MarketDataCacheKey.of(TestId.of("other"), REQS, CONFIG, marketData(1d, 2d), REF_DATA));
+    assertThat(test).isNotEqualTo(MarketDataCacheKey.of(ID, REQS, CONFIG, marketData(1d, 2d), ReferenceData.empty()));
+    ScenarioMarketData otherDate = ScenarioMarketData.of(
+        1, MarketData.of(date(2011, 3, 9), ImmutableMap.of(OBS_ID1, 1d, OBS_ID2, 2d)));
+    assertThat(test).isNotEqualTo(MarketDataCacheKey.of(ID, REQS, CONFIG, otherDate, REF_DATA));
+    ScenarioMarketData otherTimeSeries = ScenarioMarketData.of(
+        1,
+        MarketData.of(
+            date(2011, 3, 8),
+            ImmutableMap.of(OBS_ID1, 1d, OBS_ID2, 2d),
+            ImmutableMap.of(OBS_ID1, LocalDateDoubleTimeSeries.of(date(2011, 3, 7), 1d))));
+    assertThat(test).isNotEqualTo(MarketDataCacheKey.of(ID, REQS, CONFIG, otherTimeSeries, REF_DATA));
+    assertThat(test).isNotEqualTo("");
+    assertThat(test.toString()).isEqualTo("MarketDataCacheKey[id=" + ID + ", inputs=[" + OBS_ID1 + ", " + OBS_ID2 +
+        "], timeSeries=[" + OBS_ID1 + "]]");
+  }
+
+  //-------------------------------------------------------------------------
+  private static ScenarioMarketData marketData(double value1, double value2) {
+    return ScenarioMarketData.of(
+        1, MarketData.of(date(2011, 3, 8), ImmutableMap.of(OBS_ID1, value1, OBS_ID2, value2)));
+  }
+
+}
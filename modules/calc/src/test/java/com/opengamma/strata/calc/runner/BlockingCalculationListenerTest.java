@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * Test {@link BlockingCalculationListener}.
+ */
+public class BlockingCalculationListenerTest {
+
+  @Test
+  public void test_delegateAndAwait() throws Exception {
+    List<String> events = new ArrayList<>();
+    CalculationListener delegate = new CalculationListener() {
+
+      @Override
+      public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
+        events.add("started");
+      }
+
+      @Override
+      public void resultReceived(CalculationTarget target, CalculationResult result) {
+        events.add("result");
+      }
+
+      @Override
+      public void calculationsComplete() {
+        events.add("complete");
+      }
+    };
+    BlockingCalculationListener test = BlockingCalculationListener.of(delegate);
+    Thread calculation = new Thread(() -> {
+      test.calculationsStarted(ImmutableList.of(), ImmutableList.of());
+      test.resultReceived(new TestTarget(), CalculationResult.of(0, 0, Result.success("foo")));
+      test.calculationsComplete();
+    });
+    calculation.start();
+    test.awaitCompletion();
+    assertThat(events).containsExactly("started", "result", "complete");
+    calculation.join();
+  }
+
+  @Test
+  public void test_awaitCompletion_delegateFails() {
+    BlockingCalculationListener test = BlockingCalculationListener.of(new CalculationListener() {
+
+      @Override
+      public void resultReceived(CalculationTarget target, CalculationResult result) {
+      }
+
+      @Override
+      public void calculationsComplete() {
+        throw new IllegalStateException();
+      }
+    });
+    assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> test.calculationsComplete());
+    // the caller is released even if the delegate fails
+    test.awaitCompletion();
+  }
+
+  @Test
+  public void test_interrupted() {
+    BlockingCalculationListener test = BlockingCalculationListener.of(new CalculationListener() {
+
+      @Override
+      public void resultReceived(CalculationTarget target, CalculationResult result) {
+      }
+
+      @Override
+      public void calculationsComplete() {
+      }
+    });
+    Thread.currentThread().interrupt();
+    assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> test.awaitCompletion());
+    assertThat(Thread.interrupted()).isTrue();
+  }
+
+  @Test
+  public void test_null() {
+    assertThatIllegalArgumentException().isThrownBy(() -> BlockingCalculationListener.of(null));
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.calc.ReportingCurrency.NATURAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.marketdata.TestId;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestFunction;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+
+/**
+ * Test {@link CalculationInstrumentation}.
+ */
+public class CalculationInstrumentationTest {
+
+  private static final CalculationTask TASK = CalculationTask.of(
+      new TestTarget(),
+      new TestFunction(),
+      CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL),
+      CalculationTaskCell.of(0, 1, TestingMeasures.PAR_RATE, NATURAL));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_recordTask() {
+    CalculationInstrumentation test = CalculationInstrumentation.create();
+    assertThat(test.metrics()).isEqualTo(CalculationMetrics.EMPTY);
+
+    assertThat(test.recordTask(TASK, () -> new double[1000].length)).isEqualTo(1000);
+    test.recordTask(TASK, () -> "foo");
+    CalculationMetrics metrics = test.metrics();
+    ExecutionMetrics total = metrics.getTaskTotal();
+    assertThat(total.getCount()).isEqualTo(2);
+    assertThat(total.getWallTimeNanos()).isPositive();
+    assertThat(metrics.findFunction(TestFunction.class)).hasValue(total);
+    // the resources are apportioned between the measures
+    ExecutionMetrics pv = metrics.findMeasure(TestingMeasures.PRESENT_VALUE).get();
+    assertThat(pv.getCount()).isEqualTo(2);
+    assertThat(pv.getWallTimeNanos()).isLessThanOrEqualTo(total.getWallTimeNanos() / 2);
+    assertThat(metrics.findMeasure(TestingMeasures.PAR_RATE)).hasValue(pv);
+    assertThat(metrics.getMarketData()).isEmpty();
+    assertThat(test.toString()).isEqualTo("CalculationInstrumentation[tasks=2]");
+  }
+
+  @Test
+  public void test_recordTask_allocatedBytes() throws Exception {
+    Class<?> extendedType = Class.forName("com.sun.management.ThreadMXBean");
+    assumeTrue(extendedType.isInstance(ManagementFactory.getThreadMXBean()));
+    CalculationInstrumentation test = CalculationInstrumentation.create();
+    assertThat(test.recordTask(TASK, () -> new byte[1_000_000]).length).isEqualTo(1_000_000);
+    assertThat(test.metrics().getTaskTotal().getAllocatedBytes()).isGreaterThanOrEqualTo(1_000_000);
+  }
+
+  @Test
+  public void test_recordTask_exception() {
+    CalculationInstrumentation test = CalculationInstrumentation.create();
+    assertThatIllegalStateException().isThrownBy(() -> test.recordTask(TASK, () -> {
+      throw new IllegalStateException();
+    }));
+    assertThat(test.metrics().getTaskTotal().getCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void test_recordMarketData() {
+    CalculationInstrumentation test = CalculationInstrumentation.create();
+    TestId id = TestId.of("1");
+    assertThat(test.recordMarketData(id, () -> "foo")).isEqualTo("foo");
+    test.recordMarketData(id, () -> "bar");
+    assertThat(test.metrics().findMarketData(id).get().getCount()).isEqualTo(2);
+    assertThat(test.metrics().getMarketDataTotal().getCount()).isEqualTo(2);
+    assertThat(test.metrics().getTaskTotal()).isEqualTo(ExecutionMetrics.EMPTY);
+  }
+
+  @Test
+  public void test_recordMarketData_multiple() {
+    CalculationInstrumentation test = CalculationInstrumentation.create();
+    assertThat(test.recordMarketData(ImmutableList.of(TestId.of("1"), TestId.of("2")), () -> "foo")).isEqualTo("foo");
+    assertThat(test.recordMarketData(ImmutableList.of(), () -> "bar")).isEqualTo("bar");
+    assertThat(test.metrics().getMarketData()).containsOnlyKeys(TestId.of("1"), TestId.of("2"));
+    assertThat(test.metrics().findMarketData(TestId.of("1")).get().getCount()).isEqualTo(1);
+    assertThat(test.metrics().getMarketDataTotal().getCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void test_reset() {
+    CalculationInstrumentation test = CalculationInstrumentation.create();
+    test.recordTask(TASK, () -> "foo");
+    test.recordMarketData(TestId.of("1"), () -> "foo");
+    test.reset();
+    assertThat(test.metrics()).isEqualTo(CalculationMetrics.EMPTY);
+  }
+
+}
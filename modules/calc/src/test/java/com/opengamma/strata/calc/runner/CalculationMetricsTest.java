@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.marketdata.TestId;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestFunction;
+
+/**
+ * Test {@link CalculationMetrics}.
+ */
+public class CalculationMetricsTest {
+
+  private static final ExecutionMetrics METRICS1 = ExecutionMetrics.of(2, 30, 20, 100);
+  private static final ExecutionMetrics METRICS2 = ExecutionMetrics.of(1, 50, 40, 200);
+  private static final TestId ID1 = TestId.of("1");
+  private static final TestId ID2 = TestId.of("2");
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    CalculationMetrics test = CalculationMetrics.of(
+        METRICS1.plus(METRICS2),
+        ImmutableMap.of(TestFunction.class, METRICS1, String.class, METRICS2),
+        ImmutableMap.of(TestingMeasures.PRESENT_VALUE, METRICS1),
+        ImmutableMap.of(ID1, METRICS1, ID2, METRICS2));
+    assertThat(test.getTaskTotal()).isEqualTo(METRICS1.plus(METRICS2));
+    assertThat(test.findFunction(TestFunction.class)).hasValue(METRICS1);
+    assertThat(test.findFunction(Integer.class)).isEmpty();
+    assertThat(test.findMeasure(TestingMeasures.PRESENT_VALUE)).hasValue(METRICS1);
+    assertThat(test.findMeasure(TestingMeasures.PAR_RATE)).isEmpty();
+    assertThat(test.findMarketData(ID2)).hasValue(METRICS2);
+    assertThat(test.findMarketData(TestId.of("3"))).isEmpty();
+    assertThat(test.getMarketDataTotal()).isEqualTo(METRICS1.plus(METRICS2));
+    assertThat(test.slowestFunctions(1)).containsExactly(entry(String.class, METRICS2));
+    assertThat(test.slowestFunctions(5).keySet()).containsExactly(String.class, TestFunction.class);
+  }
+
+  @Test
+  public void test_empty() {
+    assertThat(CalculationMetrics.EMPTY.getTaskTotal()).isEqualTo(ExecutionMetrics.EMPTY);
+    assertThat(CalculationMetrics.EMPTY.getMarketDataTotal()).isEqualTo(ExecutionMetrics.EMPTY);
+    assertThat(CalculationMetrics.EMPTY.slowestFunctions(5)).isEmpty();
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    CalculationMetrics test = CalculationMetrics.of(
+        METRICS1,
+        ImmutableMap.of(TestFunction.class, METRICS1),
+        ImmutableMap.of(TestingMeasures.PRESENT_VALUE, METRICS1),
+        ImmutableMap.of(ID1, METRICS1));
+    coverImmutableBean(test);
+    CalculationMetrics test2 = CalculationMetrics.of(
+        METRICS2,
+        ImmutableMap.of(String.class, METRICS2),
+        ImmutableMap.of(TestingMeasures.PAR_RATE, METRICS2),
+        ImmutableMap.of(ID2, METRICS2));
+    coverBeanEquals(test, test2);
+  }
+
+}
@@ -102,6 +102,21 @@ public class CalculationTasksTest {
     assertThat(timeSeries.iterator().next()).isEqualTo(timeSeriesId);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_sortedByCost() {
+    CalculationFunctions functions = CalculationFunctions.of(ImmutableMap.of(TestTarget.class, new TestFunction()));
+    TestTarget target3 = new TestTarget();
+    List<TestTarget> targets = ImmutableList.of(TARGET1, TARGET2, target3);
+    List<Column> columns = ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE));
+    CalculationTasks base = CalculationTasks.of(CalculationRules.of(functions, USD), targets, columns);
+
+    CalculationTasks test = base.sortedByCost(task -> task.getTarget() == TARGET2 ? 2d : 1d);
+    assertThat(test.getTasks()).containsExactly(base.getTasks().get(1), base.getTasks().get(0), base.getTasks().get(2));
+    assertThat(test.getTargets()).isEqualTo(base.getTargets());
+    assertThat(test.getColumns()).isEqualTo(base.getColumns());
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void testToString() {
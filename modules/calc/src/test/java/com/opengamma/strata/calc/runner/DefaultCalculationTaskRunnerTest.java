@@ -13,6 +13,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -20,6 +22,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
@@ -157,6 +160,233 @@ public class DefaultCalculationTaskRunnerTest {
     assertThat(results.getColumns().get(0).getMeasure()).isEqualTo(TestingMeasures.PRESENT_VALUE);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Tests that running tasks in batches produces the results in the correct cells.
+   */
+  @Test
+  public void runBatched() {
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
+    for (int i = 0; i < 10; i++) {
+      ScenarioResultFunction fn = new ScenarioResultFunction(TestingMeasures.PRESENT_VALUE, ScenarioArray.of("foo" + i));
+      CalculationTaskCell cell = CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskBuilder.add(CalculationTask.of(new TestTarget(), fn, cell));
+    }
+    CalculationTasks tasks = CalculationTasks.of(taskBuilder.build(), ImmutableList.of(column));
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      CalculationTaskRunner test = CalculationTaskRunner.ofBatched(executor, 3);
+      Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+      assertThat(results.getRowCount()).isEqualTo(10);
+      for (int i = 0; i < 10; i++) {
+        assertThat(results.get(i, 0)).hasValue("foo" + i);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void runBatchedInvalidChunkSize() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CalculationTaskRunner.ofBatched(MoreExecutors.newDirectExecutorService(), 0));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Tests that the most expensive tasks are run first and that the runtimes are recorded.
+   */
+  @Test
+  public void runCostOrdered() {
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
+    for (int i = 0; i < 3; i++) {
+      CountingFunction fn = new CountingFunction("foo" + i, () -> { });
+      CalculationTaskCell cell = CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskBuilder.add(CalculationTask.of(new TestTarget(), fn, cell));
+    }
+    ScenarioResultFunction expensiveFn = new ScenarioResultFunction(TestingMeasures.PRESENT_VALUE, ScenarioArray.of("bar"));
+    CalculationTaskCell expensiveCell = CalculationTaskCell.of(3, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    taskBuilder.add(CalculationTask.of(new TestTarget(), expensiveFn, expensiveCell));
+    CalculationTasks tasks = CalculationTasks.of(taskBuilder.build(), ImmutableList.of(column));
+
+    TaskCostModel costModel = TaskCostModel.of(ImmutableMap.of(ScenarioResultFunction.class, 100d, CountingFunction.class, 1d));
+    // using the direct executor means the tasks are executed in the order they are submitted
+    CalculationTaskRunner test = CalculationTaskRunner.ofCostOrdered(MoreExecutors.newDirectExecutorService(), costModel);
+    List<Integer> rows = new ArrayList<>();
+    test.calculateAsync(tasks, MarketData.empty(VAL_DATE), REF_DATA, new CalculationListener() {
+
+      @Override
+      public void resultReceived(CalculationTarget target, CalculationResult result) {
+        rows.add(result.getRowIndex());
+      }
+
+      @Override
+      public void calculationsComplete() {
+        // do nothing
+      }
+    });
+    assertThat(rows).containsExactly(3, 0, 1, 2);
+    assertThat(costModel.findCostPerMeasure(CountingFunction.class).getAsDouble()).isGreaterThan(1d);
+
+    Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+    assertThat(results.get(0, 0)).hasValue("foo0");
+    assertThat(results.get(3, 0)).hasValue("bar");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Tests that the resources used by each task are recorded.
+   */
+  @Test
+  public void runInstrumented() {
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
+    for (int i = 0; i < 3; i++) {
+      CountingFunction fn = new CountingFunction("foo" + i, () -> { });
+      CalculationTaskCell cell = CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskBuilder.add(CalculationTask.of(new TestTarget(), fn, cell));
+    }
+    CalculationTasks tasks = CalculationTasks.of(taskBuilder.build(), ImmutableList.of(column));
+
+    CalculationInstrumentation instrumentation = CalculationInstrumentation.create();
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService())
+        .withInstrumentation(instrumentation);
+    Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+    assertThat(results.get(2, 0)).hasValue("foo2");
+
+    CalculationMetrics metrics = instrumentation.metrics();
+    assertThat(metrics.getTaskTotal().getCount()).isEqualTo(3);
+    assertThat(metrics.getTaskTotal().getWallTimeNanos()).isPositive();
+    assertThat(metrics.getFunctions()).containsOnlyKeys(CountingFunction.class);
+    assertThat(metrics.findFunction(CountingFunction.class).get().getCount()).isEqualTo(3);
+    assertThat(metrics.findMeasure(TestingMeasures.PRESENT_VALUE).get().getCount()).isEqualTo(3);
+    assertThat(metrics.findMeasure(TestingMeasures.PAR_RATE)).isEmpty();
+  }
+
+  @Test
+  public void runInstrumentedDefaultMethod() {
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
+    for (int i = 0; i < 3; i++) {
+      CountingFunction fn = new CountingFunction("foo" + i, () -> { });
+      CalculationTaskCell cell = CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskBuilder.add(CalculationTask.of(new TestTarget(), fn, cell));
+    }
+    CalculationTasks tasks = CalculationTasks.of(taskBuilder.build(), ImmutableList.of(column));
+
+    CalculationInstrumentation instrumentation = CalculationInstrumentation.create();
+    CalculationTaskRunner delegate = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService());
+    CalculationTaskRunner test = new DelegatingRunner(delegate).withInstrumentation(instrumentation);
+    Results results = test.calculate(tasks, MarketData.empty(VAL_DATE), REF_DATA);
+    assertThat(results.get(2, 0)).hasValue("foo2");
+
+    CalculationMetrics metrics = instrumentation.metrics();
+    assertThat(metrics.getTaskTotal().getCount()).isEqualTo(3);
+    assertThat(metrics.getFunctions()).containsOnlyKeys(CountingFunction.class);
+    assertThat(metrics.findMeasure(TestingMeasures.PRESENT_VALUE).get().getCount()).isEqualTo(3);
+  }
+
+  @Test
+  public void runInstrumentedNull() {
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService());
+    assertThatIllegalArgumentException().isThrownBy(() -> test.withInstrumentation(null));
+    assertThatIllegalArgumentException().isThrownBy(() -> new DelegatingRunner(test).withInstrumentation(null));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void runStreaming() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      assertStreaming(CalculationTaskRunner.of(executor), 3);
+      assertStreaming(CalculationTaskRunner.ofBatched(executor, 4), 3);
+      assertStreaming(CalculationTaskRunner.ofBatched(executor, 2), 5);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void runStreamingDefaultMethod() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      CalculationTaskRunner delegate = CalculationTaskRunner.of(executor);
+      // an implementation relying on the default streaming methods, built on the asynchronous methods
+      CalculationTaskRunner test = new DelegatingRunner(delegate);
+      assertStreaming(test, 20);
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> test.calculateStreaming(
+              CalculationTasks.of(ImmutableList.of(), ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE))),
+              MarketData.empty(VAL_DATE), REF_DATA, new Listener(), 0));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void runStreamingInvalidMaxPendingTasks() {
+    CalculationTaskRunner test = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService());
+    ScenarioResultFunction fn = new ScenarioResultFunction(TestingMeasures.PRESENT_VALUE, ScenarioArray.of("foo"));
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+    CalculationTasks tasks = CalculationTasks.of(
+        ImmutableList.of(CalculationTask.of(TARGET, fn, cell)), ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.calculateStreaming(tasks, MarketData.empty(VAL_DATE), REF_DATA, new Listener(), 0));
+  }
+
+  // checks that the number of tasks in progress never exceeds the limit
+  private static void assertStreaming(CalculationTaskRunner test, int maxPendingTasks) {
+    AtomicInteger started = new AtomicInteger();
+    AtomicInteger delivered = new AtomicInteger();
+    AtomicInteger maxInProgress = new AtomicInteger();
+    Column column = Column.of(TestingMeasures.PRESENT_VALUE);
+    ImmutableList.Builder<CalculationTask> taskBuilder = ImmutableList.builder();
+    for (int i = 0; i < 20; i++) {
+      CountingFunction fn = new CountingFunction("foo" + i, () -> {
+        int inProgress = started.incrementAndGet() - delivered.get();
+        maxInProgress.accumulateAndGet(inProgress, Math::max);
+      });
+      CalculationTaskCell cell = CalculationTaskCell.of(i, 0, TestingMeasures.PRESENT_VALUE, NATURAL);
+      taskBuilder.add(CalculationTask.of(new TestTarget(), fn, cell));
+    }
+    CalculationTasks tasks = CalculationTasks.of(taskBuilder.build(), ImmutableList.of(column));
+
+    List<String> rows = new ArrayList<>();
+    AtomicBoolean completed = new AtomicBoolean();
+    CalculationRowSink sink = new CalculationRowSink() {
+
+      @Override
+      public void rowReceived(int rowIndex, CalculationTarget target, List<Result<?>> results) {
+        // a slow sink
+        try {
+          Thread.sleep(2);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+        rows.add(rowIndex + ":" + results.get(0).getValue());
+        delivered.incrementAndGet();
+      }
+
+      @Override
+      public void completed() {
+        completed.set(true);
+      }
+    };
+    // the rows are passed to the sink as they complete, so the sink controls the rate of the calculations
+    test.calculateStreaming(
+        tasks, MarketData.empty(VAL_DATE), REF_DATA, StreamingResultsListener.of(sink), maxPendingTasks);
+
+    assertThat(completed.get()).isTrue();
+    assertThat(rows).hasSize(20);
+    for (int i = 0; i < 20; i++) {
+      assertThat(rows).contains(i + ":foo" + i);
+    }
+    assertThat(maxInProgress.get()).isLessThanOrEqualTo(maxPendingTasks);
+  }
+
   //-------------------------------------------------------------------------
   private static final class ScenarioResultFunction implements CalculationFunction<TestTarget> {
 
@@ -205,6 +435,94 @@ public class DefaultCalculationTaskRunnerTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  private static final class CountingFunction implements CalculationFunction<TestTarget> {
+
+    private final String result;
+    private final Runnable onCalculate;
+
+    private CountingFunction(String result, Runnable onCalculate) {
+      this.result = result;
+      this.onCalculate = onCalculate;
+    }
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return MEASURES;
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget trade, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      onCalculate.run();
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(ScenarioArray.of(result)));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // an implementation that only provides the abstract methods, delegating to another runner
+  private static final class DelegatingRunner implements CalculationTaskRunner {
+
+    private final CalculationTaskRunner delegate;
+
+    private DelegatingRunner(CalculationTaskRunner delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Results calculate(CalculationTasks tasks, MarketData marketData, ReferenceData refData) {
+      return delegate.calculate(tasks, marketData, refData);
+    }
+
+    @Override
+    public void calculateAsync(
+        CalculationTasks tasks, MarketData marketData, ReferenceData refData, CalculationListener listener) {
+      delegate.calculateAsync(tasks, marketData, refData, listener);
+    }
+
+    @Override
+    public Results calculateMultiScenario(
+        CalculationTasks tasks, ScenarioMarketData marketData, ReferenceData refData) {
+      return delegate.calculateMultiScenario(tasks, marketData, refData);
+    }
+
+    @Override
+    public void calculateMultiScenarioAsync(
+        CalculationTasks tasks, ScenarioMarketData marketData, ReferenceData refData, CalculationListener listener) {
+      delegate.calculateMultiScenarioAsync(tasks, marketData, refData, listener);
+    }
+
+    @Override
+    public void close() {
+      delegate.close();
+    }
+  }
+
   //-------------------------------------------------------------------------
   private static final class Listener implements CalculationListener {
 
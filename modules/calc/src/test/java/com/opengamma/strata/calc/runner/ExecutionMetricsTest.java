@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link ExecutionMetrics}.
+ */
+public class ExecutionMetricsTest {
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    ExecutionMetrics test = ExecutionMetrics.of(2, 3_000_000, 2_000_000, 100);
+    assertThat(test.getCount()).isEqualTo(2);
+    assertThat(test.getWallTimeNanos()).isEqualTo(3_000_000);
+    assertThat(test.getWallTime()).isEqualTo(Duration.ofMillis(3));
+    assertThat(test.getCpuTimeNanos()).isEqualTo(2_000_000);
+    assertThat(test.getCpuTime()).isEqualTo(Duration.ofMillis(2));
+    assertThat(test.getAllocatedBytes()).isEqualTo(100);
+  }
+
+  @Test
+  public void test_of_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> ExecutionMetrics.of(-1, 0, 0, 0));
+    assertThatIllegalArgumentException().isThrownBy(() -> ExecutionMetrics.of(0, -1, 0, 0));
+  }
+
+  @Test
+  public void test_plus() {
+    ExecutionMetrics test = ExecutionMetrics.of(2, 30, 20, 100).plus(ExecutionMetrics.of(1, 10, 5, 50));
+    assertThat(test).isEqualTo(ExecutionMetrics.of(3, 40, 25, 150));
+    assertThat(ExecutionMetrics.EMPTY.plus(test)).isEqualTo(test);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    ExecutionMetrics test = ExecutionMetrics.of(2, 30, 20, 100);
+    coverImmutableBean(test);
+    ExecutionMetrics test2 = ExecutionMetrics.of(1, 10, 5, 50);
+    coverBeanEquals(test, test2);
+  }
+
+}
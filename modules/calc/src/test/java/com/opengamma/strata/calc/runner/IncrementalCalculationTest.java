@@ -0,0 +1,320 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.calc.ReportingCurrency.NATURAL;
+import static com.opengamma.strata.collect.CollectProjectAssertions.assertThat;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.marketdata.MarketDataConfig;
+import com.opengamma.strata.calc.marketdata.MarketDataFunction;
+import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
+import com.opengamma.strata.calc.marketdata.TestId;
+import com.opengamma.strata.calc.marketdata.TestObservableId;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link IncrementalCalculation}.
+ */
+public class IncrementalCalculationTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VAL_DATE = date(2011, 3, 8);
+  private static final TestId ID1 = TestId.of("1");
+  private static final TestId ID2 = TestId.of("2");
+  private static final TestId ID3 = TestId.of("3");
+  private static final TestObservableId QUOTE1 = TestObservableId.of("1");
+  private static final TestObservableId QUOTE2 = TestObservableId.of("2");
+  private static final TestObservableId QUOTE3 = TestObservableId.of("3");
+  private static final List<Column> COLUMNS =
+      ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE), Column.of(TestingMeasures.PAR_RATE));
+  private static final CalculationTaskRunner RUNNER = CalculationTaskRunner.of(MoreExecutors.newDirectExecutorService());
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_calculate() {
+    CountingFunction fn = new CountingFunction();
+    IncrementalCalculation test = IncrementalCalculation.of(RUNNER, tasks(fn), REF_DATA);
+    assertThat(test.getMarketDataIds()).containsOnly(ID1, ID2, ID3);
+
+    Results results1 = test.calculate(marketData("a", "b", "c"));
+    assertThat(fn.count.get()).isEqualTo(3);
+    assertResults(results1, "a", "b", "c");
+
+    Results results2 = test.calculate(marketData("a", "x", "c"));
+    assertThat(fn.count.get()).isEqualTo(4);
+    assertResults(results2, "a", "x", "c");
+
+    Results results3 = test.calculate(marketData("a", "x", "c"));
+    assertThat(fn.count.get()).isEqualTo(4);
+    assertThat(results3).isEqualTo(results2);
+
+    Results results4 = test.calculate(marketData("y", "x", "z"));
+    assertThat(fn.count.get()).isEqualTo(6);
+    assertResults(results4, "y", "x", "z");
+    assertThat(results4).isEqualTo(RUNNER.calculate(tasks(fn), marketData("y", "x", "z"), REF_DATA));
+  }
+
+  @Test
+  public void test_calculate_changedIds() {
+    CountingFunction fn = new CountingFunction();
+    IncrementalCalculation test = IncrementalCalculation.of(RUNNER, tasks(fn), REF_DATA);
+
+    Results results1 = test.calculate(marketData("a", "b", "c"), ImmutableSet.of(ID2));
+    assertThat(fn.count.get()).isEqualTo(3);
+    assertResults(results1, "a", "b", "c");
+
+    Results results2 = test.calculate(marketData("x", "y", "c"), ImmutableSet.of(ID2));
+    assertThat(fn.count.get()).isEqualTo(4);
+    assertResults(results2, "a", "y", "c");
+
+    Results results3 = test.calculate(marketData("x", "y", "z"), ImmutableSet.of(ID1, ID3));
+    assertThat(fn.count.get()).isEqualTo(6);
+    assertResults(results3, "x", "y", "z");
+  }
+
+  @Test
+  public void test_calculate_changedIds_unknown() {
+    CountingFunction fn = new CountingFunction();
+    IncrementalCalculation test = IncrementalCalculation.of(RUNNER, tasks(fn), REF_DATA);
+
+    test.calculate(marketData("a", "b", "c"));
+    assertThat(fn.count.get()).isEqualTo(3);
+    // quotes are not known without the market data functions
+    Results results = test.calculate(marketData("a", "x", "c"), ImmutableSet.of(QUOTE2));
+    assertThat(fn.count.get()).isEqualTo(3);
+    assertResults(results, "a", "b", "c");
+  }
+
+  @Test
+  public void test_calculate_changedIds_functions() {
+    CountingFunction fn = new CountingFunction();
+    IncrementalCalculation test = IncrementalCalculation.of(
+        RUNNER, tasks(fn), REF_DATA, MarketDataConfig.empty(), ImmutableList.of(new QuoteFunction()));
+    assertThat(test.getMarketDataIds()).containsOnly(ID1, ID2, ID3, QUOTE1, QUOTE2, QUOTE3);
+
+    test.calculate(marketData("a", "b", "c"));
+    assertThat(fn.count.get()).isEqualTo(3);
+    Results results2 = test.calculate(marketData("a", "x", "c"), ImmutableSet.of(QUOTE2));
+    assertThat(fn.count.get()).isEqualTo(4);
+    assertResults(results2, "a", "x", "c");
+
+    // market data compared using the quotes
+    Results results3 = test.calculate(marketData("a", "x", "c", 1d));
+    assertThat(fn.count.get()).isEqualTo(5);
+    assertResults(results3, "a", "x", "c");
+  }
+
+  @Test
+  public void test_calculate_changedIds_valuationDateChange() {
+    CountingFunction fn = new CountingFunction();
+    IncrementalCalculation test = IncrementalCalculation.of(RUNNER, tasks(fn), REF_DATA);
+
+    test.calculate(marketData("a", "b", "c"), ImmutableSet.of());
+    assertThat(fn.count.get()).isEqualTo(3);
+    test.calculate(
+        MarketData.of(VAL_DATE.plusDays(1), ImmutableMap.of(ID1, "a", ID2, "b", ID3, "c")),
+        ImmutableSet.of());
+    assertThat(fn.count.get()).isEqualTo(6);
+  }
+
+  @Test
+  public void test_calculateMultiScenario_changedIds_scenarioCountChange() {
+    CountingFunction fn = new CountingFunction();
+    IncrementalCalculation test = IncrementalCalculation.of(RUNNER, tasks(fn), REF_DATA);
+
+    test.calculateMultiScenario(scenarioMarketData("a", "b", "c"), ImmutableSet.of());
+    assertThat(fn.count.get()).isEqualTo(3);
+    Results results = test.calculateMultiScenario(
+        ScenarioMarketData.of(3, marketData("a", "b", "c")), ImmutableSet.of());
+    assertThat(fn.count.get()).isEqualTo(6);
+    assertThat(results.get(0, 0)).hasValue(ScenarioArray.of("a", "a", "a"));
+  }
+
+  @Test
+  public void test_calculate_valuationDateChange() {
+    CountingFunction fn = new CountingFunction();
+    IncrementalCalculation test = IncrementalCalculation.of(RUNNER, tasks(fn), REF_DATA);
+
+    test.calculate(marketData("a", "b", "c"));
+    assertThat(fn.count.get()).isEqualTo(3);
+    test.calculate(MarketData.of(VAL_DATE.plusDays(1), ImmutableMap.of(ID1, "a", ID2, "b", ID3, "c")));
+    assertThat(fn.count.get()).isEqualTo(6);
+  }
+
+  @Test
+  public void test_calculateMultiScenario() {
+    CountingFunction fn = new CountingFunction();
+    IncrementalCalculation test = IncrementalCalculation.of(RUNNER, tasks(fn), REF_DATA);
+
+    Results results1 = test.calculateMultiScenario(scenarioMarketData("a", "b", "c"));
+    assertThat(fn.count.get()).isEqualTo(3);
+    assertThat(results1.get(1, 0)).hasValue(ScenarioArray.of("b", "b"));
+
+    Results results2 = test.calculateMultiScenario(scenarioMarketData("a", "x", "c"));
+    assertThat(fn.count.get()).isEqualTo(4);
+    assertThat(results2.get(0, 0)).hasValue(ScenarioArray.of("a", "a"));
+    assertThat(results2.get(1, 0)).hasValue(ScenarioArray.of("x", "x"));
+    assertThat(results2.get(1, 1)).hasValue(ScenarioArray.of("x", "x"));
+
+    // switching between single and multiple scenarios recalculates everything
+    test.calculate(marketData("a", "x", "c"));
+    assertThat(fn.count.get()).isEqualTo(7);
+
+    Results results3 = test.calculateMultiScenario(scenarioMarketData("a", "x", "y"), ImmutableSet.of(ID3));
+    assertThat(fn.count.get()).isEqualTo(10);
+    assertThat(results3.get(2, 0)).hasValue(ScenarioArray.of("y", "y"));
+  }
+
+  @Test
+  public void test_toString() {
+    IncrementalCalculation test = IncrementalCalculation.of(RUNNER, tasks(new CountingFunction()), REF_DATA);
+    assertThat(test.getTasks().getTasks()).hasSize(3);
+    assertThat(test.toString()).isEqualTo("IncrementalCalculation[tasks=3, marketDataIds=3]");
+  }
+
+  //-------------------------------------------------------------------------
+  private static CalculationTasks tasks(CountingFunction fn) {
+    ImmutableList.Builder<CalculationTask> tasks = ImmutableList.builder();
+    List<TestId> ids = ImmutableList.of(ID1, ID2, ID3);
+    for (int row = 0; row < ids.size(); row++) {
+      tasks.add(CalculationTask.of(
+          new IdTarget(ids.get(row)),
+          fn,
+          CalculationTaskCell.of(row, 0, TestingMeasures.PRESENT_VALUE, NATURAL),
+          CalculationTaskCell.of(row, 1, TestingMeasures.PAR_RATE, NATURAL)));
+    }
+    return CalculationTasks.of(tasks.build(), COLUMNS);
+  }
+
+  private static MarketData marketData(String value1, String value2, String value3) {
+    return MarketData.of(VAL_DATE, ImmutableMap.of(ID1, value1, ID2, value2, ID3, value3));
+  }
+
+  private static MarketData marketData(String value1, String value2, String value3, double quote1) {
+    return MarketData.of(VAL_DATE, ImmutableMap.of(ID1, value1, ID2, value2, ID3, value3, QUOTE1, quote1));
+  }
+
+  private static ScenarioMarketData scenarioMarketData(String value1, String value2, String value3) {
+    return ScenarioMarketData.of(2, marketData(value1, value2, value3));
+  }
+
+  private static void assertResults(Results results, String... values) {
+    assertThat(results.getRowCount()).isEqualTo(values.length);
+    for (int row = 0; row < values.length; row++) {
+      assertThat(results.get(row, 0)).hasValue(values[row]);
+      assertThat(results.get(row, 1)).hasValue(values[row]);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class IdTarget implements CalculationTarget {
+
+    private final TestId id;
+
+    private IdTarget(TestId id) {
+      this.id = id;
+    }
+  }
+
+  private static final class CountingFunction implements CalculationFunction<IdTarget> {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Class<IdTarget> targetType() {
+      return IdTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return ImmutableSet.of(TestingMeasures.PRESENT_VALUE, TestingMeasures.PAR_RATE);
+    }
+
+    @Override
+    public Currency naturalCurrency(IdTarget target, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        IdTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.builder().valueRequirements(target.id).build();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        IdTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      count.incrementAndGet();
+      MarketDataBox<String> box = marketData.getValue(target.id);
+      ScenarioArray<String> result = ScenarioArray.of(marketData.getScenarioCount(), box::getValue);
+      return ImmutableMap.of(
+          TestingMeasures.PRESENT_VALUE, Result.success(result),
+          TestingMeasures.PAR_RATE, Result.success(result));
+    }
+  }
+
+  // the market data for each test ID is built from the quote with the same name
+  private static final class QuoteFunction implements MarketDataFunction<String, TestId> {
+
+    private static final Map<TestId, TestObservableId> QUOTES = ImmutableMap.of(ID1, QUOTE1, ID2, QUOTE2, ID3, QUOTE3);
+
+    @Override
+    public MarketDataRequirements requirements(TestId id, MarketDataConfig marketDataConfig) {
+      return MarketDataRequirements.builder().addValues(QUOTES.get(id)).build();
+    }
+
+    @Override
+    public MarketDataBox<String> build(
+        TestId id,
+        MarketDataConfig marketDataConfig,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Class<TestId> getMarketDataIdType() {
+      return TestId.class;
+    }
+  }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * Benchmark of {@link ListenerWrapper} against the previous lock-based implementation.
+ * <p>
+ * Each invocation delivers the results of many tasks to a listener from a number of producer threads,
+ * waiting until the listener has been informed that the calculations are complete.
+ * <p>
+ * Run using the main method, or via the JMH runner on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListenerWrapperBenchmark {
+
+  private static final CalculationResults RESULTS = CalculationResults.of(
+      new TestTarget(), ImmutableList.of(CalculationResult.of(0, 0, Result.success("foo"))));
+
+  /** The wrapper implementation. */
+  @Param({"lockFree", "locking"})
+  private String implementation;
+  /** The number of threads delivering results. */
+  @Param({"4", "16", "64"})
+  private int producers;
+  /** The number of results delivered by each thread. */
+  @Param({"1000"})
+  private int resultsPerProducer;
+
+  private ExecutorService executor;
+
+  //-------------------------------------------------------------------------
+  @Setup(Level.Trial)
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(producers);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Benchmark
+  public long deliver() throws InterruptedException {
+    int tasks = producers * resultsPerProducer;
+    CountingListener listener = new CountingListener();
+    Consumer<CalculationResults> wrapper = implementation.equals("lockFree") ?
+        new ListenerWrapper(listener, tasks, ImmutableList.of(), ImmutableList.of()) :
+        new LockingListenerWrapper(listener, tasks);
+    for (int i = 0; i < producers; i++) {
+      executor.execute(() -> {
+        for (int j = 0; j < resultsPerProducer; j++) {
+          wrapper.accept(RESULTS);
+        }
+      });
+    }
+    listener.complete.await();
+    return listener.count;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ListenerWrapperBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  //-------------------------------------------------------------------------
+  // listener that counts the results
+  private static final class CountingListener implements CalculationListener {
+
+    private final CountDownLatch complete = new CountDownLatch(1);
+    private long count;
+
+    @Override
+    public void resultReceived(CalculationTarget target, CalculationResult result) {
+      count++;
+    }
+
+    @Override
+    public void calculationsComplete() {
+      complete.countDown();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // the previous implementation of ListenerWrapper, using locks to protect the queue
+  private static final class LockingListenerWrapper implements Consumer<CalculationResults> {
+
+    private final CalculationListener listener;
+    private final Queue<CalculationResults> queue = new LinkedList<>();
+    private final Lock lock = new ReentrantLock();
+    private final Lock listenerLock = new ReentrantLock();
+    private final int tasksExpected;
+    private boolean executing;
+    private int tasksReceived;
+
+    private LockingListenerWrapper(CalculationListener listener, int tasksExpected) {
+      this.listener = listener;
+      this.tasksExpected = tasksExpected;
+    }
+
+    @Override
+    public void accept(CalculationResults result) {
+      lock.lock();
+      try {
+        if (executing) {
+          queue.add(result);
+          return;
+        }
+        executing = true;
+      } finally {
+        lock.unlock();
+      }
+      deliver(result);
+    }
+
+    private void deliver(CalculationResults result) {
+      CalculationResults nextResult = result;
+      for (;;) {
+        listenerLock.lock();
+        try {
+          List<CalculationResult> cells = nextResult.getCells();
+          for (CalculationResult cell : cells) {
+            listener.resultReceived(nextResult.getTarget(), cell);
+          }
+        } finally {
+          listenerLock.unlock();
+        }
+        lock.lock();
+        try {
+          if (++tasksReceived == tasksExpected) {
+            listenerLock.lock();
+            try {
+              listener.calculationsComplete();
+            } finally {
+              listenerLock.unlock();
+            }
+            return;
+          } else if (queue.isEmpty()) {
+            executing = false;
+            return;
+          } else {
+            nextResult = queue.remove();
+          }
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverBeanEquals;
+import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+
+/**
+ * Test {@link ScenarioParallelism}.
+ */
+public class ScenarioParallelismTest {
+
+  @Test
+  public void test_of() {
+    ScenarioParallelism test = ScenarioParallelism.of(10);
+    assertThat(test.getMinScenarioCount()).isEqualTo(10);
+    assertThat(test.isParallel(9)).isFalse();
+    assertThat(test.isParallel(10)).isTrue();
+    assertThat(test.queryType()).isEqualTo(ScenarioParallelism.class);
+    assertThat(ScenarioParallelism.NONE.isParallel(1000)).isFalse();
+    assertThatIllegalArgumentException().isThrownBy(() -> ScenarioParallelism.of(0));
+  }
+
+  @Test
+  public void test_arrays() {
+    for (ScenarioParallelism test : new ScenarioParallelism[] {ScenarioParallelism.NONE, ScenarioParallelism.of(1)}) {
+      assertThat(test.scenarioArray(100, i -> "v" + i))
+          .isEqualTo(ScenarioArray.of(100, i -> "v" + i));
+      assertThat(test.doubleScenarioArray(100, i -> i * 1.5))
+          .isEqualTo(DoubleScenarioArray.of(100, i -> i * 1.5));
+      assertThat(test.currencyScenarioArray(100, i -> CurrencyAmount.of(GBP, i)))
+          .isEqualTo(CurrencyScenarioArray.of(100, i -> CurrencyAmount.of(GBP, i)));
+      assertThat(test.multiCurrencyScenarioArray(100, i -> MultiCurrencyAmount.of(USD, i)))
+          .isEqualTo(MultiCurrencyScenarioArray.of(100, i -> MultiCurrencyAmount.of(USD, i)));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    ScenarioParallelism test = ScenarioParallelism.of(10);
+    coverImmutableBean(test);
+    ScenarioParallelism test2 = ScenarioParallelism.of(20);
+    coverBeanEquals(test, test2);
+  }
+
+  @Test
+  public void test_serialization() {
+    assertSerialization(ScenarioParallelism.of(10));
+  }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.ColumnHeader;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.io.CsvOutput;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * Test {@link StreamingResultsListener}.
+ */
+public class StreamingResultsListenerTest {
+
+  private static final TestTarget TARGET1 = new TestTarget();
+  private static final TestTarget TARGET2 = new TestTarget();
+  private static final TestTarget TARGET3 = new TestTarget();
+  private static final List<CalculationTarget> TARGETS = ImmutableList.of(TARGET1, TARGET2, TARGET3);
+  private static final List<Column> COLUMNS =
+      ImmutableList.of(Column.of(TestingMeasures.PRESENT_VALUE), Column.of(TestingMeasures.PAR_RATE));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    RecordingSink sink = new RecordingSink();
+    StreamingResultsListener test = StreamingResultsListener.of(sink);
+    test.calculationsStarted(TARGETS, COLUMNS);
+    assertThat(sink.columns).containsExactly(COLUMNS.get(0).toHeader(), COLUMNS.get(1).toHeader());
+
+    test.resultReceived(TARGET2, result(1, 1));
+    test.resultReceived(TARGET3, result(2, 0));
+    assertThat(sink.rows).isEmpty();
+    test.resultReceived(TARGET3, result(2, 1));
+    assertThat(sink.rows).containsExactly("2:C20,C21");
+    test.resultReceived(TARGET1, result(0, 0));
+    test.resultReceived(TARGET2, result(1, 0));
+    assertThat(sink.rows).containsExactly("2:C20,C21", "1:C10,C11");
+    test.resultReceived(TARGET1, result(0, 1));
+    assertThat(sink.rows).containsExactly("2:C20,C21", "1:C10,C11", "0:C00,C01");
+    assertThat(sink.targets).containsExactly(TARGET3, TARGET2, TARGET1);
+    assertThat(sink.completed).isFalse();
+    test.calculationsComplete();
+    assertThat(sink.completed).isTrue();
+  }
+
+  @Test
+  public void test_ofOrdered() {
+    RecordingSink sink = new RecordingSink();
+    StreamingResultsListener test = StreamingResultsListener.ofOrdered(sink);
+    test.calculationsStarted(TARGETS, COLUMNS);
+
+    test.resultReceived(TARGET2, result(1, 1));
+    test.resultReceived(TARGET2, result(1, 0));
+    test.resultReceived(TARGET3, result(2, 0));
+    test.resultReceived(TARGET3, result(2, 1));
+    assertThat(sink.rows).isEmpty();
+    test.resultReceived(TARGET1, result(0, 1));
+    assertThat(sink.rows).isEmpty();
+    test.resultReceived(TARGET1, result(0, 0));
+    assertThat(sink.rows).containsExactly("0:C00,C01", "1:C10,C11", "2:C20,C21");
+    assertThat(sink.targets).containsExactly(TARGET1, TARGET2, TARGET3);
+    test.calculationsComplete();
+    assertThat(sink.completed).isTrue();
+  }
+
+  @Test
+  public void test_csv() {
+    StringBuilder buf = new StringBuilder();
+    CsvOutput csv = CsvOutput.standard(buf, "\n");
+    CalculationRowSink sink = new CalculationRowSink() {
+
+      @Override
+      public void started(List<ColumnHeader> columns) {
+        List<String> headers = new ArrayList<>();
+        headers.add("Row");
+        columns.forEach(column -> headers.add(column.getName().getName()));
+        csv.writeLine(headers);
+      }
+
+      @Override
+      public void rowReceived(int rowIndex, CalculationTarget target, List<Result<?>> results) {
+        List<String> line = new ArrayList<>();
+        line.add(Integer.toString(rowIndex));
+        results.forEach(result -> line.add(result.getValue().toString()));
+        csv.writeLine(line);
+      }
+    };
+    StreamingResultsListener test = StreamingResultsListener.ofOrdered(sink);
+    test.calculationsStarted(TARGETS, COLUMNS);
+    for (int row = 2; row >= 0; row--) {
+      test.resultReceived(TARGETS.get(row), result(row, 0));
+      test.resultReceived(TARGETS.get(row), result(row, 1));
+    }
+    test.calculationsComplete();
+    assertThat(buf.toString()).isEqualTo(
+        "Row,PresentValue,ParRate\n" +
+            "0,C00,C01\n" +
+            "1,C10,C11\n" +
+            "2,C20,C21\n");
+  }
+
+  @Test
+  public void test_toString() {
+    RecordingSink sink = new RecordingSink();
+    assertThat(StreamingResultsListener.of(sink).toString())
+        .isEqualTo("StreamingResultsListener[sink=" + sink + ", ordered=false]");
+  }
+
+  //-------------------------------------------------------------------------
+  private static CalculationResult result(int row, int column) {
+    return CalculationResult.of(row, column, Result.success("C" + row + column));
+  }
+
+  private static final class RecordingSink implements CalculationRowSink {
+
+    private final List<String> rows = new ArrayList<>();
+    private final List<CalculationTarget> targets = new ArrayList<>();
+    private List<ColumnHeader> columns;
+    private boolean completed;
+
+    @Override
+    public void started(List<ColumnHeader> columns) {
+      this.columns = columns;
+    }
+
+    @Override
+    public void rowReceived(int rowIndex, CalculationTarget target, List<Result<?>> results) {
+      StringBuilder buf = new StringBuilder().append(rowIndex).append(':');
+      for (int i = 0; i < results.size(); i++) {
+        buf.append(i == 0 ? "" : ",").append(results.get(i).getValue());
+      }
+      rows.add(buf.toString());
+      targets.add(target);
+    }
+
+    @Override
+    public void completed() {
+      completed = true;
+    }
+  }
+
+}
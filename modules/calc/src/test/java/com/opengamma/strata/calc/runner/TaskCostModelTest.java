@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.calc.ReportingCurrency.NATURAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestFunction;
+import com.opengamma.strata.calc.runner.CalculationTaskTest.TestTarget;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link TaskCostModel}.
+ */
+public class TaskCostModelTest {
+
+  private static final TestTarget TARGET = new TestTarget();
+  private static final CalculationTask TASK1 = CalculationTask.of(
+      TARGET, new TestFunction(), CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL));
+  private static final CalculationTask TASK2 = CalculationTask.of(
+      TARGET,
+      new TestFunction(),
+      CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL),
+      CalculationTaskCell.of(0, 1, TestingMeasures.PAR_RATE, NATURAL));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_create() {
+    TaskCostModel test = TaskCostModel.create();
+    assertThat(test.findCostPerMeasure(TestFunction.class)).isEmpty();
+    assertThat(test.estimateCost(TASK1)).isEqualTo(1d);
+    assertThat(test.estimateCost(TASK2)).isEqualTo(2d);
+  }
+
+  @Test
+  public void test_of() {
+    TaskCostModel test = TaskCostModel.of(ImmutableMap.of(TestFunction.class, 10d));
+    assertThat(test.findCostPerMeasure(TestFunction.class)).hasValue(10d);
+    assertThat(test.estimateCost(TASK1)).isEqualTo(10d);
+    assertThat(test.estimateCost(TASK2)).isEqualTo(20d);
+  }
+
+  @Test
+  public void test_of_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> TaskCostModel.of(ImmutableMap.of(TestFunction.class, -1d)));
+  }
+
+  @Test
+  public void test_estimateCost_unknownFunction() {
+    TaskCostModel test = TaskCostModel.of(ImmutableMap.of(String.class, 10d, Integer.class, 30d));
+    assertThat(test.estimateCost(TASK2)).isEqualTo(40d);
+  }
+
+  @Test
+  public void test_estimateCost_unknownFunction_afterRecord() {
+    CalculationTask otherTask = CalculationTask.of(
+        TARGET, new OtherFunction(), CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, NATURAL));
+    TaskCostModel test = TaskCostModel.of(ImmutableMap.of(TestFunction.class, 10d, String.class, 30d));
+    assertThat(test.estimateCost(otherTask)).isEqualTo(20d);
+    test.record(TASK1, 50);
+    assertThat(test.estimateCost(otherTask)).isCloseTo(25d, offset(1e-10));
+    test.record(otherTask, 40);
+    assertThat(test.estimateCost(TASK1)).isCloseTo(20d, offset(1e-10));
+    assertThat(test.estimateCost(otherTask)).isCloseTo(40d, offset(1e-10));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_record() {
+    TaskCostModel test = TaskCostModel.create();
+    test.record(TASK2, 200);
+    assertThat(test.findCostPerMeasure(TestFunction.class).getAsDouble()).isEqualTo(100d);
+    test.record(TASK1, 500);
+    assertThat(test.findCostPerMeasure(TestFunction.class).getAsDouble()).isCloseTo(200d, offset(1e-10));
+    assertThat(test.estimateCost(TASK2)).isCloseTo(400d, offset(1e-10));
+  }
+
+  @Test
+  public void test_toString() {
+    assertThat(TaskCostModel.of(ImmutableMap.of(TestFunction.class, 10d)).toString())
+        .isEqualTo("TaskCostModel[functionTypes=1]");
+  }
+
+  //-------------------------------------------------------------------------
+  // a function of a different type to TestFunction
+  private static final class OtherFunction implements CalculationFunction<TestTarget> {
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return ImmutableSet.of(TestingMeasures.PRESENT_VALUE);
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget target, ReferenceData refData) {
+      return USD;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.empty();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      return ImmutableMap.of();
+    }
+  }
+
+}
@@ -253,6 +253,21 @@ public final class InterpolatedNodalCurve
     return boundInterpolator.firstDerivative(x);
   }
 
+  @Override
+  public void yValues(double[] xValues, double[] result) {
+    boundInterpolator.interpolate(xValues, result);
+  }
+
+  @Override
+  public void addYValueParameterSensitivity(double x, double weight, double[] result) {
+    boundInterpolator.addParameterSensitivity(x, weight, result);
+  }
+
+  @Override
+  public void addYValueParameterSensitivity(double[] xValues, double[] weights, double[] result) {
+    boundInterpolator.addParameterSensitivity(xValues, weights, result);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public InterpolatedNodalCurve withMetadata(CurveMetadata metadata) {
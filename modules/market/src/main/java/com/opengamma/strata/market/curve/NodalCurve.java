@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.market.curve;
 
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.param.ParameterMetadata;
@@ -104,6 +105,64 @@ public interface NodalCurve
     return MapStream.zip(getXValues().stream().boxed(), getYValues().stream().boxed());
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the y-values for an array of x-values.
+   * <p>
+   * The result is written to the specified array, which must have the same length as the x-values.
+   * The result is the same as calling {@link #yValue(double)} for each x-value.
+   * When the x-values are sorted from low to high, implementations may evaluate them in a single pass
+   * through the nodes, rather than searching for the nodes of each x-value.
+   *
+   * @param xValues  the x-values to find the y-values for, typically sorted from low to high
+   * @param result  the array to write the y-values to
+   * @throws RuntimeException if a y-value cannot be calculated
+   */
+  public default void yValues(double[] xValues, double[] result) {
+    ArgChecker.isTrue(xValues.length == result.length, "Result must have length {}, but was {}", xValues.length, result.length);
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = yValue(xValues[i]);
+    }
+  }
+
+  /**
+   * Adds the sensitivity of the y-value with respect to the curve parameters to an array.
+   * <p>
+   * The sensitivity at the x-value, multiplied by the weight, is added to the array,
+   * which has one element for each parameter of the curve.
+   * This is equivalent to {@link #yValueParameterSensitivity(double)}, but implementations may avoid
+   * allocating an array of sensitivities for each x-value.
+   *
+   * @param x  the x-value at which the parameter sensitivity is computed
+   * @param weight  the weight to multiply the sensitivity by
+   * @param result  the array to add the weighted sensitivity to
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addYValueParameterSensitivity(double x, double weight, double[] result) {
+    DoubleArray sensitivity = yValueParameterSensitivity(x).getSensitivity();
+    for (int i = 0; i < sensitivity.size(); i++) {
+      result[i] += weight * sensitivity.get(i);
+    }
+  }
+
+  /**
+   * Adds the sensitivity of the y-values with respect to the curve parameters to an array.
+   * <p>
+   * The sensitivity at each x-value, multiplied by the matching weight, is added to the array,
+   * which has one element for each parameter of the curve.
+   *
+   * @param xValues  the x-values at which the parameter sensitivity is computed, typically sorted from low to high
+   * @param weights  the weights to multiply the sensitivities by, one for each x-value
+   * @param result  the array to add the weighted sensitivities to
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addYValueParameterSensitivity(double[] xValues, double[] weights, double[] result) {
+    ArgChecker.isTrue(xValues.length == weights.length, "Weights must have length {}, but was {}", xValues.length, weights.length);
+    for (int i = 0; i < xValues.length; i++) {
+      addYValueParameterSensitivity(xValues[i], weights[i], result);
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public abstract NodalCurve withParameter(int parameterIndex, double newValue);
@@ -27,6 +27,10 @@ public abstract class AbstractBoundCurveInterpolator
    * The right extrapolator.
    */
   private final BoundCurveExtrapolator extrapolatorRight;
+  /**
+   * The x-values of the nodes.
+   */
+  private final double[] nodeXValues;
   /**
    * The x-value of the first node.
    */
@@ -54,6 +58,7 @@ public abstract class AbstractBoundCurveInterpolator
     ArgChecker.isTrue(size > 1, "Curve node arrays must have at least two nodes");
     this.extrapolatorLeft = ExceptionCurveExtrapolator.INSTANCE;
     this.extrapolatorRight = ExceptionCurveExtrapolator.INSTANCE;
+    this.nodeXValues = xValues.toArrayUnsafe();
     this.firstXValue = xValues.get(0);
     this.lastXValue = xValues.get(size - 1);
     this.lastYValue = yValues.get(size - 1);
@@ -73,6 +78,7 @@ public abstract class AbstractBoundCurveInterpolator
 
     this.extrapolatorLeft = ArgChecker.notNull(extrapolatorLeft, "extrapolatorLeft");
     this.extrapolatorRight = ArgChecker.notNull(extrapolatorRight, "extrapolatorRight");
+    this.nodeXValues = base.nodeXValues;
     this.firstXValue = base.firstXValue;
     this.lastXValue = base.lastXValue;
     this.lastYValue = base.lastYValue;
@@ -101,6 +107,22 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract double doInterpolate(double xValue);
 
+  /**
+   * Method for subclasses to calculate the interpolated value, where the index of the interval is known.
+   * <p>
+   * Callers can assume that {@code xValue} is less than the x-value of the last node,
+   * and that the index is that returned by {@link #lowerBoundIndex(double, double[])}.
+   * This is used when interpolating an array of x-values, when the index is found without searching.
+   * Subclasses should override this method, and implement {@link #doInterpolate(double)} by finding the index.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node with an x-value less than or equal to the x-value
+   * @return the interpolated y-value
+   */
+  protected double doInterpolate(double xValue, int lowerIndex) {
+    return doInterpolate(xValue);
+  }
+
   /**
    * Method for {@code InterpolatorCurveExtrapolator} to calculate the interpolated value.
    * <p>
@@ -152,6 +174,90 @@ public abstract class AbstractBoundCurveInterpolator
    */
   protected abstract DoubleArray doParameterSensitivity(double xValue);
 
+  /**
+   * Method for subclasses to add the weighted parameter sensitivity to an array, where the index of the interval is known.
+   * <p>
+   * The index is that returned by {@link #lowerBoundIndex(double, double[])}.
+   * Subclasses should override this method to avoid allocating an array of sensitivities.
+   * 
+   * @param xValue  the x-value
+   * @param lowerIndex  the index of the last node with an x-value less than or equal to the x-value
+   * @param weight  the weight to multiply the sensitivity by
+   * @param result  the array to add the weighted sensitivity to
+   */
+  protected void doAddParameterSensitivity(double xValue, int lowerIndex, double weight, double[] result) {
+    addWeighted(doParameterSensitivity(xValue), weight, result);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public final void interpolate(double[] xValues, double[] result) {
+    ArgChecker.isTrue(xValues.length == result.length, "Result must have length {}, but was {}", xValues.length, result.length);
+    int lowerIndex = 0;
+    for (int i = 0; i < xValues.length; i++) {
+      double xValue = xValues[i];
+      if (xValue < firstXValue) {
+        result[i] = extrapolatorLeft.leftExtrapolate(xValue);
+      } else if (xValue > lastXValue) {
+        result[i] = extrapolatorRight.rightExtrapolate(xValue);
+      } else if (xValue == lastXValue) {
+        result[i] = lastYValue;
+      } else {
+        lowerIndex = lowerBoundIndex(xValue, lowerIndex);
+        result[i] = doInterpolate(xValue, lowerIndex);
+      }
+    }
+  }
+
+  @Override
+  public final void addParameterSensitivity(double xValue, double weight, double[] result) {
+    if (xValue < firstXValue) {
+      addWeighted(extrapolatorLeft.leftExtrapolateParameterSensitivity(xValue), weight, result);
+    } else if (xValue > lastXValue) {
+      addWeighted(extrapolatorRight.rightExtrapolateParameterSensitivity(xValue), weight, result);
+    } else {
+      doAddParameterSensitivity(xValue, lowerBoundIndex(xValue, nodeXValues), weight, result);
+    }
+  }
+
+  @Override
+  public final void addParameterSensitivity(double[] xValues, double[] weights, double[] result) {
+    ArgChecker.isTrue(xValues.length == weights.length, "Weights must have length {}, but was {}", xValues.length, weights.length);
+    int lowerIndex = 0;
+    for (int i = 0; i < xValues.length; i++) {
+      double xValue = xValues[i];
+      if (xValue < firstXValue) {
+        addWeighted(extrapolatorLeft.leftExtrapolateParameterSensitivity(xValue), weights[i], result);
+      } else if (xValue > lastXValue) {
+        addWeighted(extrapolatorRight.rightExtrapolateParameterSensitivity(xValue), weights[i], result);
+      } else {
+        lowerIndex = lowerBoundIndex(xValue, lowerIndex);
+        doAddParameterSensitivity(xValue, lowerIndex, weights[i], result);
+      }
+    }
+  }
+
+  // adds the weighted sensitivity to the result
+  private static void addWeighted(DoubleArray sensitivity, double weight, double[] result) {
+    for (int i = 0; i < sensitivity.size(); i++) {
+      result[i] += weight * sensitivity.get(i);
+    }
+  }
+
+  // finds the lower bound index, moving forward from the index of the previous x-value
+  // this avoids a search when the x-values are sorted, the index is found by searching if not
+  private int lowerBoundIndex(double xValue, int previousIndex) {
+    if (xValue < nodeXValues[previousIndex]) {
+      return lowerBoundIndex(xValue, nodeXValues);
+    }
+    int lowerIndex = previousIndex;
+    int lastIndex = nodeXValues.length - 1;
+    while (lowerIndex < lastIndex && nodeXValues[lowerIndex + 1] <= xValue) {
+      lowerIndex++;
+    }
+    return lowerIndex;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Returns the index of the last value in the input array which is lower than the specified value.
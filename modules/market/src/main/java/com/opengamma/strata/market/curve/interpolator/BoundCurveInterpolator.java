@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.market.curve.interpolator;
 
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 
 /**
@@ -52,6 +53,64 @@ public interface BoundCurveInterpolator {
    */
   public abstract DoubleArray parameterSensitivity(double x);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the y-values for an array of x-values.
+   * <p>
+   * The result is written to the specified array, which must have the same length as the x-values.
+   * The x-values are typically sorted from low to high, which allows implementations to find the
+   * interval of each x-value by moving through the nodes in a single pass, rather than searching.
+   * The result is the same as calling {@link #interpolate(double)} for each x-value.
+   * 
+   * @param xValues  the x-values to find the y-values for, typically sorted from low to high
+   * @param result  the array to write the y-values to
+   * @throws RuntimeException if a y-value cannot be calculated
+   */
+  public default void interpolate(double[] xValues, double[] result) {
+    ArgChecker.isTrue(xValues.length == result.length, "Result must have length {}, but was {}", xValues.length, result.length);
+    for (int i = 0; i < xValues.length; i++) {
+      result[i] = interpolate(xValues[i]);
+    }
+  }
+
+  /**
+   * Adds the sensitivity of the y-value with respect to the curve parameters to an array.
+   * <p>
+   * The sensitivity at the specified x-value, multiplied by the weight, is added to the array,
+   * which has one element for each parameter of the curve. This avoids the allocation of
+   * an array for each x-value when summing the sensitivities of many x-values.
+   * 
+   * @param x  the x-value at which the parameter sensitivity is computed
+   * @param weight  the weight to multiply the sensitivity by
+   * @param result  the array to add the weighted sensitivity to
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addParameterSensitivity(double x, double weight, double[] result) {
+    DoubleArray sensitivity = parameterSensitivity(x);
+    for (int i = 0; i < sensitivity.size(); i++) {
+      result[i] += weight * sensitivity.get(i);
+    }
+  }
+
+  /**
+   * Adds the sensitivity of the y-values with respect to the curve parameters to an array.
+   * <p>
+   * The sensitivity at each x-value, multiplied by the matching weight, is added to the array,
+   * which has one element for each parameter of the curve.
+   * The result is the same as calling {@link #addParameterSensitivity(double, double, double[])} for each x-value.
+   * 
+   * @param xValues  the x-values at which the parameter sensitivity is computed, typically sorted from low to high
+   * @param weights  the weights to multiply the sensitivities by, one for each x-value
+   * @param result  the array to add the weighted sensitivities to
+   * @throws RuntimeException if the sensitivity cannot be calculated
+   */
+  public default void addParameterSensitivity(double[] xValues, double[] weights, double[] result) {
+    ArgChecker.isTrue(xValues.length == weights.length, "Weights must have length {}, but was {}", xValues.length, weights.length);
+    for (int i = 0; i < xValues.length; i++) {
+      addParameterSensitivity(xValues[i], weights[i], result);
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Binds this interpolator to the specified extrapolators.
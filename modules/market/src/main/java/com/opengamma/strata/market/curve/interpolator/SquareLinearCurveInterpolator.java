@@ -86,8 +86,12 @@ final class SquareLinearCurveInterpolator implements CurveInterpolator, Serializ
     //-------------------------------------------------------------------------
     @Override
     protected double doInterpolate(double xValue) {
+      return doInterpolate(xValue, lowerBoundIndex(xValue, xValues));
+    }
+
+    @Override
+    protected double doInterpolate(double xValue, int lowerIndex) {
       // x-value is less than the x-value of the last node (lowerIndex < intervalCount)
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
       double x1 = xValues[lowerIndex];
       double y1 = yValues[lowerIndex];
 
@@ -162,32 +166,36 @@ final class SquareLinearCurveInterpolator implements CurveInterpolator, Serializ
     @Override
     protected DoubleArray doParameterSensitivity(double xValue) {
       double[] result = new double[dataSize];
+      doAddParameterSensitivity(xValue, lowerBoundIndex(xValue, xValues), 1d, result);
+      return DoubleArray.ofUnsafe(result);
+    }
 
-      int lowerIndex = lowerBoundIndex(xValue, xValues);
+    @Override
+    protected void doAddParameterSensitivity(double xValue, int lowerIndex, double weight, double[] result) {
       double x1 = xValues[lowerIndex];
       double y1 = yValues[lowerIndex];
       // check if x-value is at the last node
       if (lowerIndex == dataSize - 1) {
-        result[dataSize - 1] = 1.0;
-        return DoubleArray.ofUnsafe(result);
+        result[dataSize - 1] += weight;
+        return;
       }
 
       int higherIndex = lowerIndex + 1;
       double x2 = xValues[higherIndex];
       double y2 = yValues[higherIndex];
       if ((xValue - x1) < EPS) { // On or very close to Vertex 1
-        result[lowerIndex] = 1.0d;
-        return DoubleArray.ofUnsafe(result);
+        result[lowerIndex] += weight;
+        return;
       }
       if ((x2 - xValue) < EPS) { // On or very close to Vertex 2
-        result[lowerIndex + 1] = 1.0d;
-        return DoubleArray.ofUnsafe(result);
+        result[lowerIndex + 1] += weight;
+        return;
       }
       double w2 = (x2 - xValue) / (x2 - x1);
       if ((y2 < EPS) && (y1 < EPS)) { // Both values very close to 0
-        result[lowerIndex] = Math.sqrt(w2);
-        result[lowerIndex + 1] = Math.sqrt(1.0d - w2);
-        return DoubleArray.ofUnsafe(result);
+        result[lowerIndex] += weight * Math.sqrt(w2);
+        result[lowerIndex + 1] += weight * Math.sqrt(1.0d - w2);
+        return;
       }
 
       double y21 = y1 * y1;
@@ -199,10 +207,8 @@ final class SquareLinearCurveInterpolator implements CurveInterpolator, Serializ
       double y21Bar = w2 * ySqBar;
       double y1Bar = 2 * y1 * y21Bar;
       double y2Bar = 2 * y2 * y22Bar;
-      result[lowerIndex] = y1Bar;
-      result[lowerIndex + 1] = y2Bar;
-
-      return DoubleArray.ofUnsafe(result);
+      result[lowerIndex] += weight * y1Bar;
+      result[lowerIndex + 1] += weight * y2Bar;
     }
 
     @Override
@@ -0,0 +1,343 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.sensitivity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Mutable builder of point sensitivities, merging the sensitivities to the same key as they are added.
+ * <p>
+ * The sensitivities are held in columns, one for each type of point sensitivity.
+ * Each column holds the distinct keys of the type, interned as point sensitivities with a zero value,
+ * and the merged sensitivity of each key in a primitive array.
+ * A sensitivity is merged into the column by looking up its key in a map ordered by
+ * {@link PointSensitivity#compareKey(PointSensitivity)}, which ignores the sensitivity value.
+ * As such, the memory is proportional to the number of distinct keys, and adding a sensitivity
+ * to an existing key does not allocate.
+ * <p>
+ * Two point sensitivities have the same key if they are equal apart from their sensitivity value.
+ * This is the key used by {@link PointSensitivity#compareKey(PointSensitivity)} when normalizing.
+ * <p>
+ * The merged sensitivities can be read without creating a point sensitivity for each key using
+ * {@link #forEach(Class, ObjDoubleConsumer)}. Individual point sensitivities are only created,
+ * one for each key, when building {@link PointSensitivities}.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class ColumnarPointSensitivities
+    implements PointSensitivityBuilder {
+
+  /**
+   * The columns, keyed by the type of point sensitivity.
+   */
+  private final Map<Class<?>, Column> columns = new LinkedHashMap<>();
+
+  /**
+   * Creates an empty instance.
+   */
+  public ColumnarPointSensitivities() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of distinct keys.
+   *
+   * @return the number of keys
+   */
+  public int size() {
+    int size = 0;
+    for (Column column : columns.values()) {
+      size += column.size;
+    }
+    return size;
+  }
+
+  /**
+   * Performs an action on each key of the specified type and its merged sensitivity.
+   * <p>
+   * The key is a point sensitivity with a zero value.
+   *
+   * @param <T>  the type of point sensitivity
+   * @param type  the type of point sensitivity
+   * @param action  the action to perform on each key and merged sensitivity
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends PointSensitivity> void forEach(Class<T> type, ObjDoubleConsumer<? super T> action) {
+    Column column = columns.get(type);
+    if (column != null) {
+      for (int i = 0; i < column.size; i++) {
+        action.accept((T) column.keys.get(i), column.amounts[i]);
+      }
+    }
+  }
+
+  /**
+   * Performs an action on each key and its merged sensitivity.
+   * <p>
+   * The key is a point sensitivity with a zero value.
+   *
+   * @param action  the action to perform on each key and merged sensitivity
+   */
+  public void forEach(ObjDoubleConsumer<PointSensitivity> action) {
+    for (Column column : columns.values()) {
+      for (int i = 0; i < column.size; i++) {
+        action.accept(column.keys.get(i), column.amounts[i]);
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds a point sensitivity, merging it with the sensitivity to the same key.
+   *
+   * @param sensitivity  the sensitivity to add
+   * @return {@code this}, for method chaining
+   */
+  public ColumnarPointSensitivities add(PointSensitivity sensitivity) {
+    ArgChecker.notNull(sensitivity, "sensitivity");
+    columns.computeIfAbsent(sensitivity.getClass(), k -> new Column())
+        .add(sensitivity, sensitivity.getSensitivity());
+    return this;
+  }
+
+  /**
+   * Adds the point sensitivities, merging them with the sensitivities to the same keys.
+   *
+   * @param sensitivities  the sensitivities to add
+   * @return {@code this}, for method chaining
+   */
+  public ColumnarPointSensitivities addAll(PointSensitivities sensitivities) {
+    ArgChecker.notNull(sensitivities, "sensitivities");
+    for (PointSensitivity sensitivity : sensitivities.getSensitivities()) {
+      add(sensitivity);
+    }
+    return this;
+  }
+
+  /**
+   * Adds the point sensitivities of a builder, merging them with the sensitivities to the same keys.
+   *
+   * @param builder  the builder of the sensitivities to add
+   * @return {@code this}, for method chaining
+   */
+  public ColumnarPointSensitivities addAll(PointSensitivityBuilder builder) {
+    ArgChecker.notNull(builder, "builder");
+    if (builder instanceof ColumnarPointSensitivities) {
+      ColumnarPointSensitivities other = (ColumnarPointSensitivities) builder;
+      if (other == this) {
+        return mapSensitivity(s -> s * 2d);
+      }
+      other.columns.forEach((type, otherColumn) -> {
+        Column column = columns.computeIfAbsent(type, k -> new Column());
+        for (int i = 0; i < otherColumn.size; i++) {
+          column.add(otherColumn.keys.get(i), otherColumn.amounts[i]);
+        }
+      });
+    } else if (builder instanceof PointSensitivity) {
+      add((PointSensitivity) builder);
+    } else if (builder instanceof MutablePointSensitivities) {
+      for (PointSensitivity sensitivity : ((MutablePointSensitivities) builder).getSensitivities()) {
+        add(sensitivity);
+      }
+    } else {
+      for (PointSensitivity sensitivity : builder.buildInto(new MutablePointSensitivities()).getSensitivities()) {
+        add(sensitivity);
+      }
+    }
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public ColumnarPointSensitivities withCurrency(Currency currency) {
+    List<Map.Entry<Class<?>, Column>> existing = new ArrayList<>(columns.entrySet());
+    columns.clear();
+    for (Map.Entry<Class<?>, Column> entry : existing) {
+      Column column = entry.getValue();
+      for (int i = 0; i < column.size; i++) {
+        PointSensitivity key = column.keys.get(i).withCurrency(currency);
+        columns.computeIfAbsent(key.getClass(), k -> new Column()).add(key, column.amounts[i]);
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public ColumnarPointSensitivities multipliedBy(double factor) {
+    return mapSensitivity(s -> s * factor);
+  }
+
+  /**
+   * Applies an operation to the sensitivities in this instance.
+   * <p>
+   * The operator is applied to the merged sensitivity of each key.
+   *
+   * @param operator  the operator to be applied to the sensitivities
+   * @return {@code this}, for method chaining
+   */
+  @Override
+  public ColumnarPointSensitivities mapSensitivity(DoubleUnaryOperator operator) {
+    for (Column column : columns.values()) {
+      for (int i = 0; i < column.size; i++) {
+        column.amounts[i] = operator.applyAsDouble(column.amounts[i]);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Normalizes the point sensitivities by sorting.
+   * <p>
+   * The sensitivities are already merged, thus this only sorts the keys of each type.
+   *
+   * @return {@code this}, for method chaining
+   */
+  @Override
+  public ColumnarPointSensitivities normalize() {
+    for (Column column : columns.values()) {
+      column.sort();
+    }
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public ColumnarPointSensitivities combinedWith(PointSensitivityBuilder other) {
+    return addAll(other);
+  }
+
+  @Override
+  public MutablePointSensitivities buildInto(MutablePointSensitivities combination) {
+    forEach((key, amount) -> combination.add(key.withSensitivity(amount)));
+    return combination;
+  }
+
+  @Override
+  public ColumnarPointSensitivities cloned() {
+    ColumnarPointSensitivities cloned = new ColumnarPointSensitivities();
+    columns.forEach((type, column) -> cloned.columns.put(type, column.cloned()));
+    return cloned;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj instanceof ColumnarPointSensitivities) {
+      ColumnarPointSensitivities other = (ColumnarPointSensitivities) obj;
+      return columns.equals(other.columns);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return columns.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return new StringBuilder(64)
+        .append("ColumnarPointSensitivities{sensitivities=")
+        .append(buildInto(new MutablePointSensitivities()).getSensitivities())
+        .append('}')
+        .toString();
+  }
+
+  //-------------------------------------------------------------------------
+  // the keys of one type of point sensitivity and their merged sensitivities
+  private static final class Column {
+    private final TreeMap<PointSensitivity, Integer> ids;
+    private final List<PointSensitivity> keys;
+    private double[] amounts;
+    private int size;
+
+    private Column() {
+      this(new TreeMap<>(PointSensitivity::compareKey), new ArrayList<>(), new double[8], 0);
+    }
+
+    private Column(TreeMap<PointSensitivity, Integer> ids, List<PointSensitivity> keys, double[] amounts, int size) {
+      this.ids = ids;
+      this.keys = keys;
+      this.amounts = amounts;
+      this.size = size;
+    }
+
+    // merges the sensitivity into the entry of its key, creating the entry if absent
+    // the key of a new entry is the point with a zero value
+    private void add(PointSensitivity point, double amount) {
+      Integer id = ids.get(point);
+      if (id != null) {
+        amounts[id] += amount;
+        return;
+      }
+      if (size == amounts.length) {
+        amounts = Arrays.copyOf(amounts, size * 2);
+      }
+      PointSensitivity key = point.withSensitivity(0d);
+      ids.put(key, size);
+      keys.add(key);
+      amounts[size] = amount;
+      size++;
+    }
+
+    // sorts the entries by key
+    private void sort() {
+      Integer[] order = new Integer[size];
+      for (int i = 0; i < size; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, (i, j) -> keys.get(i).compareKey(keys.get(j)));
+      List<PointSensitivity> sortedKeys = new ArrayList<>(size);
+      double[] sortedAmounts = new double[amounts.length];
+      for (int i = 0; i < size; i++) {
+        sortedKeys.add(keys.get(order[i]));
+        sortedAmounts[i] = amounts[order[i]];
+      }
+      keys.clear();
+      keys.addAll(sortedKeys);
+      amounts = sortedAmounts;
+      for (int i = 0; i < size; i++) {
+        ids.put(keys.get(i), i);
+      }
+    }
+
+    private Column cloned() {
+      return new Column(new TreeMap<>(ids), new ArrayList<>(keys), amounts.clone(), size);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (obj instanceof Column) {
+        Column other = (Column) obj;
+        return keys.equals(other.keys) &&
+            Arrays.equals(Arrays.copyOf(amounts, size), Arrays.copyOf(other.amounts, other.size));
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return keys.hashCode() * 31 + Arrays.hashCode(Arrays.copyOf(amounts, size));
+    }
+  }
+
+}
@@ -189,18 +189,25 @@ public final class MutablePointSensitivities
    */
   @Override
   public MutablePointSensitivities normalize() {
+    if (sensitivities.isEmpty()) {
+      return this;
+    }
     sensitivities.sort(PointSensitivity::compareKey);
+    // merge in place, then truncate, avoiding shifting the list on each merge
+    int last = 0;
     PointSensitivity previous = sensitivities.get(0);
     for (int i = 1; i < sensitivities.size(); i++) {
       PointSensitivity current = sensitivities.get(i);
       if (current.compareKey(previous) == 0) {
-        current = previous.withSensitivity(previous.getSensitivity() + current.getSensitivity());
-        sensitivities.set(i - 1, current);
-        sensitivities.remove(i);
-        i--;
+        previous = previous.withSensitivity(previous.getSensitivity() + current.getSensitivity());
+      } else {
+        sensitivities.set(last, previous);
+        last++;
+        previous = current;
       }
-      previous = current;
     }
+    sensitivities.set(last, previous);
+    sensitivities.subList(last + 1, sensitivities.size()).clear();
     return this;
   }
 
@@ -12,6 +12,7 @@ import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -132,6 +133,30 @@ public class InterpolatedNodalCurveTest {
     assertThat(test.firstDerivative(10d)).isEqualTo(interp.firstDerivative(10d));
   }
 
+  @Test
+  public void test_lookup_bulk() {
+    InterpolatedNodalCurve test = InterpolatedNodalCurve.of(METADATA, XVALUES, YVALUES, INTERPOLATOR);
+    double[] x = {0.5, 1d, 1.5, 2.5, 3d, 10d};
+    double[] weights = {1d, 2d, 3d, 4d, 5d, 6d};
+    double[] values = new double[x.length];
+    test.yValues(x, values);
+    double[] sensitivity = new double[SIZE];
+    test.addYValueParameterSensitivity(x, weights, sensitivity);
+    double[] expectedSensitivity = new double[SIZE];
+    for (int i = 0; i < x.length; i++) {
+      assertThat(values[i]).isEqualTo(test.yValue(x[i]));
+      DoubleArray pointSensitivity = test.yValueParameterSensitivity(x[i]).getSensitivity();
+      for (int j = 0; j < SIZE; j++) {
+        expectedSensitivity[j] += weights[i] * pointSensitivity.get(j);
+      }
+    }
+    assertThat(sensitivity).containsExactly(expectedSensitivity, offset(1e-14));
+    double[] singleSensitivity = new double[SIZE];
+    test.addYValueParameterSensitivity(1.5d, 2d, singleSensitivity);
+    assertThat(DoubleArray.ofUnsafe(singleSensitivity))
+        .isEqualTo(test.yValueParameterSensitivity(1.5d).getSensitivity().multipliedBy(2d));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_withMetadata() {
@@ -114,6 +114,42 @@ public class CurveInterpolatorTest {
     assertThat(bound.toString()).isNotNull();
   }
 
+  @ParameterizedTest
+  @MethodSource("data_name")
+  public void test_bulk(CurveInterpolator interpolator, String name) {
+    DoubleArray xValues = DoubleArray.of(0.5, 1, 2, 3.5, 5, 7, 10);
+    DoubleArray yValues = DoubleArray.of(0.99, 0.98, 0.95, 0.91, 0.86, 0.8, 0.71);
+    BoundCurveInterpolator bound = interpolator.bind(xValues, yValues, CurveExtrapolators.FLAT, CurveExtrapolators.FLAT);
+    // sorted, with extrapolation, nodes and a repeated x-value, then an unsorted tail
+    double[] x = {0.25, 0.5, 0.75, 1, 1, 1.5, 3.5, 4, 6.9, 10, 12, 2.5, 0.1, 8};
+    double[] weights = new double[x.length];
+    double[] expectedValues = new double[x.length];
+    double[] expectedSensitivity = new double[xValues.size()];
+    for (int i = 0; i < x.length; i++) {
+      weights[i] = i + 1d;
+      expectedValues[i] = bound.interpolate(x[i]);
+      DoubleArray sensitivity = bound.parameterSensitivity(x[i]);
+      for (int j = 0; j < sensitivity.size(); j++) {
+        expectedSensitivity[j] += weights[i] * sensitivity.get(j);
+      }
+    }
+    double[] values = new double[x.length];
+    bound.interpolate(x, values);
+    assertThat(values).containsExactly(expectedValues);
+    double[] sensitivity = new double[xValues.size()];
+    bound.addParameterSensitivity(x, weights, sensitivity);
+    assertThat(sensitivity).containsExactly(expectedSensitivity, offset(1e-12));
+    double[] singleSensitivity = new double[xValues.size()];
+    for (int i = 0; i < x.length; i++) {
+      bound.addParameterSensitivity(x[i], weights[i], singleSensitivity);
+    }
+    assertThat(singleSensitivity).containsExactly(expectedSensitivity, offset(1e-12));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> bound.interpolate(x, new double[1]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> bound.addParameterSensitivity(x, new double[1], sensitivity));
+  }
+
   @Test
   public void test_lowerBound() {
     // bad input, but still produces good output
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.sensitivity;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link ColumnarPointSensitivities}.
+ */
+public class ColumnarPointSensitivitiesTest {
+
+  private static final PointSensitivity CS1 = DummyPointSensitivity.of(GBP, date(2015, 6, 30), 12d);
+  private static final PointSensitivity CS2 = DummyPointSensitivity.of(GBP, date(2015, 7, 30), 22d);
+  private static final PointSensitivity CS3 = DummyPointSensitivity.of(GBP, date(2015, 8, 30), 32d);
+  private static final PointSensitivity CS3B = DummyPointSensitivity.of(GBP, date(2015, 8, 30), 3d);
+  private static final PointSensitivity CS3C = DummyPointSensitivity.of(GBP, date(2015, 8, 30), 10d);
+  private static final PointSensitivity CS3D = DummyPointSensitivity.of(GBP, date(2015, 8, 30), -2d);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_add_merge() {
+    ColumnarPointSensitivities test = new ColumnarPointSensitivities();
+    assertThat(test.size()).isEqualTo(0);
+    assertThat(test.build()).isEqualTo(PointSensitivities.empty());
+    test.add(CS3).add(CS1).add(CS3B).add(CS2).add(CS3C);
+    assertThat(test.size()).isEqualTo(3);
+    assertThat(test.build().getSensitivities())
+        .containsExactly(CS3.withSensitivity(45d), CS1, CS2);
+    assertThatIllegalArgumentException().isThrownBy(() -> test.add(null));
+  }
+
+  @Test
+  public void test_add_repeatedKeys() {
+    ColumnarPointSensitivities test = new ColumnarPointSensitivities();
+    test.add(CS3).add(CS1);
+    assertThat(test.size()).isEqualTo(2);
+    for (int i = 0; i < 10; i++) {
+      test.add(CS3B).add(CS3D).add(CS1);
+      assertThat(test.size()).isEqualTo(2);
+    }
+    assertThat(test.build().getSensitivities())
+        .containsExactly(CS3.withSensitivity(42d), CS1.withSensitivity(132d));
+    test.forEach((key, amount) -> assertThat(key.getSensitivity()).isEqualTo(0d));
+  }
+
+  @Test
+  public void test_addAll() {
+    ColumnarPointSensitivities test = new ColumnarPointSensitivities();
+    test.addAll(PointSensitivities.of(CS1, CS3));
+    test.addAll(new MutablePointSensitivities(CS3B));
+    test.addAll((PointSensitivityBuilder) CS2);
+    test.addAll(PointSensitivityBuilder.none());
+    test.addAll(new ColumnarPointSensitivities().add(CS3C).add(CS1));
+    assertThat(test.build().getSensitivities())
+        .containsExactly(CS1.withSensitivity(24d), CS3.withSensitivity(45d), CS2);
+    test.addAll(test);
+    assertThat(test.build().getSensitivities())
+        .containsExactly(CS1.withSensitivity(48d), CS3.withSensitivity(90d), CS2.withSensitivity(44d));
+  }
+
+  @Test
+  public void test_matchesNormalized() {
+    List<PointSensitivity> points = new ArrayList<>();
+    MutablePointSensitivities mutable = new MutablePointSensitivities();
+    ColumnarPointSensitivities test = new ColumnarPointSensitivities();
+    for (int i = 0; i < 200; i++) {
+      PointSensitivity point = DummyPointSensitivity.of(i % 2 == 0 ? GBP : USD, date(2015, 1, 1).plusDays(i % 17), i);
+      points.add(point);
+      mutable.add(point);
+      test.add(point);
+    }
+    assertThat(test.size()).isEqualTo(34);
+    assertThat(test.normalize().build()).isEqualTo(mutable.normalize().build());
+    assertThat(test.build()).isEqualTo(PointSensitivities.of(points).normalized());
+  }
+
+  @Test
+  public void test_forEach() {
+    ColumnarPointSensitivities test = new ColumnarPointSensitivities().add(CS3).add(CS1).add(CS3D);
+    List<Object> keys = new ArrayList<>();
+    List<Double> amounts = new ArrayList<>();
+    test.forEach(DummyPointSensitivity.class, (key, amount) -> {
+      keys.add(key.getDate());
+      amounts.add(amount);
+    });
+    assertThat(keys).containsExactly(date(2015, 8, 30), date(2015, 6, 30));
+    assertThat(amounts).containsExactly(30d, 12d);
+    List<PointSensitivity> all = new ArrayList<>();
+    test.forEach((key, amount) -> all.add(key.withSensitivity(amount)));
+    assertThat(all).containsExactly(CS3.withSensitivity(30d), CS1);
+    test.forEach(NoPointSensitivityType.class, (key, amount) -> all.add(key));
+    assertThat(all).hasSize(2);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_withCurrency() {
+    PointSensitivity usd = DummyPointSensitivity.of(GBP, date(2015, 6, 30), USD, 5d);
+    ColumnarPointSensitivities test = new ColumnarPointSensitivities().add(CS1).add(usd).add(CS2);
+    assertThat(test.withCurrency(USD).build().getSensitivities())
+        .containsExactly(usd.withSensitivity(17d), CS2.withCurrency(USD));
+  }
+
+  @Test
+  public void test_multipliedBy_mapSensitivity() {
+    ColumnarPointSensitivities test = new ColumnarPointSensitivities().add(CS3).add(CS1).add(CS3B);
+    assertThat(test.multipliedBy(2d).build().getSensitivities())
+        .containsExactly(CS3.withSensitivity(70d), CS1.withSensitivity(24d));
+    assertThat(test.mapSensitivity(s -> 1 / s).build().getSensitivities())
+        .containsExactly(CS3.withSensitivity(1 / 70d), CS1.withSensitivity(1 / 24d));
+  }
+
+  @Test
+  public void test_combinedWith() {
+    ColumnarPointSensitivities test = new ColumnarPointSensitivities().add(CS1);
+    assertThat(test.combinedWith((PointSensitivityBuilder) CS2)).isSameAs(test);
+    assertThat(test.build().getSensitivities()).containsExactly(CS1, CS2);
+  }
+
+  @Test
+  public void test_buildInto() {
+    ColumnarPointSensitivities test = new ColumnarPointSensitivities().add(CS3).add(CS3B);
+    MutablePointSensitivities combo = new MutablePointSensitivities(CS1);
+    assertThat(test.buildInto(combo)).isSameAs(combo);
+    assertThat(combo.getSensitivities()).containsExactly(CS1, CS3.withSensitivity(35d));
+  }
+
+  @Test
+  public void test_cloned() {
+    ColumnarPointSensitivities base = new ColumnarPointSensitivities().add(CS3).add(CS1);
+    ColumnarPointSensitivities test = base.cloned();
+    base.add(CS2).multipliedBy(2d);
+    assertThat(test.build().getSensitivities()).containsExactly(CS3, CS1);
+    test.add(CS3B);
+    assertThat(base.build().getSensitivities())
+        .containsExactly(CS3.withSensitivity(64d), CS1.withSensitivity(24d), CS2.withSensitivity(44d));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    ColumnarPointSensitivities test = new ColumnarPointSensitivities().add(CS3).add(CS1);
+    assertThat(test)
+        .isEqualTo(test)
+        .isEqualTo(new ColumnarPointSensitivities().add(CS3).add(CS1))
+        .isNotEqualTo(new ColumnarPointSensitivities().add(CS1).add(CS3))
+        .isNotEqualTo(new ColumnarPointSensitivities().add(CS3).add(CS1).add(CS1))
+        .isNotEqualTo("")
+        .isNotEqualTo(null)
+        .hasSameHashCodeAs(new ColumnarPointSensitivities().add(CS3).add(CS1));
+    assertThat(test.toString()).startsWith("ColumnarPointSensitivities{sensitivities=");
+  }
+
+  // a type with no sensitivities
+  private abstract static class NoPointSensitivityType implements PointSensitivity {
+  }
+
+}
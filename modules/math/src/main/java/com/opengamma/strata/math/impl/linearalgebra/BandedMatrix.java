@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import java.util.Arrays;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.array.Matrix;
+
+/**
+ * A square banded matrix.
+ * <p>
+ * All the non-zero elements of the matrix lie within a band around the diagonal.
+ * The lower bandwidth is the number of sub-diagonals in the band, and the upper bandwidth
+ * is the number of super-diagonals in the band. Thus element (i, j) is zero if {@code i - j > lowerBandwidth}
+ * or {@code j - i > upperBandwidth}. A lower-triangular matrix has an upper bandwidth of zero.
+ * <p>
+ * Only the elements within the band are stored. This allows the matrix to be decomposed and solved
+ * in order {@code n * lowerBandwidth * upperBandwidth} operations, see {@link LUDecompositionBanded},
+ * as opposed to order n^3 for a general matrix.
+ * <p>
+ * This class is immutable.
+ */
+public final class BandedMatrix implements Matrix {
+
+  /**
+   * The number of rows and columns.
+   */
+  private final int size;
+  /**
+   * The number of sub-diagonals in the band.
+   */
+  private final int lowerBandwidth;
+  /**
+   * The number of super-diagonals in the band.
+   */
+  private final int upperBandwidth;
+  /**
+   * The elements within the band, element (i, j) is stored at {@code [i][j - i + lowerBandwidth]}.
+   */
+  private final double[][] band;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from a square matrix, using the narrowest band containing all the non-zero elements.
+   *
+   * @param matrix  the matrix
+   * @return the banded matrix
+   */
+  public static BandedMatrix of(DoubleMatrix matrix) {
+    ArgChecker.notNull(matrix, "matrix");
+    ArgChecker.isTrue(matrix.isSquare(), "Matrix must be square");
+    int n = matrix.rowCount();
+    int lower = 0;
+    int upper = 0;
+    for (int i = 0; i < n; i++) {
+      double[] row = matrix.rowArray(i);
+      for (int j = 0; j < i - lower; j++) {
+        if (row[j] != 0d) {
+          lower = i - j;
+          break;
+        }
+      }
+      for (int j = n - 1; j > i + upper; j--) {
+        if (row[j] != 0d) {
+          upper = j - i;
+          break;
+        }
+      }
+    }
+    return of(matrix, lower, upper);
+  }
+
+  /**
+   * Obtains an instance from a square matrix and the bandwidths.
+   * <p>
+   * The elements of the matrix outside the band must be zero.
+   *
+   * @param matrix  the matrix
+   * @param lowerBandwidth  the number of sub-diagonals in the band
+   * @param upperBandwidth  the number of super-diagonals in the band
+   * @return the banded matrix
+   * @throws IllegalArgumentException if the matrix has a non-zero element outside the band
+   */
+  public static BandedMatrix of(DoubleMatrix matrix, int lowerBandwidth, int upperBandwidth) {
+    ArgChecker.notNull(matrix, "matrix");
+    ArgChecker.isTrue(matrix.isSquare(), "Matrix must be square");
+    int n = matrix.rowCount();
+    ArgChecker.notNegative(lowerBandwidth, "lowerBandwidth");
+    ArgChecker.notNegative(upperBandwidth, "upperBandwidth");
+    double[][] band = new double[n][lowerBandwidth + upperBandwidth + 1];
+    for (int i = 0; i < n; i++) {
+      double[] row = matrix.rowArray(i);
+      for (int j = 0; j < n; j++) {
+        if (j - i < -lowerBandwidth || j - i > upperBandwidth) {
+          ArgChecker.isTrue(row[j] == 0d, "Element ({}, {}) is outside the band but is not zero", i, j);
+        } else {
+          band[i][j - i + lowerBandwidth] = row[j];
+        }
+      }
+    }
+    return new BandedMatrix(n, lowerBandwidth, upperBandwidth, band);
+  }
+
+  // restricted constructor, the band is not copied
+  BandedMatrix(int size, int lowerBandwidth, int upperBandwidth, double[][] band) {
+    this.size = size;
+    this.lowerBandwidth = lowerBandwidth;
+    this.upperBandwidth = upperBandwidth;
+    this.band = band;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int dimensions() {
+    return 2;
+  }
+
+  /**
+   * Gets the total number of elements in the matrix, including those outside the band.
+   *
+   * @return the size of the matrix
+   */
+  @Override
+  public int size() {
+    return size * size;
+  }
+
+  /**
+   * Gets the number of rows, which is also the number of columns.
+   *
+   * @return the number of rows
+   */
+  public int rowCount() {
+    return size;
+  }
+
+  /**
+   * Gets the number of sub-diagonals in the band.
+   *
+   * @return the lower bandwidth
+   */
+  public int getLowerBandwidth() {
+    return lowerBandwidth;
+  }
+
+  /**
+   * Gets the number of super-diagonals in the band.
+   *
+   * @return the upper bandwidth
+   */
+  public int getUpperBandwidth() {
+    return upperBandwidth;
+  }
+
+  /**
+   * Checks if the matrix is lower-triangular, with all the elements above the diagonal zero.
+   *
+   * @return true if the matrix is lower-triangular
+   */
+  public boolean isLowerTriangular() {
+    return upperBandwidth == 0;
+  }
+
+  /**
+   * Gets the element at the specified row and column.
+   *
+   * @param row  the zero-based row index
+   * @param column  the zero-based column index
+   * @return the element, zero if outside the band
+   * @throws IndexOutOfBoundsException if the row or column is invalid
+   */
+  public double get(int row, int column) {
+    if (row < 0 || row >= size || column < 0 || column >= size) {
+      throw new IndexOutOfBoundsException("Element (" + row + ", " + column + ") is outside the matrix of size " + size);
+    }
+    int offset = column - row;
+    if (offset < -lowerBandwidth || offset > upperBandwidth) {
+      return 0d;
+    }
+    return band[row][offset + lowerBandwidth];
+  }
+
+  /**
+   * Returns the matrix as a {@link DoubleMatrix}.
+   *
+   * @return the dense matrix
+   */
+  public DoubleMatrix toDoubleMatrix() {
+    return DoubleMatrix.of(size, size, this::get);
+  }
+
+  // the band, not copied
+  double[][] bandData() {
+    return band;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof BandedMatrix) {
+      BandedMatrix other = (BandedMatrix) obj;
+      return size == other.size &&
+          lowerBandwidth == other.lowerBandwidth &&
+          upperBandwidth == other.upperBandwidth &&
+          Arrays.deepEquals(band, other.band);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 31 * size + lowerBandwidth;
+    result = 31 * result + upperBandwidth;
+    return 31 * result + Arrays.deepHashCode(band);
+  }
+
+  @Override
+  public String toString() {
+    return "BandedMatrix[size=" + size + ", lowerBandwidth=" + lowerBandwidth + ", upperBandwidth=" + upperBandwidth + "]";
+  }
+
+}
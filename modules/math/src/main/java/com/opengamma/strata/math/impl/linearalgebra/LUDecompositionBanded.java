@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.MathException;
+import com.opengamma.strata.math.linearalgebra.Decomposition;
+
+/**
+ * LU decomposition of a banded matrix, without pivoting.
+ * <p>
+ * Without pivoting, the lower-triangular factor has the lower bandwidth of the matrix and the
+ * upper-triangular factor has the upper bandwidth of the matrix, thus the decomposition is stored in
+ * the band of the matrix. The decomposition takes order {@code n * lowerBandwidth * upperBandwidth} operations,
+ * and each solve takes order {@code n * (lowerBandwidth + upperBandwidth)} operations.
+ * Elements within the band that are zero are skipped, thus a matrix that is sparse within its band
+ * is decomposed more quickly.
+ * <p>
+ * As rows are not exchanged, the decomposition is only stable if each pivot is not small relative
+ * to the other elements of its column. This is typically the case for matrices that are diagonally dominant,
+ * such as the sensitivities of instruments to the curve nodes at their maturities.
+ * If a pivot is smaller than the threshold, relative to the largest element of its column,
+ * a {@link MathException} is thrown and a decomposition with pivoting should be used instead.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class LUDecompositionBanded implements Decomposition<LUDecompositionBandedResult> {
+
+  /**
+   * The default pivot threshold.
+   * A pivot smaller than the largest element of its column multiplied by the threshold is rejected.
+   */
+  public static final double DEFAULT_PIVOT_THRESHOLD = 1.0E-3;
+
+  /**
+   * The pivot threshold.
+   */
+  private final double pivotThreshold;
+
+  /**
+   * Creates an instance using the default pivot threshold.
+   */
+  public LUDecompositionBanded() {
+    this(DEFAULT_PIVOT_THRESHOLD);
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param pivotThreshold  the pivot threshold, relative to the largest element of the column, between 0 and 1
+   */
+  public LUDecompositionBanded(double pivotThreshold) {
+    this.pivotThreshold = ArgChecker.inRangeInclusive(pivotThreshold, 0d, 1d, "pivotThreshold");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The bandwidths are the narrowest containing all the non-zero elements of the matrix.
+   *
+   * @throws MathException if a pivot is smaller than the threshold
+   */
+  @Override
+  public LUDecompositionBandedResult apply(DoubleMatrix x) {
+    return apply(BandedMatrix.of(x));
+  }
+
+  /**
+   * Decomposes a banded matrix.
+   *
+   * @param matrix  the matrix to decompose
+   * @return the decomposition
+   * @throws MathException if a pivot is smaller than the threshold
+   */
+  public LUDecompositionBandedResult apply(BandedMatrix matrix) {
+    ArgChecker.notNull(matrix, "matrix");
+    int n = matrix.rowCount();
+    int lower = matrix.getLowerBandwidth();
+    int upper = matrix.getUpperBandwidth();
+    double[][] lu = new double[n][];
+    for (int i = 0; i < n; i++) {
+      lu[i] = matrix.bandData()[i].clone();
+    }
+    // element (i, j) is at lu[i][j - i + lower]
+    for (int k = 0; k < n; k++) {
+      int rowEnd = Math.min(n - 1, k + lower);
+      int colEnd = Math.min(n - 1, k + upper);
+      double pivot = lu[k][lower];
+      double columnMax = Math.abs(pivot);
+      for (int i = k + 1; i <= rowEnd; i++) {
+        columnMax = Math.max(columnMax, Math.abs(lu[i][k - i + lower]));
+      }
+      if (pivot == 0d || Math.abs(pivot) < pivotThreshold * columnMax) {
+        throw new MathException("Matrix cannot be decomposed without pivoting, pivot too small in column " + k);
+      }
+      for (int i = k + 1; i <= rowEnd; i++) {
+        double[] row = lu[i];
+        int offset = lower - i;
+        double multiplier = row[k + offset] / pivot;
+        row[k + offset] = multiplier;
+        if (multiplier != 0d) {
+          double[] pivotRow = lu[k];
+          int pivotOffset = lower - k;
+          for (int j = k + 1; j <= colEnd; j++) {
+            row[j + offset] -= multiplier * pivotRow[j + pivotOffset];
+          }
+        }
+      }
+    }
+    return new LUDecompositionBandedResult(new BandedMatrix(n, lower, upper, lu));
+  }
+
+}
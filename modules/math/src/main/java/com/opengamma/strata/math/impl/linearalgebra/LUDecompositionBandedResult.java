@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import java.util.Arrays;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Result of the LU decomposition of a banded matrix ({@link LUDecompositionBanded}).
+ * <p>
+ * The rows are not exchanged, thus the permutation matrix is the identity.
+ * The unit lower-triangular factor and the upper-triangular factor are stored together
+ * in the band of the decomposed matrix, with the unit diagonal of the lower factor implied.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class LUDecompositionBandedResult implements LUDecompositionResult {
+
+  /**
+   * The factors, stored in the band.
+   */
+  private final BandedMatrix lu;
+  /**
+   * The number of rows.
+   */
+  private final int size;
+  /**
+   * The lower bandwidth.
+   */
+  private final int lower;
+  /**
+   * The upper bandwidth.
+   */
+  private final int upper;
+
+  /**
+   * Creates an instance.
+   *
+   * @param lu  the factors, with the strictly lower part containing the multipliers of the lower factor
+   *   and the upper part containing the upper factor
+   */
+  public LUDecompositionBandedResult(BandedMatrix lu) {
+    this.lu = ArgChecker.notNull(lu, "lu");
+    this.size = lu.rowCount();
+    this.lower = lu.getLowerBandwidth();
+    this.upper = lu.getUpperBandwidth();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getL() {
+    return DoubleMatrix.of(size, size, (i, j) -> i == j ? 1d : (j < i ? lu.get(i, j) : 0d));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getU() {
+    return DoubleMatrix.of(size, size, (i, j) -> j >= i ? lu.get(i, j) : 0d);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix getP() {
+    return DoubleMatrix.identity(size);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int[] getPivot() {
+    int[] pivot = new int[size];
+    for (int i = 0; i < size; i++) {
+      pivot[i] = i;
+    }
+    return pivot;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double getDeterminant() {
+    double[][] band = lu.bandData();
+    double determinant = 1d;
+    for (int i = 0; i < size; i++) {
+      determinant *= band[i][lower];
+    }
+    return determinant;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double[] solve(double[] input) {
+    ArgChecker.notNull(input, "input");
+    ArgChecker.isTrue(input.length == size, "Input must have length {}, but was {}", size, input.length);
+    double[] x = input.clone();
+    solveInPlace(x, 0);
+    return x;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public DoubleMatrix solve(DoubleMatrix input) {
+    ArgChecker.notNull(input, "input");
+    ArgChecker.isTrue(input.rowCount() == size, "Input must have {} rows, but was {}", size, input.rowCount());
+    int columnCount = input.columnCount();
+    double[][] result = new double[size][columnCount];
+    double[] x = new double[size];
+    for (int c = 0; c < columnCount; c++) {
+      int first = size;
+      for (int i = 0; i < size; i++) {
+        x[i] = input.get(i, c);
+        if (x[i] != 0d && first == size) {
+          first = i;
+        }
+      }
+      solveInPlace(x, first);
+      for (int i = 0; i < size; i++) {
+        result[i][c] = x[i];
+      }
+    }
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+  /**
+   * Calculates the inverse of the decomposed matrix.
+   * <p>
+   * Each column of the identity matrix is zero above the diagonal, thus the forward substitution
+   * for column k starts at row k. When the matrix is lower-triangular, so is the inverse.
+   *
+   * @return the inverse
+   */
+  public DoubleMatrix inverse() {
+    double[][] result = new double[size][size];
+    double[] x = new double[size];
+    for (int c = 0; c < size; c++) {
+      Arrays.fill(x, 0d);
+      x[c] = 1d;
+      solveInPlace(x, c);
+      for (int i = 0; i < size; i++) {
+        result[i][c] = x[i];
+      }
+    }
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+  // solves in place, where the elements of the input before 'first' are zero
+  private void solveInPlace(double[] x, int first) {
+    double[][] band = lu.bandData();
+    // forward substitution with the unit lower-triangular factor
+    for (int i = first + 1; i < size; i++) {
+      double[] row = band[i];
+      int offset = lower - i;
+      double sum = x[i];
+      for (int j = Math.max(first, i - lower); j < i; j++) {
+        sum -= row[j + offset] * x[j];
+      }
+      x[i] = sum;
+    }
+    // back substitution with the upper-triangular factor
+    for (int i = size - 1; i >= 0; i--) {
+      double[] row = band[i];
+      int offset = lower - i;
+      int end = Math.min(size - 1, i + upper);
+      double sum = x[i];
+      for (int j = i + 1; j <= end; j++) {
+        sum -= row[j + offset] * x[j];
+      }
+      x[i] = sum / row[lower];
+    }
+  }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Generator of the points of a Sobol low-discrepancy sequence.
+ * <p>
+ * Each vector is the next point of the sequence in the unit hypercube, with one coordinate for each dimension.
+ * The points are generated in Gray code order, as described by Antonov and Saleev, thus each point is
+ * obtained from the previous one by a single exclusive-or in each dimension.
+ * The first point, of index zero, is the origin.
+ * <p>
+ * The sequence can be started at any index using {@link #skipTo(long)}. This allows separate blocks of
+ * the sequence to be generated independently, for example on different threads.
+ * <p>
+ * The direction numbers are those of Joe and Kuo, "Constructing Sobol sequences with better
+ * two-dimensional projections", SIAM J. Sci. Comput. 30, 2635-2654 (2008), for the first
+ * {@value #MAX_DIMENSION} dimensions.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class SobolSequenceGenerator
+    implements RandomNumberGenerator {
+
+  /**
+   * The maximal dimension.
+   */
+  public static final int MAX_DIMENSION = 37;
+  /**
+   * The number of bits of the coordinates.
+   */
+  private static final int BITS = 52;
+  /**
+   * The scale from the bits to the unit interval.
+   */
+  private static final double SCALE = Math.pow(2d, -BITS);
+  /**
+   * The degree, the coefficients of the primitive polynomial and the initial direction numbers,
+   * for each dimension from the second.
+   */
+  private static final int[][] DIRECTION_DATA = {
+      {1, 0, 1},
+      {2, 1, 1, 3},
+      {3, 1, 1, 3, 1},
+      {3, 2, 1, 1, 1},
+      {4, 1, 1, 1, 3, 3},
+      {4, 4, 1, 3, 5, 13},
+      {5, 2, 1, 1, 5, 5, 17},
+      {5, 4, 1, 1, 5, 5, 5},
+      {5, 7, 1, 1, 7, 11, 19},
+      {5, 11, 1, 1, 5, 1, 1},
+      {5, 13, 1, 1, 1, 3, 11},
+      {5, 14, 1, 3, 5, 5, 31},
+      {6, 1, 1, 3, 3, 9, 7, 49},
+      {6, 13, 1, 1, 1, 15, 21, 21},
+      {6, 16, 1, 3, 1, 13, 27, 49},
+      {6, 19, 1, 1, 1, 15, 7, 5},
+      {6, 22, 1, 3, 1, 15, 13, 25},
+      {6, 25, 1, 1, 5, 5, 19, 61},
+      {7, 1, 1, 3, 7, 11, 23, 15, 103},
+      {7, 4, 1, 3, 7, 13, 13, 15, 69},
+      {7, 7, 1, 1, 3, 13, 7, 35, 63},
+      {7, 8, 1, 3, 5, 9, 1, 25, 53},
+      {7, 14, 1, 3, 1, 13, 9, 35, 107},
+      {7, 19, 1, 3, 1, 5, 27, 61, 31},
+      {7, 21, 1, 1, 5, 11, 19, 41, 61},
+      {7, 28, 1, 3, 5, 3, 3, 13, 69},
+      {7, 31, 1, 1, 7, 13, 1, 19, 1},
+      {7, 32, 1, 3, 7, 5, 13, 19, 59},
+      {7, 37, 1, 1, 3, 9, 25, 29, 41},
+      {7, 41, 1, 3, 5, 13, 23, 1, 55},
+      {7, 42, 1, 3, 7, 3, 13, 59, 17},
+      {7, 50, 1, 3, 1, 3, 5, 53, 69},
+      {7, 55, 1, 1, 5, 5, 23, 33, 13},
+      {7, 56, 1, 1, 7, 7, 1, 61, 123},
+      {7, 59, 1, 1, 7, 9, 13, 61, 49},
+      {7, 62, 1, 3, 3, 5, 3, 55, 33}
+  };
+
+  /**
+   * The direction numbers, for each dimension and bit.
+   */
+  private final long[][] directions;
+  /**
+   * The current point, as bits.
+   */
+  private final long[] current;
+  /**
+   * The index of the next point.
+   */
+  private long index;
+
+  /**
+   * Creates an instance.
+   * 
+   * @param dimension  the dimension, from 1 to {@link #MAX_DIMENSION}
+   */
+  public SobolSequenceGenerator(int dimension) {
+    ArgChecker.inRangeInclusive(dimension, 1, MAX_DIMENSION, "dimension");
+    this.directions = new long[dimension][BITS];
+    this.current = new long[dimension];
+    for (int k = 0; k < BITS; k++) {
+      directions[0][k] = 1L << (BITS - 1 - k);
+    }
+    for (int d = 1; d < dimension; d++) {
+      int[] data = DIRECTION_DATA[d - 1];
+      int degree = data[0];
+      int coefficients = data[1];
+      long[] v = directions[d];
+      for (int k = 0; k < degree; k++) {
+        v[k] = ((long) data[k + 2]) << (BITS - 1 - k);
+      }
+      for (int k = degree; k < BITS; k++) {
+        v[k] = v[k - degree] ^ (v[k - degree] >>> degree);
+        for (int i = 1; i < degree; i++) {
+          if (((coefficients >>> (degree - 1 - i)) & 1) != 0) {
+            v[k] ^= v[k - i];
+          }
+        }
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the dimension.
+   * 
+   * @return the dimension
+   */
+  public int getDimension() {
+    return current.length;
+  }
+
+  /**
+   * Gets the index of the next point.
+   * 
+   * @return the index of the next point
+   */
+  public long getNextIndex() {
+    return index;
+  }
+
+  /**
+   * Moves the sequence to the specified index.
+   * <p>
+   * The next point generated is the point at the index.
+   * 
+   * @param index  the index of the next point, not negative
+   */
+  public void skipTo(long index) {
+    ArgChecker.isTrue(index >= 0 && index < (1L << BITS), "index must be non-negative and less than 2^52");
+    long gray = index ^ (index >>> 1);
+    for (int d = 0; d < current.length; d++) {
+      long bits = 0;
+      for (int k = 0; k < BITS; k++) {
+        if (((gray >>> k) & 1) != 0) {
+          bits ^= directions[d][k];
+        }
+      }
+      current[d] = bits;
+    }
+    this.index = index;
+  }
+
+  /**
+   * Writes the next point into the array supplied.
+   * <p>
+   * No objects are allocated.
+   * 
+   * @param point  the array to write the point into, of the size of the dimension
+   */
+  public void nextVector(double[] point) {
+    ArgChecker.isTrue(point.length == current.length, "point must have the size of the dimension");
+    for (int d = 0; d < current.length; d++) {
+      point[d] = current[d] * SCALE;
+    }
+    // the Gray code of the next index differs by the lowest zero bit of the index
+    int bit = Long.numberOfTrailingZeros(~index);
+    ArgChecker.isTrue(bit < BITS, "Sobol sequence exhausted");
+    for (int d = 0; d < current.length; d++) {
+      current[d] ^= directions[d][bit];
+    }
+    index++;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the next point of the sequence.
+   * 
+   * @param size  the size of the resulting array, which must be the dimension
+   * @return the next point
+   */
+  @Override
+  public double[] getVector(int size) {
+    ArgChecker.isTrue(size == current.length, "size must be the dimension {}, but was {}", current.length, size);
+    double[] result = new double[size];
+    nextVector(result);
+    return result;
+  }
+
+  /**
+   * Gets the next points of the sequence.
+   * 
+   * @param arraySize  the size of each resulting array, which must be the dimension
+   * @param listSize  the number of points
+   * @return the next points
+   */
+  @Override
+  public List<double[]> getVectors(int arraySize, int listSize) {
+    ArgChecker.notNegative(listSize, "listSize");
+    List<double[]> result = new ArrayList<>(listSize);
+    for (int i = 0; i < listSize; i++) {
+      result.add(getVector(arraySize));
+    }
+    return result;
+  }
+
+}
@@ -78,12 +78,36 @@ public class BaseNewtonVectorRootFinder
       Function<DoubleArray, DoubleMatrix> jacobianFunction,
       DoubleArray startPosition) {
 
+    return findRoot(function, jacobianFunction, startPosition, jacobianFunction);
+  }
+
+  @Override
+  public DoubleArray findRoot(
+      Function<DoubleArray, DoubleArray> function,
+      Function<DoubleArray, DoubleMatrix> jacobianFunction,
+      DoubleArray startPosition,
+      DoubleMatrix initialJacobian) {
+
+    ArgChecker.notNull(initialJacobian, "initialJacobian");
+    ArgChecker.isTrue(
+        initialJacobian.rowCount() == startPosition.size() && initialJacobian.columnCount() == startPosition.size(),
+        "Initial Jacobian must be a square matrix matching the start position");
+    return findRoot(function, jacobianFunction, startPosition, x -> initialJacobian);
+  }
+
+  // the initial Jacobian function is only used to initialize the estimate at the start position
+  private DoubleArray findRoot(
+      Function<DoubleArray, DoubleArray> function,
+      Function<DoubleArray, DoubleMatrix> jacobianFunction,
+      DoubleArray startPosition,
+      Function<DoubleArray, DoubleMatrix> initialJacobianFunction) {
+
     DataBundle data = new DataBundle();
     DoubleArray y = checkInputsAndApplyFunction(function, startPosition);
     data.setX(startPosition);
     data.setY(y);
     data.setG0(_algebra.getInnerProduct(y, y));
-    DoubleMatrix estimate = _initializationFunction.getInitializedMatrix(jacobianFunction, startPosition);
+    DoubleMatrix estimate = _initializationFunction.getInitializedMatrix(initialJacobianFunction, startPosition);
 
     if (!getNextPosition(function, estimate, data)) {
       if (isConverged(data)) {
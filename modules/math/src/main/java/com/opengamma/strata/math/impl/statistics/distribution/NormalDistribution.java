@@ -26,6 +26,7 @@ import com.opengamma.strata.math.impl.cern.RandomEngine;
 public class NormalDistribution implements ProbabilityDistribution<Double> {
 
   private static final double ROOT2 = Math.sqrt(2);
+  private static final double INV_ROOT_2PI = 1d / Math.sqrt(2d * Math.PI);
 
   // TODO need a better seed
   private final double _mean;
@@ -53,6 +54,48 @@ public class NormalDistribution implements ProbabilityDistribution<Double> {
     _normal = new Normal(mean, standardDeviation, randomEngine);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the cumulative distribution function of the standard normal distribution.
+   * <p>
+   * This returns the same value as {@link #getCDF(Double)} on the standard normal distribution,
+   * without boxing the argument.
+   * 
+   * @param x  the value at which to compute the function
+   * @return the cumulative distribution function
+   */
+  public static double standardCdf(double x) {
+    return DERFC.getErfc(-x / ROOT2) / 2;
+  }
+
+  /**
+   * Computes the probability density function of the standard normal distribution.
+   * <p>
+   * This returns the same value as {@link #getPDF(Double)} on the standard normal distribution,
+   * without boxing the argument.
+   * 
+   * @param x  the value at which to compute the function
+   * @return the probability density function
+   */
+  public static double standardPdf(double x) {
+    return INV_ROOT_2PI * Math.exp(-(x * x) / 2d);
+  }
+
+  /**
+   * Computes the inverse cumulative distribution function of the standard normal distribution.
+   * <p>
+   * This returns the same value as {@link #getInverseCDF(Double)} on the standard normal distribution,
+   * without boxing the argument.
+   * 
+   * @param p  the probability, from 0 to 1
+   * @return the inverse cumulative distribution function
+   */
+  public static double standardInverseCdf(double p) {
+    ArgChecker.isTrue(p >= 0 && p <= 1, "Probability must be >= 0 and <= 1");
+    return Probability.normalInverse(p);
+  }
+
+  //-------------------------------------------------------------------------
   /**
    * {@inheritDoc}
    */
@@ -95,4 +95,33 @@ public interface NewtonVectorRootFinder {
       Function<DoubleArray, DoubleMatrix> jacobianFunction,
       DoubleArray startPosition);
 
+  /**
+   * Finds the root from the specified start position, specifying an estimate of the Jacobian at that position.
+   * <p>
+   * This applies the specified function and Jacobian function to find the root.
+   * The initial Jacobian is used in place of calculating the Jacobian at the start position.
+   * This allows a root finder to be warm-started from the result of an earlier, similar, problem.
+   * Quasi-Newton root finders, such as Broyden, update the estimate on each step rather than
+   * recalculating it, thus a good initial estimate can avoid the Jacobian function being called at all.
+   * The Jacobian function is still used if the root finder needs to recalculate the Jacobian,
+   * for example if the estimate is not good enough to make progress.
+   * <p>
+   * The default implementation ignores the initial Jacobian.
+   * 
+   * @param function   the vector function
+   * @param jacobianFunction  the function to calculate the Jacobian
+   * @param startPosition  the start position of the root finder for
+   * @param initialJacobian  the estimate of the Jacobian at the start position
+   * @return the vector root of the collection of functions
+   * @throws MathException if unable to find the root, such as if unable to converge
+   */
+  public default DoubleArray findRoot(
+      Function<DoubleArray, DoubleArray> function,
+      Function<DoubleArray, DoubleMatrix> jacobianFunction,
+      DoubleArray startPosition,
+      DoubleMatrix initialJacobian) {
+
+    return findRoot(function, jacobianFunction, startPosition);
+  }
+
 }
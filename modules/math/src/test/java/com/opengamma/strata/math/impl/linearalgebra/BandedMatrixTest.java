@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Test {@link BandedMatrix}.
+ */
+public class BandedMatrixTest {
+
+  private static final DoubleMatrix MATRIX = DoubleMatrix.copyOf(new double[][] {
+      {1, 2, 0, 0},
+      {3, 4, 5, 0},
+      {6, 7, 8, 9},
+      {0, 0, 1, 2}});
+
+  @Test
+  public void test_of() {
+    BandedMatrix test = BandedMatrix.of(MATRIX);
+    assertThat(test.getLowerBandwidth()).isEqualTo(2);
+    assertThat(test.getUpperBandwidth()).isEqualTo(1);
+    assertThat(test.isLowerTriangular()).isFalse();
+    assertThat(test.rowCount()).isEqualTo(4);
+    assertThat(test.size()).isEqualTo(16);
+    assertThat(test.dimensions()).isEqualTo(2);
+    assertThat(test.toDoubleMatrix()).isEqualTo(MATRIX);
+    assertThat(test.get(2, 0)).isEqualTo(6d);
+    assertThat(test.get(0, 3)).isEqualTo(0d);
+    assertThat(test.get(3, 0)).isEqualTo(0d);
+    assertThat(test.toString()).isEqualTo("BandedMatrix[size=4, lowerBandwidth=2, upperBandwidth=1]");
+  }
+
+  @Test
+  public void test_of_lowerTriangular() {
+    DoubleMatrix matrix = DoubleMatrix.copyOf(new double[][] {{1, 0, 0}, {2, 3, 0}, {0, 4, 5}});
+    BandedMatrix test = BandedMatrix.of(matrix);
+    assertThat(test.getLowerBandwidth()).isEqualTo(1);
+    assertThat(test.getUpperBandwidth()).isEqualTo(0);
+    assertThat(test.isLowerTriangular()).isTrue();
+    assertThat(test.toDoubleMatrix()).isEqualTo(matrix);
+  }
+
+  @Test
+  public void test_of_bandwidths() {
+    BandedMatrix test = BandedMatrix.of(MATRIX, 3, 2);
+    assertThat(test.getLowerBandwidth()).isEqualTo(3);
+    assertThat(test.getUpperBandwidth()).isEqualTo(2);
+    assertThat(test.toDoubleMatrix()).isEqualTo(MATRIX);
+    assertThat(test).isNotEqualTo(BandedMatrix.of(MATRIX));
+  }
+
+  @Test
+  public void test_of_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BandedMatrix.of(MATRIX, 1, 1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BandedMatrix.of(MATRIX, -1, 1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BandedMatrix.of(DoubleMatrix.of(2, 3, (i, j) -> 1d)));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> BandedMatrix.of(MATRIX).get(4, 0));
+  }
+
+  @Test
+  public void test_equalsHashCode() {
+    BandedMatrix test = BandedMatrix.of(MATRIX);
+    BandedMatrix test2 = BandedMatrix.of(DoubleMatrix.identity(4));
+    assertThat(test)
+        .isEqualTo(test)
+        .isEqualTo(BandedMatrix.of(MATRIX))
+        .isNotEqualTo(test2)
+        .isNotEqualTo("")
+        .isNotEqualTo(null)
+        .hasSameHashCodeAs(BandedMatrix.of(MATRIX));
+  }
+
+}
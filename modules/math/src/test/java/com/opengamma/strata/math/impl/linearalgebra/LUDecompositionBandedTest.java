@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.MathException;
+import com.opengamma.strata.math.impl.cern.MersenneTwister;
+import com.opengamma.strata.math.impl.matrix.CommonsMatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
+
+/**
+ * Test {@link LUDecompositionBanded}.
+ */
+public class LUDecompositionBandedTest {
+
+  private static final MatrixAlgebra ALGEBRA = new CommonsMatrixAlgebra();
+  private static final MatrixAlgebra OG_ALGEBRA = new OGMatrixAlgebra();
+  private static final LUDecompositionBanded LU = new LUDecompositionBanded();
+  private static final double EPS = 1e-10;
+
+  // a diagonally dominant matrix, lower-triangular apart from the first super-diagonal
+  private static DoubleMatrix calibrationLike(int n, int seed) {
+    MersenneTwister random = new MersenneTwister(seed);
+    double[][] data = new double[n][n];
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < i; j++) {
+        data[i][j] = random.nextDouble() * 0.1;
+      }
+      data[i][i] = 1d + i;
+      if (i < n - 1) {
+        data[i][i + 1] = random.nextDouble() * 0.1;
+      }
+    }
+    return DoubleMatrix.ofUnsafe(data);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_recoverOriginal() {
+    DoubleMatrix matrix = calibrationLike(20, 1);
+    LUDecompositionBandedResult test = LU.apply(matrix);
+    checkEquals((DoubleMatrix) ALGEBRA.multiply(test.getL(), test.getU()), matrix);
+    assertThat(test.getP()).isEqualTo(DoubleMatrix.identity(20));
+    assertThat(test.getPivot()).containsExactly(IntStream.range(0, 20).toArray());
+    assertThat(test.getDeterminant()).isCloseTo(ALGEBRA.getDeterminant(matrix), offset(1e-6 * ALGEBRA.getDeterminant(matrix)));
+  }
+
+  @Test
+  public void test_solve() {
+    DoubleMatrix matrix = calibrationLike(25, 2);
+    LUDecompositionBandedResult test = LU.apply(matrix);
+    DoubleArray x = DoubleArray.of(25, i -> i - 12.5);
+    DoubleArray b = (DoubleArray) OG_ALGEBRA.multiply(matrix, x);
+    DoubleArray solved = test.solve(b);
+    for (int i = 0; i < x.size(); i++) {
+      assertThat(solved.get(i)).isCloseTo(x.get(i), offset(EPS));
+    }
+    DoubleMatrix xMatrix = DoubleMatrix.of(25, 3, (i, j) -> i < 5 * j ? 0d : i * j + 1d);
+    DoubleMatrix bMatrix = (DoubleMatrix) ALGEBRA.multiply(matrix, xMatrix);
+    checkEquals(test.solve(bMatrix), xMatrix);
+  }
+
+  @Test
+  public void test_inverse() {
+    DoubleMatrix matrix = calibrationLike(30, 3);
+    checkEquals(LU.apply(matrix).inverse(), ALGEBRA.getInverse(matrix));
+  }
+
+  @Test
+  public void test_inverse_lowerTriangular() {
+    DoubleMatrix matrix = DoubleMatrix.of(10, 10, (i, j) -> j > i ? 0d : (i == j ? 2d : 0.5d / (1 + i - j)));
+    BandedMatrix banded = BandedMatrix.of(matrix);
+    assertThat(banded.isLowerTriangular()).isTrue();
+    DoubleMatrix inverse = LU.apply(banded).inverse();
+    checkEquals(inverse, ALGEBRA.getInverse(matrix));
+    for (int i = 0; i < 10; i++) {
+      for (int j = i + 1; j < 10; j++) {
+        assertThat(inverse.get(i, j)).isEqualTo(0d);
+      }
+    }
+  }
+
+  @Test
+  public void test_tridiagonal() {
+    double[] a = {2, 3, 4, 5, 6};
+    double[] b = {1, 1, 1, 1};
+    double[] c = {0.5, 0.5, 0.5, 0.5};
+    TridiagonalMatrix tridiagonal = new TridiagonalMatrix(a, b, c);
+    BandedMatrix banded = BandedMatrix.of(tridiagonal.toDoubleMatrix());
+    assertThat(banded.getLowerBandwidth()).isEqualTo(1);
+    assertThat(banded.getUpperBandwidth()).isEqualTo(1);
+    double[] y = {1, 2, 3, 4, 5};
+    double[] expected = TridiagonalSolver.solvTriDag(tridiagonal, y);
+    double[] test = LU.apply(banded).solve(y);
+    for (int i = 0; i < y.length; i++) {
+      assertThat(test[i]).isCloseTo(expected[i], offset(EPS));
+    }
+  }
+
+  @Test
+  public void test_smallPivot() {
+    DoubleMatrix matrix = DoubleMatrix.copyOf(new double[][] {{1e-6, 1}, {1, 1}});
+    assertThatExceptionOfType(MathException.class)
+        .isThrownBy(() -> LU.apply(matrix));
+    LUDecompositionBandedResult test = new LUDecompositionBanded(0d).apply(matrix);
+    checkEquals((DoubleMatrix) ALGEBRA.multiply(test.getL(), test.getU()), matrix);
+    assertThatExceptionOfType(MathException.class)
+        .isThrownBy(() -> LU.apply(DoubleMatrix.copyOf(new double[][] {{0, 1}, {1, 1}})));
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new LUDecompositionBanded(2d));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LU.apply((DoubleMatrix) null));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LU.apply(DoubleMatrix.identity(2)).solve(new double[3]));
+  }
+
+  //-------------------------------------------------------------------------
+  private static void checkEquals(DoubleMatrix x, DoubleMatrix y) {
+    assertThat(x.rowCount()).isEqualTo(y.rowCount());
+    assertThat(x.columnCount()).isEqualTo(y.columnCount());
+    for (int i = 0; i < x.rowCount(); i++) {
+      for (int j = 0; j < x.columnCount(); j++) {
+        assertThat(x.get(i, j)).isCloseTo(y.get(i, j), offset(EPS));
+      }
+    }
+  }
+
+}
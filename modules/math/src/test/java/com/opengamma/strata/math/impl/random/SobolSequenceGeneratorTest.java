@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link SobolSequenceGenerator}.
+ */
+public class SobolSequenceGeneratorTest {
+
+  @Test
+  public void test_firstPoints() {
+    SobolSequenceGenerator test = new SobolSequenceGenerator(3);
+    assertThat(test.getDimension()).isEqualTo(3);
+    assertThat(test.getVector(3)).containsExactly(0d, 0d, 0d);
+    assertThat(test.getVector(3)).containsExactly(0.5, 0.5, 0.5);
+    assertThat(test.getVector(3)).containsExactly(0.75, 0.25, 0.25);
+    assertThat(test.getVector(3)).containsExactly(0.25, 0.75, 0.75);
+    assertThat(test.getVector(3)).containsExactly(0.375, 0.375, 0.625);
+    assertThat(test.getNextIndex()).isEqualTo(5);
+  }
+
+  @Test
+  public void test_stratification() {
+    // each coordinate of the first 2^k points takes each value j / 2^k once
+    int count = 1 << 10;
+    SobolSequenceGenerator test = new SobolSequenceGenerator(SobolSequenceGenerator.MAX_DIMENSION);
+    boolean[][] seen = new boolean[SobolSequenceGenerator.MAX_DIMENSION][count];
+    double[] point = new double[SobolSequenceGenerator.MAX_DIMENSION];
+    for (int i = 0; i < count; i++) {
+      test.nextVector(point);
+      for (int d = 0; d < point.length; d++) {
+        assertThat(point[d] * count).isEqualTo(Math.floor(point[d] * count));
+        seen[d][(int) (point[d] * count)] = true;
+      }
+    }
+    for (boolean[] dimension : seen) {
+      for (boolean value : dimension) {
+        assertThat(value).isTrue();
+      }
+    }
+  }
+
+  @Test
+  public void test_skipTo() {
+    SobolSequenceGenerator base = new SobolSequenceGenerator(SobolSequenceGenerator.MAX_DIMENSION);
+    List<double[]> expected = base.getVectors(SobolSequenceGenerator.MAX_DIMENSION, 1000);
+    SobolSequenceGenerator test = new SobolSequenceGenerator(SobolSequenceGenerator.MAX_DIMENSION);
+    for (int start : new int[] {0, 1, 511, 512, 777}) {
+      test.skipTo(start);
+      assertThat(test.getNextIndex()).isEqualTo(start);
+      for (int i = start; i < 1000; i++) {
+        assertThat(test.getVector(SobolSequenceGenerator.MAX_DIMENSION)).containsExactly(expected.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new SobolSequenceGenerator(0));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new SobolSequenceGenerator(SobolSequenceGenerator.MAX_DIMENSION + 1));
+    SobolSequenceGenerator test = new SobolSequenceGenerator(2);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.getVector(3));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.getVectors(2, -1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.skipTo(-1));
+  }
+
+}
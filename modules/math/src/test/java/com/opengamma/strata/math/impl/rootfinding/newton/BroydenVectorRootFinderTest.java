@@ -51,4 +51,10 @@ public class BroydenVectorRootFinderTest extends VectorRootFinderTest {
     assertFunction3D(SV_JACOBIAN_3D, EPS);
     assertYieldCurveBootstrap(DEFAULT, EPS);
   }
+
+  @Test
+  public void test_warmStart() {
+    assertFunction3DWarmStart(DEFAULT, EPS);
+    assertFunction3DWarmStart(SV, EPS);
+  }
 }
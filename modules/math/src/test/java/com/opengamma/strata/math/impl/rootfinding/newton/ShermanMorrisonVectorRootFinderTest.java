@@ -48,4 +48,10 @@ public class ShermanMorrisonVectorRootFinderTest extends VectorRootFinderTest {
     assertFunction3D(SV_JACOBIAN_3D, EPS);
     assertYieldCurveBootstrap(DEFAULT, EPS);
   }
+
+  @Test
+  public void test_warmStart() {
+    assertFunction3DWarmStart(DEFAULT, EPS);
+    assertFunction3DWarmStart(SV, EPS);
+  }
 }
@@ -10,6 +10,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.offset;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
@@ -203,6 +204,24 @@ public abstract class VectorRootFinderTest {
     assertThat(-1.0).isCloseTo(x1.get(2), offset(eps));
   }
 
+  protected void assertFunction3DWarmStart(final BaseNewtonVectorRootFinder rootFinder, final double eps) {
+    // start near the root, with the Jacobian from the root, as though the problem had been solved before
+    final DoubleArray x0 = DoubleArray.of(1.001, 0.001, -0.999);
+    final DoubleMatrix initialJacobian = JACOBIAN3D.apply(DoubleArray.of(1.0, 0.0, -1.0));
+    final AtomicInteger jacobianCalls = new AtomicInteger();
+    final Function<DoubleArray, DoubleMatrix> countingJacobian = x -> {
+      jacobianCalls.incrementAndGet();
+      return JACOBIAN3D.apply(x);
+    };
+    final DoubleArray x1 = rootFinder.findRoot(FUNCTION3D, countingJacobian, x0, initialJacobian);
+    assertThat(1.0).isCloseTo(x1.get(0), offset(eps));
+    assertThat(0.0).isCloseTo(x1.get(1), offset(eps));
+    assertThat(-1.0).isCloseTo(x1.get(2), offset(eps));
+    assertThat(jacobianCalls.get()).isEqualTo(0);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> rootFinder.findRoot(FUNCTION3D, JACOBIAN3D, x0, DoubleMatrix.identity(2)));
+  }
+
   protected void assertYieldCurveBootstrap(final VectorRootFinder rootFinder, final double eps) {
     final int n = TIME_GRID.length;
     final double[] flatCurve = new double[n];
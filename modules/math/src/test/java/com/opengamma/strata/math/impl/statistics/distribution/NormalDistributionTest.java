@@ -52,6 +52,20 @@ public class NormalDistributionTest extends ProbabilityDistributionTestCase {
     }
   }
 
+  @Test
+  public void testStandard() {
+    for (int i = 0; i < 161; i++) {
+      double x = -40d + 0.5 * i;
+      assertThat(NormalDistribution.standardCdf(x)).isEqualTo(NORMAL.getCDF(x));
+      assertThat(NormalDistribution.standardPdf(x)).isEqualTo(NORMAL.getPDF(x));
+    }
+    for (int i = 1; i < 100; i++) {
+      double p = 0.01 * i;
+      assertThat(NormalDistribution.standardInverseCdf(p)).isEqualTo(NORMAL.getInverseCDF(p));
+    }
+    assertThatIllegalArgumentException().isThrownBy(() -> NormalDistribution.standardInverseCdf(1.5));
+  }
+
   @Test
   public void testObject() {
     NormalDistribution other = new NormalDistribution(0, 1, ENGINE);
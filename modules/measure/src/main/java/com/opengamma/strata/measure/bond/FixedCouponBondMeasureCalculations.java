@@ -7,6 +7,7 @@ package com.opengamma.strata.measure.bond;
 
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
@@ -43,6 +44,10 @@ final class FixedCouponBondMeasureCalculations {
    * Pricer for {@link ResolvedFixedCouponBondTrade}.
    */
   private final DiscountingFixedCouponBondTradePricer tradePricer;
+  /**
+   * The parallelism used to evaluate scenarios.
+   */
+  private final ScenarioParallelism scenarioParallelism;
 
   /**
    * Creates an instance.
@@ -51,7 +56,30 @@ final class FixedCouponBondMeasureCalculations {
    */
   FixedCouponBondMeasureCalculations(
       DiscountingFixedCouponBondTradePricer tradePricer) {
+    this(tradePricer, ScenarioParallelism.NONE);
+  }
+
+  /**
+   * Creates an instance.
+   * 
+   * @param tradePricer  the pricer for {@link ResolvedFixedCouponBondTrade}
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   */
+  FixedCouponBondMeasureCalculations(
+      DiscountingFixedCouponBondTradePricer tradePricer,
+      ScenarioParallelism scenarioParallelism) {
     this.tradePricer = ArgChecker.notNull(tradePricer, "tradePricer");
+    this.scenarioParallelism = ArgChecker.notNull(scenarioParallelism, "scenarioParallelism");
+  }
+
+  /**
+   * Returns a copy of this instance that uses the specified parallelism to evaluate scenarios.
+   * 
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   * @return the calculations
+   */
+  FixedCouponBondMeasureCalculations withScenarioParallelism(ScenarioParallelism scenarioParallelism) {
+    return new FixedCouponBondMeasureCalculations(tradePricer, scenarioParallelism);
   }
 
   //-------------------------------------------------------------------------
@@ -60,7 +88,7 @@ final class FixedCouponBondMeasureCalculations {
       ResolvedFixedCouponBondTrade trade,
       LegalEntityDiscountingScenarioMarketData marketData) {
 
-    return CurrencyScenarioArray.of(
+    return scenarioParallelism.currencyScenarioArray(
         marketData.getScenarioCount(),
         i -> presentValue(trade, marketData.scenario(i).discountingProvider()));
   }
@@ -79,7 +107,7 @@ final class FixedCouponBondMeasureCalculations {
       ResolvedFixedCouponBondTrade trade,
       LegalEntityDiscountingScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> pv01CalibratedSum(trade, marketData.scenario(i).discountingProvider()));
   }
@@ -99,7 +127,7 @@ final class FixedCouponBondMeasureCalculations {
       ResolvedFixedCouponBondTrade trade,
       LegalEntityDiscountingScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(trade, marketData.scenario(i).discountingProvider()));
   }
@@ -119,7 +147,7 @@ final class FixedCouponBondMeasureCalculations {
       ResolvedFixedCouponBondTrade trade,
       LegalEntityDiscountingScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteSum(trade, marketData.scenario(i).discountingProvider()));
   }
@@ -140,7 +168,7 @@ final class FixedCouponBondMeasureCalculations {
       ResolvedFixedCouponBondTrade trade,
       LegalEntityDiscountingScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteBucketed(trade, marketData.scenario(i).discountingProvider()));
   }
@@ -161,7 +189,7 @@ final class FixedCouponBondMeasureCalculations {
       ResolvedFixedCouponBondTrade trade,
       LegalEntityDiscountingScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> currencyExposure(trade, marketData.scenario(i).discountingProvider()));
   }
@@ -180,7 +208,7 @@ final class FixedCouponBondMeasureCalculations {
       ResolvedFixedCouponBondTrade trade,
       LegalEntityDiscountingScenarioMarketData marketData) {
 
-    return CurrencyScenarioArray.of(
+    return scenarioParallelism.currencyScenarioArray(
         marketData.getScenarioCount(),
         i -> currentCash(trade, marketData.scenario(i).discountingProvider()));
   }
@@ -19,6 +19,7 @@ import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
@@ -75,14 +76,14 @@ public class FixedCouponBondTradeCalculationFunction<T extends SecuritizedProduc
    */
   private static final ImmutableMap<Measure, SingleMeasureCalculation> CALCULATORS =
       ImmutableMap.<Measure, SingleMeasureCalculation>builder()
-          .put(Measures.PRESENT_VALUE, FixedCouponBondMeasureCalculations.DEFAULT::presentValue)
-          .put(Measures.PV01_CALIBRATED_SUM, FixedCouponBondMeasureCalculations.DEFAULT::pv01CalibratedSum)
-          .put(Measures.PV01_CALIBRATED_BUCKETED, FixedCouponBondMeasureCalculations.DEFAULT::pv01CalibratedBucketed)
-          .put(Measures.PV01_MARKET_QUOTE_SUM, FixedCouponBondMeasureCalculations.DEFAULT::pv01MarketQuoteSum)
-          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, FixedCouponBondMeasureCalculations.DEFAULT::pv01MarketQuoteBucketed)
-          .put(Measures.CURRENCY_EXPOSURE, FixedCouponBondMeasureCalculations.DEFAULT::currencyExposure)
-          .put(Measures.CURRENT_CASH, FixedCouponBondMeasureCalculations.DEFAULT::currentCash)
-          .put(Measures.RESOLVED_TARGET, (rt, smd) -> rt)
+          .put(Measures.PRESENT_VALUE, FixedCouponBondMeasureCalculations::presentValue)
+          .put(Measures.PV01_CALIBRATED_SUM, FixedCouponBondMeasureCalculations::pv01CalibratedSum)
+          .put(Measures.PV01_CALIBRATED_BUCKETED, FixedCouponBondMeasureCalculations::pv01CalibratedBucketed)
+          .put(Measures.PV01_MARKET_QUOTE_SUM, FixedCouponBondMeasureCalculations::pv01MarketQuoteSum)
+          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, FixedCouponBondMeasureCalculations::pv01MarketQuoteBucketed)
+          .put(Measures.CURRENCY_EXPOSURE, FixedCouponBondMeasureCalculations::currencyExposure)
+          .put(Measures.CURRENT_CASH, FixedCouponBondMeasureCalculations::currentCash)
+          .put(Measures.RESOLVED_TARGET, (c, rt, smd) -> rt)
           .build();
 
   private static final ImmutableSet<Measure> MEASURES = CALCULATORS.keySet();
@@ -154,10 +155,14 @@ public class FixedCouponBondTradeCalculationFunction<T extends SecuritizedProduc
     LegalEntityDiscountingMarketDataLookup bondLookup = parameters.getParameter(LegalEntityDiscountingMarketDataLookup.class);
     LegalEntityDiscountingScenarioMarketData marketData = bondLookup.marketDataView(scenarioMarketData);
 
+    FixedCouponBondMeasureCalculations calculations = parameters.findParameter(ScenarioParallelism.class)
+        .map(FixedCouponBondMeasureCalculations.DEFAULT::withScenarioParallelism)
+        .orElse(FixedCouponBondMeasureCalculations.DEFAULT);
+
     // loop around measures, calculating all scenarios for one measure
     Map<Measure, Result<?>> results = new HashMap<>();
     for (Measure measure : measures) {
-      results.put(measure, calculate(measure, resolved, marketData));
+      results.put(measure, calculate(measure, resolved, calculations, marketData));
     }
     return results;
   }
@@ -166,19 +171,21 @@ public class FixedCouponBondTradeCalculationFunction<T extends SecuritizedProduc
   private Result<?> calculate(
       Measure measure,
       ResolvedFixedCouponBondTrade resolved,
+      FixedCouponBondMeasureCalculations calculations,
       LegalEntityDiscountingScenarioMarketData marketData) {
 
     SingleMeasureCalculation calculator = CALCULATORS.get(measure);
     if (calculator == null) {
       return Result.failure(FailureReason.UNSUPPORTED, "Unsupported measure for FixedCouponBond: {}", measure);
     }
-    return Result.of(() -> calculator.calculate(resolved, marketData));
+    return Result.of(() -> calculator.calculate(calculations, resolved, marketData));
   }
 
   //-------------------------------------------------------------------------
   @FunctionalInterface
   interface SingleMeasureCalculation {
     public abstract Object calculate(
+        FixedCouponBondMeasureCalculations calculations,
         ResolvedFixedCouponBondTrade resolved,
         LegalEntityDiscountingScenarioMarketData marketData);
   }
@@ -16,6 +16,7 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.index.IborIndex;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.data.MarketData;
@@ -69,6 +70,10 @@ final class FraMeasureCalculations {
    * Pricer for {@link ResolvedFraTrade}.
    */
   private final DiscountingFraTradePricer tradePricer;
+  /**
+   * The parallelism used to evaluate scenarios.
+   */
+  private final ScenarioParallelism scenarioParallelism;
 
   /**
    * Creates an instance.
@@ -77,7 +82,30 @@ final class FraMeasureCalculations {
    */
   FraMeasureCalculations(
       DiscountingFraTradePricer tradePricer) {
+    this(tradePricer, ScenarioParallelism.NONE);
+  }
+
+  /**
+   * Creates an instance.
+   * 
+   * @param tradePricer  the pricer for {@link ResolvedFraTrade}
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   */
+  FraMeasureCalculations(
+      DiscountingFraTradePricer tradePricer,
+      ScenarioParallelism scenarioParallelism) {
     this.tradePricer = ArgChecker.notNull(tradePricer, "tradePricer");
+    this.scenarioParallelism = ArgChecker.notNull(scenarioParallelism, "scenarioParallelism");
+  }
+
+  /**
+   * Returns a copy of this instance that uses the specified parallelism to evaluate scenarios.
+   * 
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   * @return the calculations
+   */
+  FraMeasureCalculations withScenarioParallelism(ScenarioParallelism scenarioParallelism) {
+    return new FraMeasureCalculations(tradePricer, scenarioParallelism);
   }
 
   //-------------------------------------------------------------------------
@@ -86,7 +114,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return CurrencyScenarioArray.of(
+    return scenarioParallelism.currencyScenarioArray(
         marketData.getScenarioCount(),
         i -> presentValue(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -105,7 +133,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> explainPresentValue(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -124,7 +152,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> pv01CalibratedSum(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -144,7 +172,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -164,7 +192,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteSum(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -185,7 +213,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -206,7 +234,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01SemiParallelGammaBucketed(trade, marketData.scenario(i)));
   }
@@ -263,7 +291,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01SingleNodeGammaBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -285,7 +313,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return DoubleScenarioArray.of(
+    return scenarioParallelism.doubleScenarioArray(
         marketData.getScenarioCount(),
         i -> parRate(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -304,7 +332,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return DoubleScenarioArray.of(
+    return scenarioParallelism.doubleScenarioArray(
         marketData.getScenarioCount(),
         i -> parSpread(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -323,7 +351,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> cashFlows(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -342,7 +370,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> currencyExposure(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -361,7 +389,7 @@ final class FraMeasureCalculations {
       ResolvedFraTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return CurrencyScenarioArray.of(
+    return scenarioParallelism.currencyScenarioArray(
         marketData.getScenarioCount(),
         i -> currentCash(trade, marketData.scenario(i).ratesProvider()));
   }
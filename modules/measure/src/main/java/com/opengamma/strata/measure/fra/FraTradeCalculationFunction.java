@@ -20,6 +20,7 @@ import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -62,20 +63,20 @@ public class FraTradeCalculationFunction
    */
   private static final ImmutableMap<Measure, SingleMeasureCalculation> CALCULATORS =
       ImmutableMap.<Measure, SingleMeasureCalculation>builder()
-          .put(Measures.PRESENT_VALUE, FraMeasureCalculations.DEFAULT::presentValue)
-          .put(Measures.EXPLAIN_PRESENT_VALUE, FraMeasureCalculations.DEFAULT::explainPresentValue)
-          .put(Measures.PV01_CALIBRATED_SUM, FraMeasureCalculations.DEFAULT::pv01CalibratedSum)
-          .put(Measures.PV01_CALIBRATED_BUCKETED, FraMeasureCalculations.DEFAULT::pv01CalibratedBucketed)
-          .put(Measures.PV01_MARKET_QUOTE_SUM, FraMeasureCalculations.DEFAULT::pv01MarketQuoteSum)
-          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, FraMeasureCalculations.DEFAULT::pv01MarketQuoteBucketed)
-          .put(Measures.PAR_RATE, FraMeasureCalculations.DEFAULT::parRate)
-          .put(Measures.PAR_SPREAD, FraMeasureCalculations.DEFAULT::parSpread)
-          .put(Measures.CASH_FLOWS, FraMeasureCalculations.DEFAULT::cashFlows)
-          .put(Measures.CURRENCY_EXPOSURE, FraMeasureCalculations.DEFAULT::currencyExposure)
-          .put(Measures.CURRENT_CASH, FraMeasureCalculations.DEFAULT::currentCash)
-          .put(Measures.RESOLVED_TARGET, (rt, smd) -> rt)
-          .put(AdvancedMeasures.PV01_SEMI_PARALLEL_GAMMA_BUCKETED, FraMeasureCalculations.DEFAULT::pv01SemiParallelGammaBucketed)
-          .put(AdvancedMeasures.PV01_SINGLE_NODE_GAMMA_BUCKETED, FraMeasureCalculations.DEFAULT::pv01SingleNodeGammaBucketed)
+          .put(Measures.PRESENT_VALUE, FraMeasureCalculations::presentValue)
+          .put(Measures.EXPLAIN_PRESENT_VALUE, FraMeasureCalculations::explainPresentValue)
+          .put(Measures.PV01_CALIBRATED_SUM, FraMeasureCalculations::pv01CalibratedSum)
+          .put(Measures.PV01_CALIBRATED_BUCKETED, FraMeasureCalculations::pv01CalibratedBucketed)
+          .put(Measures.PV01_MARKET_QUOTE_SUM, FraMeasureCalculations::pv01MarketQuoteSum)
+          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, FraMeasureCalculations::pv01MarketQuoteBucketed)
+          .put(Measures.PAR_RATE, FraMeasureCalculations::parRate)
+          .put(Measures.PAR_SPREAD, FraMeasureCalculations::parSpread)
+          .put(Measures.CASH_FLOWS, FraMeasureCalculations::cashFlows)
+          .put(Measures.CURRENCY_EXPOSURE, FraMeasureCalculations::currencyExposure)
+          .put(Measures.CURRENT_CASH, FraMeasureCalculations::currentCash)
+          .put(Measures.RESOLVED_TARGET, (c, rt, smd) -> rt)
+          .put(AdvancedMeasures.PV01_SEMI_PARALLEL_GAMMA_BUCKETED, FraMeasureCalculations::pv01SemiParallelGammaBucketed)
+          .put(AdvancedMeasures.PV01_SINGLE_NODE_GAMMA_BUCKETED, FraMeasureCalculations::pv01SingleNodeGammaBucketed)
           .build();
 
   private static final ImmutableSet<Measure> MEASURES = CALCULATORS.keySet();
@@ -143,10 +144,14 @@ public class FraTradeCalculationFunction
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
     RatesScenarioMarketData marketData = ratesLookup.marketDataView(scenarioMarketData);
 
+    FraMeasureCalculations calculations = parameters.findParameter(ScenarioParallelism.class)
+        .map(FraMeasureCalculations.DEFAULT::withScenarioParallelism)
+        .orElse(FraMeasureCalculations.DEFAULT);
+
     // loop around measures, calculating all scenarios for one measure
     Map<Measure, Result<?>> results = new HashMap<>();
     for (Measure measure : measures) {
-      results.put(measure, calculate(measure, resolved, marketData));
+      results.put(measure, calculate(measure, resolved, calculations, marketData));
     }
     return results;
   }
@@ -155,19 +160,21 @@ public class FraTradeCalculationFunction
   private Result<?> calculate(
       Measure measure,
       ResolvedFraTrade trade,
+      FraMeasureCalculations calculations,
       RatesScenarioMarketData marketData) {
 
     SingleMeasureCalculation calculator = CALCULATORS.get(measure);
     if (calculator == null) {
       return Result.failure(FailureReason.UNSUPPORTED, "Unsupported measure for FraTrade: {}", measure);
     }
-    return Result.of(() -> calculator.calculate(trade, marketData));
+    return Result.of(() -> calculator.calculate(calculations, trade, marketData));
   }
 
   //-------------------------------------------------------------------------
   @FunctionalInterface
   interface SingleMeasureCalculation {
     public abstract Object calculate(
+        FraMeasureCalculations calculations,
         ResolvedFraTrade trade,
         RatesScenarioMarketData marketData);
   }
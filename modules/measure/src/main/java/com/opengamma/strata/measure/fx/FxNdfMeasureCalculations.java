@@ -8,6 +8,7 @@ package com.opengamma.strata.measure.fx;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.FxRate;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
@@ -45,6 +46,10 @@ final class FxNdfMeasureCalculations {
    * Pricer for {@link ResolvedFxNdfTrade}.
    */
   private final DiscountingFxNdfTradePricer tradePricer;
+  /**
+   * The parallelism used to evaluate scenarios.
+   */
+  private final ScenarioParallelism scenarioParallelism;
 
   /**
    * Creates an instance.
@@ -53,7 +58,30 @@ final class FxNdfMeasureCalculations {
    */
   FxNdfMeasureCalculations(
       DiscountingFxNdfTradePricer tradePricer) {
+    this(tradePricer, ScenarioParallelism.NONE);
+  }
+
+  /**
+   * Creates an instance.
+   * 
+   * @param tradePricer  the pricer for {@link ResolvedFxNdfTrade}
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   */
+  FxNdfMeasureCalculations(
+      DiscountingFxNdfTradePricer tradePricer,
+      ScenarioParallelism scenarioParallelism) {
     this.tradePricer = ArgChecker.notNull(tradePricer, "tradePricer");
+    this.scenarioParallelism = ArgChecker.notNull(scenarioParallelism, "scenarioParallelism");
+  }
+
+  /**
+   * Returns a copy of this instance that uses the specified parallelism to evaluate scenarios.
+   * 
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   * @return the calculations
+   */
+  FxNdfMeasureCalculations withScenarioParallelism(ScenarioParallelism scenarioParallelism) {
+    return new FxNdfMeasureCalculations(tradePricer, scenarioParallelism);
   }
 
   //-------------------------------------------------------------------------
@@ -62,7 +90,7 @@ final class FxNdfMeasureCalculations {
       ResolvedFxNdfTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return CurrencyScenarioArray.of(
+    return scenarioParallelism.currencyScenarioArray(
         marketData.getScenarioCount(),
         i -> presentValue(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -81,7 +109,7 @@ final class FxNdfMeasureCalculations {
       ResolvedFxNdfTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> pv01CalibratedSum(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -101,7 +129,7 @@ final class FxNdfMeasureCalculations {
       ResolvedFxNdfTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -121,7 +149,7 @@ final class FxNdfMeasureCalculations {
       ResolvedFxNdfTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteSum(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -142,7 +170,7 @@ final class FxNdfMeasureCalculations {
       ResolvedFxNdfTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -163,7 +191,7 @@ final class FxNdfMeasureCalculations {
       ResolvedFxNdfTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> currencyExposure(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -182,7 +210,7 @@ final class FxNdfMeasureCalculations {
       ResolvedFxNdfTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return CurrencyScenarioArray.of(
+    return scenarioParallelism.currencyScenarioArray(
         marketData.getScenarioCount(),
         i -> currentCash(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -201,7 +229,7 @@ final class FxNdfMeasureCalculations {
       ResolvedFxNdfTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> forwardFxRate(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -18,6 +18,7 @@ import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -56,15 +57,15 @@ public class FxNdfTradeCalculationFunction
    */
   private static final ImmutableMap<Measure, SingleMeasureCalculation> CALCULATORS =
       ImmutableMap.<Measure, SingleMeasureCalculation>builder()
-          .put(Measures.PRESENT_VALUE, FxNdfMeasureCalculations.DEFAULT::presentValue)
-          .put(Measures.PV01_CALIBRATED_SUM, FxNdfMeasureCalculations.DEFAULT::pv01CalibratedSum)
-          .put(Measures.PV01_CALIBRATED_BUCKETED, FxNdfMeasureCalculations.DEFAULT::pv01CalibratedBucketed)
-          .put(Measures.PV01_MARKET_QUOTE_SUM, FxNdfMeasureCalculations.DEFAULT::pv01MarketQuoteSum)
-          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, FxNdfMeasureCalculations.DEFAULT::pv01MarketQuoteBucketed)
-          .put(Measures.CURRENCY_EXPOSURE, FxNdfMeasureCalculations.DEFAULT::currencyExposure)
-          .put(Measures.CURRENT_CASH, FxNdfMeasureCalculations.DEFAULT::currentCash)
-          .put(Measures.FORWARD_FX_RATE, FxNdfMeasureCalculations.DEFAULT::forwardFxRate)
-          .put(Measures.RESOLVED_TARGET, (rt, smd) -> rt)
+          .put(Measures.PRESENT_VALUE, FxNdfMeasureCalculations::presentValue)
+          .put(Measures.PV01_CALIBRATED_SUM, FxNdfMeasureCalculations::pv01CalibratedSum)
+          .put(Measures.PV01_CALIBRATED_BUCKETED, FxNdfMeasureCalculations::pv01CalibratedBucketed)
+          .put(Measures.PV01_MARKET_QUOTE_SUM, FxNdfMeasureCalculations::pv01MarketQuoteSum)
+          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, FxNdfMeasureCalculations::pv01MarketQuoteBucketed)
+          .put(Measures.CURRENCY_EXPOSURE, FxNdfMeasureCalculations::currencyExposure)
+          .put(Measures.CURRENT_CASH, FxNdfMeasureCalculations::currentCash)
+          .put(Measures.FORWARD_FX_RATE, FxNdfMeasureCalculations::forwardFxRate)
+          .put(Measures.RESOLVED_TARGET, (c, rt, smd) -> rt)
           .build();
 
   private static final ImmutableSet<Measure> MEASURES = CALCULATORS.keySet();
@@ -131,10 +132,14 @@ public class FxNdfTradeCalculationFunction
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
     RatesScenarioMarketData marketData = ratesLookup.marketDataView(scenarioMarketData);
 
+    FxNdfMeasureCalculations calculations = parameters.findParameter(ScenarioParallelism.class)
+        .map(FxNdfMeasureCalculations.DEFAULT::withScenarioParallelism)
+        .orElse(FxNdfMeasureCalculations.DEFAULT);
+
     // loop around measures, calculating all scenarios for one measure
     Map<Measure, Result<?>> results = new HashMap<>();
     for (Measure measure : measures) {
-      results.put(measure, calculate(measure, resolved, marketData));
+      results.put(measure, calculate(measure, resolved, calculations, marketData));
     }
     return results;
   }
@@ -143,19 +148,21 @@ public class FxNdfTradeCalculationFunction
   private Result<?> calculate(
       Measure measure,
       ResolvedFxNdfTrade trade,
+      FxNdfMeasureCalculations calculations,
       RatesScenarioMarketData marketData) {
 
     SingleMeasureCalculation calculator = CALCULATORS.get(measure);
     if (calculator == null) {
       return Result.failure(FailureReason.UNSUPPORTED, "Unsupported measure for FxNdfTrade: {}", measure);
     }
-    return Result.of(() -> calculator.calculate(trade, marketData));
+    return Result.of(() -> calculator.calculate(calculations, trade, marketData));
   }
 
   //-------------------------------------------------------------------------
   @FunctionalInterface
   interface SingleMeasureCalculation {
     public abstract Object calculate(
+        FxNdfMeasureCalculations calculations,
         ResolvedFxNdfTrade trade,
         RatesScenarioMarketData marketData);
   }
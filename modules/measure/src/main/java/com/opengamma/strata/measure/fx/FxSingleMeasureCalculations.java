@@ -7,6 +7,7 @@ package com.opengamma.strata.measure.fx;
 
 import com.opengamma.strata.basics.currency.FxRate;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
@@ -44,6 +45,10 @@ final class FxSingleMeasureCalculations {
    * Pricer for {@link ResolvedFxSingleTrade}.
    */
   private final DiscountingFxSingleTradePricer tradePricer;
+  /**
+   * The parallelism used to evaluate scenarios.
+   */
+  private final ScenarioParallelism scenarioParallelism;
 
   /**
    * Creates an instance.
@@ -52,7 +57,30 @@ final class FxSingleMeasureCalculations {
    */
   FxSingleMeasureCalculations(
       DiscountingFxSingleTradePricer tradePricer) {
+    this(tradePricer, ScenarioParallelism.NONE);
+  }
+
+  /**
+   * Creates an instance.
+   * 
+   * @param tradePricer  the pricer for {@link ResolvedFxSingleTrade}
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   */
+  FxSingleMeasureCalculations(
+      DiscountingFxSingleTradePricer tradePricer,
+      ScenarioParallelism scenarioParallelism) {
     this.tradePricer = ArgChecker.notNull(tradePricer, "tradePricer");
+    this.scenarioParallelism = ArgChecker.notNull(scenarioParallelism, "scenarioParallelism");
+  }
+
+  /**
+   * Returns a copy of this instance that uses the specified parallelism to evaluate scenarios.
+   * 
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   * @return the calculations
+   */
+  FxSingleMeasureCalculations withScenarioParallelism(ScenarioParallelism scenarioParallelism) {
+    return new FxSingleMeasureCalculations(tradePricer, scenarioParallelism);
   }
 
   //-------------------------------------------------------------------------
@@ -61,7 +89,7 @@ final class FxSingleMeasureCalculations {
       ResolvedFxSingleTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> presentValue(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -80,7 +108,7 @@ final class FxSingleMeasureCalculations {
       ResolvedFxSingleTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> pv01CalibratedSum(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -100,7 +128,7 @@ final class FxSingleMeasureCalculations {
       ResolvedFxSingleTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -120,7 +148,7 @@ final class FxSingleMeasureCalculations {
       ResolvedFxSingleTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteSum(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -141,7 +169,7 @@ final class FxSingleMeasureCalculations {
       ResolvedFxSingleTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -162,7 +190,7 @@ final class FxSingleMeasureCalculations {
       ResolvedFxSingleTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return DoubleScenarioArray.of(
+    return scenarioParallelism.doubleScenarioArray(
         marketData.getScenarioCount(),
         i -> parSpread(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -181,7 +209,7 @@ final class FxSingleMeasureCalculations {
       ResolvedFxSingleTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> currencyExposure(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -200,7 +228,7 @@ final class FxSingleMeasureCalculations {
       ResolvedFxSingleTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> currentCash(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -219,7 +247,7 @@ final class FxSingleMeasureCalculations {
       ResolvedFxSingleTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> forwardFxRate(trade, marketData.scenario(i).ratesProvider()));
   }
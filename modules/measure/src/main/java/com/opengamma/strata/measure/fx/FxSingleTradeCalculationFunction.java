@@ -19,6 +19,7 @@ import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -57,16 +58,16 @@ public class FxSingleTradeCalculationFunction
    */
   private static final ImmutableMap<Measure, SingleMeasureCalculation> CALCULATORS =
       ImmutableMap.<Measure, SingleMeasureCalculation>builder()
-          .put(Measures.PRESENT_VALUE, FxSingleMeasureCalculations.DEFAULT::presentValue)
-          .put(Measures.PV01_CALIBRATED_SUM, FxSingleMeasureCalculations.DEFAULT::pv01CalibratedSum)
-          .put(Measures.PV01_CALIBRATED_BUCKETED, FxSingleMeasureCalculations.DEFAULT::pv01CalibratedBucketed)
-          .put(Measures.PV01_MARKET_QUOTE_SUM, FxSingleMeasureCalculations.DEFAULT::pv01MarketQuoteSum)
-          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, FxSingleMeasureCalculations.DEFAULT::pv01MarketQuoteBucketed)
-          .put(Measures.PAR_SPREAD, FxSingleMeasureCalculations.DEFAULT::parSpread)
-          .put(Measures.CURRENCY_EXPOSURE, FxSingleMeasureCalculations.DEFAULT::currencyExposure)
-          .put(Measures.CURRENT_CASH, FxSingleMeasureCalculations.DEFAULT::currentCash)
-          .put(Measures.FORWARD_FX_RATE, FxSingleMeasureCalculations.DEFAULT::forwardFxRate)
-          .put(Measures.RESOLVED_TARGET, (rt, smd) -> rt)
+          .put(Measures.PRESENT_VALUE, FxSingleMeasureCalculations::presentValue)
+          .put(Measures.PV01_CALIBRATED_SUM, FxSingleMeasureCalculations::pv01CalibratedSum)
+          .put(Measures.PV01_CALIBRATED_BUCKETED, FxSingleMeasureCalculations::pv01CalibratedBucketed)
+          .put(Measures.PV01_MARKET_QUOTE_SUM, FxSingleMeasureCalculations::pv01MarketQuoteSum)
+          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, FxSingleMeasureCalculations::pv01MarketQuoteBucketed)
+          .put(Measures.PAR_SPREAD, FxSingleMeasureCalculations::parSpread)
+          .put(Measures.CURRENCY_EXPOSURE, FxSingleMeasureCalculations::currencyExposure)
+          .put(Measures.CURRENT_CASH, FxSingleMeasureCalculations::currentCash)
+          .put(Measures.FORWARD_FX_RATE, FxSingleMeasureCalculations::forwardFxRate)
+          .put(Measures.RESOLVED_TARGET, (c, rt, smd) -> rt)
           .build();
 
   private static final ImmutableSet<Measure> MEASURES = CALCULATORS.keySet();
@@ -131,10 +132,14 @@ public class FxSingleTradeCalculationFunction
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
     RatesScenarioMarketData marketData = ratesLookup.marketDataView(scenarioMarketData);
 
+    FxSingleMeasureCalculations calculations = parameters.findParameter(ScenarioParallelism.class)
+        .map(FxSingleMeasureCalculations.DEFAULT::withScenarioParallelism)
+        .orElse(FxSingleMeasureCalculations.DEFAULT);
+
     // loop around measures, calculating all scenarios for one measure
     Map<Measure, Result<?>> results = new HashMap<>();
     for (Measure measure : measures) {
-      results.put(measure, calculate(measure, resolved, marketData));
+      results.put(measure, calculate(measure, resolved, calculations, marketData));
     }
     return results;
   }
@@ -143,19 +148,21 @@ public class FxSingleTradeCalculationFunction
   private Result<?> calculate(
       Measure measure,
       ResolvedFxSingleTrade trade,
+      FxSingleMeasureCalculations calculations,
       RatesScenarioMarketData marketData) {
 
     SingleMeasureCalculation calculator = CALCULATORS.get(measure);
     if (calculator == null) {
       return Result.failure(FailureReason.UNSUPPORTED, "Unsupported measure for FxSingleTrade: {}", measure);
     }
-    return Result.of(() -> calculator.calculate(trade, marketData));
+    return Result.of(() -> calculator.calculate(calculations, trade, marketData));
   }
 
   //-------------------------------------------------------------------------
   @FunctionalInterface
   interface SingleMeasureCalculation {
     public abstract Object calculate(
+        FxSingleMeasureCalculations calculations,
         ResolvedFxSingleTrade trade,
         RatesScenarioMarketData marketData);
   }
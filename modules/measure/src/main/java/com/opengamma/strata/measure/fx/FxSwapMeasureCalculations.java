@@ -6,6 +6,7 @@
 package com.opengamma.strata.measure.fx;
 
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
@@ -43,6 +44,10 @@ final class FxSwapMeasureCalculations {
    * Pricer for {@link ResolvedFxSwapTrade}.
    */
   private final DiscountingFxSwapTradePricer tradePricer;
+  /**
+   * The parallelism used to evaluate scenarios.
+   */
+  private final ScenarioParallelism scenarioParallelism;
 
   /**
    * Creates an instance.
@@ -51,7 +56,30 @@ final class FxSwapMeasureCalculations {
    */
   FxSwapMeasureCalculations(
       DiscountingFxSwapTradePricer tradePricer) {
+    this(tradePricer, ScenarioParallelism.NONE);
+  }
+
+  /**
+   * Creates an instance.
+   * 
+   * @param tradePricer  the pricer for {@link ResolvedFxSwapTrade}
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   */
+  FxSwapMeasureCalculations(
+      DiscountingFxSwapTradePricer tradePricer,
+      ScenarioParallelism scenarioParallelism) {
     this.tradePricer = ArgChecker.notNull(tradePricer, "tradePricer");
+    this.scenarioParallelism = ArgChecker.notNull(scenarioParallelism, "scenarioParallelism");
+  }
+
+  /**
+   * Returns a copy of this instance that uses the specified parallelism to evaluate scenarios.
+   * 
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   * @return the calculations
+   */
+  FxSwapMeasureCalculations withScenarioParallelism(ScenarioParallelism scenarioParallelism) {
+    return new FxSwapMeasureCalculations(tradePricer, scenarioParallelism);
   }
 
   //-------------------------------------------------------------------------
@@ -60,7 +88,7 @@ final class FxSwapMeasureCalculations {
       ResolvedFxSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> presentValue(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -79,7 +107,7 @@ final class FxSwapMeasureCalculations {
       ResolvedFxSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> pv01CalibratedSum(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -99,7 +127,7 @@ final class FxSwapMeasureCalculations {
       ResolvedFxSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -119,7 +147,7 @@ final class FxSwapMeasureCalculations {
       ResolvedFxSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteSum(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -140,7 +168,7 @@ final class FxSwapMeasureCalculations {
       ResolvedFxSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -161,7 +189,7 @@ final class FxSwapMeasureCalculations {
       ResolvedFxSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return DoubleScenarioArray.of(
+    return scenarioParallelism.doubleScenarioArray(
         marketData.getScenarioCount(),
         i -> parSpread(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -180,7 +208,7 @@ final class FxSwapMeasureCalculations {
       ResolvedFxSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> currencyExposure(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -199,7 +227,7 @@ final class FxSwapMeasureCalculations {
       ResolvedFxSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> currentCash(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -19,6 +19,7 @@ import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -57,15 +58,15 @@ public class FxSwapTradeCalculationFunction
    */
   private static final ImmutableMap<Measure, SingleMeasureCalculation> CALCULATORS =
       ImmutableMap.<Measure, SingleMeasureCalculation>builder()
-          .put(Measures.PRESENT_VALUE, FxSwapMeasureCalculations.DEFAULT::presentValue)
-          .put(Measures.PV01_CALIBRATED_SUM, FxSwapMeasureCalculations.DEFAULT::pv01CalibratedSum)
-          .put(Measures.PV01_CALIBRATED_BUCKETED, FxSwapMeasureCalculations.DEFAULT::pv01CalibratedBucketed)
-          .put(Measures.PV01_MARKET_QUOTE_SUM, FxSwapMeasureCalculations.DEFAULT::pv01MarketQuoteSum)
-          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, FxSwapMeasureCalculations.DEFAULT::pv01MarketQuoteBucketed)
-          .put(Measures.PAR_SPREAD, FxSwapMeasureCalculations.DEFAULT::parSpread)
-          .put(Measures.CURRENCY_EXPOSURE, FxSwapMeasureCalculations.DEFAULT::currencyExposure)
-          .put(Measures.CURRENT_CASH, FxSwapMeasureCalculations.DEFAULT::currentCash)
-          .put(Measures.RESOLVED_TARGET, (rt, smd) -> rt)
+          .put(Measures.PRESENT_VALUE, FxSwapMeasureCalculations::presentValue)
+          .put(Measures.PV01_CALIBRATED_SUM, FxSwapMeasureCalculations::pv01CalibratedSum)
+          .put(Measures.PV01_CALIBRATED_BUCKETED, FxSwapMeasureCalculations::pv01CalibratedBucketed)
+          .put(Measures.PV01_MARKET_QUOTE_SUM, FxSwapMeasureCalculations::pv01MarketQuoteSum)
+          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, FxSwapMeasureCalculations::pv01MarketQuoteBucketed)
+          .put(Measures.PAR_SPREAD, FxSwapMeasureCalculations::parSpread)
+          .put(Measures.CURRENCY_EXPOSURE, FxSwapMeasureCalculations::currencyExposure)
+          .put(Measures.CURRENT_CASH, FxSwapMeasureCalculations::currentCash)
+          .put(Measures.RESOLVED_TARGET, (c, rt, smd) -> rt)
           .build();
 
   private static final ImmutableSet<Measure> MEASURES = CALCULATORS.keySet();
@@ -130,10 +131,14 @@ public class FxSwapTradeCalculationFunction
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
     RatesScenarioMarketData marketData = ratesLookup.marketDataView(scenarioMarketData);
 
+    FxSwapMeasureCalculations calculations = parameters.findParameter(ScenarioParallelism.class)
+        .map(FxSwapMeasureCalculations.DEFAULT::withScenarioParallelism)
+        .orElse(FxSwapMeasureCalculations.DEFAULT);
+
     // loop around measures, calculating all scenarios for one measure
     Map<Measure, Result<?>> results = new HashMap<>();
     for (Measure measure : measures) {
-      results.put(measure, calculate(measure, resolved, marketData));
+      results.put(measure, calculate(measure, resolved, calculations, marketData));
     }
     return results;
   }
@@ -142,19 +147,21 @@ public class FxSwapTradeCalculationFunction
   private Result<?> calculate(
       Measure measure,
       ResolvedFxSwapTrade trade,
+      FxSwapMeasureCalculations calculations,
       RatesScenarioMarketData marketData) {
 
     SingleMeasureCalculation calculator = CALCULATORS.get(measure);
     if (calculator == null) {
       return Result.failure(FailureReason.UNSUPPORTED, "Unsupported measure for FxSwapTrade: {}", measure);
     }
-    return Result.of(() -> calculator.calculate(trade, marketData));
+    return Result.of(() -> calculator.calculate(calculations, trade, marketData));
   }
 
   //-------------------------------------------------------------------------
   @FunctionalInterface
   interface SingleMeasureCalculation {
     public abstract Object calculate(
+        FxSwapMeasureCalculations calculations,
         ResolvedFxSwapTrade trade,
         RatesScenarioMarketData marketData);
   }
@@ -20,9 +20,12 @@ import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
+import com.opengamma.strata.pricer.DiscountingPaymentPricer;
 import com.opengamma.strata.pricer.fxopt.BlackFxOptionVolatilities;
 import com.opengamma.strata.pricer.fxopt.BlackFxSingleBarrierOptionTradePricer;
 import com.opengamma.strata.pricer.fxopt.FxOptionVolatilities;
+import com.opengamma.strata.pricer.fxopt.ImpliedTrinomialTreeFxOptionCalibrator;
+import com.opengamma.strata.pricer.fxopt.ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer;
 import com.opengamma.strata.pricer.fxopt.ImpliedTrinomialTreeFxSingleBarrierOptionTradePricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.pricer.sensitivity.MarketQuoteSensitivityCalculator;
@@ -35,12 +38,27 @@ import com.opengamma.strata.product.fxopt.ResolvedFxSingleBarrierOptionTrade;
  */
 final class FxSingleBarrierOptionMeasureCalculations {
 
+  /**
+   * The maximum number of calibrated trinomial trees to cache.
+   */
+  private static final int TREE_CACHE_SIZE = 100;
+  /**
+   * The trinomial tree pricer, caching the calibrated trees.
+   * <p>
+   * The trees are shared between trades with the same currency pair, expiry and market data.
+   */
+  static final ImpliedTrinomialTreeFxSingleBarrierOptionTradePricer CACHING_TRINOMIAL_TREE_PRICER =
+      new ImpliedTrinomialTreeFxSingleBarrierOptionTradePricer(
+          new ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(
+              new ImpliedTrinomialTreeFxOptionCalibrator(
+                  ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer.NUM_STEPS_DEFAULT, TREE_CACHE_SIZE)),
+          DiscountingPaymentPricer.DEFAULT);
   /**
    * Default implementation.
    */
   public static final FxSingleBarrierOptionMeasureCalculations DEFAULT = new FxSingleBarrierOptionMeasureCalculations(
       BlackFxSingleBarrierOptionTradePricer.DEFAULT,
-      ImpliedTrinomialTreeFxSingleBarrierOptionTradePricer.DEFAULT);
+      CACHING_TRINOMIAL_TREE_PRICER);
   /**
    * The market quote sensitivity calculator.
    */
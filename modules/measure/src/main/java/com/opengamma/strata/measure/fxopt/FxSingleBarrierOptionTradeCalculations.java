@@ -35,10 +35,13 @@ public class FxSingleBarrierOptionTradeCalculations {
 
   /**
    * Default implementation.
+   * <p>
+   * The trinomial tree pricer caches the calibrated trees, sharing them between trades
+   * with the same currency pair, expiry and market data.
    */
   public static final FxSingleBarrierOptionTradeCalculations DEFAULT = new FxSingleBarrierOptionTradeCalculations(
       BlackFxSingleBarrierOptionTradePricer.DEFAULT,
-      ImpliedTrinomialTreeFxSingleBarrierOptionTradePricer.DEFAULT);
+      FxSingleBarrierOptionMeasureCalculations.CACHING_TRINOMIAL_TREE_PRICER);
 
   /**
    * Pricer for {@link ResolvedFxSingleBarrierOptionTrade}.
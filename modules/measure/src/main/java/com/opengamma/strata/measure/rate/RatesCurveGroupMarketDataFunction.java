@@ -8,6 +8,7 @@ package com.opengamma.strata.measure.rate;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +19,7 @@ import com.opengamma.strata.calc.marketdata.MarketDataConfig;
 import com.opengamma.strata.calc.marketdata.MarketDataFunction;
 import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.ImmutableMarketData;
@@ -44,6 +46,10 @@ import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
  * Market data function that builds a curve group.
  * <p>
  * This function calibrates curves, turning a {@link RatesCurveGroupDefinition} into a {@link RatesCurveGroup}.
+ * <p>
+ * By default, each scenario is calibrated independently, producing exactly the same curves
+ * as a single scenario calibration. The function can optionally warm-start the calibration of the scenarios,
+ * see {@link #RatesCurveGroupMarketDataFunction(CalibrationMeasures, boolean)}.
  */
 public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<RatesCurveGroup, RatesCurveGroupId> {
 
@@ -51,6 +57,10 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
    * The default analytics object that performs the curve calibration.
    */
   private final CalibrationMeasures calibrationMeasures;
+  /**
+   * Whether to warm-start the calibration of scenarios that share a valuation date.
+   */
+  private final boolean warmStartScenarios;
 
   //-------------------------------------------------------------------------
   /**
@@ -73,7 +83,23 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
    * @param calibrationMeasures  the calibration measures to be used in the calibrator
    */
   public RatesCurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures) {
+    this(calibrationMeasures, false);
+  }
+
+  /**
+   * Creates a new function for building curve groups, optionally warm-starting the calibration of scenarios.
+   * <p>
+   * If {@code warmStartScenarios} is true, the scenarios sharing a valuation date are calibrated using
+   * {@link RatesCurveCalibrator#calibrate(RatesCurveGroupDefinition, ScenarioMarketData, ReferenceData)},
+   * which starts the calibration of each scenario from the result of another. This is typically much faster,
+   * but the curves only match those of a single scenario calibration to within the tolerance of the root finder.
+   *
+   * @param calibrationMeasures  the calibration measures to be used in the calibrator
+   * @param warmStartScenarios  whether to warm-start the calibration of scenarios sharing a valuation date
+   */
+  public RatesCurveGroupMarketDataFunction(CalibrationMeasures calibrationMeasures, boolean warmStartScenarios) {
     this.calibrationMeasures = ArgChecker.notNull(calibrationMeasures, "calibrationMeasures");
+    this.warmStartScenarios = warmStartScenarios;
   }
 
   //-------------------------------------------------------------------------
@@ -177,6 +203,14 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
       ReferenceData refData) {
 
     int scenarioCount = scenarioCount(valuationDateBox, inputBoxes);
+    if (warmStartScenarios && !valuationDateBox.isScenarioValue()) {
+      // the same definition applies to all scenarios, allowing them to be calibrated together
+      LocalDate valuationDate = valuationDateBox.getSingleValue();
+      RatesCurveGroupDefinition filteredGroup = configuredGroup.filtered(valuationDate, refData);
+      ScenarioMarketData inputs = scenarioInputsByKey(valuationDate, scenarioCount, inputBoxes, fixings);
+      return calibrator.calibrate(filteredGroup, inputs, refData)
+          .map(provider -> curveGroup(filteredGroup.getName(), provider));
+    }
     ImmutableList.Builder<RatesCurveGroup> builder = ImmutableList.builder();
 
     for (int i = 0; i < scenarioCount; i++) {
@@ -225,6 +259,40 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
       List<RatesCurveInputs> inputs,
       Map<ObservableId, LocalDateDoubleTimeSeries> fixings) {
 
+    return ImmutableMarketData.builder(valuationDate).values(inputValuesByKey(inputs)).timeSeries(fixings).build();
+  }
+
+  /**
+   * Extracts the underlying quotes from the {@link RatesCurveInputs} instances for each scenario
+   * and returns them as scenario market data.
+   *
+   * @param valuationDate  the valuation date
+   * @param scenarioCount  the number of scenarios
+   * @param inputBoxes  input data for the curve
+   * @param fixings  the fixings
+   * @return the underlying quotes from the input data
+   */
+  private static ScenarioMarketData scenarioInputsByKey(
+      LocalDate valuationDate,
+      int scenarioCount,
+      List<MarketDataBox<RatesCurveInputs>> inputBoxes,
+      Map<ObservableId, LocalDateDoubleTimeSeries> fixings) {
+
+    Map<MarketDataId<?>, List<Object>> scenarioValues = new HashMap<>();
+    for (int i = 0; i < scenarioCount; i++) {
+      Map<MarketDataId<?>, Object> values = inputValuesByKey(inputsForScenario(inputBoxes, i));
+      for (Map.Entry<MarketDataId<?>, Object> entry : values.entrySet()) {
+        scenarioValues.computeIfAbsent(entry.getKey(), id -> new ArrayList<>()).add(entry.getValue());
+      }
+    }
+    Map<MarketDataId<?>, MarketDataBox<?>> boxes = MapStream.of(scenarioValues)
+        .<MarketDataBox<?>>mapValues(values -> MarketDataBox.ofScenarioValues(values))
+        .toMap();
+    return ScenarioMarketData.of(scenarioCount, valuationDate, boxes, fixings);
+  }
+
+  // extracts the underlying quotes from the inputs, checking that a shared identifier has a single value
+  private static Map<MarketDataId<?>, Object> inputValuesByKey(List<RatesCurveInputs> inputs) {
     Map<MarketDataId<?>, Object> marketDataMap = new HashMap<>();
 
     for (RatesCurveInputs input : inputs) {
@@ -246,7 +314,7 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
         }
       }
     }
-    return ImmutableMarketData.builder(valuationDate).values(marketDataMap).timeSeries(fixings).build();
+    return marketDataMap;
   }
 
   private RatesCurveGroup buildGroup(
@@ -261,8 +329,13 @@ public class RatesCurveGroupMarketDataFunction implements MarketDataFunction<Rat
         marketData,
         refData);
 
+    return curveGroup(groupDefn.getName(), calibratedProvider);
+  }
+
+  // creates the curve group from the calibrated provider
+  private static RatesCurveGroup curveGroup(CurveGroupName groupName, ImmutableRatesProvider calibratedProvider) {
     return RatesCurveGroup.of(
-        groupDefn.getName(),
+        groupName,
         calibratedProvider.getDiscountCurves(),
         calibratedProvider.getIndexCurves());
   }
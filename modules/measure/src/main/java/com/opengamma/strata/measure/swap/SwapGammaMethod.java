@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.swap;
+
+import java.util.Optional;
+
+import org.joda.convert.FromString;
+import org.joda.convert.ToString;
+
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.CalculationRules;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.runner.CalculationParameter;
+import com.opengamma.strata.collect.named.EnumNames;
+import com.opengamma.strata.collect.named.NamedEnum;
+import com.opengamma.strata.measure.AdvancedMeasures;
+import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
+import com.opengamma.strata.product.swap.SwapTrade;
+
+/**
+ * The method to use for computing the single node gamma of swaps.
+ * <p>
+ * This provides the ability to use different methods for computing the
+ * {@linkplain AdvancedMeasures#PV01_SINGLE_NODE_GAMMA_BUCKETED PV01 single node gamma bucketed} measure.
+ * The finite difference and algorithmic differentiation methods are supported.
+ * <p>
+ * This enum implements {@link CalculationParameter} and is used by passing it
+ * as an argument to {@link CalculationRules}.
+ * <p>
+ * Implementations of this interface must be immutable.
+ */
+public enum SwapGammaMethod implements NamedEnum, CalculationParameter {
+
+  /**
+   * The finite difference method.
+   * The delta is computed again for each bumped curve parameter.
+   */
+  FINITE_DIFFERENCE,
+  /**
+   * The algorithmic differentiation method.
+   * The gamma of the discounted cash flows is computed from the point sensitivities, see
+   * {@link CurveGammaCalculator#calculateCrossGammaIntraCurve(com.opengamma.strata.pricer.rate.RatesProvider,
+   * java.util.List, java.util.function.Function)}. The other payment periods use finite difference.
+   */
+  ALGORITHMIC_DIFFERENTIATION;
+
+  // helper for name conversions
+  private static final EnumNames<SwapGammaMethod> NAMES = EnumNames.of(SwapGammaMethod.class);
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the specified name.
+   * <p>
+   * Parsing handles the mixed case form produced by {@link #toString()} and
+   * the upper and lower case variants of the enum constant name.
+   *
+   * @param name  the name to parse
+   * @return the type
+   * @throws IllegalArgumentException if the name is not known
+   */
+  @FromString
+  public static SwapGammaMethod of(String name) {
+    return NAMES.parse(name);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Optional<CalculationParameter> filter(CalculationTarget target, Measure measure) {
+    if (target instanceof SwapTrade) {
+      return Optional.of(this);
+    }
+    return Optional.empty();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the formatted name of the type.
+   *
+   * @return the formatted string representing the type
+   */
+  @ToString
+  @Override
+  public String toString() {
+    return NAMES.format(this);
+  }
+
+}
@@ -21,6 +21,7 @@ import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.tuple.Pair;
@@ -85,6 +86,14 @@ final class SwapMeasureCalculations {
    * Pricer for {@link ResolvedSwapTrade}.
    */
   private final DiscountingSwapTradePricer tradePricer;
+  /**
+   * The parallelism used to evaluate scenarios.
+   */
+  private final ScenarioParallelism scenarioParallelism;
+  /**
+   * The method used to compute the single node gamma.
+   */
+  private final SwapGammaMethod gammaMethod;
 
   /**
    * Creates an instance.
@@ -93,7 +102,55 @@ final class SwapMeasureCalculations {
    */
   SwapMeasureCalculations(
       DiscountingSwapTradePricer tradePricer) {
+    this(tradePricer, ScenarioParallelism.NONE);
+  }
+
+  /**
+   * Creates an instance.
+   * 
+   * @param tradePricer  the pricer for {@link ResolvedSwapTrade}
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   */
+  SwapMeasureCalculations(
+      DiscountingSwapTradePricer tradePricer,
+      ScenarioParallelism scenarioParallelism) {
+    this(tradePricer, scenarioParallelism, SwapGammaMethod.FINITE_DIFFERENCE);
+  }
+
+  /**
+   * Creates an instance.
+   * 
+   * @param tradePricer  the pricer for {@link ResolvedSwapTrade}
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   * @param gammaMethod  the method used to compute the single node gamma
+   */
+  SwapMeasureCalculations(
+      DiscountingSwapTradePricer tradePricer,
+      ScenarioParallelism scenarioParallelism,
+      SwapGammaMethod gammaMethod) {
     this.tradePricer = ArgChecker.notNull(tradePricer, "tradePricer");
+    this.scenarioParallelism = ArgChecker.notNull(scenarioParallelism, "scenarioParallelism");
+    this.gammaMethod = ArgChecker.notNull(gammaMethod, "gammaMethod");
+  }
+
+  /**
+   * Returns a copy of this instance that uses the specified parallelism to evaluate scenarios.
+   * 
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   * @return the calculations
+   */
+  SwapMeasureCalculations withScenarioParallelism(ScenarioParallelism scenarioParallelism) {
+    return new SwapMeasureCalculations(tradePricer, scenarioParallelism, gammaMethod);
+  }
+
+  /**
+   * Returns a copy of this instance that uses the specified method to compute the single node gamma.
+   * 
+   * @param gammaMethod  the method used to compute the single node gamma
+   * @return the calculations
+   */
+  SwapMeasureCalculations withGammaMethod(SwapGammaMethod gammaMethod) {
+    return new SwapMeasureCalculations(tradePricer, scenarioParallelism, gammaMethod);
   }
 
   //-------------------------------------------------------------------------
@@ -102,7 +159,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> presentValue(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -121,7 +178,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> explainPresentValue(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -140,7 +197,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> pv01CalibratedSum(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -160,7 +217,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01CalibratedBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -180,7 +237,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteSum(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -201,7 +258,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01MarketQuoteBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -222,7 +279,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01SemiParallelGammaBucketed(trade, marketData.scenario(i)));
   }
@@ -283,7 +340,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> pv01SingleNodeGammaBucketed(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -293,9 +350,17 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesProvider ratesProvider) {
 
-    CrossGammaParameterSensitivities crossGamma = CROSS_GAMMA.calculateCrossGammaIntraCurve(
-        ratesProvider,
-        p -> p.parameterSensitivity(tradePricer.presentValueSensitivity(trade, p)));
+    CrossGammaParameterSensitivities crossGamma;
+    if (gammaMethod == SwapGammaMethod.ALGORITHMIC_DIFFERENTIATION) {
+      crossGamma = CROSS_GAMMA.calculateCrossGammaIntraCurve(
+          ratesProvider,
+          tradePricer.presentValueSensitivityCashFlows(trade, ratesProvider),
+          p -> p.parameterSensitivity(tradePricer.presentValueSensitivityNonCashFlows(trade, p)));
+    } else {
+      crossGamma = CROSS_GAMMA.calculateCrossGammaIntraCurve(
+          ratesProvider,
+          p -> p.parameterSensitivity(tradePricer.presentValueSensitivity(trade, p)));
+    }
     return crossGamma.diagonal().multipliedBy(ONE_BASIS_POINT * ONE_BASIS_POINT);
   }
 
@@ -305,7 +370,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return DoubleScenarioArray.of(
+    return scenarioParallelism.doubleScenarioArray(
         marketData.getScenarioCount(),
         i -> parRate(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -324,7 +389,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return DoubleScenarioArray.of(
+    return scenarioParallelism.doubleScenarioArray(
         marketData.getScenarioCount(),
         i -> parSpread(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -343,7 +408,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> cashFlows(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -362,7 +427,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> accruedInterest(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -422,7 +487,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         marketData.getScenarioCount(),
         i -> legPresentValue(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -450,7 +515,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> currencyExposure(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -469,7 +534,7 @@ final class SwapMeasureCalculations {
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         marketData.getScenarioCount(),
         i -> currentCash(trade, marketData.scenario(i).ratesProvider()));
   }
@@ -18,6 +18,7 @@ import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -55,6 +56,9 @@ import com.opengamma.strata.product.swap.SwapTrade;
  *   <li>{@linkplain AdvancedMeasures#PV01_SINGLE_NODE_GAMMA_BUCKETED PV01 single node gamma bucketed}
  * </ul>
  * <p>
+ * The single node gamma is computed by finite difference by default. To compute it by algorithmic
+ * differentiation, pass {@link SwapGammaMethod#ALGORITHMIC_DIFFERENTIATION} in the calculation parameters.
+ * <p>
  * The "natural" currency is the currency of the swaption, which is limited to be single-currency.
  */
 public class SwapTradeCalculationFunction
@@ -65,23 +69,23 @@ public class SwapTradeCalculationFunction
    */
   private static final ImmutableMap<Measure, SingleMeasureCalculation> CALCULATORS =
       ImmutableMap.<Measure, SingleMeasureCalculation>builder()
-          .put(Measures.PRESENT_VALUE, SwapMeasureCalculations.DEFAULT::presentValue)
-          .put(Measures.EXPLAIN_PRESENT_VALUE, SwapMeasureCalculations.DEFAULT::explainPresentValue)
-          .put(Measures.PV01_CALIBRATED_SUM, SwapMeasureCalculations.DEFAULT::pv01CalibratedSum)
-          .put(Measures.PV01_CALIBRATED_BUCKETED, SwapMeasureCalculations.DEFAULT::pv01CalibratedBucketed)
-          .put(Measures.PV01_MARKET_QUOTE_SUM, SwapMeasureCalculations.DEFAULT::pv01MarketQuoteSum)
-          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, SwapMeasureCalculations.DEFAULT::pv01MarketQuoteBucketed)
-          .put(Measures.PAR_RATE, SwapMeasureCalculations.DEFAULT::parRate)
-          .put(Measures.PAR_SPREAD, SwapMeasureCalculations.DEFAULT::parSpread)
-          .put(Measures.CASH_FLOWS, SwapMeasureCalculations.DEFAULT::cashFlows)
-          .put(Measures.ACCRUED_INTEREST, SwapMeasureCalculations.DEFAULT::accruedInterest)
-          .put(Measures.LEG_INITIAL_NOTIONAL, SwapMeasureCalculations.DEFAULT::legInitialNotional)
-          .put(Measures.LEG_PRESENT_VALUE, SwapMeasureCalculations.DEFAULT::legPresentValue)
-          .put(Measures.CURRENCY_EXPOSURE, SwapMeasureCalculations.DEFAULT::currencyExposure)
-          .put(Measures.CURRENT_CASH, SwapMeasureCalculations.DEFAULT::currentCash)
-          .put(Measures.RESOLVED_TARGET, (rt, smd) -> rt)
-          .put(AdvancedMeasures.PV01_SEMI_PARALLEL_GAMMA_BUCKETED, SwapMeasureCalculations.DEFAULT::pv01SemiParallelGammaBucketed)
-          .put(AdvancedMeasures.PV01_SINGLE_NODE_GAMMA_BUCKETED, SwapMeasureCalculations.DEFAULT::pv01SingleNodeGammaBucketed)
+          .put(Measures.PRESENT_VALUE, SwapMeasureCalculations::presentValue)
+          .put(Measures.EXPLAIN_PRESENT_VALUE, SwapMeasureCalculations::explainPresentValue)
+          .put(Measures.PV01_CALIBRATED_SUM, SwapMeasureCalculations::pv01CalibratedSum)
+          .put(Measures.PV01_CALIBRATED_BUCKETED, SwapMeasureCalculations::pv01CalibratedBucketed)
+          .put(Measures.PV01_MARKET_QUOTE_SUM, SwapMeasureCalculations::pv01MarketQuoteSum)
+          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, SwapMeasureCalculations::pv01MarketQuoteBucketed)
+          .put(Measures.PAR_RATE, SwapMeasureCalculations::parRate)
+          .put(Measures.PAR_SPREAD, SwapMeasureCalculations::parSpread)
+          .put(Measures.CASH_FLOWS, SwapMeasureCalculations::cashFlows)
+          .put(Measures.ACCRUED_INTEREST, SwapMeasureCalculations::accruedInterest)
+          .put(Measures.LEG_INITIAL_NOTIONAL, SwapMeasureCalculations::legInitialNotional)
+          .put(Measures.LEG_PRESENT_VALUE, SwapMeasureCalculations::legPresentValue)
+          .put(Measures.CURRENCY_EXPOSURE, SwapMeasureCalculations::currencyExposure)
+          .put(Measures.CURRENT_CASH, SwapMeasureCalculations::currentCash)
+          .put(Measures.RESOLVED_TARGET, (c, rt, smd) -> rt)
+          .put(AdvancedMeasures.PV01_SEMI_PARALLEL_GAMMA_BUCKETED, SwapMeasureCalculations::pv01SemiParallelGammaBucketed)
+          .put(AdvancedMeasures.PV01_SINGLE_NODE_GAMMA_BUCKETED, SwapMeasureCalculations::pv01SingleNodeGammaBucketed)
           .build();
 
   private static final ImmutableSet<Measure> MEASURES = CALCULATORS.keySet();
@@ -146,10 +150,17 @@ public class SwapTradeCalculationFunction
     RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
     RatesScenarioMarketData marketData = ratesLookup.marketDataView(scenarioMarketData);
 
+    SwapMeasureCalculations calculations = parameters.findParameter(ScenarioParallelism.class)
+        .map(SwapMeasureCalculations.DEFAULT::withScenarioParallelism)
+        .orElse(SwapMeasureCalculations.DEFAULT);
+    calculations = parameters.findParameter(SwapGammaMethod.class)
+        .map(calculations::withGammaMethod)
+        .orElse(calculations);
+
     // loop around measures, calculating all scenarios for one measure
     Map<Measure, Result<?>> results = new HashMap<>();
     for (Measure measure : measures) {
-      results.put(measure, calculate(measure, resolved, marketData));
+      results.put(measure, calculate(measure, resolved, calculations, marketData));
     }
     return results;
   }
@@ -158,19 +169,21 @@ public class SwapTradeCalculationFunction
   private Result<?> calculate(
       Measure measure,
       ResolvedSwapTrade trade,
+      SwapMeasureCalculations calculations,
       RatesScenarioMarketData marketData) {
 
     SingleMeasureCalculation calculator = CALCULATORS.get(measure);
     if (calculator == null) {
       return Result.failure(FailureReason.UNSUPPORTED, "Unsupported measure for SwapTrade: {}", measure);
     }
-    return Result.of(() -> calculator.calculate(trade, marketData));
+    return Result.of(() -> calculator.calculate(calculations, trade, marketData));
   }
 
   //-------------------------------------------------------------------------
   @FunctionalInterface
   interface SingleMeasureCalculation {
     public abstract Object calculate(
+        SwapMeasureCalculations calculations,
         ResolvedSwapTrade trade,
         RatesScenarioMarketData marketData);
   }
@@ -12,6 +12,7 @@ import java.time.LocalDate;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.index.RateIndex;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
@@ -57,6 +58,10 @@ final class SwaptionMeasureCalculations {
    * Pricer for {@link ResolvedSwaptionTrade}.
    */
   private final SabrSwaptionTradePricer sabrTradePricer;
+  /**
+   * The parallelism used to evaluate scenarios.
+   */
+  private final ScenarioParallelism scenarioParallelism;
 
   /**
    * Creates an instance.
@@ -67,8 +72,33 @@ final class SwaptionMeasureCalculations {
   SwaptionMeasureCalculations(
       VolatilitySwaptionTradePricer tradePricer,
       SabrSwaptionTradePricer sabrTradePricer) {
+    this(tradePricer, sabrTradePricer, ScenarioParallelism.NONE);
+  }
+
+  /**
+   * Creates an instance.
+   * 
+   * @param tradePricer  the pricer for {@link ResolvedSwaptionTrade}
+   * @param sabrTradePricer  the pricer for {@link ResolvedSwaptionTrade} SABR
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   */
+  SwaptionMeasureCalculations(
+      VolatilitySwaptionTradePricer tradePricer,
+      SabrSwaptionTradePricer sabrTradePricer,
+      ScenarioParallelism scenarioParallelism) {
     this.tradePricer = ArgChecker.notNull(tradePricer, "tradePricer");
     this.sabrTradePricer = ArgChecker.notNull(sabrTradePricer, "sabrTradePricer");
+    this.scenarioParallelism = ArgChecker.notNull(scenarioParallelism, "scenarioParallelism");
+  }
+
+  /**
+   * Returns a copy of this instance that uses the specified parallelism to evaluate scenarios.
+   * 
+   * @param scenarioParallelism  the parallelism used to evaluate scenarios
+   * @return the calculations
+   */
+  SwaptionMeasureCalculations withScenarioParallelism(ScenarioParallelism scenarioParallelism) {
+    return new SwaptionMeasureCalculations(tradePricer, sabrTradePricer, scenarioParallelism);
   }
 
   //-------------------------------------------------------------------------
@@ -79,7 +109,7 @@ final class SwaptionMeasureCalculations {
       SwaptionScenarioMarketData swaptionMarketData) {
 
     RateIndex index = trade.getProduct().getIndex();
-    return CurrencyScenarioArray.of(
+    return scenarioParallelism.currencyScenarioArray(
         ratesMarketData.getScenarioCount(),
         i -> presentValue(
             trade,
@@ -104,7 +134,7 @@ final class SwaptionMeasureCalculations {
       SwaptionScenarioMarketData swaptionMarketData) {
 
     RateIndex index = trade.getProduct().getIndex();
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         ratesMarketData.getScenarioCount(),
         i -> pv01RatesCalibratedSum(
             trade,
@@ -130,7 +160,7 @@ final class SwaptionMeasureCalculations {
       SwaptionScenarioMarketData swaptionMarketData) {
 
     RateIndex index = trade.getProduct().getIndex();
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         ratesMarketData.getScenarioCount(),
         i -> pv01RatesCalibratedBucketed(
             trade,
@@ -156,7 +186,7 @@ final class SwaptionMeasureCalculations {
       SwaptionScenarioMarketData swaptionMarketData) {
 
     RateIndex index = trade.getProduct().getIndex();
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         ratesMarketData.getScenarioCount(),
         i -> pv01RatesMarketQuoteSum(
             trade,
@@ -183,7 +213,7 @@ final class SwaptionMeasureCalculations {
       SwaptionScenarioMarketData swaptionMarketData) {
 
     RateIndex index = trade.getProduct().getIndex();
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         ratesMarketData.getScenarioCount(),
         i -> pv01RatesMarketQuoteBucketed(
             trade,
@@ -223,7 +253,7 @@ final class SwaptionMeasureCalculations {
       SwaptionScenarioMarketData swaptionMarketData) {
 
     RateIndex index = trade.getProduct().getIndex();
-    return ScenarioArray.of(
+    return scenarioParallelism.scenarioArray(
         ratesMarketData.getScenarioCount(),
         i -> vegaMarketQuoteBucketed(
             trade,
@@ -261,7 +291,7 @@ final class SwaptionMeasureCalculations {
       SwaptionScenarioMarketData swaptionMarketData) {
 
     RateIndex index = trade.getProduct().getIndex();
-    return MultiCurrencyScenarioArray.of(
+    return scenarioParallelism.multiCurrencyScenarioArray(
         ratesMarketData.getScenarioCount(),
         i -> currencyExposure(
             trade,
@@ -285,7 +315,7 @@ final class SwaptionMeasureCalculations {
       RatesScenarioMarketData ratesMarketData,
       SwaptionScenarioMarketData swaptionMarketData) {
 
-    return CurrencyScenarioArray.of(
+    return scenarioParallelism.currencyScenarioArray(
         ratesMarketData.getScenarioCount(),
         i -> currentCash(
             trade,
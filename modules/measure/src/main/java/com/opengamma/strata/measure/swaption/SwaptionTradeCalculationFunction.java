@@ -19,6 +19,7 @@ import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -59,15 +60,15 @@ public class SwaptionTradeCalculationFunction
    */
   private static final ImmutableMap<Measure, SingleMeasureCalculation> CALCULATORS =
       ImmutableMap.<Measure, SingleMeasureCalculation>builder()
-          .put(Measures.PRESENT_VALUE, SwaptionMeasureCalculations.DEFAULT::presentValue)
-          .put(Measures.PV01_CALIBRATED_SUM, SwaptionMeasureCalculations.DEFAULT::pv01RatesCalibratedSum)
-          .put(Measures.PV01_CALIBRATED_BUCKETED, SwaptionMeasureCalculations.DEFAULT::pv01RatesCalibratedBucketed)
-          .put(Measures.PV01_MARKET_QUOTE_SUM, SwaptionMeasureCalculations.DEFAULT::pv01RatesMarketQuoteSum)
-          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, SwaptionMeasureCalculations.DEFAULT::pv01RatesMarketQuoteBucketed)
-          .put(Measures.VEGA_MARKET_QUOTE_BUCKETED, SwaptionMeasureCalculations.DEFAULT::vegaMarketQuoteBucketed)
-          .put(Measures.CURRENCY_EXPOSURE, SwaptionMeasureCalculations.DEFAULT::currencyExposure)
-          .put(Measures.CURRENT_CASH, SwaptionMeasureCalculations.DEFAULT::currentCash)
-          .put(Measures.RESOLVED_TARGET, (rt, smd, m) -> rt)
+          .put(Measures.PRESENT_VALUE, SwaptionMeasureCalculations::presentValue)
+          .put(Measures.PV01_CALIBRATED_SUM, SwaptionMeasureCalculations::pv01RatesCalibratedSum)
+          .put(Measures.PV01_CALIBRATED_BUCKETED, SwaptionMeasureCalculations::pv01RatesCalibratedBucketed)
+          .put(Measures.PV01_MARKET_QUOTE_SUM, SwaptionMeasureCalculations::pv01RatesMarketQuoteSum)
+          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, SwaptionMeasureCalculations::pv01RatesMarketQuoteBucketed)
+          .put(Measures.VEGA_MARKET_QUOTE_BUCKETED, SwaptionMeasureCalculations::vegaMarketQuoteBucketed)
+          .put(Measures.CURRENCY_EXPOSURE, SwaptionMeasureCalculations::currencyExposure)
+          .put(Measures.CURRENT_CASH, SwaptionMeasureCalculations::currentCash)
+          .put(Measures.RESOLVED_TARGET, (c, rt, smd, m) -> rt)
           .build();
 
   private static final ImmutableSet<Measure> MEASURES = CALCULATORS.keySet();
@@ -136,10 +137,14 @@ public class SwaptionTradeCalculationFunction
     SwaptionMarketDataLookup swaptionLookup = parameters.getParameter(SwaptionMarketDataLookup.class);
     SwaptionScenarioMarketData swaptionMarketData = swaptionLookup.marketDataView(scenarioMarketData);
 
+    SwaptionMeasureCalculations calculations = parameters.findParameter(ScenarioParallelism.class)
+        .map(SwaptionMeasureCalculations.DEFAULT::withScenarioParallelism)
+        .orElse(SwaptionMeasureCalculations.DEFAULT);
+
     // loop around measures, calculating all scenarios for one measure
     Map<Measure, Result<?>> results = new HashMap<>();
     for (Measure measure : measures) {
-      results.put(measure, calculate(measure, resolved, ratesMarketData, swaptionMarketData));
+      results.put(measure, calculate(measure, resolved, calculations, ratesMarketData, swaptionMarketData));
     }
     return results;
   }
@@ -148,6 +153,7 @@ public class SwaptionTradeCalculationFunction
   private Result<?> calculate(
       Measure measure,
       ResolvedSwaptionTrade trade,
+      SwaptionMeasureCalculations calculations,
       RatesScenarioMarketData ratesMarketData,
       SwaptionScenarioMarketData swaptionMarketData) {
 
@@ -155,13 +161,14 @@ public class SwaptionTradeCalculationFunction
     if (calculator == null) {
       return Result.failure(FailureReason.UNSUPPORTED, "Unsupported measure for SwaptionTrade: {}", measure);
     }
-    return Result.of(() -> calculator.calculate(trade, ratesMarketData, swaptionMarketData));
+    return Result.of(() -> calculator.calculate(calculations, trade, ratesMarketData, swaptionMarketData));
   }
 
   //-------------------------------------------------------------------------
   @FunctionalInterface
   interface SingleMeasureCalculation {
     public abstract Object calculate(
+        SwaptionMeasureCalculations calculations,
         ResolvedSwaptionTrade trade,
         RatesScenarioMarketData ratesMarketData,
         SwaptionScenarioMarketData swaptionMarketData);
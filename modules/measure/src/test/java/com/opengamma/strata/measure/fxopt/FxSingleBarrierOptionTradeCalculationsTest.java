@@ -6,12 +6,17 @@
 package com.opengamma.strata.measure.fxopt;
 
 import static com.opengamma.strata.measure.fxopt.FxSingleBarrierOptionMethod.BLACK;
+import static com.opengamma.strata.measure.fxopt.FxSingleBarrierOptionMethod.TRINOMIAL_TREE;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.currency.CurrencyPair;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
@@ -20,8 +25,13 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
+import com.opengamma.strata.pricer.DiscountingPaymentPricer;
 import com.opengamma.strata.pricer.fxopt.BlackFxOptionVolatilities;
 import com.opengamma.strata.pricer.fxopt.BlackFxSingleBarrierOptionTradePricer;
+import com.opengamma.strata.pricer.fxopt.ImpliedTrinomialTreeFxOptionCalibrator;
+import com.opengamma.strata.pricer.fxopt.ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer;
+import com.opengamma.strata.pricer.fxopt.ImpliedTrinomialTreeFxSingleBarrierOptionTradePricer;
+import com.opengamma.strata.pricer.fxopt.RecombiningTrinomialTreeData;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.fxopt.ResolvedFxSingleBarrierOptionTrade;
 
@@ -72,4 +82,45 @@ public class FxSingleBarrierOptionTradeCalculationsTest {
             .isEqualTo(ScenarioArray.of(ImmutableList.of(expectedPv01CalBucketed)));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_trinomialTree_cached() {
+    RecordingCalibrator calibrator = new RecordingCalibrator();
+    FxSingleBarrierOptionTradeCalculations calcs = new FxSingleBarrierOptionTradeCalculations(
+        BlackFxSingleBarrierOptionTradePricer.DEFAULT,
+        new ImpliedTrinomialTreeFxSingleBarrierOptionTradePricer(
+            new ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(calibrator), DiscountingPaymentPricer.DEFAULT));
+    ScenarioMarketData md = FxSingleBarrierOptionTradeCalculationFunctionTest.marketData();
+    MultiCurrencyScenarioArray pv = calcs.presentValue(RTRADE, RATES_LOOKUP, FX_OPTION_LOOKUP, md, TRINOMIAL_TREE);
+    calcs.currencyExposure(RTRADE, RATES_LOOKUP, FX_OPTION_LOOKUP, md, TRINOMIAL_TREE);
+    calcs.pv01RatesCalibratedSum(RTRADE, RATES_LOOKUP, FX_OPTION_LOOKUP, md, TRINOMIAL_TREE);
+    // the trees calibrated to the bumped curves are not cached by the calibrator
+    assertThat(calibrator.trees).hasSize(3);
+    assertThat(calibrator.trees.get(1)).isSameAs(calibrator.trees.get(0));
+    assertThat(calibrator.trees.get(2)).isSameAs(calibrator.trees.get(0));
+    assertThat(FxSingleBarrierOptionTradeCalculations.DEFAULT.presentValue(
+        RTRADE, RATES_LOOKUP, FX_OPTION_LOOKUP, md, TRINOMIAL_TREE)).isEqualTo(pv);
+  }
+
+  // a caching calibrator recording the trees it returns
+  private static final class RecordingCalibrator extends ImpliedTrinomialTreeFxOptionCalibrator {
+    private final List<RecombiningTrinomialTreeData> trees = new ArrayList<>();
+
+    private RecordingCalibrator() {
+      super(ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer.NUM_STEPS_DEFAULT, 10);
+    }
+
+    @Override
+    public RecombiningTrinomialTreeData calibrateTrinomialTree(
+        double timeToExpiry,
+        CurrencyPair currencyPair,
+        RatesProvider ratesProvider,
+        BlackFxOptionVolatilities volatilities) {
+
+      RecombiningTrinomialTreeData tree = super.calibrateTrinomialTree(timeToExpiry, currencyPair, ratesProvider, volatilities);
+      trees.add(tree);
+      return tree;
+    }
+  }
+
 }
@@ -15,6 +15,7 @@ import static org.assertj.core.api.Assertions.offset;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -49,6 +50,7 @@ import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
 import com.opengamma.strata.market.curve.DefaultCurveMetadata;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurveDefinition;
+import com.opengamma.strata.market.curve.NodalCurve;
 import com.opengamma.strata.market.curve.RatesCurveGroup;
 import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
 import com.opengamma.strata.market.curve.RatesCurveGroupId;
@@ -63,6 +65,7 @@ import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.market.observable.QuoteId;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.measure.curve.TestMarketDataMap;
+import com.opengamma.strata.pricer.curve.CalibrationMeasures;
 import com.opengamma.strata.pricer.curve.RatesCurveCalibrator;
 import com.opengamma.strata.pricer.fra.DiscountingFraTradePricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -365,6 +368,55 @@ public class RatesCurveGroupMarketDataFunctionTest {
         .withMessageMatching(msg);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void scenarios() {
+    InterpolatedNodalCurveDefinition curveDefn = CurveTestUtils.fraCurveDefinition();
+    List<CurveNode> nodes = curveDefn.getNodes();
+    double[] rates = {0.003, 0.0033, 0.0037, 0.0054, 0.007, 0.0091, 0.0134};
+    CurveGroupName groupName = CurveGroupName.of("Curve Group");
+    CurveName curveName = CurveName.of("FRA Curve");
+    RatesCurveGroupDefinition groupDefn = RatesCurveGroupDefinition.builder()
+        .name(groupName)
+        .addCurve(curveDefn, Currency.USD, IborIndices.USD_LIBOR_3M)
+        .build();
+
+    int scenarioCount = 10;
+    List<RatesCurveInputs> scenarioInputs = new ArrayList<>();
+    for (int i = 0; i < scenarioCount; i++) {
+      ImmutableMap.Builder<MarketDataId<?>, Double> inputData = ImmutableMap.builder();
+      for (int j = 0; j < nodes.size(); j++) {
+        inputData.put(CurveTestUtils.key(nodes.get(j)), rates[j] + i * 0.0001);
+      }
+      scenarioInputs.add(RatesCurveInputs.of(inputData.build(), DefaultCurveMetadata.of(curveName)));
+    }
+    LocalDate valuationDate = date(2011, 3, 8);
+    ScenarioMarketData inputMarketData = ImmutableScenarioMarketData.builder(valuationDate)
+        .addScenarioValue(RatesCurveInputsId.of(groupName, curveName, ObservableSource.NONE), scenarioInputs)
+        .build();
+
+    MarketDataBox<RatesCurveGroup> test = new RatesCurveGroupMarketDataFunction()
+        .buildCurveGroup(groupDefn, CALIBRATOR, inputMarketData, REF_DATA, ObservableSource.NONE);
+    MarketDataBox<RatesCurveGroup> warmStarted = new RatesCurveGroupMarketDataFunction(CalibrationMeasures.PAR_SPREAD, true)
+        .buildCurveGroup(groupDefn, CALIBRATOR, inputMarketData, REF_DATA, ObservableSource.NONE);
+    assertThat(test.getScenarioCount()).isEqualTo(scenarioCount);
+    assertThat(warmStarted.getScenarioCount()).isEqualTo(scenarioCount);
+    for (int i = 0; i < scenarioCount; i++) {
+      ScenarioMarketData scenarioMarketData = ImmutableScenarioMarketData.builder(valuationDate)
+          .addValue(RatesCurveInputsId.of(groupName, curveName, ObservableSource.NONE), scenarioInputs.get(i))
+          .build();
+      RatesCurveGroup expected = new RatesCurveGroupMarketDataFunction()
+          .buildCurveGroup(groupDefn, CALIBRATOR, scenarioMarketData, REF_DATA, ObservableSource.NONE)
+          .getSingleValue();
+      // by default, the scenarios are calibrated independently, matching a single scenario exactly
+      assertThat(test.getValue(i)).isEqualTo(expected);
+      // warm-starting matches to within the tolerance of the calibration
+      NodalCurve expectedCurve = (NodalCurve) expected.findDiscountCurve(Currency.USD).get();
+      NodalCurve warmStartedCurve = (NodalCurve) warmStarted.getValue(i).findDiscountCurve(Currency.USD).get();
+      assertThat(warmStartedCurve.getYValues().equalWithTolerance(expectedCurve.getYValues(), 1e-8)).isTrue();
+    }
+  }
+
   //-----------------------------------------------------------------------------------------------------------
 
   private void checkFraPvIsZero(
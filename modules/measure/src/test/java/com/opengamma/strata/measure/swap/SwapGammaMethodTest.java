@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.measure.swap;
+
+import static com.opengamma.strata.collect.TestHelper.assertJodaConvert;
+import static com.opengamma.strata.collect.TestHelper.assertSerialization;
+import static com.opengamma.strata.collect.TestHelper.coverEnum;
+import static com.opengamma.strata.measure.swap.SwapGammaMethod.FINITE_DIFFERENCE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.product.swap.SwapTrade;
+
+/**
+ * Test {@link SwapGammaMethod}.
+ */
+public class SwapGammaMethodTest {
+
+  private static final SwapTrade TRADE = SwapTradeCalculationFunctionTest.TRADE;
+  private static final CalculationTarget TARGET = new CalculationTarget() {};
+
+  //-------------------------------------------------------------------------
+  public static Object[][] data_name() {
+    return new Object[][] {
+        {SwapGammaMethod.FINITE_DIFFERENCE, "FiniteDifference"},
+        {SwapGammaMethod.ALGORITHMIC_DIFFERENTIATION, "AlgorithmicDifferentiation"},
+    };
+  }
+
+  @ParameterizedTest
+  @MethodSource("data_name")
+  public void test_toString(SwapGammaMethod convention, String name) {
+    assertThat(convention.toString()).isEqualTo(name);
+  }
+
+  @ParameterizedTest
+  @MethodSource("data_name")
+  public void test_of_lookup(SwapGammaMethod convention, String name) {
+    assertThat(SwapGammaMethod.of(name)).isEqualTo(convention);
+  }
+
+  @Test
+  public void test_of_lookup_notFound() {
+    assertThatIllegalArgumentException().isThrownBy(() -> SwapGammaMethod.of("Rubbish"));
+  }
+
+  @Test
+  public void test_of_lookup_null() {
+    assertThatIllegalArgumentException().isThrownBy(() -> SwapGammaMethod.of(null));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_filter() {
+    assertThat(FINITE_DIFFERENCE.filter(TRADE, Measures.PRESENT_VALUE)).isEqualTo(Optional.of(FINITE_DIFFERENCE));
+    assertThat(FINITE_DIFFERENCE.filter(TARGET, Measures.PRESENT_VALUE)).isEqualTo(Optional.empty());
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void coverage() {
+    coverEnum(SwapGammaMethod.class);
+  }
+
+  @Test
+  public void test_serialization() {
+    assertSerialization(SwapGammaMethod.FINITE_DIFFERENCE);
+  }
+
+  @Test
+  public void test_jodaConvert() {
+    assertJodaConvert(SwapGammaMethod.class, SwapGammaMethod.FINITE_DIFFERENCE);
+  }
+
+}
@@ -6,11 +6,14 @@
 package com.opengamma.strata.measure.swap;
 
 import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,8 +28,11 @@ import com.opengamma.strata.basics.index.IborIndex;
 import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.ScenarioParallelism;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -35,14 +41,18 @@ import com.opengamma.strata.market.curve.ConstantCurve;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveId;
 import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.observable.IndexQuoteId;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.measure.AdvancedMeasures;
 import com.opengamma.strata.measure.Measures;
 import com.opengamma.strata.measure.curve.TestMarketDataMap;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
 import com.opengamma.strata.pricer.swap.DiscountingSwapTradePricer;
 import com.opengamma.strata.product.common.BuySell;
 import com.opengamma.strata.product.swap.ResolvedSwapTrade;
@@ -145,6 +155,64 @@ public class SwapTradeCalculationFunctionTest {
             Measures.PV01_CALIBRATED_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedBucketedPv01))));
   }
 
+  @Test
+  public void test_pv01SingleNodeGamma() {
+    SwapTradeCalculationFunction function = new SwapTradeCalculationFunction();
+    Curve discountCurve = InterpolatedNodalCurve.of(
+        Curves.zeroRates("Discount", ACT_360), DoubleArray.of(1, 2, 5, 10, 15), DoubleArray.of(0.01, 0.012, 0.015, 0.02, 0.021),
+        CurveInterpolators.LINEAR);
+    Curve forwardCurve = InterpolatedNodalCurve.of(
+        Curves.zeroRates("Forward", ACT_360), DoubleArray.of(1, 3, 5, 10, 15), DoubleArray.of(0.012, 0.014, 0.017, 0.021, 0.022),
+        CurveInterpolators.LINEAR);
+    ScenarioMarketData md = new TestMarketDataMap(
+        VAL_DATE,
+        ImmutableMap.of(DISCOUNT_CURVE_ID, discountCurve, FORWARD_CURVE_ID, forwardCurve),
+        ImmutableMap.of());
+    RatesProvider provider = RATES_LOOKUP.ratesProvider(md.scenario(0));
+    DiscountingSwapTradePricer pricer = DiscountingSwapTradePricer.DEFAULT;
+    CurrencyParameterSensitivities expectedFd = CurveGammaCalculator.DEFAULT
+        .calculateCrossGammaIntraCurve(provider, p -> p.parameterSensitivity(pricer.presentValueSensitivity(RTRADE, p)))
+        .diagonal()
+        .multipliedBy(1e-8);
+    CurrencyParameterSensitivities expectedAd = CurveGammaCalculator.DEFAULT
+        .calculateCrossGammaIntraCurve(
+            provider,
+            pricer.presentValueSensitivityCashFlows(RTRADE, provider),
+            p -> p.parameterSensitivity(pricer.presentValueSensitivityNonCashFlows(RTRADE, p)))
+        .diagonal()
+        .multipliedBy(1e-8);
+    assertThat(expectedAd.equalWithTolerance(expectedFd, 1e-4)).isTrue();
+
+    Set<Measure> measures = ImmutableSet.of(AdvancedMeasures.PV01_SINGLE_NODE_GAMMA_BUCKETED);
+    assertThat(function.calculate(TRADE, measures, PARAMS, md, REF_DATA))
+        .containsEntry(
+            AdvancedMeasures.PV01_SINGLE_NODE_GAMMA_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedFd))));
+    CalculationParameters adParams = PARAMS.combinedWith(CalculationParameters.of(SwapGammaMethod.ALGORITHMIC_DIFFERENTIATION));
+    assertThat(function.calculate(TRADE, measures, adParams, md, REF_DATA))
+        .containsEntry(
+            AdvancedMeasures.PV01_SINGLE_NODE_GAMMA_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedAd))));
+  }
+
+  @Test
+  public void test_scenarioParallelism() {
+    SwapTradeCalculationFunction function = new SwapTradeCalculationFunction();
+    List<Curve> curves = IntStream.range(0, 20)
+        .mapToObj(i -> ConstantCurve.of(Curves.discountFactors("Test", ACT_360), 0.99 - i * 0.001))
+        .collect(toImmutableList());
+    ScenarioMarketData md = ImmutableScenarioMarketData.builder(VAL_DATE)
+        .addScenarioValue(DISCOUNT_CURVE_ID, curves)
+        .addScenarioValue(FORWARD_CURVE_ID, curves)
+        .build();
+    CalculationParameters parallelParams = PARAMS.combinedWith(CalculationParameters.of(ScenarioParallelism.of(2)));
+
+    Set<Measure> measures = ImmutableSet.of(
+        Measures.PRESENT_VALUE,
+        Measures.PAR_RATE,
+        Measures.PV01_CALIBRATED_BUCKETED);
+    assertThat(function.calculate(TRADE, measures, parallelParams, md, REF_DATA))
+        .isEqualTo(function.calculate(TRADE, measures, PARAMS, md, REF_DATA));
+  }
+
   //-------------------------------------------------------------------------
   static ScenarioMarketData marketData() {
     Curve curve = ConstantCurve.of(Curves.discountFactors("Test", ACT_360), 0.99);
@@ -8,6 +8,8 @@ package com.opengamma.strata.pricer;
 import static com.opengamma.strata.pricer.ZeroRatePeriodicDiscountFactors.EFFECTIVE_ZERO;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import com.opengamma.strata.basics.currency.Currency;
@@ -121,6 +123,59 @@ public interface DiscountFactors
    */
   public abstract double discountFactor(double yearFraction);
 
+  /**
+   * Calculates the relative time between the valuation date and each of the specified dates.
+   * <p>
+   * The result has one element for each date, see {@link #relativeYearFraction(LocalDate)}.
+   * 
+   * @param dates  the dates
+   * @return the year fractions
+   * @throws RuntimeException if it is not possible to convert dates to relative times
+   */
+  public default double[] relativeYearFractions(List<LocalDate> dates) {
+    double[] yearFractions = new double[dates.size()];
+    for (int i = 0; i < yearFractions.length; i++) {
+      yearFractions[i] = relativeYearFraction(dates.get(i));
+    }
+    return yearFractions;
+  }
+
+  /**
+   * Gets the discount factors for the specified dates.
+   * <p>
+   * The result has one element for each date, and is the same as calling {@link #discountFactor(LocalDate)}
+   * for each date. Implementations may evaluate the underlying curve in a single pass, which is
+   * faster for the payment dates of a schedule, sorted from earliest to latest.
+   * 
+   * @param dates  the dates to discount to, typically sorted from earliest to latest
+   * @return the discount factors
+   * @throws RuntimeException if the values cannot be obtained
+   */
+  public default double[] discountFactors(List<LocalDate> dates) {
+    return discountFactors(relativeYearFractions(dates));
+  }
+
+  /**
+   * Gets the discount factors for the specified year fractions.
+   * <p>
+   * The result has one element for each year fraction, and is the same as calling {@link #discountFactor(double)}
+   * for each year fraction. Implementations may evaluate the underlying curve in a single pass, which is
+   * faster when the year fractions are sorted from low to high.
+   * <p>
+   * The year fractions must be based on {@code #relativeYearFraction(LocalDate)}.
+   * 
+   * @param yearFractions  the year fractions, typically sorted from low to high
+   * @return the discount factors
+   * @throws RuntimeException if the values cannot be obtained
+   */
+  public default double[] discountFactors(double[] yearFractions) {
+    double[] discountFactors = new double[yearFractions.length];
+    for (int i = 0; i < yearFractions.length; i++) {
+      discountFactors[i] = discountFactor(yearFractions[i]);
+    }
+    return discountFactors;
+  }
+
   /**
    * Returns the discount factor derivative with respect to the year fraction or time.
    * <p>
@@ -301,6 +356,28 @@ public interface DiscountFactors
    */
   public abstract ZeroRateSensitivity zeroRatePointSensitivity(double yearFraction, Currency sensitivityCurrency);
 
+  /**
+   * Calculates the zero rate point sensitivities at the specified year fractions.
+   * <p>
+   * The result has one element for each year fraction, and is the same as calling
+   * {@link #zeroRatePointSensitivity(double)} for each year fraction.
+   * Implementations may evaluate the underlying curve in a single pass, which is
+   * faster when the year fractions are sorted from low to high.
+   * <p>
+   * The year fractions must be based on {@code #relativeYearFraction(LocalDate)}.
+   * 
+   * @param yearFractions  the year fractions, typically sorted from low to high
+   * @return the point sensitivities of the zero rate
+   * @throws RuntimeException if the result cannot be calculated
+   */
+  public default List<ZeroRateSensitivity> zeroRatePointSensitivities(double[] yearFractions) {
+    List<ZeroRateSensitivity> sensitivities = new ArrayList<>(yearFractions.length);
+    for (double yearFraction : yearFractions) {
+      sensitivities.add(zeroRatePointSensitivity(yearFraction));
+    }
+    return sensitivities;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the zero rate point sensitivity with z-spread at the specified date.
@@ -447,6 +524,35 @@ public interface DiscountFactors
    */
   public abstract CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSensitivity);
 
+  /**
+   * Calculates the parameter sensitivity from zero rate point sensitivities at the specified year fractions.
+   * <p>
+   * This is the same as calling {@link #parameterSensitivity(ZeroRateSensitivity)} for each year fraction
+   * and combining the results. Implementations may project all the sensitivities onto the curve in a
+   * single pass, without creating a point sensitivity for each year fraction.
+   * <p>
+   * The year fractions must be based on {@code #relativeYearFraction(LocalDate)}.
+   * 
+   * @param sensitivityCurrency  the currency of the sensitivities
+   * @param yearFractions  the year fractions
+   * @param sensitivities  the zero rate sensitivity at each year fraction
+   * @return the parameter sensitivity
+   * @throws RuntimeException if the result cannot be calculated
+   */
+  public default CurrencyParameterSensitivities parameterSensitivity(
+      Currency sensitivityCurrency,
+      double[] yearFractions,
+      double[] sensitivities) {
+
+    ArgChecker.isTrue(yearFractions.length == sensitivities.length, "Arrays must have the same size");
+    CurrencyParameterSensitivities sens = CurrencyParameterSensitivities.empty();
+    for (int i = 0; i < yearFractions.length; i++) {
+      ZeroRateSensitivity point = ZeroRateSensitivity.of(getCurrency(), yearFractions[i], sensitivityCurrency, sensitivities[i]);
+      sens = sens.combinedWith(parameterSensitivity(point));
+    }
+    return sens;
+  }
+
   /**
    * Creates the parameter sensitivity when the sensitivity values are known.
    * <p>
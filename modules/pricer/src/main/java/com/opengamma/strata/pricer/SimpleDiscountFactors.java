@@ -36,6 +36,7 @@ import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.NodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
@@ -174,6 +175,16 @@ public final class SimpleDiscountFactors
     return curve.yValue(yearFraction);
   }
 
+  @Override
+  public double[] discountFactors(double[] yearFractions) {
+    if (curve instanceof NodalCurve) {
+      double[] discountFactors = new double[yearFractions.length];
+      ((NodalCurve) curve).yValues(yearFractions, discountFactors);
+      return discountFactors;
+    }
+    return DiscountFactors.super.discountFactors(yearFractions);
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     return curve.firstDerivative(yearFraction);
@@ -7,6 +7,9 @@ package com.opengamma.strata.pricer;
 
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -36,6 +39,7 @@ import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.Curves;
 import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.NodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
@@ -179,6 +183,41 @@ public final class ZeroRateDiscountFactors
     return Math.exp(-yearFraction * curve.yValue(yearFraction));
   }
 
+  @Override
+  public double[] discountFactors(double[] yearFractions) {
+    double[] zeroRates = zeroRates(yearFractions);
+    double[] discountFactors = new double[yearFractions.length];
+    int j = 0;
+    for (int i = 0; i < yearFractions.length; i++) {
+      double yearFraction = yearFractions[i];
+      discountFactors[i] = yearFraction <= EFFECTIVE_ZERO ? 1d : Math.exp(-yearFraction * zeroRates[j++]);
+    }
+    return discountFactors;
+  }
+
+  // the zero rates of the year fractions above the effective zero, in order, in a single pass over a nodal curve
+  private double[] zeroRates(double[] yearFractions) {
+    double[] xValues = new double[yearFractions.length];
+    int count = 0;
+    for (double yearFraction : yearFractions) {
+      if (yearFraction > EFFECTIVE_ZERO) {
+        xValues[count++] = yearFraction;
+      }
+    }
+    if (count < xValues.length) {
+      xValues = Arrays.copyOf(xValues, count);
+    }
+    double[] zeroRates = new double[count];
+    if (curve instanceof NodalCurve) {
+      ((NodalCurve) curve).yValues(xValues, zeroRates);
+    } else {
+      for (int i = 0; i < count; i++) {
+        zeroRates[i] = curve.yValue(xValues[i]);
+      }
+    }
+    return zeroRates;
+  }
+
   @Override
   public double discountFactorTimeDerivative(double yearFraction) {
     if (yearFraction <= EFFECTIVE_ZERO) {
@@ -206,6 +245,18 @@ public final class ZeroRateDiscountFactors
     return ZeroRateSensitivity.of(currency, yearFraction, sensitivityCurrency, -discountFactor * yearFraction);
   }
 
+  @Override
+  public List<ZeroRateSensitivity> zeroRatePointSensitivities(double[] yearFractions) {
+    double[] discountFactors = discountFactors(yearFractions);
+    List<ZeroRateSensitivity> sensitivities = new ArrayList<>(yearFractions.length);
+    for (int i = 0; i < yearFractions.length; i++) {
+      double yearFraction = yearFractions[i];
+      double sensitivity = yearFraction <= EFFECTIVE_ZERO ? 0d : -discountFactors[i] * yearFraction;
+      sensitivities.add(ZeroRateSensitivity.of(currency, yearFraction, currency, sensitivity));
+    }
+    return sensitivities;
+  }
+
   @Override
   public CurrencyParameterSensitivities parameterSensitivity(ZeroRateSensitivity pointSens) {
     double yearFraction = pointSens.getYearFraction();
@@ -218,6 +269,26 @@ public final class ZeroRateDiscountFactors
     return CurrencyParameterSensitivities.of(curSens);
   }
 
+  @Override
+  public CurrencyParameterSensitivities parameterSensitivity(
+      Currency sensitivityCurrency,
+      double[] yearFractions,
+      double[] sensitivities) {
+
+    ArgChecker.isTrue(yearFractions.length == sensitivities.length, "Arrays must have the same size");
+    if (!(curve instanceof NodalCurve) || yearFractions.length == 0) {
+      return DiscountFactors.super.parameterSensitivity(sensitivityCurrency, yearFractions, sensitivities);
+    }
+    double[] weights = new double[sensitivities.length];
+    for (int i = 0; i < sensitivities.length; i++) {
+      // Discount factor in 0 is always 1, no sensitivity.
+      weights[i] = yearFractions[i] <= EFFECTIVE_ZERO ? 0d : sensitivities[i];
+    }
+    double[] result = new double[curve.getParameterCount()];
+    ((NodalCurve) curve).addYValueParameterSensitivity(yearFractions, weights, result);
+    return createParameterSensitivity(sensitivityCurrency, DoubleArray.ofUnsafe(result));
+  }
+
   @Override
   public CurrencyParameterSensitivities createParameterSensitivity(Currency currency, DoubleArray sensitivities) {
     return CurrencyParameterSensitivities.of(curve.createParameterSensitivity(currency, sensitivities));
@@ -5,9 +5,11 @@
  */
 package com.opengamma.strata.pricer.bond;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static java.time.temporal.ChronoUnit.DAYS;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
@@ -60,6 +62,29 @@ public class DiscountingFixedCouponBondPaymentPeriodPricer {
     return period.getFixedRate() * period.getNotional() * period.getYearFraction() * df;
   }
 
+  /**
+   * Calculates the present value of a list of fixed coupon payment periods.
+   * <p>
+   * The result is the same as the sum of {@link #presentValue(FixedCouponBondPaymentPeriod, IssuerCurveDiscountFactors)}
+   * for each period, except that the discount factors of all the payment dates are obtained together.
+   * This allows the discount curve to be evaluated in a single pass for a schedule of periods.
+   * Periods with a payment date in the past have no value.
+   * 
+   * @param periods  the periods to price, typically sorted by payment date
+   * @param discountFactors  the discount factor provider
+   * @return the present value of the periods
+   */
+  public double presentValue(List<FixedCouponBondPaymentPeriod> periods, IssuerCurveDiscountFactors discountFactors) {
+    List<FixedCouponBondPaymentPeriod> unpaid = unpaidPeriods(periods, discountFactors.getValuationDate());
+    double[] dfs = discountFactors.discountFactors(paymentDates(unpaid));
+    double total = 0d;
+    for (int i = 0; i < dfs.length; i++) {
+      FixedCouponBondPaymentPeriod period = unpaid.get(i);
+      total += period.getFixedRate() * period.getNotional() * period.getYearFraction() * dfs[i];
+    }
+    return total;
+  }
+
   /**
    * Calculates the present value of a single fixed coupon payment period with z-spread.
    * <p>
@@ -140,6 +165,34 @@ public class DiscountingFixedCouponBondPaymentPeriodPricer {
     return dscSensi.multipliedBy(period.getFixedRate() * period.getNotional() * period.getYearFraction());
   }
 
+  /**
+   * Calculates the present value sensitivity of a list of fixed coupon payment periods.
+   * <p>
+   * The result is the same as combining {@link #presentValueSensitivity(FixedCouponBondPaymentPeriod,
+   * IssuerCurveDiscountFactors)} for each period, except that the zero rate sensitivities of all
+   * the payment dates are obtained together.
+   * This allows the discount curve to be evaluated in a single pass for a schedule of periods.
+   * Periods with a payment date in the past have no sensitivity.
+   * 
+   * @param periods  the periods to price, typically sorted by payment date
+   * @param discountFactors  the discount factor provider
+   * @return the present value curve sensitivity of the periods
+   */
+  public PointSensitivityBuilder presentValueSensitivity(
+      List<FixedCouponBondPaymentPeriod> periods,
+      IssuerCurveDiscountFactors discountFactors) {
+
+    List<FixedCouponBondPaymentPeriod> unpaid = unpaidPeriods(periods, discountFactors.getValuationDate());
+    List<IssuerCurveZeroRateSensitivity> dscSensis = discountFactors.zeroRatePointSensitivities(paymentDates(unpaid));
+    PointSensitivityBuilder builder = PointSensitivityBuilder.none();
+    for (int i = 0; i < dscSensis.size(); i++) {
+      FixedCouponBondPaymentPeriod period = unpaid.get(i);
+      builder = builder.combinedWith(
+          dscSensis.get(i).multipliedBy(period.getFixedRate() * period.getNotional() * period.getYearFraction()));
+    }
+    return builder;
+  }
+
   /**
    * Calculates the present value sensitivity of a single fixed coupon payment period with z-spread.
    * <p>
@@ -261,6 +314,23 @@ public class DiscountingFixedCouponBondPaymentPeriodPricer {
     }
   }
 
+  // the periods with a payment date that is not in the past
+  private static List<FixedCouponBondPaymentPeriod> unpaidPeriods(
+      List<FixedCouponBondPaymentPeriod> periods,
+      LocalDate valuationDate) {
+
+    return periods.stream()
+        .filter(period -> !period.getPaymentDate().isBefore(valuationDate))
+        .collect(toImmutableList());
+  }
+
+  // the payment dates of the periods
+  private static List<LocalDate> paymentDates(List<FixedCouponBondPaymentPeriod> periods) {
+    return periods.stream()
+        .map(FixedCouponBondPaymentPeriod::getPaymentDate)
+        .collect(toImmutableList());
+  }
+
   // common parts of explain
   private void explainBasics(FixedCouponBondPaymentPeriod period, ExplainMapBuilder builder, Currency currency,
       LocalDate paymentDate) {
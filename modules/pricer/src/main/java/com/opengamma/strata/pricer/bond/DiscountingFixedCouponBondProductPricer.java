@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.pricer.bond;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.math.MathUtils.pow2;
 import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.DE_BONDS;
 import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.GB_BUMP_DMO;
@@ -12,6 +13,7 @@ import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.J
 import static com.opengamma.strata.product.bond.FixedCouponBondYieldConvention.US_STREET;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.function.Function;
 
 import com.google.common.collect.ImmutableList;
@@ -1072,17 +1074,19 @@ public class DiscountingFixedCouponBondProductPricer {
   }
 
   //-------------------------------------------------------------------------
+  // the coupon periods that are not detached at the reference date
+  private List<FixedCouponBondPaymentPeriod> couponPeriods(ResolvedFixedCouponBond bond, LocalDate referenceDate) {
+    return bond.getPeriodicPayments().stream()
+        .filter(period -> period.getDetachmentDate().isAfter(referenceDate))
+        .collect(toImmutableList());
+  }
+
   private CurrencyAmount presentValueCoupon(
       ResolvedFixedCouponBond bond,
       IssuerCurveDiscountFactors discountFactors,
       LocalDate referenceDate) {
 
-    double total = 0d;
-    for (FixedCouponBondPaymentPeriod period : bond.getPeriodicPayments()) {
-      if (period.getDetachmentDate().isAfter(referenceDate)) {
-        total += periodPricer.presentValue(period, discountFactors);
-      }
-    }
+    double total = periodPricer.presentValue(couponPeriods(bond, referenceDate), discountFactors);
     return CurrencyAmount.of(bond.getCurrency(), total);
   }
 
@@ -1109,13 +1113,7 @@ public class DiscountingFixedCouponBondProductPricer {
       IssuerCurveDiscountFactors discountFactors,
       LocalDate referenceDate) {
 
-    PointSensitivityBuilder builder = PointSensitivityBuilder.none();
-    for (FixedCouponBondPaymentPeriod period : bond.getPeriodicPayments()) {
-      if (period.getDetachmentDate().isAfter(referenceDate)) {
-        builder = builder.combinedWith(periodPricer.presentValueSensitivity(period, discountFactors));
-      }
-    }
-    return builder;
+    return periodPricer.presentValueSensitivity(couponPeriods(bond, referenceDate), discountFactors);
   }
 
   private PointSensitivityBuilder presentValueSensitivityCouponFromZSpread(
@@ -5,8 +5,11 @@
  */
 package com.opengamma.strata.pricer.bond;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
@@ -106,6 +109,20 @@ public final class IssuerCurveDiscountFactors
     return discountFactors.discountFactor(date);
   }
 
+  /**
+   * Gets the discount factors for the specified dates.
+   * <p>
+   * The result has one element for each date, and is the same as calling {@link #discountFactor(LocalDate)}
+   * for each date. The underlying curve may be evaluated in a single pass, which is faster for
+   * the payment dates of a schedule, sorted from earliest to latest.
+   * 
+   * @param dates  the dates to discount to, typically sorted from earliest to latest
+   * @return the discount factors
+   */
+  public double[] discountFactors(List<LocalDate> dates) {
+    return discountFactors.discountFactors(dates);
+  }
+
   /**
    * Calculates the zero rate point sensitivity at the specified date.
    * <p>
@@ -142,6 +159,25 @@ public final class IssuerCurveDiscountFactors
     return IssuerCurveZeroRateSensitivity.of(zeroRateSensitivity, legalEntityGroup);
   }
 
+  /**
+   * Calculates the zero rate point sensitivities at the specified dates.
+   * <p>
+   * The result has one element for each date, and is the same as calling
+   * {@link #zeroRatePointSensitivity(LocalDate)} for each date.
+   * The underlying curve may be evaluated in a single pass, which is faster for
+   * the payment dates of a schedule, sorted from earliest to latest.
+   * 
+   * @param dates  the dates to discount to, typically sorted from earliest to latest
+   * @return the point sensitivities of the zero rate
+   * @throws RuntimeException if the result cannot be calculated
+   */
+  public List<IssuerCurveZeroRateSensitivity> zeroRatePointSensitivities(List<LocalDate> dates) {
+    double[] yearFractions = discountFactors.relativeYearFractions(dates);
+    return discountFactors.zeroRatePointSensitivities(yearFractions).stream()
+        .map(sensitivity -> IssuerCurveZeroRateSensitivity.of(sensitivity, legalEntityGroup))
+        .collect(toImmutableList());
+  }
+
   /**
    * Calculates the curve parameter sensitivity from the point sensitivity.
    * <p>
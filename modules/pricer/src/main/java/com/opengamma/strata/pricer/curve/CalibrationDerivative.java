@@ -7,6 +7,7 @@ package com.opengamma.strata.pricer.curve;
 
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
@@ -37,10 +38,14 @@ class CalibrationDerivative
    */
   private final RatesProviderGenerator providerGenerator;
   /**
-   * Provide the order in which the curves appear in the long vector result.
-   * The expected number of parameters for each curve is also provided.
+   * The sink, used to write the derivatives of each trade into a row.
+   * This provides the order in which the curves appear in the long vector result.
    */
-  private final List<CurveParameterSize> curveOrder;
+  private final ParameterSensitivitySink sink;
+  /**
+   * Whether to calculate the derivatives of the trades in parallel.
+   */
+  private final boolean parallel;
 
   /**
    * Creates an instance.
@@ -56,10 +61,30 @@ class CalibrationDerivative
       RatesProviderGenerator providerGenerator,
       List<CurveParameterSize> curveOrder) {
 
+    this(trades, measures, providerGenerator, curveOrder, false);
+  }
+
+  /**
+   * Creates an instance, specifying whether to calculate the derivatives of the trades in parallel.
+   * 
+   * @param trades  the trades
+   * @param measures  the calibration measures
+   * @param providerGenerator  the provider generator, used to create child providers
+   * @param curveOrder  the curve order
+   * @param parallel  whether to calculate the derivatives of the trades in parallel
+   */
+  public CalibrationDerivative(
+      List<ResolvedTrade> trades,
+      CalibrationMeasures measures,
+      RatesProviderGenerator providerGenerator,
+      List<CurveParameterSize> curveOrder,
+      boolean parallel) {
+
     this.measures = measures;
     this.trades = trades;
     this.providerGenerator = providerGenerator;
-    this.curveOrder = curveOrder;
+    this.sink = ParameterSensitivitySink.of(curveOrder);
+    this.parallel = parallel;
   }
 
   //-------------------------------------------------------------------------
@@ -68,8 +93,12 @@ class CalibrationDerivative
     // create child provider from matrix
     ImmutableRatesProvider provider = providerGenerator.generate(x);
     // calculate derivative for each trade using the child provider
+    // each row is written directly into the matrix
     int size = trades.size();
-    return DoubleMatrix.ofArrayObjects(size, size, i -> measures.derivative(trades.get(i), provider, curveOrder));
+    double[][] rows = new double[size][sink.getParameterCount()];
+    IntStream indices = parallel ? IntStream.range(0, size).parallel() : IntStream.range(0, size);
+    indices.forEach(i -> measures.derivative(trades.get(i), provider, sink, rows[i]));
+    return DoubleMatrix.ofUnsafe(rows);
   }
 
 }
@@ -51,4 +51,23 @@ public interface CalibrationMeasure<T extends ResolvedTrade> {
    */
   public abstract CurrencyParameterSensitivities sensitivities(T trade, RatesProvider provider);
 
+  /**
+   * Calculates the parameter sensitivities that relate to the value, adding them to a row of the Jacobian.
+   * <p>
+   * The sensitivities must be calculated using the specified rates provider.
+   * The sink defines the index in the row of each curve parameter.
+   * <p>
+   * The default implementation adds the result of {@link #sensitivities(ResolvedTrade, RatesProvider)}.
+   * Implementations may override this to avoid creating intermediate objects.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider
+   * @param sink  the sink, defining the index of each curve parameter
+   * @param row  the row to add the sensitivities to
+   * @throws IllegalArgumentException if the trade cannot be valued
+   */
+  public default void sensitivities(T trade, RatesProvider provider, ParameterSensitivitySink sink, double[] row) {
+    sink.add(sensitivities(trade, provider), row);
+  }
+
 }
@@ -16,9 +16,6 @@ import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.curve.CurveParameterSize;
-import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
-import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
-import com.opengamma.strata.market.param.UnitParameterSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.ResolvedTrade;
 
@@ -168,28 +165,27 @@ public final class CalibrationMeasures {
    * @return the sensitivity derivative
    */
   public DoubleArray derivative(ResolvedTrade trade, RatesProvider provider, List<CurveParameterSize> curveOrder) {
-    UnitParameterSensitivities unitSens = extractSensitivities(trade, provider);
-
-    // expand to a concatenated array
-    DoubleArray result = DoubleArray.EMPTY;
-    for (CurveParameterSize curveParams : curveOrder) {
-      DoubleArray sens = unitSens.findSensitivity(curveParams.getName())
-          .map(s -> s.getSensitivity())
-          .orElseGet(() -> DoubleArray.filled(curveParams.getParameterCount()));
-      result = result.concat(sens);
-    }
-    return result;
+    ParameterSensitivitySink sink = ParameterSensitivitySink.of(curveOrder);
+    double[] row = new double[sink.getParameterCount()];
+    derivative(trade, provider, sink, row);
+    return DoubleArray.ofUnsafe(row);
   }
 
-  // determine the curve parameter sensitivities, removing the curency
-  private UnitParameterSensitivities extractSensitivities(ResolvedTrade trade, RatesProvider provider) {
+  /**
+   * Calculates the sensitivity with respect to the rates provider, adding it to a row of the Jacobian.
+   * <p>
+   * The row is composed of the concatenated curve sensitivities from all curves currently being processed,
+   * as defined by the sink. The sensitivities are added directly to the row, avoiding the creation of
+   * intermediate objects where possible.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider
+   * @param sink  the sink, defining the index of each curve parameter
+   * @param row  the row to add the sensitivities to
+   */
+  public void derivative(ResolvedTrade trade, RatesProvider provider, ParameterSensitivitySink sink, double[] row) {
     CalibrationMeasure<ResolvedTrade> measure = getMeasure(trade);
-    CurrencyParameterSensitivities paramSens = measure.sensitivities(trade, provider);
-    UnitParameterSensitivities unitSens = UnitParameterSensitivities.empty();
-    for (CurrencyParameterSensitivity ccySens : paramSens.getSensitivities()) {
-      unitSens = unitSens.combinedWith(ccySens.toUnitParameterSensitivity());
-    }
-    return unitSens;
+    measure.sensitivities(trade, provider, sink, row);
   }
 
   //-------------------------------------------------------------------------
@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.curve;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveParameterSize;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivity;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.ZeroRateSensitivity;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+
+/**
+ * Writes curve parameter sensitivities into a row of a calibration Jacobian.
+ * <p>
+ * The row is a primitive array containing the concatenated sensitivities to the parameters of each curve,
+ * in the order of the curves being calibrated. Sensitivities are added directly to the row at the index of
+ * the parameter, thus the sensitivities to multiple points on the same curve are summed without creating
+ * intermediate {@link CurrencyParameterSensitivities} instances for each point.
+ * Sensitivities to curves that are not in the order are ignored.
+ * <p>
+ * This class is immutable and thread-safe. The row is owned by the caller.
+ */
+public final class ParameterSensitivitySink {
+
+  /**
+   * The order of the curves.
+   */
+  private final ImmutableList<CurveParameterSize> curveOrder;
+  /**
+   * The index in the row of the first parameter of each curve.
+   */
+  private final ImmutableMap<CurveName, Integer> startIndices;
+  /**
+   * The total number of parameters.
+   */
+  private final int parameterCount;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance for the specified order of curves.
+   *
+   * @param curveOrder  the order of the curves
+   * @return the sink
+   */
+  public static ParameterSensitivitySink of(List<CurveParameterSize> curveOrder) {
+    return new ParameterSensitivitySink(ImmutableList.copyOf(curveOrder));
+  }
+
+  // restricted constructor
+  private ParameterSensitivitySink(ImmutableList<CurveParameterSize> curveOrder) {
+    ImmutableMap.Builder<CurveName, Integer> builder = ImmutableMap.builder();
+    int startIndex = 0;
+    for (CurveParameterSize order : curveOrder) {
+      builder.put(order.getName(), startIndex);
+      startIndex += order.getParameterCount();
+    }
+    this.curveOrder = curveOrder;
+    this.startIndices = builder.build();
+    this.parameterCount = startIndex;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the order of the curves.
+   *
+   * @return the order of the curves
+   */
+  public ImmutableList<CurveParameterSize> getCurveOrder() {
+    return curveOrder;
+  }
+
+  /**
+   * Gets the total number of parameters, which is the size of a row.
+   *
+   * @return the number of parameters
+   */
+  public int getParameterCount() {
+    return parameterCount;
+  }
+
+  /**
+   * Finds the index in the row of the first parameter of the specified curve.
+   *
+   * @param name  the name of the curve
+   * @return the index, empty if the curve is not in the order
+   */
+  public OptionalInt findStartIndex(MarketDataName<?> name) {
+    Integer startIndex = startIndices.get(name);
+    return startIndex != null ? OptionalInt.of(startIndex) : OptionalInt.empty();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds the parameter sensitivities to the row.
+   * <p>
+   * The currency of each sensitivity is ignored.
+   *
+   * @param sensitivities  the sensitivities to add
+   * @param row  the row to add to
+   */
+  public void add(CurrencyParameterSensitivities sensitivities, double[] row) {
+    checkRow(row);
+    for (CurrencyParameterSensitivity sensitivity : sensitivities.getSensitivities()) {
+      addSensitivity(sensitivity.getMarketDataName(), sensitivity.getSensitivity(), row);
+    }
+  }
+
+  /**
+   * Adds the parameter sensitivities equivalent to the point sensitivities to the row.
+   * <p>
+   * The zero rate point sensitivities are grouped by curve currency and each group is converted
+   * in a single pass using {@link DiscountFactors#parameterSensitivity(Currency, double[], double[])},
+   * without creating parameter sensitivities for each point. Any other point sensitivities are converted
+   * together using the provider. The currency of each sensitivity is ignored.
+   *
+   * @param pointSensitivities  the point sensitivities to add
+   * @param provider  the rates provider, used to convert the point sensitivities
+   * @param row  the row to add to
+   */
+  public void add(PointSensitivities pointSensitivities, RatesProvider provider, double[] row) {
+    checkRow(row);
+    Map<Currency, List<ZeroRateSensitivity>> zeroRatePoints = new LinkedHashMap<>();
+    List<PointSensitivity> otherPoints = new ArrayList<>();
+    for (PointSensitivity point : pointSensitivities.getSensitivities()) {
+      if (point instanceof ZeroRateSensitivity) {
+        ZeroRateSensitivity zeroRatePoint = (ZeroRateSensitivity) point;
+        zeroRatePoints.computeIfAbsent(zeroRatePoint.getCurveCurrency(), ccy -> new ArrayList<>()).add(zeroRatePoint);
+      } else {
+        otherPoints.add(point);
+      }
+    }
+    for (Map.Entry<Currency, List<ZeroRateSensitivity>> entry : zeroRatePoints.entrySet()) {
+      List<ZeroRateSensitivity> points = entry.getValue();
+      double[] yearFractions = new double[points.size()];
+      double[] sensitivities = new double[points.size()];
+      for (int i = 0; i < points.size(); i++) {
+        yearFractions[i] = points.get(i).getYearFraction();
+        sensitivities[i] = points.get(i).getSensitivity();
+      }
+      DiscountFactors discountFactors = provider.discountFactors(entry.getKey());
+      add(discountFactors.parameterSensitivity(points.get(0).getCurrency(), yearFractions, sensitivities), row);
+    }
+    if (!otherPoints.isEmpty()) {
+      add(provider.parameterSensitivity(PointSensitivities.of(otherPoints)), row);
+    }
+  }
+
+  // adds the sensitivity to a single curve
+  private void addSensitivity(MarketDataName<?> name, DoubleArray sensitivity, double[] row) {
+    Integer startIndex = startIndices.get(name);
+    if (startIndex != null) {
+      for (int i = 0; i < sensitivity.size(); i++) {
+        row[startIndex + i] += sensitivity.get(i);
+      }
+    }
+  }
+
+  // checks the row is the expected size
+  private void checkRow(double[] row) {
+    ArgChecker.isTrue(row.length == parameterCount, "Row must have length {}, but was {}", parameterCount, row.length);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "ParameterSensitivitySink[parameters=" + parameterCount + "]";
+  }
+
+}
@@ -9,9 +9,14 @@ import static com.opengamma.strata.collect.Guavate.filtering;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -23,14 +28,21 @@ import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataFxRateProvider;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveInfoType;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.curve.CurveNode;
 import com.opengamma.strata.market.curve.CurveParameterSize;
 import com.opengamma.strata.market.curve.JacobianCalibrationMatrix;
 import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
 import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.math.MathException;
+import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionBanded;
 import com.opengamma.strata.math.impl.matrix.CommonsMatrixAlgebra;
 import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
 import com.opengamma.strata.math.rootfind.NewtonVectorRootFinder;
@@ -52,6 +64,12 @@ import com.opengamma.strata.product.ResolvedTrade;
  * <p>
  * Once calibrated, the curves are then available for use.
  * Each node in the curve definition becomes a parameter in the matching output curve.
+ * <p>
+ * When the curves are recalibrated repeatedly, for example intraday as the quotes move,
+ * the {@code recalibrate} methods can be used to warm-start the calibration from an earlier result.
+ * <p>
+ * A calibrator obtained using {@link #parallel()} calibrates the independent blocks of curves
+ * within each group concurrently, and calculates the derivatives of the trades concurrently.
  */
 public final class RatesCurveCalibrator {
 
@@ -61,9 +79,18 @@ public final class RatesCurveCalibrator {
   private static final RatesCurveCalibrator STANDARD =
       RatesCurveCalibrator.of(1e-9, 1e-9, 1000, CalibrationMeasures.PAR_SPREAD, CalibrationMeasures.PRESENT_VALUE);
   /**
-   * The matrix algebra used for matrix inversion.
+   * The matrix algebra used for matrix inversion, when the banded decomposition cannot be used.
    */
   private static final MatrixAlgebra MATRIX_ALGEBRA = new CommonsMatrixAlgebra();
+  /**
+   * The banded decomposition used for matrix inversion.
+   */
+  private static final LUDecompositionBanded BANDED_LU = new LUDecompositionBanded();
+  /**
+   * The number of scenarios in each chunk when calibrating scenarios.
+   * This is fixed so that the results do not depend on the number of processors.
+   */
+  private static final int SCENARIOS_PER_CHUNK = 8;
 
   /**
    * The root finder used for curve calibration.
@@ -79,6 +106,10 @@ public final class RatesCurveCalibrator {
    * This is used to compute the present value sensitivity to market quotes stored in the metadata.
    */
   private final CalibrationMeasures pvMeasures;
+  /**
+   * Whether to calibrate in parallel.
+   */
+  private final boolean parallel;
 
   //-------------------------------------------------------------------------
   /**
@@ -154,7 +185,7 @@ public final class RatesCurveCalibrator {
       CalibrationMeasures pvMeasures) {
 
     NewtonVectorRootFinder rootFinder = NewtonVectorRootFinder.broyden(toleranceAbs, toleranceRel, stepMaximum);
-    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures);
+    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures, false);
   }
 
   /**
@@ -171,7 +202,7 @@ public final class RatesCurveCalibrator {
       CalibrationMeasures measures,
       CalibrationMeasures pvMeasures) {
 
-    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures);
+    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures, false);
   }
 
   //-------------------------------------------------------------------------
@@ -179,11 +210,35 @@ public final class RatesCurveCalibrator {
   private RatesCurveCalibrator(
       NewtonVectorRootFinder rootFinder,
       CalibrationMeasures measures,
-      CalibrationMeasures pvMeasures) {
+      CalibrationMeasures pvMeasures,
+      boolean parallel) {
 
     this.rootFinder = ArgChecker.notNull(rootFinder, "rootFinder");
     this.measures = ArgChecker.notNull(measures, "measures");
     this.pvMeasures = ArgChecker.notNull(pvMeasures, "pvMeasures");
+    this.parallel = parallel;
+  }
+
+  /**
+   * Returns a calibrator that calibrates in parallel.
+   * <p>
+   * The curves within each group are split into blocks that do not depend on each other,
+   * such as the curves of two different currencies. The dependencies are found from the derivatives
+   * of the calibration measures at the start of the calibration, a block being a set of curves
+   * whose trades are sensitive to each other's parameters. The blocks are then calibrated concurrently,
+   * each using a smaller root finding problem. If the calibrated blocks turn out not to be independent,
+   * the group is calibrated as a whole, starting from the combined result of the blocks.
+   * <p>
+   * The derivatives of the trades, used to calculate the Jacobian matrices, are also calculated concurrently.
+   * <p>
+   * The groups themselves are still calibrated in order, as later groups may depend on earlier ones.
+   * The result matches that of the sequential calibrator to within the tolerance of the root finder.
+   * The common fork-join pool is used to execute the concurrent work.
+   *
+   * @return the parallel calibrator
+   */
+  public RatesCurveCalibrator parallel() {
+    return new RatesCurveCalibrator(rootFinder, measures, pvMeasures, true);
   }
 
   //-------------------------------------------------------------------------
@@ -226,6 +281,44 @@ public final class RatesCurveCalibrator {
     return calibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData);
   }
 
+  /**
+   * Recalibrates a single curve group, starting from the result of an earlier calibration.
+   * <p>
+   * This produces the same result as {@link #calibrate(RatesCurveGroupDefinition, MarketData, ReferenceData)},
+   * to within the tolerance of the root finder, but is typically much faster when the market data
+   * has only changed a little since the earlier calibration.
+   * <p>
+   * The root finder for each group starts from the parameters of the matching curves in the earlier result.
+   * If the earlier result contains the {@linkplain CurveInfoType#JACOBIAN Jacobian} of the curves, the
+   * root finder is seeded with the derivatives of the calibration measures implied by that Jacobian instead
+   * of calculating them. The quasi-Newton root finders, such as Broyden, then update the derivatives on each
+   * step without recalculating them. If a curve in a group is not present in the earlier result, or has a
+   * different number of parameters, the group is calibrated from the initial guesses of the definition.
+   * <p>
+   * The Jacobian matrices stored in the curve metadata are calculated in full, as in {@code calibrate}.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param marketData  the market data required to build a trade for the instrument, including time-series
+   * @param refData  the reference data, used to resolve the trades
+   * @param priorResult  the result of an earlier calibration of the same curve group
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider recalibrate(
+      RatesCurveGroupDefinition curveGroupDefn,
+      MarketData marketData,
+      ReferenceData refData,
+      ImmutableRatesProvider priorResult) {
+
+    Map<Index, LocalDateDoubleTimeSeries> timeSeries = marketData.getTimeSeriesIds().stream()
+        .flatMap(filtering(IndexQuoteId.class))
+        .collect(toImmutableMap(id -> id.getIndex(), id -> marketData.getTimeSeries(id)));
+    ImmutableRatesProvider knownData = ImmutableRatesProvider.builder(marketData.getValuationDate())
+        .fxRateProvider(MarketDataFxRateProvider.of(marketData))
+        .timeSeries(timeSeries)
+        .build();
+    return recalibrate(ImmutableList.of(curveGroupDefn), knownData, marketData, refData, priorResult);
+  }
+
   /**
    * Calibrates a list of curve groups, each containing one or more curves.
    * <p>
@@ -246,6 +339,90 @@ public final class RatesCurveCalibrator {
       MarketData marketData,
       ReferenceData refData) {
 
+    return calibrate(allGroupDefns, knownData, marketData, refData, null);
+  }
+
+  /**
+   * Recalibrates a list of curve groups, starting from the result of an earlier calibration.
+   * <p>
+   * This produces the same result as {@link #calibrate(List, ImmutableRatesProvider, MarketData, ReferenceData)},
+   * to within the tolerance of the root finder, but is typically much faster when the market data
+   * has only changed a little since the earlier calibration.
+   * See {@link #recalibrate(RatesCurveGroupDefinition, MarketData, ReferenceData, ImmutableRatesProvider)}
+   * for details of how the earlier result is used.
+   *
+   * @param allGroupDefns  the curve group definitions
+   * @param knownData  the starting data for the calibration
+   * @param marketData  the market data required to build a trade for the instrument
+   * @param refData  the reference data, used to resolve the trades
+   * @param priorResult  the result of an earlier calibration of the same curve groups
+   * @return the rates provider resulting from the calibration
+   */
+  public ImmutableRatesProvider recalibrate(
+      List<RatesCurveGroupDefinition> allGroupDefns,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      ImmutableRatesProvider priorResult) {
+
+    ArgChecker.notNull(priorResult, "priorResult");
+    return calibrate(allGroupDefns, knownData, marketData, refData, priorResult);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calibrates a single curve group, containing one or more curves, for each scenario.
+   * <p>
+   * This produces the same result as calling {@link #calibrate(RatesCurveGroupDefinition, MarketData, ReferenceData)}
+   * for the market data of each scenario, to within the tolerance of the root finder, but is typically much faster.
+   * <p>
+   * The scenarios are split into contiguous chunks of a fixed size, which are calibrated concurrently.
+   * The chunks do not depend on the number of processors, thus the results are the same on any machine.
+   * Within a chunk, the first scenario is calibrated from the
+   * initial guesses of the definition and each subsequent scenario is
+   * {@linkplain #recalibrate(RatesCurveGroupDefinition, MarketData, ReferenceData, ImmutableRatesProvider) recalibrated}
+   * starting from the result of the previous scenario. As scenarios are typically small perturbations
+   * of each other, this greatly reduces the number of steps taken by the root finder.
+   * <p>
+   * The same group definition is used for all scenarios, thus the caller is responsible for ensuring
+   * that it is valid for the valuation date of each scenario.
+   *
+   * @param curveGroupDefn  the curve group definition
+   * @param marketData  the market data required to build a trade for the instrument, including time-series
+   * @param refData  the reference data, used to resolve the trades
+   * @return the rates providers resulting from the calibration, one for each scenario
+   */
+  public MarketDataBox<ImmutableRatesProvider> calibrate(
+      RatesCurveGroupDefinition curveGroupDefn,
+      ScenarioMarketData marketData,
+      ReferenceData refData) {
+
+    int scenarioCount = marketData.getScenarioCount();
+    ArgChecker.isTrue(scenarioCount > 0, "Market data must contain at least one scenario");
+    int chunkCount = (scenarioCount + SCENARIOS_PER_CHUNK - 1) / SCENARIOS_PER_CHUNK;
+    ImmutableRatesProvider[] providers = new ImmutableRatesProvider[scenarioCount];
+    IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+      int chunkStart = chunk * SCENARIOS_PER_CHUNK;
+      int chunkEnd = Math.min(chunkStart + SCENARIOS_PER_CHUNK, scenarioCount);
+      ImmutableRatesProvider previous = calibrate(curveGroupDefn, marketData.scenario(chunkStart), refData);
+      providers[chunkStart] = previous;
+      for (int i = chunkStart + 1; i < chunkEnd; i++) {
+        previous = recalibrate(curveGroupDefn, marketData.scenario(i), refData, previous);
+        providers[i] = previous;
+      }
+    });
+    return MarketDataBox.ofScenarioValues(providers);
+  }
+
+  //-------------------------------------------------------------------------
+  // calibrates the groups, warm-starting from the prior result if not null
+  private ImmutableRatesProvider calibrate(
+      List<RatesCurveGroupDefinition> allGroupDefns,
+      ImmutableRatesProvider knownData,
+      MarketData marketData,
+      ReferenceData refData,
+      ImmutableRatesProvider priorResult) {
+
     // this method effectively takes one CurveGroupDefinition
     // the list is a split of the definition, not multiple independent definitions
 
@@ -274,7 +451,14 @@ public final class RatesCurveCalibrator {
 
       // calibrate
       RatesProviderGenerator providerGenerator = ImmutableRatesProviderGenerator.of(providerCombined, groupDefnBound, refData);
-      DoubleArray calibratedGroupParams = calibrateGroup(providerGenerator, trades, initialGuesses, orderGroup);
+      DoubleArray calibratedGroupParams;
+      if (parallel) {
+        calibratedGroupParams = calibrateGroupInBlocks(providerGenerator, trades, initialGuesses, orderGroup, priorResult);
+      } else if (priorResult == null) {
+        calibratedGroupParams = calibrateGroup(providerGenerator, trades, initialGuesses, orderGroup);
+      } else {
+        calibratedGroupParams = recalibrateGroup(providerGenerator, trades, initialGuesses, orderGroup, priorResult);
+      }
       ImmutableRatesProvider calibratedProvider = providerGenerator.generate(calibratedGroupParams);
 
       // use calibration to build Jacobian matrices
@@ -320,6 +504,240 @@ public final class RatesCurveCalibrator {
     return rootFinder.findRoot(valueCalculator, derivativeCalculator, initialGuess);
   }
 
+  // calibrates a single group, starting from the prior result where possible
+  private DoubleArray recalibrateGroup(
+      RatesProviderGenerator providerGenerator,
+      ImmutableList<ResolvedTrade> trades,
+      ImmutableList<Double> initialGuesses,
+      ImmutableList<CurveParameterSize> curveOrder,
+      ImmutableRatesProvider priorResult) {
+
+    Optional<DoubleArray> priorParams = priorParameters(priorResult, curveOrder);
+    if (!priorParams.isPresent()) {
+      return calibrateGroup(providerGenerator, trades, initialGuesses, curveOrder);
+    }
+    // setup for calibration
+    Function<DoubleArray, DoubleArray> valueCalculator = new CalibrationValue(trades, measures, providerGenerator);
+    Function<DoubleArray, DoubleMatrix> derivativeCalculator =
+        new CalibrationDerivative(trades, measures, providerGenerator, curveOrder);
+
+    // calibrate, seeding the root finder with the prior derivatives if available
+    Optional<DoubleMatrix> priorDerivatives = priorDerivatives(priorResult, curveOrder);
+    if (priorDerivatives.isPresent()) {
+      return rootFinder.findRoot(valueCalculator, derivativeCalculator, priorParams.get(), priorDerivatives.get());
+    }
+    return rootFinder.findRoot(valueCalculator, derivativeCalculator, priorParams.get());
+  }
+
+  // calibrates a single group, solving the independent blocks of curves in the group concurrently
+  // the prior result is used as the start if not null and it matches
+  private DoubleArray calibrateGroupInBlocks(
+      RatesProviderGenerator providerGenerator,
+      ImmutableList<ResolvedTrade> trades,
+      ImmutableList<Double> initialGuesses,
+      ImmutableList<CurveParameterSize> curveOrder,
+      ImmutableRatesProvider priorResult) {
+
+    Optional<DoubleArray> priorParams =
+        priorResult == null ? Optional.empty() : priorParameters(priorResult, curveOrder);
+    DoubleArray start = priorParams.orElseGet(() -> DoubleArray.copyOf(initialGuesses));
+    Function<DoubleArray, DoubleArray> valueCalculator = new CalibrationValue(trades, measures, providerGenerator);
+    Function<DoubleArray, DoubleMatrix> derivativeCalculator =
+        new CalibrationDerivative(trades, measures, providerGenerator, curveOrder, true);
+
+    // the derivatives at the start define the blocks, and are used to seed the root finder
+    DoubleMatrix startDerivatives = priorParams.isPresent() ?
+        priorDerivatives(priorResult, curveOrder).orElseGet(() -> derivativeCalculator.apply(start)) :
+        derivativeCalculator.apply(start);
+    List<CurveBlock> blocks = independentBlocks(startDerivatives, curveOrder);
+    if (blocks.size() == 1) {
+      return rootFinder.findRoot(valueCalculator, derivativeCalculator, start, startDerivatives);
+    }
+    // calibrate each block, holding the parameters of the other blocks at the start
+    List<Pair<DoubleArray, DoubleArray>> blockResults = blocks.parallelStream()
+        .map(block -> calibrateBlock(providerGenerator, trades, start, startDerivatives, block))
+        .collect(toImmutableList());
+    double[] combined = start.toArray();
+    for (int b = 0; b < blocks.size(); b++) {
+      int[] block = blocks.get(b).indices;
+      DoubleArray blockParams = blockResults.get(b).getFirst();
+      for (int i = 0; i < block.length; i++) {
+        combined[block[i]] = blockParams.get(i);
+      }
+    }
+    DoubleArray combinedParams = DoubleArray.ofUnsafe(combined);
+
+    // the values of the trades in each block must be unaffected by the other blocks
+    // if not, the blocks were not independent and the group is calibrated as a whole
+    DoubleArray combinedValues = valueCalculator.apply(combinedParams);
+    for (int b = 0; b < blocks.size(); b++) {
+      int[] block = blocks.get(b).indices;
+      DoubleArray blockValues = blockResults.get(b).getSecond();
+      for (int i = 0; i < block.length; i++) {
+        if (Double.compare(combinedValues.get(block[i]), blockValues.get(i)) != 0) {
+          return rootFinder.findRoot(valueCalculator, derivativeCalculator, combinedParams);
+        }
+      }
+    }
+    return combinedParams;
+  }
+
+  // splits the curves of a group into blocks that do not depend on each other
+  private static List<CurveBlock> independentBlocks(DoubleMatrix derivatives, ImmutableList<CurveParameterSize> curveOrder) {
+    int curveCount = curveOrder.size();
+    int[] curveStart = new int[curveCount + 1];
+    for (int c = 0; c < curveCount; c++) {
+      curveStart[c + 1] = curveStart[c] + curveOrder.get(c).getParameterCount();
+    }
+    // union-find of the curves, joining a pair of curves when a trade of one is sensitive to the other
+    int[] parents = new int[curveCount];
+    for (int c = 0; c < curveCount; c++) {
+      parents[c] = c;
+    }
+    for (int rowCurve = 0; rowCurve < curveCount; rowCurve++) {
+      for (int colCurve = 0; colCurve < curveCount; colCurve++) {
+        if (rowCurve != colCurve && isSensitive(derivatives, curveStart, rowCurve, colCurve)) {
+          parents[root(parents, rowCurve)] = root(parents, colCurve);
+        }
+      }
+    }
+    // build the blocks, retaining the order of the curves
+    Map<Integer, List<Integer>> curvesByRoot = new LinkedHashMap<>();
+    for (int c = 0; c < curveCount; c++) {
+      curvesByRoot.computeIfAbsent(root(parents, c), r -> new ArrayList<>()).add(c);
+    }
+    return curvesByRoot.values().stream()
+        .map(curves -> new CurveBlock(
+            curves.stream().map(curveOrder::get).collect(toImmutableList()),
+            curves.stream().flatMapToInt(c -> IntStream.range(curveStart[c], curveStart[c + 1])).toArray()))
+        .collect(toImmutableList());
+  }
+
+  // checks if the trades of one curve are sensitive to the parameters of another curve
+  private static boolean isSensitive(DoubleMatrix derivatives, int[] curveStart, int rowCurve, int colCurve) {
+    for (int i = curveStart[rowCurve]; i < curveStart[rowCurve + 1]; i++) {
+      for (int j = curveStart[colCurve]; j < curveStart[colCurve + 1]; j++) {
+        if (derivatives.get(i, j) != 0d) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  // finds the root of the union-find tree containing the curve
+  private static int root(int[] parents, int curve) {
+    int root = curve;
+    while (parents[root] != root) {
+      root = parents[root];
+    }
+    return root;
+  }
+
+  // calibrates a block of curves within a group, returning the parameters and the values of the trades of the block
+  private Pair<DoubleArray, DoubleArray> calibrateBlock(
+      RatesProviderGenerator groupGenerator,
+      ImmutableList<ResolvedTrade> groupTrades,
+      DoubleArray groupStart,
+      DoubleMatrix groupDerivatives,
+      CurveBlock curveBlock) {
+
+    // the parameters outside the block are held at the start
+    int[] block = curveBlock.indices;
+    RatesProviderGenerator providerGenerator = (blockParams, jacobians, sensitivities) -> {
+      double[] params = groupStart.toArray();
+      for (int i = 0; i < block.length; i++) {
+        params[block[i]] = blockParams.get(i);
+      }
+      return groupGenerator.generate(DoubleArray.ofUnsafe(params), jacobians, sensitivities);
+    };
+    ImmutableList<ResolvedTrade> trades = Arrays.stream(block).mapToObj(groupTrades::get).collect(toImmutableList());
+    DoubleArray start = DoubleArray.of(block.length, i -> groupStart.get(block[i]));
+    DoubleMatrix startDerivatives = DoubleMatrix.of(
+        block.length, block.length, (i, j) -> groupDerivatives.get(block[i], block[j]));
+
+    // calibrate
+    Function<DoubleArray, DoubleArray> valueCalculator = new CalibrationValue(trades, measures, providerGenerator);
+    Function<DoubleArray, DoubleMatrix> derivativeCalculator =
+        new CalibrationDerivative(trades, measures, providerGenerator, curveBlock.curveOrder);
+    DoubleArray params = rootFinder.findRoot(valueCalculator, derivativeCalculator, start, startDerivatives);
+    return Pair.of(params, valueCalculator.apply(params));
+  }
+
+  // finds the parameters of the curves in the prior result, empty if any curve does not match
+  private static Optional<DoubleArray> priorParameters(
+      ImmutableRatesProvider priorResult,
+      ImmutableList<CurveParameterSize> curveOrder) {
+
+    Map<CurveName, Curve> priorCurves = priorResult.getCurves();
+    int totalParams = curveOrder.stream().mapToInt(e -> e.getParameterCount()).sum();
+    double[] params = new double[totalParams];
+    int startIndex = 0;
+    for (CurveParameterSize order : curveOrder) {
+      Curve curve = priorCurves.get(order.getName());
+      if (curve == null || curve.getParameterCount() != order.getParameterCount()) {
+        return Optional.empty();
+      }
+      for (int i = 0; i < order.getParameterCount(); i++) {
+        params[startIndex + i] = curve.getParameter(i);
+      }
+      startIndex += order.getParameterCount();
+    }
+    return Optional.of(DoubleArray.ofUnsafe(params));
+  }
+
+  // finds the derivatives of the calibration measures to the parameters of the group implied by the prior result
+  // the prior Jacobian contains the inverse of the derivatives in the columns of the group
+  // empty if the Jacobian of any curve is not available or cannot be inverted
+  private static Optional<DoubleMatrix> priorDerivatives(
+      ImmutableRatesProvider priorResult,
+      ImmutableList<CurveParameterSize> curveOrder) {
+
+    Map<CurveName, Curve> priorCurves = priorResult.getCurves();
+    int totalParams = curveOrder.stream().mapToInt(e -> e.getParameterCount()).sum();
+    double[][] pDm = new double[totalParams][totalParams];
+    int rowStart = 0;
+    for (CurveParameterSize rowOrder : curveOrder) {
+      Optional<JacobianCalibrationMatrix> jacobianOpt =
+          priorCurves.get(rowOrder.getName()).getMetadata().findInfo(CurveInfoType.JACOBIAN);
+      if (!jacobianOpt.isPresent() || jacobianOpt.get().getJacobianMatrix().rowCount() != rowOrder.getParameterCount()) {
+        return Optional.empty();
+      }
+      JacobianCalibrationMatrix jacobian = jacobianOpt.get();
+      int colStart = 0;
+      for (CurveParameterSize colOrder : curveOrder) {
+        int jacobianColStart = 0;
+        boolean found = false;
+        for (CurveParameterSize jacobianOrder : jacobian.getOrder()) {
+          if (jacobianOrder.equals(colOrder)) {
+            found = true;
+            break;
+          }
+          jacobianColStart += jacobianOrder.getParameterCount();
+        }
+        if (!found) {
+          return Optional.empty();
+        }
+        for (int i = 0; i < rowOrder.getParameterCount(); i++) {
+          System.arraycopy(
+              jacobian.getJacobianMatrix().rowArray(i),
+              jacobianColStart,
+              pDm[rowStart + i],
+              colStart,
+              colOrder.getParameterCount());
+        }
+        colStart += colOrder.getParameterCount();
+      }
+      rowStart += rowOrder.getParameterCount();
+    }
+    try {
+      return Optional.of(inverse(DoubleMatrix.ofUnsafe(pDm), curveOrder));
+    } catch (RuntimeException ex) {
+      // the root finder will calculate the derivatives instead
+      return Optional.empty();
+    }
+  }
+
   //-------------------------------------------------------------------------
   // calculates the Jacobian and builds the result, called once per group
   // this uses, but does not alter, data from previous groups
@@ -339,7 +757,7 @@ public final class RatesCurveCalibrator {
     int nbTrades = trades.size();
     int totParamsGroup = orderGroup.stream().mapToInt(e -> e.getParameterCount()).sum();
     int totParamsPrev = totalParamsAll - totParamsGroup;
-    DoubleMatrix pDmCurMatrix = jacobianDirect(res, nbTrades, totParamsGroup, totParamsPrev);
+    DoubleMatrix pDmCurMatrix = jacobianDirect(res, nbTrades, totParamsGroup, totParamsPrev, orderGroup);
 
     // jacobian indirect: when totalParamsPrevious > 0
     DoubleMatrix pDmPrev = jacobianIndirect(
@@ -398,10 +816,11 @@ public final class RatesCurveCalibrator {
       ImmutableList<CurveParameterSize> orderAll,
       int totalParamsAll) {
 
-    return DoubleMatrix.ofArrayObjects(
-        trades.size(),
-        totalParamsAll,
-        i -> measures.derivative(trades.get(i), provider, orderAll));
+    ParameterSensitivitySink sink = ParameterSensitivitySink.of(orderAll);
+    double[][] rows = new double[trades.size()][totalParamsAll];
+    IntStream indices = parallel ? IntStream.range(0, trades.size()).parallel() : IntStream.range(0, trades.size());
+    indices.forEach(i -> measures.derivative(trades.get(i), provider, sink, rows[i]));
+    return DoubleMatrix.ofUnsafe(rows);
   }
 
   // jacobian direct, for the current group
@@ -409,13 +828,47 @@ public final class RatesCurveCalibrator {
       DoubleMatrix res,
       int nbTrades,
       int totalParamsGroup,
-      int totalParamsPrevious) {
+      int totalParamsPrevious,
+      ImmutableList<CurveParameterSize> orderGroup) {
 
     double[][] direct = new double[totalParamsGroup][totalParamsGroup];
     for (int i = 0; i < nbTrades; i++) {
       System.arraycopy(res.rowArray(i), totalParamsPrevious, direct[i], 0, totalParamsGroup);
     }
-    return MATRIX_ALGEBRA.getInverse(DoubleMatrix.copyOf(direct));
+    return inverse(DoubleMatrix.ofUnsafe(direct), orderGroup);
+  }
+
+  // inverts the derivatives of the trades of a group to the parameters of the group
+  // the curves are split into independent blocks, which are inverted separately
+  // the derivatives are typically close to lower-triangular, as each trade is mainly sensitive to the nodes
+  // up to its maturity, thus each block is inverted using a banded decomposition where possible
+  private static DoubleMatrix inverse(DoubleMatrix derivatives, ImmutableList<CurveParameterSize> curveOrder) {
+    List<CurveBlock> blocks = independentBlocks(derivatives, curveOrder);
+    if (blocks.size() == 1) {
+      return inverseBlock(derivatives);
+    }
+    int size = derivatives.rowCount();
+    double[][] inverse = new double[size][size];
+    for (CurveBlock block : blocks) {
+      int[] indices = block.indices;
+      DoubleMatrix blockInverse = inverseBlock(
+          DoubleMatrix.of(indices.length, indices.length, (i, j) -> derivatives.get(indices[i], indices[j])));
+      for (int i = 0; i < indices.length; i++) {
+        for (int j = 0; j < indices.length; j++) {
+          inverse[indices[i]][indices[j]] = blockInverse.get(i, j);
+        }
+      }
+    }
+    return DoubleMatrix.ofUnsafe(inverse);
+  }
+
+  // inverts a block, the banded decomposition does not pivot so may reject the block
+  private static DoubleMatrix inverseBlock(DoubleMatrix block) {
+    try {
+      return BANDED_LU.apply(block).inverse();
+    } catch (MathException ex) {
+      return MATRIX_ALGEBRA.getInverse(block);
+    }
   }
 
   // jacobian indirect, merging groups
@@ -435,8 +888,7 @@ public final class RatesCurveCalibrator {
     for (int i = 0; i < nbTrades; i++) {
       System.arraycopy(res.rowArray(i), 0, nonDirect[i], 0, totalParamsPrevious);
     }
-    DoubleMatrix pDpPreviousMatrix = (DoubleMatrix) MATRIX_ALGEBRA.scale(
-        MATRIX_ALGEBRA.multiply(pDmCurrentMatrix, DoubleMatrix.copyOf(nonDirect)), -1d);
+    DoubleMatrix pDpPreviousMatrix = multiply(pDmCurrentMatrix, DoubleMatrix.ofUnsafe(nonDirect), -1d);
     // all curves: order and size
     int[] startIndexBefore = new int[orderPrevious.size()];
     for (int i = 1; i < orderPrevious.size(); i++) {
@@ -464,8 +916,36 @@ public final class RatesCurveCalibrator {
         startIndexInner += paramCountInner;
       }
     }
-    DoubleMatrix transitionMatrix = DoubleMatrix.copyOf(transition);
-    return (DoubleMatrix) MATRIX_ALGEBRA.multiply(pDpPreviousMatrix, transitionMatrix);
+    return multiply(pDpPreviousMatrix, DoubleMatrix.ofUnsafe(transition), 1d);
+  }
+
+  // multiplies two matrices and scales the result, skipping the zero elements of the left matrix
+  // the Jacobians of groups are sparse, as curves in different currencies are typically independent
+  private static DoubleMatrix multiply(DoubleMatrix left, DoubleMatrix right, double scale) {
+    double[][] leftArray = left.toArrayUnsafe();
+    double[][] rightArray = right.toArrayUnsafe();
+    int innerCount = left.columnCount();
+    int columnCount = right.columnCount();
+    double[][] result = new double[left.rowCount()][columnCount];
+    for (int i = 0; i < result.length; i++) {
+      double[] leftRow = leftArray[i];
+      double[] resultRow = result[i];
+      for (int k = 0; k < innerCount; k++) {
+        double leftValue = leftRow[k];
+        if (leftValue != 0d) {
+          double[] rightRow = rightArray[k];
+          for (int j = 0; j < columnCount; j++) {
+            resultRow[j] += leftValue * rightRow[j];
+          }
+        }
+      }
+      if (scale != 1d) {
+        for (int j = 0; j < columnCount; j++) {
+          resultRow[j] *= scale;
+        }
+      }
+    }
+    return DoubleMatrix.ofUnsafe(result);
   }
 
   //-------------------------------------------------------------------------
@@ -474,4 +954,19 @@ public final class RatesCurveCalibrator {
     return Messages.format("CurveCalibrator[{}]", measures);
   }
 
+  //-------------------------------------------------------------------------
+  // a block of curves within a group that can be calibrated independently of the other curves
+  private static final class CurveBlock {
+
+    // the order of the curves in the block
+    private final ImmutableList<CurveParameterSize> curveOrder;
+    // the indices of the parameters of the block within the group, which are also the indices of the trades
+    private final int[] indices;
+
+    private CurveBlock(ImmutableList<CurveParameterSize> curveOrder, int[] indices) {
+      this.curveOrder = curveOrder;
+      this.indices = indices;
+    }
+  }
+
 }
@@ -182,6 +182,12 @@ public final class TradeCalibrationMeasure<T extends ResolvedTrade>
     return provider.parameterSensitivity(pts);
   }
 
+  @Override
+  public void sensitivities(T trade, RatesProvider provider, ParameterSensitivitySink sink, double[] row) {
+    PointSensitivities pts = sensitivityFn.apply(trade, provider);
+    sink.add(pts, provider, row);
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public String toString() {
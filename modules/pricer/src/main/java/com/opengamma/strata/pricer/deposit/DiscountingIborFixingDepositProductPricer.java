@@ -12,6 +12,8 @@ import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.rate.IborIndexRates;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
+import com.opengamma.strata.pricer.sensitivity.DiscountedCashFlowSensitivity;
 import com.opengamma.strata.product.deposit.ResolvedIborFixingDeposit;
 
 /**
@@ -78,6 +80,23 @@ public class DiscountingIborFixingDepositProductPricer {
     return sensiFwd.combinedWith(sensiDsc).build();
   }
 
+  /**
+   * Calculates the present value sensitivity of the Ibor fixing product as a discounted cash flow.
+   * <p>
+   * The product is a single cash flow, paid on the end date, with an amount that is linear in the forward rate.
+   * This is used to compute the gamma by algorithmic differentiation, see {@link CurveGammaCalculator}.
+   * 
+   * @param deposit  the product
+   * @param provider  the rates provider
+   * @return the point sensitivity of the present value, as a discounted cash flow
+   */
+  public DiscountedCashFlowSensitivity presentValueSensitivityCashFlow(
+      ResolvedIborFixingDeposit deposit,
+      RatesProvider provider) {
+
+    return DiscountedCashFlowSensitivity.of(presentValueSensitivity(deposit, provider));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the deposit fair rate given the start and end time and the accrual factor.
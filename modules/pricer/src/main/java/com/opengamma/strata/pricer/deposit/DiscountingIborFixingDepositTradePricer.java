@@ -9,6 +9,8 @@ import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
+import com.opengamma.strata.pricer.sensitivity.DiscountedCashFlowSensitivity;
 import com.opengamma.strata.product.deposit.ResolvedIborFixingDeposit;
 import com.opengamma.strata.product.deposit.ResolvedIborFixingDepositTrade;
 
@@ -69,6 +71,22 @@ public class DiscountingIborFixingDepositTradePricer {
     return productPricer.presentValueSensitivity(trade.getProduct(), provider);
   }
 
+  /**
+   * Calculates the present value sensitivity of the trade as discounted cash flows.
+   * <p>
+   * This is used to compute the gamma by algorithmic differentiation, see {@link CurveGammaCalculator}.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider
+   * @return the point sensitivity of the present value, as discounted cash flows
+   */
+  public DiscountedCashFlowSensitivity presentValueSensitivityCashFlow(
+      ResolvedIborFixingDepositTrade trade,
+      RatesProvider provider) {
+
+    return productPricer.presentValueSensitivityCashFlow(trade.getProduct(), provider);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the deposit fair rate given the start and end time and the accrual factor.
@@ -11,6 +11,8 @@ import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
+import com.opengamma.strata.pricer.sensitivity.DiscountedCashFlowSensitivity;
 import com.opengamma.strata.product.deposit.ResolvedTermDeposit;
 
 /**
@@ -84,6 +86,20 @@ public class DiscountingTermDepositProductPricer {
     return sensStart.combinedWith(sensEnd).build();
   }
 
+  /**
+   * Calculates the present value sensitivity of the deposit as discounted cash flows.
+   * <p>
+   * The initial payment and the final cash flow are fixed amounts.
+   * This is used to compute the gamma by algorithmic differentiation, see {@link CurveGammaCalculator}.
+   * 
+   * @param deposit  the product
+   * @param provider  the rates provider
+   * @return the point sensitivity of the present value, as discounted cash flows
+   */
+  public DiscountedCashFlowSensitivity presentValueSensitivityCashFlow(ResolvedTermDeposit deposit, RatesProvider provider) {
+    return DiscountedCashFlowSensitivity.of(presentValueSensitivity(deposit, provider));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the deposit fair rate given the start and end time and the accrual factor.
@@ -10,6 +10,8 @@ import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
+import com.opengamma.strata.pricer.sensitivity.DiscountedCashFlowSensitivity;
 import com.opengamma.strata.product.deposit.ResolvedTermDeposit;
 import com.opengamma.strata.product.deposit.ResolvedTermDepositTrade;
 
@@ -67,6 +69,22 @@ public class DiscountingTermDepositTradePricer {
     return productPricer.presentValueSensitivity(trade.getProduct(), provider);
   }
 
+  /**
+   * Calculates the present value sensitivity of the trade as discounted cash flows.
+   * <p>
+   * This is used to compute the gamma by algorithmic differentiation, see {@link CurveGammaCalculator}.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider
+   * @return the point sensitivity of the present value, as discounted cash flows
+   */
+  public DiscountedCashFlowSensitivity presentValueSensitivityCashFlow(
+      ResolvedTermDepositTrade trade,
+      RatesProvider provider) {
+
+    return productPricer.presentValueSensitivityCashFlow(trade.getProduct(), provider);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the deposit fair rate given the start and end time and the accrual factor.
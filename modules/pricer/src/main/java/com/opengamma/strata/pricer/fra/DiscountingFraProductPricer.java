@@ -22,6 +22,9 @@ import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.rate.RateComputationFn;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
+import com.opengamma.strata.pricer.sensitivity.DiscountedCashFlowSensitivity;
+import com.opengamma.strata.product.fra.FraDiscountingMethod;
 import com.opengamma.strata.product.fra.ResolvedFra;
 import com.opengamma.strata.product.rate.RateComputation;
 
@@ -98,6 +101,31 @@ public class DiscountingFraProductPricer {
     return iborSens.withCurrency(fra.getCurrency()).combinedWith(discSens).build();
   }
 
+  /**
+   * Calculates the present value sensitivity of the FRA product as a discounted cash flow.
+   * <p>
+   * The FRA is a single cash flow, paid on the payment date, with an amount that is a function of the forward rate.
+   * With ISDA or AFMA discounting, the amount is not linear in the forward rate and its convexity is returned.
+   * This is used to compute the gamma by algorithmic differentiation, see {@link CurveGammaCalculator}.
+   * 
+   * @param fra  the product
+   * @param provider  the rates provider
+   * @return the point sensitivity of the present value, as a discounted cash flow
+   */
+  public DiscountedCashFlowSensitivity presentValueSensitivityCashFlow(ResolvedFra fra, RatesProvider provider) {
+    PointSensitivities sensitivity = presentValueSensitivity(fra, provider);
+    if (sensitivity.size() == 0 || fra.getDiscounting() == FraDiscountingMethod.NONE) {
+      return DiscountedCashFlowSensitivity.of(sensitivity);
+    }
+    // the unit amount has second order derivative -2 * yearFraction / (1 + forwardRate * yearFraction) * derivative
+    double df = provider.discountFactor(fra.getCurrency(), fra.getPaymentDate());
+    double yearFraction = fra.getYearFraction();
+    double dsc = 1d / (1d + forwardRate(fra, provider) * yearFraction);
+    double derivative = derivative(fra, provider);
+    double convexity = -2d * yearFraction * dsc / (df * fra.getNotional() * derivative);
+    return DiscountedCashFlowSensitivity.of(sensitivity, convexity);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the forecast value of the FRA product.
@@ -12,6 +12,8 @@ import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
+import com.opengamma.strata.pricer.sensitivity.DiscountedCashFlowSensitivity;
 import com.opengamma.strata.product.fra.ResolvedFra;
 import com.opengamma.strata.product.fra.ResolvedFraTrade;
 
@@ -96,6 +98,19 @@ public class DiscountingFraTradePricer {
     return productPricer.presentValueSensitivity(trade.getProduct(), provider);
   }
 
+  /**
+   * Calculates the present value sensitivity of the FRA trade as a discounted cash flow.
+   * <p>
+   * This is used to compute the gamma by algorithmic differentiation, see {@link CurveGammaCalculator}.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider
+   * @return the point sensitivity of the present value, as a discounted cash flow
+   */
+  public DiscountedCashFlowSensitivity presentValueSensitivityCashFlow(ResolvedFraTrade trade, RatesProvider provider) {
+    return productPricer.presentValueSensitivityCashFlow(trade.getProduct(), provider);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the forecast value of the FRA trade.
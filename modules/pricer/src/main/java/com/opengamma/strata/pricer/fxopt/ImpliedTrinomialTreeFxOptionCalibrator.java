@@ -5,6 +5,9 @@
  */
 package com.opengamma.strata.pricer.fxopt;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 import com.opengamma.strata.basics.currency.Currency;
@@ -18,6 +21,13 @@ import com.opengamma.strata.product.fxopt.ResolvedFxVanillaOption;
 
 /**
  * Utilities to calibrate implied trinomial tree to Black volatilities of FX options.
+ * <p>
+ * The calibrator can optionally cache the calibrated trees, see {@link #ImpliedTrinomialTreeFxOptionCalibrator(int, int)}.
+ * The cache is keyed by the inputs of the calibration, that is, the currency pair, the time to expiry,
+ * the FX rate, the discount factors of the two currencies and the volatilities, compared by equality.
+ * The number of time steps is fixed for each calibrator.
+ * Options on the same currency pair and expiry, and the same market data, then share a single calibration.
+ * The least recently used tree is evicted once the maximum size is reached.
  */
 public class ImpliedTrinomialTreeFxOptionCalibrator {
 
@@ -25,6 +35,10 @@ public class ImpliedTrinomialTreeFxOptionCalibrator {
    * Number of time steps.
    */
   private final int nSteps;
+  /**
+   * The cache of calibrated trees, null if not caching.
+   */
+  private final TreeCache cache;
 
   /**
    * Calibrator with the specified number of time steps.
@@ -32,8 +46,23 @@ public class ImpliedTrinomialTreeFxOptionCalibrator {
    * @param nSteps  number of time steps
    */
   public ImpliedTrinomialTreeFxOptionCalibrator(int nSteps) {
+    this(nSteps, 0);
+  }
+
+  /**
+   * Calibrator with the specified number of time steps, caching the calibrated trees.
+   * <p>
+   * At most {@code cacheSize} trees are retained, evicting the least recently used.
+   * A cache size of zero disables the cache.
+   * 
+   * @param nSteps  number of time steps
+   * @param cacheSize  the maximum number of cached trees, zero or greater
+   */
+  public ImpliedTrinomialTreeFxOptionCalibrator(int nSteps, int cacheSize) {
     ArgChecker.isTrue(nSteps > 1, "the number of steps should be greater than 1");
+    ArgChecker.notNegative(cacheSize, "cacheSize");
     this.nSteps = nSteps;
+    this.cache = cacheSize > 0 ? new TreeCache(cacheSize) : null;
   }
 
   //-------------------------------------------------------------------------
@@ -46,6 +75,15 @@ public class ImpliedTrinomialTreeFxOptionCalibrator {
     return nSteps;
   }
 
+  /**
+   * Obtains the maximum number of cached trees.
+   * 
+   * @return the maximum number of cached trees, zero if not caching
+   */
+  public int getCacheSize() {
+    return cache != null ? cache.maxSize : 0;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calibrate trinomial tree to Black volatilities by using a vanilla option.
@@ -95,6 +133,30 @@ public class ImpliedTrinomialTreeFxOptionCalibrator {
     double todayFx = ratesProvider.fxRate(currencyPair);
     DiscountFactors baseDiscountFactors = ratesProvider.discountFactors(ccyBase);
     DiscountFactors counterDiscountFactors = ratesProvider.discountFactors(ccyCounter);
+    if (cache == null) {
+      return calibrate(timeToExpiry, currencyPair, todayFx, baseDiscountFactors, counterDiscountFactors, volatilities);
+    }
+    TreeKey key = new TreeKey(timeToExpiry, currencyPair, todayFx, baseDiscountFactors, counterDiscountFactors, volatilities);
+    RecombiningTrinomialTreeData cached = cache.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    // calibrate outside the lock, a concurrent calibration of the same key results in the same tree
+    RecombiningTrinomialTreeData calibrated =
+        calibrate(timeToExpiry, currencyPair, todayFx, baseDiscountFactors, counterDiscountFactors, volatilities);
+    cache.put(key, calibrated);
+    return calibrated;
+  }
+
+  // calibrates the tree
+  private RecombiningTrinomialTreeData calibrate(
+      double timeToExpiry,
+      CurrencyPair currencyPair,
+      double todayFx,
+      DiscountFactors baseDiscountFactors,
+      DiscountFactors counterDiscountFactors,
+      BlackFxOptionVolatilities volatilities) {
+
     Function<Double, Double> interestRate = new Function<Double, Double>() {
       @Override
       public Double apply(Double t) {
@@ -131,4 +193,83 @@ public class ImpliedTrinomialTreeFxOptionCalibrator {
         "Volatility and rate data must be for the same date");
   }
 
+  //-------------------------------------------------------------------------
+  // the key of the cache, the inputs of the calibration
+  private static final class TreeKey {
+    private final double timeToExpiry;
+    private final CurrencyPair currencyPair;
+    private final double fxRate;
+    private final DiscountFactors baseDiscountFactors;
+    private final DiscountFactors counterDiscountFactors;
+    private final BlackFxOptionVolatilities volatilities;
+    private final int hashCode;
+
+    private TreeKey(
+        double timeToExpiry,
+        CurrencyPair currencyPair,
+        double fxRate,
+        DiscountFactors baseDiscountFactors,
+        DiscountFactors counterDiscountFactors,
+        BlackFxOptionVolatilities volatilities) {
+
+      this.timeToExpiry = timeToExpiry;
+      this.currencyPair = currencyPair;
+      this.fxRate = fxRate;
+      this.baseDiscountFactors = baseDiscountFactors;
+      this.counterDiscountFactors = counterDiscountFactors;
+      this.volatilities = volatilities;
+      this.hashCode = Objects.hash(
+          timeToExpiry, currencyPair, fxRate, baseDiscountFactors, counterDiscountFactors, volatilities);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof TreeKey)) {
+        return false;
+      }
+      TreeKey other = (TreeKey) obj;
+      return hashCode == other.hashCode &&
+          Double.doubleToLongBits(timeToExpiry) == Double.doubleToLongBits(other.timeToExpiry) &&
+          Double.doubleToLongBits(fxRate) == Double.doubleToLongBits(other.fxRate) &&
+          currencyPair.equals(other.currencyPair) &&
+          baseDiscountFactors.equals(other.baseDiscountFactors) &&
+          counterDiscountFactors.equals(other.counterDiscountFactors) &&
+          volatilities.equals(other.volatilities);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  // the bounded cache, evicting the least recently used tree
+  private static final class TreeCache {
+    private final int maxSize;
+    private final Map<TreeKey, RecombiningTrinomialTreeData> map;
+
+    private TreeCache(int maxSize) {
+      this.maxSize = maxSize;
+      this.map = new LinkedHashMap<TreeKey, RecombiningTrinomialTreeData>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TreeKey, RecombiningTrinomialTreeData> eldest) {
+          return size() > TreeCache.this.maxSize;
+        }
+      };
+    }
+
+    private synchronized RecombiningTrinomialTreeData get(TreeKey key) {
+      return map.get(key);
+    }
+
+    private synchronized void put(TreeKey key, RecombiningTrinomialTreeData tree) {
+      map.put(key, tree);
+    }
+  }
+
 }
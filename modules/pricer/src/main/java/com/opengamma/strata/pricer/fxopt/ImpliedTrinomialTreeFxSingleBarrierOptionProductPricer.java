@@ -53,7 +53,7 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
   /**
    * Default number of time steps.
    */
-  private static final int NUM_STEPS_DEFAULT = 51;
+  public static final int NUM_STEPS_DEFAULT = 51;
 
   /**
    * Default implementation.
@@ -65,6 +65,10 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
    * Number of time steps.
    */
   private final ImpliedTrinomialTreeFxOptionCalibrator calibrator;
+  /**
+   * The calibrator used for bumped market data, which does not cache the calibrated trees.
+   */
+  private final ImpliedTrinomialTreeFxOptionCalibrator bumpedCalibrator;
 
   /**
    * Pricer with the default number of time steps.
@@ -79,7 +83,22 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
    * @param nSteps  number of time steps
    */
   public ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(int nSteps) {
-    this.calibrator = new ImpliedTrinomialTreeFxOptionCalibrator(nSteps);
+    this(new ImpliedTrinomialTreeFxOptionCalibrator(nSteps));
+  }
+
+  /**
+   * Pricer with the specified calibrator.
+   * <p>
+   * This allows the calibrated trees to be cached, see {@link ImpliedTrinomialTreeFxOptionCalibrator}.
+   * The trees calibrated to bumped market data when computing sensitivities are not cached.
+   *
+   * @param calibrator  the calibrator
+   */
+  public ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(ImpliedTrinomialTreeFxOptionCalibrator calibrator) {
+    this.calibrator = ArgChecker.notNull(calibrator, "calibrator");
+    this.bumpedCalibrator = calibrator.getCacheSize() > 0 ?
+        new ImpliedTrinomialTreeFxOptionCalibrator(calibrator.getNumberOfSteps()) :
+        calibrator;
   }
 
   //-------------------------------------------------------------------------
@@ -260,7 +279,9 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer {
           Map<Currency, Curve> mapBumped = new HashMap<>(baseCurves);
           mapBumped.put(entry.getKey(), dscBumped);
           ImmutableRatesProvider providerDscBumped = immRatesProvider.toBuilder().discountCurves(mapBumped).build();
-          double pvBumped = presentValue(option, providerDscBumped, volatilities).getAmount();
+          RecombiningTrinomialTreeData treeDataBumped =
+              bumpedCalibrator.calibrateTrinomialTree(underlyingOption, providerDscBumped, volatilities);
+          double pvBumped = presentValue(option, providerDscBumped, volatilities, treeDataBumped).getAmount();
           return (pvBumped - pvBase.getAmount()) / shift;
         });
         result = result.combinedWith(curve.createParameterSensitivity(pvBase.getCurrency(), sensitivity));
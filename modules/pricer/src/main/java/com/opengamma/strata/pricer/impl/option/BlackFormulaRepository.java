@@ -67,40 +67,7 @@ public final class BlackFormulaRepository {
     ArgChecker.isTrue(timeToExpiry >= 0d, "negative/NaN timeToExpiry; have {}", timeToExpiry);
     ArgChecker.isTrue(lognormalVol >= 0d, "negative/NaN lognormalVol; have {}", lognormalVol);
 
-    double sigmaRootT = lognormalVol * Math.sqrt(timeToExpiry);
-    if (Double.isNaN(sigmaRootT)) {
-      log.info("lognormalVol * Math.sqrt(timeToExpiry) ambiguous");
-      sigmaRootT = 1d;
-    }
-    int sign = isCall ? 1 : -1;
-    boolean bFwd = (forward > LARGE);
-    boolean bStr = (strike > LARGE);
-    boolean bSigRt = (sigmaRootT > LARGE);
-    double d1 = 0d;
-    double d2 = 0d;
-
-    if (bFwd && bStr) {
-      log.info("(large value)/(large value) ambiguous");
-      return isCall ? (forward >= strike ? forward : 0d) : (strike >= forward ? strike : 0d);
-    }
-    if (sigmaRootT < SMALL) {
-      return Math.max(sign * (forward - strike), 0d);
-    }
-    if (Math.abs(forward - strike) < SMALL || bSigRt) {
-      d1 = 0.5 * sigmaRootT;
-      d2 = -0.5 * sigmaRootT;
-    } else {
-      d1 = Math.log(forward / strike) / sigmaRootT + 0.5 * sigmaRootT;
-      d2 = d1 - sigmaRootT;
-    }
-
-    double nF = NORMAL.getCDF(sign * d1);
-    double nS = NORMAL.getCDF(sign * d2);
-    double first = nF == 0d ? 0d : forward * nF;
-    double second = nS == 0d ? 0d : strike * nS;
-
-    double res = sign * (first - second);
-    return Math.max(0., res);
+    return priceUnchecked(forward, strike, timeToExpiry, lognormalVol, isCall);
   }
 
   //-------------------------------------------------------------------------
@@ -305,6 +272,266 @@ public final class BlackFormulaRepository {
     return Pair.of(ValueDerivatives.of(p, bsD), bsD2);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the forward prices of a batch of options.
+   * <p>
+   * The inputs hold one element for each option, and must have the same size.
+   * The price of each option is the same as that of {@link #price(double, double, double, double, boolean)}.
+   * It is written into the array supplied, thus no objects are allocated.
+   * 
+   * @param forward  the forward value of the underlying of each option
+   * @param strike  the strike of each option
+   * @param timeToExpiry  the time to expiry of each option
+   * @param lognormalVol  the log-normal volatility of each option
+   * @param isCall  true for call, false for put, for each option
+   * @param prices  the array to write the forward prices into, of the same size as the inputs
+   */
+  public static void price(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      boolean[] isCall,
+      double[] prices) {
+
+    int size = checkBatch(forward, strike, timeToExpiry, lognormalVol, isCall);
+    ArgChecker.isTrue(prices.length == size, "prices must have the same size as the inputs");
+    for (int i = 0; i < size; i++) {
+      checkInputs(forward[i], strike[i], timeToExpiry[i], lognormalVol[i]);
+      prices[i] = priceUnchecked(forward[i], strike[i], timeToExpiry[i], lognormalVol[i], isCall[i]);
+    }
+  }
+
+  /**
+   * Computes the forward prices and the forward vegas of a batch of options.
+   * <p>
+   * The inputs hold one element for each option, and must have the same size.
+   * The price and vega of each option are the same as those of {@link #price(double, double, double, double, boolean)}
+   * and {@link #vega(double, double, double, double)}.
+   * They are written into the arrays supplied, thus no objects are allocated.
+   * 
+   * @param forward  the forward value of the underlying of each option
+   * @param strike  the strike of each option
+   * @param timeToExpiry  the time to expiry of each option
+   * @param lognormalVol  the log-normal volatility of each option
+   * @param isCall  true for call, false for put, for each option
+   * @param prices  the array to write the forward prices into, of the same size as the inputs
+   * @param vegas  the array to write the forward vegas into, of the same size as the inputs
+   */
+  public static void priceAndVega(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      boolean[] isCall,
+      double[] prices,
+      double[] vegas) {
+
+    int size = checkBatch(forward, strike, timeToExpiry, lognormalVol, isCall);
+    ArgChecker.isTrue(prices.length == size, "prices must have the same size as the inputs");
+    ArgChecker.isTrue(vegas.length == size, "vegas must have the same size as the inputs");
+    for (int i = 0; i < size; i++) {
+      checkInputs(forward[i], strike[i], timeToExpiry[i], lognormalVol[i]);
+      prices[i] = priceUnchecked(forward[i], strike[i], timeToExpiry[i], lognormalVol[i], isCall[i]);
+      vegas[i] = vegaUnchecked(forward[i], strike[i], timeToExpiry[i], lognormalVol[i]);
+    }
+  }
+
+  /**
+   * Computes the forward prices and their first order derivatives for a batch of options.
+   * <p>
+   * The inputs hold one element for each option, and must have the same size.
+   * The price and derivatives of each option are the same as those of
+   * {@link #priceAdjoint(double, double, double, double, boolean)}.
+   * They are written into the arrays supplied, thus no objects are allocated.
+   * <p>
+   * The derivatives are stored by input, with one row for each input and one column for each option:
+   * <ul>
+   * <li>[0][i] derivative with respect to the forward
+   * <li>[1][i] derivative with respect to the strike
+   * <li>[2][i] derivative with respect to the time to expiry
+   * <li>[3][i] derivative with respect to the volatility
+   * </ul>
+   * 
+   * @param forward  the forward value of the underlying of each option
+   * @param strike  the strike of each option
+   * @param timeToExpiry  the time to expiry of each option
+   * @param lognormalVol  the log-normal volatility of each option
+   * @param isCall  true for call, false for put, for each option
+   * @param prices  the array to write the forward prices into, of the same size as the inputs
+   * @param derivatives  the arrays to write the derivatives into, four arrays of the same size as the inputs
+   */
+  public static void priceAdjoint(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] lognormalVol,
+      boolean[] isCall,
+      double[] prices,
+      double[][] derivatives) {
+
+    int size = checkBatch(forward, strike, timeToExpiry, lognormalVol, isCall);
+    ArgChecker.isTrue(prices.length == size, "prices must have the same size as the inputs");
+    ArgChecker.isTrue(derivatives.length == 4, "derivatives must have four rows");
+    double[] forwardBar = derivatives[0];
+    double[] strikeBar = derivatives[1];
+    double[] timeToExpiryBar = derivatives[2];
+    double[] lognormalVolBar = derivatives[3];
+    ArgChecker.isTrue(
+        forwardBar.length == size && strikeBar.length == size &&
+            timeToExpiryBar.length == size && lognormalVolBar.length == size,
+        "derivatives must have the same size as the inputs");
+    for (int i = 0; i < size; i++) {
+      checkInputs(forward[i], strike[i], timeToExpiry[i], lognormalVol[i]);
+      double sigmaRootT = lognormalVol[i] * Math.sqrt(timeToExpiry[i]);
+      if (Double.isNaN(sigmaRootT)) {
+        log.info("lognormalVol * Math.sqrt(timeToExpiry) ambiguous");
+        sigmaRootT = 1d;
+      }
+      int sign = isCall[i] ? 1 : -1;
+      if (forward[i] > LARGE && strike[i] > LARGE) {
+        log.info("(large value)/(large value) ambiguous");
+        prices[i] = isCall[i] ? (forward[i] >= strike[i] ? forward[i] : 0d) : (strike[i] >= forward[i] ? strike[i] : 0d);
+        forwardBar[i] = 0d;
+        strikeBar[i] = 0d;
+        timeToExpiryBar[i] = 0d;
+        lognormalVolBar[i] = 0d;
+        continue;
+      }
+      if (sigmaRootT < SMALL) {
+        boolean isItm = (sign * (forward[i] - strike[i])) > 0;
+        prices[i] = isItm ? sign * (forward[i] - strike[i]) : 0d;
+        forwardBar[i] = isItm ? sign : 0d;
+        strikeBar[i] = isItm ? -sign : 0d;
+        timeToExpiryBar[i] = 0d;
+        lognormalVolBar[i] = 0d;
+        continue;
+      }
+      double d1;
+      double d2;
+      if (Math.abs(forward[i] - strike[i]) < SMALL || sigmaRootT > LARGE) {
+        d1 = 0.5 * sigmaRootT;
+        d2 = -0.5 * sigmaRootT;
+      } else {
+        d2 = Math.log(forward[i] / strike[i]) / sigmaRootT - 0.5 * sigmaRootT;
+        d1 = d2 + sigmaRootT;
+      }
+      double nF = NormalDistribution.standardCdf(sign * d1);
+      double nS = NormalDistribution.standardCdf(sign * d2);
+      double first = nF == 0d ? 0d : forward[i] * nF;
+      double second = nS == 0d ? 0d : strike[i] * nS;
+      prices[i] = Math.max(0d, sign * (first - second));
+      // backward sweep, see the scalar method
+      double d1Bar = NormalDistribution.standardPdf(sign * d1) * forward[i];
+      forwardBar[i] = nF * sign;
+      strikeBar[i] = -nS * sign;
+      timeToExpiryBar[i] = 0.5 / Math.sqrt(timeToExpiry[i]) * lognormalVol[i] * d1Bar;
+      lognormalVolBar[i] = Math.sqrt(timeToExpiry[i]) * d1Bar;
+    }
+  }
+
+  // checks the inputs of a batch, returning the size
+  private static int checkBatch(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] vol,
+      boolean[] isCall) {
+
+    int size = forward.length;
+    ArgChecker.isTrue(
+        strike.length == size && timeToExpiry.length == size && vol.length == size && isCall.length == size,
+        "Inputs must have the same size");
+    return size;
+  }
+
+  // checks the inputs of a single option
+  private static void checkInputs(double forward, double strike, double timeToExpiry, double lognormalVol) {
+    ArgChecker.isTrue(forward >= 0d, "negative/NaN forward; have {}", forward);
+    ArgChecker.isTrue(strike >= 0d, "negative/NaN strike; have {}", strike);
+    ArgChecker.isTrue(timeToExpiry >= 0d, "negative/NaN timeToExpiry; have {}", timeToExpiry);
+    ArgChecker.isTrue(lognormalVol >= 0d, "negative/NaN lognormalVol; have {}", lognormalVol);
+  }
+
+  // computes the price, once the inputs have been checked
+  private static double priceUnchecked(
+      double forward,
+      double strike,
+      double timeToExpiry,
+      double lognormalVol,
+      boolean isCall) {
+
+    double sigmaRootT = lognormalVol * Math.sqrt(timeToExpiry);
+    if (Double.isNaN(sigmaRootT)) {
+      log.info("lognormalVol * Math.sqrt(timeToExpiry) ambiguous");
+      sigmaRootT = 1d;
+    }
+    int sign = isCall ? 1 : -1;
+    boolean bFwd = (forward > LARGE);
+    boolean bStr = (strike > LARGE);
+    boolean bSigRt = (sigmaRootT > LARGE);
+    double d1 = 0d;
+    double d2 = 0d;
+
+    if (bFwd && bStr) {
+      log.info("(large value)/(large value) ambiguous");
+      return isCall ? (forward >= strike ? forward : 0d) : (strike >= forward ? strike : 0d);
+    }
+    if (sigmaRootT < SMALL) {
+      return Math.max(sign * (forward - strike), 0d);
+    }
+    if (Math.abs(forward - strike) < SMALL || bSigRt) {
+      d1 = 0.5 * sigmaRootT;
+      d2 = -0.5 * sigmaRootT;
+    } else {
+      d1 = Math.log(forward / strike) / sigmaRootT + 0.5 * sigmaRootT;
+      d2 = d1 - sigmaRootT;
+    }
+
+    double nF = NormalDistribution.standardCdf(sign * d1);
+    double nS = NormalDistribution.standardCdf(sign * d2);
+    double first = nF == 0d ? 0d : forward * nF;
+    double second = nS == 0d ? 0d : strike * nS;
+
+    double res = sign * (first - second);
+    return Math.max(0., res);
+  }
+
+  // computes the vega, once the inputs have been checked
+  private static double vegaUnchecked(double forward, double strike, double timeToExpiry, double lognormalVol) {
+    double rootT = Math.sqrt(timeToExpiry);
+    double sigmaRootT = lognormalVol * rootT;
+    if (Double.isNaN(sigmaRootT)) {
+      log.info("lognormalVol * Math.sqrt(timeToExpiry) ambiguous");
+      sigmaRootT = 1d;
+    }
+    boolean bFwd = (forward > LARGE);
+    boolean bStr = (strike > LARGE);
+    boolean bSigRt = (sigmaRootT > LARGE);
+    double d1 = 0d;
+
+    if (bSigRt) {
+      return 0d;
+    }
+    if (sigmaRootT < SMALL) {
+      if (Math.abs(forward - strike) >= SMALL && !(bFwd && bStr)) {
+        return 0d;
+      }
+      log.info("log(1)/0 ambiguous");
+      double nVal = NormalDistribution.standardPdf(0d);
+      return (rootT < SMALL && forward > LARGE) ? nVal : forward * rootT * nVal;
+    }
+    if (Math.abs(forward - strike) < SMALL | (bFwd && bStr)) {
+      d1 = 0.5 * sigmaRootT;
+    } else {
+      d1 = Math.log(forward / strike) / sigmaRootT + 0.5 * sigmaRootT;
+    }
+
+    double nVal = NormalDistribution.standardPdf(d1);
+    return nVal == 0d ? 0d : forward * rootT * nVal;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Computes the forward driftless delta.
@@ -900,35 +1127,7 @@ public final class BlackFormulaRepository {
     ArgChecker.isTrue(timeToExpiry >= 0d, "negative/NaN timeToExpiry; have {}", timeToExpiry);
     ArgChecker.isTrue(lognormalVol >= 0d, "negative/NaN lognormalVol; have {}", lognormalVol);
 
-    double rootT = Math.sqrt(timeToExpiry);
-    double sigmaRootT = lognormalVol * rootT;
-    if (Double.isNaN(sigmaRootT)) {
-      log.info("lognormalVol * Math.sqrt(timeToExpiry) ambiguous");
-      sigmaRootT = 1d;
-    }
-    boolean bFwd = (forward > LARGE);
-    boolean bStr = (strike > LARGE);
-    boolean bSigRt = (sigmaRootT > LARGE);
-    double d1 = 0d;
-
-    if (bSigRt) {
-      return 0d;
-    }
-    if (sigmaRootT < SMALL) {
-      if (Math.abs(forward - strike) >= SMALL && !(bFwd && bStr)) {
-        return 0d;
-      }
-      log.info("log(1)/0 ambiguous");
-      return (rootT < SMALL && forward > LARGE) ? NORMAL.getPDF(0d) : forward * rootT * NORMAL.getPDF(0d);
-    }
-    if (Math.abs(forward - strike) < SMALL | (bFwd && bStr)) {
-      d1 = 0.5 * sigmaRootT;
-    } else {
-      d1 = Math.log(forward / strike) / sigmaRootT + 0.5 * sigmaRootT;
-    }
-
-    double nVal = NORMAL.getPDF(d1);
-    return nVal == 0d ? 0d : forward * rootT * nVal;
+    return vegaUnchecked(forward, strike, timeToExpiry, lognormalVol);
   }
 
   //-------------------------------------------------------------------------
@@ -1201,7 +1400,7 @@ public final class BlackFormulaRepository {
    * @param forward  the forward value of the underlying
    * @param strike  the strike
    * @param timeToExpiry  the time to expiry
-   * @param volGuess  a guess of the implied volatility
+   * @param volGuess  a guess of the implied volatility, not used by the solver which starts from an explicit guess
    * @return log-normal (Black) implied volatility
    */
   public static double impliedVolatility(
@@ -1229,28 +1428,12 @@ public final class BlackFormulaRepository {
     ArgChecker.isTrue(otmPrice < Math.min(forward, strike), "otmPrice of {} exceeded upper bound of {}", otmPrice,
         Math.min(forward, strike));
 
-    if (forward == strike) {
-      return NORMAL.getInverseCDF(0.5 * (otmPrice / forward + 1)) * 2 / Math.sqrt(timeToExpiry);
-    }
-
-    boolean isCall = strike >= forward;
-
-    Function<Double, Double> priceFunc = new Function<Double, Double>() {
-      @Override
-      public Double apply(Double x) {
-        return price(forward, strike, timeToExpiry, x, isCall);
-      }
-    };
+    ArgChecker.isTrue(timeToExpiry > 0d, "No implied volatility for zero timeToExpiry");
 
-    Function<Double, Double> vegaFunc = new Function<Double, Double>() {
-      @Override
-      public Double apply(Double x) {
-        return vega(forward, strike, timeToExpiry, x);
-      }
-    };
-
-    GenericImpliedVolatiltySolver solver = new GenericImpliedVolatiltySolver(priceFunc, vegaFunc);
-    return solver.impliedVolatility(otmPrice, volGuess);
+    // the out-of-the-money price is normalised to that of a call with negative log-moneyness
+    double x = -Math.abs(Math.log(forward / strike));
+    double normalisedPrice = otmPrice / Math.sqrt(forward * strike);
+    return ImpliedVolatilitySolver.blackTotalVolatility(normalisedPrice, x) / Math.sqrt(timeToExpiry);
   }
 
   /**
@@ -1285,6 +1468,36 @@ public final class BlackFormulaRepository {
     return ValueDerivatives.of(impliedVolatility, DoubleArray.of(dvoldprice));
   }
 
+  /**
+   * Computes the log-normal implied volatilities of a batch of options.
+   * <p>
+   * The inputs hold one element for each option, and must have the same size.
+   * The implied volatility of each option is the same as that of
+   * {@link #impliedVolatility(double, double, double, double, boolean)}.
+   * It is written into the array supplied, thus no objects are allocated.
+   * 
+   * @param price  the forward price of each option, which is the market price divided by the numeraire
+   * @param forward  the forward value of the underlying of each option
+   * @param strike  the strike of each option
+   * @param timeToExpiry  the time to expiry of each option
+   * @param isCall  true for call, false for put, for each option
+   * @param impliedVolatilities  the array to write the implied volatilities into, of the same size as the inputs
+   */
+  public static void impliedVolatility(
+      double[] price,
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      boolean[] isCall,
+      double[] impliedVolatilities) {
+
+    int size = checkBatch(price, forward, strike, timeToExpiry, isCall);
+    ArgChecker.isTrue(impliedVolatilities.length == size, "impliedVolatilities must have the same size as the inputs");
+    for (int i = 0; i < size; i++) {
+      impliedVolatilities[i] = impliedVolatility(price[i], forward[i], strike[i], timeToExpiry[i], isCall[i]);
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Computes the implied strike from delta and volatility in the Black formula.
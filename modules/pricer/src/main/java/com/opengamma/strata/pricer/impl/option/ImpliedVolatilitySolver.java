@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
+import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
+
+/**
+ * Solver for the implied volatility of the Black and Bachelier formulas.
+ * <p>
+ * The solver works on the out-of-the-money price in a normalised form, where the volatility is
+ * the total volatility, the volatility multiplied by the square root of the time to expiry.
+ * The at-the-money implied volatility is explicit. Otherwise, the solver starts from a closed form
+ * guess and applies Householder steps of third order, typically two to four, until the change is
+ * below the precision of the price.
+ * <p>
+ * The derivatives of the normalised prices with respect to the total volatility are explicit
+ * multiples of the vega. Below the inflection point of the price, the logarithm of the price is solved
+ * instead of the price, as it is closer to linear in the volatility.
+ * Each step is kept within a bracket of the solution, updated from the sign of the price difference,
+ * halving the bracket if the step leaves it.
+ * <p>
+ * The price functions are evaluated on primitive values, thus no objects are allocated.
+ */
+final class ImpliedVolatilitySolver {
+
+  /**
+   * The normal distribution implementation.
+   */
+  private static final ProbabilityDistribution<Double> NORMAL = new NormalDistribution(0, 1);
+  /**
+   * The square root of two pi.
+   */
+  private static final double SQRT_2PI = Math.sqrt(2d * Math.PI);
+  /**
+   * The relative precision of the total volatility.
+   */
+  private static final double TOLERANCE = 1e-14;
+  /**
+   * The maximal number of iterations, reached only if the price is below its precision.
+   */
+  private static final int MAX_ITERATIONS = 64;
+
+  // restricted constructor
+  private ImpliedVolatilitySolver() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the Black total volatility from the normalised price of an out-of-the-money call.
+   * <p>
+   * The normalised price is the forward price divided by the square root of the product of
+   * the forward and the strike. The price of an out-of-the-money put with log-moneyness {@code -x}
+   * is the price of the call with log-moneyness {@code x}.
+   *
+   * @param price  the normalised price, smaller than {@code exp(x / 2)}
+   * @param x  the log-moneyness, {@code ln(forward / strike)}, negative or zero
+   * @return the total volatility
+   */
+  static double blackTotalVolatility(double price, double x) {
+    if (price <= 0d) {
+      return 0d;
+    }
+    if (x == 0d) {
+      return 2d * NORMAL.getInverseCDF(0.5 * (price + 1d));
+    }
+    // the inflection point splits the objective between the price and its logarithm
+    double inflection = Math.sqrt(-2d * x);
+    boolean useLog = price < normalisedBlackCall(x, inflection);
+    // Corrado-Miller guess, with the normalised forward and strike
+    double halfDiff = Math.sinh(0.5 * x);
+    double halfSum = Math.cosh(0.5 * x);
+    double shifted = price - halfDiff;
+    double root = shifted * shifted - 4d * halfDiff * halfDiff / Math.PI;
+    double guess = SQRT_2PI / (2d * halfSum) * (shifted + Math.sqrt(root));
+    if (!(root >= 0d) && useLog) {
+      // asymptotic guess in the wings, where the Corrado-Miller guess fails, from ln(price) ~ -x^2 / (2 s^2)
+      guess = -x / Math.sqrt(-2d * Math.log(price * Math.exp(-0.5 * x)));
+    }
+    double low = 0d;
+    double high = Double.POSITIVE_INFINITY;
+    double s = guess > 0d && guess < Double.POSITIVE_INFINITY ? guess : inflection;
+    for (int i = 0; i < MAX_ITERATIONS; i++) {
+      double b = normalisedBlackCall(x, s);
+      if (b > price) {
+        high = s;
+      } else {
+        low = s;
+      }
+      double xOverS = x / s;
+      double vega = Math.exp(-0.5 * (xOverS * xOverS + 0.25 * s * s)) / SQRT_2PI;
+      double h2 = xOverS * xOverS / s - 0.25 * s;
+      double h3 = h2 * h2 - 3d * xOverS * xOverS / (s * s) - 0.25;
+      double next = s + householder(b, price, vega, h2, h3, useLog);
+      if (!(next > low && next < high)) {
+        next = high < Double.POSITIVE_INFINITY ? 0.5 * (low + high) : 2d * s;
+      }
+      if (Math.abs(next - s) <= TOLERANCE * next || high - low <= TOLERANCE * next) {
+        return next;
+      }
+      s = next;
+    }
+    return s;
+  }
+
+  /**
+   * Computes the Bachelier total volatility from the price of an out-of-the-money option.
+   *
+   * @param price  the forward price of the out-of-the-money option
+   * @param distance  the absolute difference between the forward and the strike
+   * @return the total volatility
+   */
+  static double bachelierTotalVolatility(double price, double distance) {
+    if (price <= 0d) {
+      return 0d;
+    }
+    if (distance == 0d) {
+      return price * SQRT_2PI;
+    }
+    // the objective is the logarithm of the price below the total volatility equal to the distance
+    boolean useLog = price < normalisedBachelier(distance, distance);
+    double guess = useLog ?
+        distance / Math.sqrt(-2d * Math.log(price / distance)) :
+        price * SQRT_2PI;
+    double low = 0d;
+    double high = Double.POSITIVE_INFINITY;
+    double u = guess > 0d && guess < Double.POSITIVE_INFINITY ? guess : distance;
+    for (int i = 0; i < MAX_ITERATIONS; i++) {
+      double p = normalisedBachelier(distance, u);
+      if (p > price) {
+        high = u;
+      } else {
+        low = u;
+      }
+      double aOverU = distance / u;
+      double vega = Math.exp(-0.5 * aOverU * aOverU) / SQRT_2PI;
+      double h2 = aOverU * aOverU / u;
+      double h3 = h2 * h2 - 3d * aOverU * aOverU / (u * u);
+      double next = u + householder(p, price, vega, h2, h3, useLog);
+      if (!(next > low && next < high)) {
+        next = high < Double.POSITIVE_INFINITY ? 0.5 * (low + high) : 2d * u;
+      }
+      if (Math.abs(next - u) <= TOLERANCE * next || high - low <= TOLERANCE * next) {
+        return next;
+      }
+      u = next;
+    }
+    return u;
+  }
+
+  //-------------------------------------------------------------------------
+  // the Householder step of third order, solving either the price or its logarithm
+  // the second and third derivatives of the price are h2 and h3 multiplied by the vega
+  private static double householder(double value, double target, double vega, double h2, double h3, boolean useLog) {
+    double newton;
+    double ratio2;
+    double ratio3;
+    if (useLog && value > 0d) {
+      double g = vega / value;
+      newton = -(Math.log(value) - Math.log(target)) / g;
+      ratio2 = h2 - g;
+      ratio3 = h3 - 3d * g * h2 + 2d * g * g;
+    } else {
+      newton = -(value - target) / vega;
+      ratio2 = h2;
+      ratio3 = h3;
+    }
+    double step = newton * (1d + 0.5 * ratio2 * newton) / (1d + newton * (ratio2 + ratio3 * newton / 6d));
+    // far from the solution, the higher order terms can reverse or stall the step
+    double ratio = step / newton;
+    return ratio > 0.5 && ratio < 2d ? step : newton;
+  }
+
+  // the normalised Black call price, for a negative log-moneyness
+  private static double normalisedBlackCall(double x, double s) {
+    double d1 = x / s + 0.5 * s;
+    double d2 = d1 - s;
+    return Math.exp(0.5 * x) * NormalDistribution.standardCdf(d1) - Math.exp(-0.5 * x) * NormalDistribution.standardCdf(d2);
+  }
+
+  // the Bachelier price of an out-of-the-money option
+  private static double normalisedBachelier(double distance, double u) {
+    double d = distance / u;
+    return u * NormalDistribution.standardPdf(d) - distance * NormalDistribution.standardCdf(-d);
+  }
+
+}
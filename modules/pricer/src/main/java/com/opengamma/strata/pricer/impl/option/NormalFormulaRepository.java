@@ -5,14 +5,10 @@
  */
 package com.opengamma.strata.pricer.impl.option;
 
-import java.util.function.Function;
-
 import com.google.common.math.DoubleMath;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
-import com.opengamma.strata.math.impl.rootfinding.BisectionSingleRootFinder;
-import com.opengamma.strata.math.impl.rootfinding.BracketRoot;
 import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
 import com.opengamma.strata.math.impl.statistics.distribution.ProbabilityDistribution;
 import com.opengamma.strata.product.common.PutCall;
@@ -30,14 +26,6 @@ public final class NormalFormulaRepository {
    * The comparison value used to determine near-zero.
    */
   private static final double NEAR_ZERO = 1e-16;
-  /**
-   * The maximal number of iterations in the root solving algorithm.
-   */
-  private static final int MAX_ITERATIONS = 100;
-  /**
-   * The solution precision.
-   */
-  private static final double EPS = 1e-15;
 
   /** Limit defining "close to ATM forward" to avoid the formula singularity in the impliedVolatilityFromBlackVolatility. **/
   private static final double ATM_LIMIT = 1.0E-3;
@@ -138,6 +126,173 @@ public final class NormalFormulaRepository {
     return ValueDerivatives.of(price, DoubleArray.of(forwardDerivative, volatilityDerivative, strikeDerivative));
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the forward prices of a batch of options.
+   * <p>
+   * The inputs hold one element for each option, and must have the same size.
+   * The price of each option is the same as that of {@link #price(double, double, double, double, PutCall)}.
+   * It is written into the array supplied, thus no objects are allocated.
+   * <p>
+   * Note that the 'numeraire' is a simple multiplier and is the responsibility of the caller.
+   * 
+   * @param forward  the forward value of the underlying of each option
+   * @param strike  the strike of each option
+   * @param timeToExpiry  the time to expiry of each option
+   * @param normalVol  the normal volatility of each option
+   * @param isCall  true for call, false for put, for each option
+   * @param prices  the array to write the forward prices into, of the same size as the inputs
+   */
+  public static void price(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] normalVol,
+      boolean[] isCall,
+      double[] prices) {
+
+    int size = checkBatch(forward, strike, timeToExpiry, normalVol, isCall);
+    ArgChecker.isTrue(prices.length == size, "prices must have the same size as the inputs");
+    for (int i = 0; i < size; i++) {
+      double sigmaRootT = normalVol[i] * Math.sqrt(timeToExpiry[i]);
+      double x = (isCall[i] ? 1 : -1) * (forward[i] - strike[i]);
+      if (sigmaRootT < NEAR_ZERO) {
+        prices[i] = (x > 0 ? x : 0d);
+      } else {
+        double arg = x / sigmaRootT;
+        prices[i] = x * NormalDistribution.standardCdf(arg) + sigmaRootT * NormalDistribution.standardPdf(arg);
+      }
+    }
+  }
+
+  /**
+   * Computes the forward prices and the vegas of a batch of options.
+   * <p>
+   * The inputs hold one element for each option, and must have the same size.
+   * The price and vega of each option are the same as those of {@link #price(double, double, double, double, PutCall)}
+   * and {@link #vega(double, double, double, double, PutCall)}.
+   * They are written into the arrays supplied, thus no objects are allocated.
+   * <p>
+   * Note that the 'numeraire' is a simple multiplier and is the responsibility of the caller.
+   * 
+   * @param forward  the forward value of the underlying of each option
+   * @param strike  the strike of each option
+   * @param timeToExpiry  the time to expiry of each option
+   * @param normalVol  the normal volatility of each option
+   * @param isCall  true for call, false for put, for each option
+   * @param prices  the array to write the forward prices into, of the same size as the inputs
+   * @param vegas  the array to write the vegas into, of the same size as the inputs
+   */
+  public static void priceAndVega(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] normalVol,
+      boolean[] isCall,
+      double[] prices,
+      double[] vegas) {
+
+    int size = checkBatch(forward, strike, timeToExpiry, normalVol, isCall);
+    ArgChecker.isTrue(prices.length == size, "prices must have the same size as the inputs");
+    ArgChecker.isTrue(vegas.length == size, "vegas must have the same size as the inputs");
+    for (int i = 0; i < size; i++) {
+      double rootT = Math.sqrt(timeToExpiry[i]);
+      double sigmaRootT = normalVol[i] * rootT;
+      double x = (isCall[i] ? 1 : -1) * (forward[i] - strike[i]);
+      if (sigmaRootT < NEAR_ZERO) {
+        prices[i] = (x > 0 ? x : 0d);
+        // ambiguous if x and sigmaRootT are tiny, then reference number is returned
+        vegas[i] = Math.abs(x) > NEAR_ZERO ? 0d : rootT / Math.sqrt(2d * Math.PI);
+      } else {
+        double arg = x / sigmaRootT;
+        double pdf = NormalDistribution.standardPdf(arg);
+        prices[i] = x * NormalDistribution.standardCdf(arg) + sigmaRootT * pdf;
+        vegas[i] = NormalDistribution.standardPdf((forward[i] - strike[i]) / sigmaRootT) * rootT;
+      }
+    }
+  }
+
+  /**
+   * Computes the forward prices and their first order derivatives for a batch of options.
+   * <p>
+   * The inputs hold one element for each option, and must have the same size.
+   * The price and derivatives of each option are the same as those of
+   * {@link #priceAdjoint(double, double, double, double, double, PutCall)} with a numeraire of one.
+   * They are written into the arrays supplied, thus no objects are allocated.
+   * <p>
+   * The derivatives are stored by input, with one row for each input and one column for each option:
+   * <ul>
+   * <li>[0][i] derivative with respect to the forward
+   * <li>[1][i] derivative with respect to the volatility
+   * <li>[2][i] derivative with respect to the strike
+   * </ul>
+   * <p>
+   * Note that the 'numeraire' is a simple multiplier and is the responsibility of the caller.
+   * 
+   * @param forward  the forward value of the underlying of each option
+   * @param strike  the strike of each option
+   * @param timeToExpiry  the time to expiry of each option
+   * @param normalVol  the normal volatility of each option
+   * @param isCall  true for call, false for put, for each option
+   * @param prices  the array to write the forward prices into, of the same size as the inputs
+   * @param derivatives  the arrays to write the derivatives into, three arrays of the same size as the inputs
+   */
+  public static void priceAdjoint(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] normalVol,
+      boolean[] isCall,
+      double[] prices,
+      double[][] derivatives) {
+
+    int size = checkBatch(forward, strike, timeToExpiry, normalVol, isCall);
+    ArgChecker.isTrue(prices.length == size, "prices must have the same size as the inputs");
+    ArgChecker.isTrue(derivatives.length == 3, "derivatives must have three rows");
+    double[] forwardBar = derivatives[0];
+    double[] normalVolBar = derivatives[1];
+    double[] strikeBar = derivatives[2];
+    ArgChecker.isTrue(
+        forwardBar.length == size && normalVolBar.length == size && strikeBar.length == size,
+        "derivatives must have the same size as the inputs");
+    for (int i = 0; i < size; i++) {
+      int sign = isCall[i] ? 1 : -1;
+      double rootT = Math.sqrt(timeToExpiry[i]);
+      double sigmaRootT = normalVol[i] * rootT;
+      double x = sign * (forward[i] - strike[i]);
+      if (sigmaRootT < NEAR_ZERO) {
+        prices[i] = (x > 0 ? x : 0d);
+        forwardBar[i] = x > 0 ? sign : 0d;
+        normalVolBar[i] = 0d;
+      } else {
+        double arg = x / sigmaRootT;
+        double cdf = NormalDistribution.standardCdf(arg);
+        double pdf = NormalDistribution.standardPdf(arg);
+        prices[i] = x * cdf + sigmaRootT * pdf;
+        // backward sweep, see the scalar method
+        double argBar = pdf * x - pdf * arg * sigmaRootT;
+        forwardBar[i] = sign * cdf + sign / sigmaRootT * argBar;
+        normalVolBar[i] = rootT * (-arg / sigmaRootT * argBar + pdf);
+      }
+      strikeBar[i] = -forwardBar[i];
+    }
+  }
+
+  // checks the inputs of a batch, returning the size
+  private static int checkBatch(
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      double[] normalVol,
+      boolean[] isCall) {
+
+    int size = forward.length;
+    ArgChecker.isTrue(
+        strike.length == size && timeToExpiry.length == size && normalVol.length == size && isCall.length == size,
+        "Inputs must have the same size");
+    return size;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Computes the delta.
@@ -251,7 +406,7 @@ public final class NormalFormulaRepository {
   /**
    * Computes the implied volatility.
    * <p>
-   * If the volatility data is not zero, it is used as a starting point for the volatility search.
+   * The implied volatility is found from an explicit guess, refined by a few Householder steps.
    * <p>
    * Note that the 'numeraire' is a simple multiplier and is the responsibility of the caller.
    * 
@@ -259,7 +414,7 @@ public final class NormalFormulaRepository {
    * @param forward  the forward value of the underlying
    * @param strike  the strike
    * @param timeToExpiry  the time to expiry
-   * @param initialNormalVol  the normal volatility used to start the search
+   * @param initialNormalVol  the normal volatility used to start the search, not used by the solver
    * @param numeraire  the numeraire
    * @param putCall  whether it is put or call
    * @return the implied volatility
@@ -279,41 +434,43 @@ public final class NormalFormulaRepository {
     if (Double.doubleToLongBits(optionPrice) == Double.doubleToLongBits(intrinsicPrice)) {
       return 0d;
     }
-    double sigma = Math.min(Math.abs(initialNormalVol), 1e-10); // to start with a positive non zero vol
-    double maxChange = 0.5 * sigma; // to avoid jumping around too fast
-    ValueDerivatives price = priceAdjoint(forward, strike, timeToExpiry, sigma, numeraire, putCall);
-    double vega = price.getDerivative(1);
-    double change = (price.getValue() - optionPrice) / vega;
-    double sign = Math.signum(change);
-    change = sign * Math.min(maxChange, Math.abs(change));
-    if (change > 0 && change > sigma) {
-      change = 0.9d * sigma; // to avoid jumping through 0
-    }
-    int count = 0;
-    while (Math.abs(change) > EPS) {
-      sigma -= change;
-      price = priceAdjoint(forward, strike, timeToExpiry, sigma, numeraire, putCall);
-      vega = price.getDerivative(1);
-      change = (price.getValue() - optionPrice) / vega;
-      sign = Math.signum(change);
-      change = sign * Math.min(maxChange, Math.abs(change));
-      if (change > 0 && change > sigma) {
-        change = 0.9d * sigma;
-      }
-      if (count++ > MAX_ITERATIONS) {
-        BracketRoot bracketer = new BracketRoot();
-        BisectionSingleRootFinder rootFinder = new BisectionSingleRootFinder(EPS);
-        Function<Double, Double> func = new Function<Double, Double>() {
-          @Override
-          public Double apply(Double volatility) {
-            return numeraire * price(forward, strike, timeToExpiry, volatility, putCall) - optionPrice;
-          }
-        };
-        double[] range = bracketer.getBracketedPoints(func, 0d, 10d);
-        return rootFinder.getRoot(func, range[0], range[1]);
-      }
+    ArgChecker.isTrue(timeToExpiry > 0d, "No implied volatility for zero timeToExpiry");
+    // the time value is the price of the out-of-the-money option
+    double otmPrice = (optionPrice - intrinsicPrice) / numeraire;
+    return ImpliedVolatilitySolver.bachelierTotalVolatility(otmPrice, Math.abs(forward - strike)) / Math.sqrt(timeToExpiry);
+  }
+
+  /**
+   * Computes the implied volatilities of a batch of options.
+   * <p>
+   * The inputs hold one element for each option, and must have the same size.
+   * The implied volatility of each option is the same as that of
+   * {@link #impliedVolatility(double, double, double, double, double, double, PutCall)} with a numeraire of one.
+   * It is written into the array supplied, thus no objects are allocated.
+   * <p>
+   * Note that the 'numeraire' is a simple multiplier and is the responsibility of the caller.
+   * 
+   * @param optionPrice  the forward price of each option
+   * @param forward  the forward value of the underlying of each option
+   * @param strike  the strike of each option
+   * @param timeToExpiry  the time to expiry of each option
+   * @param isCall  true for call, false for put, for each option
+   * @param impliedVolatilities  the array to write the implied volatilities into, of the same size as the inputs
+   */
+  public static void impliedVolatility(
+      double[] optionPrice,
+      double[] forward,
+      double[] strike,
+      double[] timeToExpiry,
+      boolean[] isCall,
+      double[] impliedVolatilities) {
+
+    int size = checkBatch(optionPrice, forward, strike, timeToExpiry, isCall);
+    ArgChecker.isTrue(impliedVolatilities.length == size, "impliedVolatilities must have the same size as the inputs");
+    for (int i = 0; i < size; i++) {
+      PutCall putCall = isCall[i] ? PutCall.CALL : PutCall.PUT;
+      impliedVolatilities[i] = impliedVolatility(optionPrice[i], forward[i], strike[i], timeToExpiry[i], 0d, 1d, putCall);
     }
-    return sigma;
   }
 
   /**
@@ -0,0 +1,510 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate.model;
+
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.cern.MersenneTwister64;
+import com.opengamma.strata.math.impl.cern.RandomEngine;
+import com.opengamma.strata.math.impl.random.SobolSequenceGenerator;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+
+/**
+ * Monte Carlo engine for the Hull-White one factor model with piecewise constant volatility.
+ * <p>
+ * The paths are simulated in the forward measure of the last cash flow time. In this measure, the ratio
+ * of the price of the bond of maturity u to the numeraire bond is
+ * {@code P(0,u) / P(0,T) exp(h(u) Z(t) - h(u)^2 V(t) / 2)}, with {@code h(u) = (exp(-a u) - exp(-a T)) / a}
+ * and {@code Z} a Gaussian martingale of variance {@code V(t)}, the integral of {@code sigma(s)^2 exp(2 a s)}.
+ * The state {@code Z} is simulated exactly at the exercise times, thus there is no discretisation error.
+ * <p>
+ * The engine prices options to enter into a set of cash flows, with one or more exercise times.
+ * This covers European and Bermudan swaptions through the cash flow equivalents of their underlying swaps,
+ * as well as other path-dependent products that can be expressed as exercise into cash flows.
+ * The exercise decision before the last exercise time uses the Longstaff-Schwartz method,
+ * regressing the value of the cash flows on the exercise value over the paths in the money.
+ * <p>
+ * The sensitivities to the discount factors are path-wise. With the exercise decisions fixed,
+ * the value on each path is linear in the discount factors of the cash flows.
+ * <p>
+ * The paths are generated in blocks of a fixed size, each block having its own stream of random numbers
+ * determined by the seed and the index of the block. The sums over the paths are made block by block, in order.
+ * Thus the results of an engine obtained using {@link #parallel()} are identical to those of the serial engine.
+ */
+public final class HullWhiteOneFactorMonteCarloEngine {
+
+  /**
+   * The number of paths in each block.
+   */
+  private static final int BLOCK_SIZE = 1024;
+  /**
+   * The number of functions in the regression basis, the powers of the exercise value up to two.
+   */
+  private static final int BASIS_SIZE = 3;
+
+  /**
+   * The number of paths.
+   */
+  private final int pathCount;
+  /**
+   * The sampling of the normal random numbers.
+   */
+  private final Sampling sampling;
+  /**
+   * The seed of the pseudo-random numbers.
+   */
+  private final long seed;
+  /**
+   * Whether to simulate the blocks of paths in parallel.
+   */
+  private final boolean parallel;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an engine using pseudo-random numbers.
+   * <p>
+   * The random numbers are generated by a Mersenne twister for each block of paths.
+   *
+   * @param pathCount  the number of paths
+   * @param seed  the seed
+   * @return the engine
+   */
+  public static HullWhiteOneFactorMonteCarloEngine ofPseudoRandom(int pathCount, long seed) {
+    return new HullWhiteOneFactorMonteCarloEngine(pathCount, Sampling.PSEUDO_RANDOM, seed, false);
+  }
+
+  /**
+   * Obtains an engine using pseudo-random numbers with antithetic paths.
+   * <p>
+   * Each path is followed by its antithetic path, whose random numbers have the opposite sign.
+   *
+   * @param pathCount  the number of paths, even
+   * @param seed  the seed
+   * @return the engine
+   */
+  public static HullWhiteOneFactorMonteCarloEngine ofAntithetic(int pathCount, long seed) {
+    ArgChecker.isTrue(pathCount % 2 == 0, "pathCount must be even for antithetic paths");
+    return new HullWhiteOneFactorMonteCarloEngine(pathCount, Sampling.ANTITHETIC, seed, false);
+  }
+
+  /**
+   * Obtains an engine using the quasi-random numbers of a Sobol sequence.
+   * <p>
+   * Each path uses one point of the sequence, with one dimension for each exercise time,
+   * thus the number of exercise times is limited to {@link SobolSequenceGenerator#MAX_DIMENSION}.
+   * The origin, the first point of the sequence, is skipped.
+   *
+   * @param pathCount  the number of paths, preferably a power of two
+   * @return the engine
+   */
+  public static HullWhiteOneFactorMonteCarloEngine ofSobol(int pathCount) {
+    return new HullWhiteOneFactorMonteCarloEngine(pathCount, Sampling.SOBOL, 0L, false);
+  }
+
+  // restricted constructor
+  private HullWhiteOneFactorMonteCarloEngine(int pathCount, Sampling sampling, long seed, boolean parallel) {
+    this.pathCount = ArgChecker.notNegativeOrZero(pathCount, "pathCount");
+    this.sampling = sampling;
+    this.seed = seed;
+    this.parallel = parallel;
+  }
+
+  /**
+   * Returns an engine that simulates the paths in parallel.
+   * <p>
+   * The blocks of paths are simulated concurrently using the common fork-join pool.
+   * The results are identical to those of the serial engine.
+   *
+   * @return the parallel engine
+   */
+  public HullWhiteOneFactorMonteCarloEngine parallel() {
+    return new HullWhiteOneFactorMonteCarloEngine(pathCount, sampling, seed, true);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of paths.
+   *
+   * @return the number of paths
+   */
+  public int getPathCount() {
+    return pathCount;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value of an option to enter into cash flows.
+   * <p>
+   * On exercise at the exercise time of index j, the holder receives the amount of index (j, i)
+   * of the cash flow matrix at the cash flow time of index i.
+   * The option is exercised at most once, and the holder receives nothing if it is not exercised.
+   * The cash flows received on exercise must be at or after the exercise time.
+   *
+   * @param parameters  the Hull-White model parameters
+   * @param exerciseTimes  the exercise times, positive and in increasing order
+   * @param cashFlowTimes  the cash flow times, in increasing order, the last being after the last exercise time
+   * @param discountFactors  the discount factors at the cash flow times
+   * @param cashFlowAmounts  the cash flow amounts, with one row for each exercise time
+   * @return the present value
+   */
+  public double presentValue(
+      HullWhiteOneFactorPiecewiseConstantParameters parameters,
+      DoubleArray exerciseTimes,
+      DoubleArray cashFlowTimes,
+      DoubleArray discountFactors,
+      DoubleMatrix cashFlowAmounts) {
+
+    return simulate(parameters, exerciseTimes, cashFlowTimes, discountFactors, cashFlowAmounts, false).getValue();
+  }
+
+  /**
+   * Calculates the present value of an option to enter into cash flows and its sensitivities
+   * to the discount factors.
+   * <p>
+   * The option is described in {@link #presentValue(HullWhiteOneFactorPiecewiseConstantParameters,
+   * DoubleArray, DoubleArray, DoubleArray, DoubleMatrix)}.
+   * The derivatives are with respect to the discount factors, in the order of the cash flow times.
+   *
+   * @param parameters  the Hull-White model parameters
+   * @param exerciseTimes  the exercise times, positive and in increasing order
+   * @param cashFlowTimes  the cash flow times, in increasing order, the last being after the last exercise time
+   * @param discountFactors  the discount factors at the cash flow times
+   * @param cashFlowAmounts  the cash flow amounts, with one row for each exercise time
+   * @return the present value and its derivatives
+   */
+  public ValueDerivatives presentValueAdjoint(
+      HullWhiteOneFactorPiecewiseConstantParameters parameters,
+      DoubleArray exerciseTimes,
+      DoubleArray cashFlowTimes,
+      DoubleArray discountFactors,
+      DoubleMatrix cashFlowAmounts) {
+
+    return simulate(parameters, exerciseTimes, cashFlowTimes, discountFactors, cashFlowAmounts, true);
+  }
+
+  //-------------------------------------------------------------------------
+  // simulates the paths and values the option, with the path-wise derivatives if requested
+  private ValueDerivatives simulate(
+      HullWhiteOneFactorPiecewiseConstantParameters parameters,
+      DoubleArray exerciseTimes,
+      DoubleArray cashFlowTimes,
+      DoubleArray discountFactors,
+      DoubleMatrix cashFlowAmounts,
+      boolean adjoint) {
+
+    int exerciseCount = exerciseTimes.size();
+    int cashFlowCount = cashFlowTimes.size();
+    ArgChecker.isTrue(exerciseCount > 0, "At least one exercise time is required");
+    ArgChecker.isTrue(cashFlowCount > 0, "At least one cash flow is required");
+    ArgChecker.isTrue(discountFactors.size() == cashFlowCount, "discountFactors must match cashFlowTimes");
+    ArgChecker.isTrue(
+        cashFlowAmounts.rowCount() == exerciseCount && cashFlowAmounts.columnCount() == cashFlowCount,
+        "cashFlowAmounts must have one row for each exercise time and one column for each cash flow time");
+    ArgChecker.isTrue(sampling != Sampling.SOBOL || exerciseCount <= SobolSequenceGenerator.MAX_DIMENSION,
+        "Sobol sampling supports at most {} exercise times", SobolSequenceGenerator.MAX_DIMENSION);
+    for (int j = 0; j < exerciseCount; j++) {
+      ArgChecker.isTrue(exerciseTimes.get(j) > (j == 0 ? 0d : exerciseTimes.get(j - 1)),
+          "exerciseTimes must be positive and increasing");
+      for (int i = 0; i < cashFlowCount; i++) {
+        ArgChecker.isTrue(cashFlowAmounts.get(j, i) == 0d || cashFlowTimes.get(i) >= exerciseTimes.get(j),
+            "Cash flows must not be before their exercise time");
+      }
+    }
+    for (int i = 1; i < cashFlowCount; i++) {
+      ArgChecker.isTrue(cashFlowTimes.get(i) > cashFlowTimes.get(i - 1), "cashFlowTimes must be increasing");
+    }
+
+    // the bond ratios are exp(h z) multiplied by a factor depending on the exercise time
+    double meanReversion = parameters.getMeanReversion();
+    double numeraireTime = cashFlowTimes.get(cashFlowCount - 1);
+    double[] h = new double[cashFlowCount];
+    for (int i = 0; i < cashFlowCount; i++) {
+      h[i] = (Math.exp(-meanReversion * cashFlowTimes.get(i)) - Math.exp(-meanReversion * numeraireTime)) /
+          meanReversion;
+    }
+    double[] stdDev = new double[exerciseCount];
+    double[][] factor = new double[exerciseCount][cashFlowCount];
+    double[][] coef = new double[exerciseCount][cashFlowCount];
+    double previousVariance = 0d;
+    for (int j = 0; j < exerciseCount; j++) {
+      double variance = stateVariance(parameters, exerciseTimes.get(j));
+      stdDev[j] = Math.sqrt(variance - previousVariance);
+      previousVariance = variance;
+      for (int i = 0; i < cashFlowCount; i++) {
+        factor[j][i] = cashFlowAmounts.get(j, i) * Math.exp(-0.5 * h[i] * h[i] * variance);
+        coef[j][i] = factor[j][i] * discountFactors.get(i);
+      }
+    }
+
+    // the states at the exercise times
+    int blockCount = (pathCount + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    double[][] states = new double[exerciseCount][pathCount];
+    forEachBlock(blockCount, block -> simulateStates(block, stdDev, states));
+
+    // backward induction, from the last exercise time
+    double[] cash = new double[pathCount];
+    int[] exercise = new int[pathCount];
+    double[] exerciseValue = new double[pathCount];
+    int last = exerciseCount - 1;
+    forEachBlock(blockCount, block -> {
+      for (int p = blockStart(block); p < blockEnd(block); p++) {
+        double value = exerciseValue(coef[last], h, states[last][p]);
+        cash[p] = Math.max(value, 0d);
+        exercise[p] = value > 0d ? last : -1;
+      }
+    });
+    for (int j = last - 1; j >= 0; j--) {
+      double[] state = states[j];
+      double[] exerciseCoef = coef[j];
+      double[][] scalePartials = new double[blockCount][2];
+      forEachBlock(blockCount, block -> {
+        for (int p = blockStart(block); p < blockEnd(block); p++) {
+          double value = exerciseValue(exerciseCoef, h, state[p]);
+          exerciseValue[p] = value;
+          if (value > 0d) {
+            scalePartials[block][0] += 1d;
+            scalePartials[block][1] += value * value;
+          }
+        }
+      });
+      double[] scaleSums = sum(scalePartials);
+      if (scaleSums[0] < BASIS_SIZE) {
+        continue;
+      }
+      double scale = Math.sqrt(scaleSums[1] / scaleSums[0]);
+      double[] beta = regression(blockCount, scale, exerciseValue, cash);
+      if (beta == null) {
+        continue;
+      }
+      int exerciseIndex = j;
+      forEachBlock(blockCount, block -> {
+        for (int p = blockStart(block); p < blockEnd(block); p++) {
+          double value = exerciseValue[p];
+          if (value > 0d) {
+            double y = value / scale;
+            if (value > beta[0] + y * (beta[1] + y * beta[2])) {
+              cash[p] = value;
+              exercise[p] = exerciseIndex;
+            }
+          }
+        }
+      });
+    }
+
+    // present value and path-wise derivatives, with the exercise decisions fixed
+    int width = adjoint ? cashFlowCount + 1 : 1;
+    double[][] partials = new double[blockCount][width];
+    forEachBlock(blockCount, block -> {
+      double[] partial = partials[block];
+      for (int p = blockStart(block); p < blockEnd(block); p++) {
+        partial[0] += cash[p];
+        int j = exercise[p];
+        if (adjoint && j >= 0) {
+          for (int i = 0; i < cashFlowCount; i++) {
+            if (factor[j][i] != 0d) {
+              partial[i + 1] += factor[j][i] * Math.exp(h[i] * states[j][p]);
+            }
+          }
+        }
+      }
+    });
+    double[] sums = sum(partials);
+    double[] derivatives = new double[width - 1];
+    for (int i = 0; i < derivatives.length; i++) {
+      derivatives[i] = sums[i + 1] / pathCount;
+    }
+    return ValueDerivatives.of(sums[0] / pathCount, DoubleArray.ofUnsafe(derivatives));
+  }
+
+  // simulates the states of the paths of the block, writing them into the array
+  private void simulateStates(int block, double[] stdDev, double[][] states) {
+    int start = blockStart(block);
+    int end = blockEnd(block);
+    int exerciseCount = stdDev.length;
+    switch (sampling) {
+      case SOBOL: {
+        SobolSequenceGenerator generator = new SobolSequenceGenerator(exerciseCount);
+        generator.skipTo(start + 1L);
+        double[] point = new double[exerciseCount];
+        for (int p = start; p < end; p++) {
+          generator.nextVector(point);
+          double state = 0d;
+          for (int j = 0; j < exerciseCount; j++) {
+            state += stdDev[j] * NormalDistribution.standardInverseCdf(point[j]);
+            states[j][p] = state;
+          }
+        }
+        break;
+      }
+      case ANTITHETIC: {
+        RandomEngine engine = new MersenneTwister64(blockSeed(block));
+        for (int p = start; p < end; p += 2) {
+          double state = 0d;
+          for (int j = 0; j < exerciseCount; j++) {
+            state += stdDev[j] * NormalDistribution.standardInverseCdf(engine.nextDouble());
+            states[j][p] = state;
+            states[j][p + 1] = -state;
+          }
+        }
+        break;
+      }
+      default: {
+        RandomEngine engine = new MersenneTwister64(blockSeed(block));
+        for (int p = start; p < end; p++) {
+          double state = 0d;
+          for (int j = 0; j < exerciseCount; j++) {
+            state += stdDev[j] * NormalDistribution.standardInverseCdf(engine.nextDouble());
+            states[j][p] = state;
+          }
+        }
+        break;
+      }
+    }
+  }
+
+  // the least-squares regression of the cash on the powers of the exercise value, over the paths in the money
+  // returns null if the normal equations are singular
+  private double[] regression(int blockCount, double scale, double[] exerciseValue, double[] cash) {
+    // the moments of the scaled exercise value, up to the fourth, and the moments of the cash
+    double[][] partials = new double[blockCount][2 * BASIS_SIZE - 1 + BASIS_SIZE];
+    forEachBlock(blockCount, block -> {
+      double[] partial = partials[block];
+      for (int p = blockStart(block); p < blockEnd(block); p++) {
+        if (exerciseValue[p] > 0d) {
+          double y = exerciseValue[p] / scale;
+          double power = 1d;
+          for (int k = 0; k < 2 * BASIS_SIZE - 1; k++) {
+            partial[k] += power;
+            if (k < BASIS_SIZE) {
+              partial[2 * BASIS_SIZE - 1 + k] += power * cash[p];
+            }
+            power *= y;
+          }
+        }
+      }
+    });
+    double[] moments = sum(partials);
+    double[][] matrix = new double[BASIS_SIZE][BASIS_SIZE + 1];
+    for (int k = 0; k < BASIS_SIZE; k++) {
+      for (int l = 0; l < BASIS_SIZE; l++) {
+        matrix[k][l] = moments[k + l];
+      }
+      matrix[k][BASIS_SIZE] = moments[2 * BASIS_SIZE - 1 + k];
+    }
+    // Gaussian elimination with partial pivoting
+    for (int k = 0; k < BASIS_SIZE; k++) {
+      int pivot = k;
+      for (int r = k + 1; r < BASIS_SIZE; r++) {
+        if (Math.abs(matrix[r][k]) > Math.abs(matrix[pivot][k])) {
+          pivot = r;
+        }
+      }
+      double[] swap = matrix[k];
+      matrix[k] = matrix[pivot];
+      matrix[pivot] = swap;
+      if (Math.abs(matrix[k][k]) <= 1e-12 * moments[0]) {
+        return null;
+      }
+      for (int r = k + 1; r < BASIS_SIZE; r++) {
+        double ratio = matrix[r][k] / matrix[k][k];
+        for (int c = k; c <= BASIS_SIZE; c++) {
+          matrix[r][c] -= ratio * matrix[k][c];
+        }
+      }
+    }
+    double[] beta = new double[BASIS_SIZE];
+    for (int k = BASIS_SIZE - 1; k >= 0; k--) {
+      double value = matrix[k][BASIS_SIZE];
+      for (int c = k + 1; c < BASIS_SIZE; c++) {
+        value -= matrix[k][c] * beta[c];
+      }
+      beta[k] = value / matrix[k][k];
+    }
+    return beta;
+  }
+
+  // the value of the cash flows received on exercise, for the state
+  private static double exerciseValue(double[] coef, double[] h, double state) {
+    double value = 0d;
+    for (int i = 0; i < coef.length; i++) {
+      if (coef[i] != 0d) {
+        value += coef[i] * Math.exp(h[i] * state);
+      }
+    }
+    return value;
+  }
+
+  // the variance of the state at the time, the integral of sigma(s)^2 exp(2 a s) from zero
+  private static double stateVariance(HullWhiteOneFactorPiecewiseConstantParameters parameters, double time) {
+    double meanReversion = parameters.getMeanReversion();
+    DoubleArray volatility = parameters.getVolatility();
+    DoubleArray volatilityTime = parameters.getVolatilityTime();
+    double variance = 0d;
+    for (int k = 0; k < volatility.size() && volatilityTime.get(k) < time; k++) {
+      double start = volatilityTime.get(k);
+      double end = Math.min(volatilityTime.get(k + 1), time);
+      variance += volatility.get(k) * volatility.get(k) *
+          (Math.exp(2d * meanReversion * end) - Math.exp(2d * meanReversion * start)) / (2d * meanReversion);
+    }
+    return variance;
+  }
+
+  //-------------------------------------------------------------------------
+  // runs the task for each block, in parallel if requested
+  private void forEachBlock(int blockCount, IntConsumer task) {
+    IntStream blocks = IntStream.range(0, blockCount);
+    (parallel ? blocks.parallel() : blocks).forEach(task);
+  }
+
+  // the index of the first path of the block
+  private static int blockStart(int block) {
+    return block * BLOCK_SIZE;
+  }
+
+  // the index after the last path of the block
+  private int blockEnd(int block) {
+    return Math.min((block + 1) * BLOCK_SIZE, pathCount);
+  }
+
+  // the seed of the random numbers of the block, mixing the seed and the block index
+  private int blockSeed(int block) {
+    long mixed = seed + (block + 1L) * 0x9E3779B97F4A7C15L;
+    mixed = (mixed ^ (mixed >>> 30)) * 0xBF58476D1CE4E5B9L;
+    mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+    return (int) (mixed ^ (mixed >>> 31));
+  }
+
+  // sums the partial sums of the blocks, in block order
+  private static double[] sum(double[][] partials) {
+    double[] sums = new double[partials[0].length];
+    for (double[] partial : partials) {
+      for (int k = 0; k < sums.length; k++) {
+        sums[k] += partial[k];
+      }
+    }
+    return sums;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * The sampling of the normal random numbers.
+   */
+  private enum Sampling {
+    /** Pseudo-random numbers. */
+    PSEUDO_RANDOM,
+    /** Pseudo-random numbers, with antithetic paths. */
+    ANTITHETIC,
+    /** Quasi-random numbers of a Sobol sequence. */
+    SOBOL
+  }
+
+}
@@ -62,9 +62,14 @@ public class DiscountingRatePaymentPeriodPricer
   //-------------------------------------------------------------------------
   @Override
   public double presentValue(RatePaymentPeriod period, RatesProvider provider) {
-    // forecastValue * discountFactor
     double df = provider.discountFactor(period.getCurrency(), period.getPaymentDate());
-    return forecastValue(period, provider) * df;
+    return presentValue(period, provider, df);
+  }
+
+  @Override
+  public double presentValue(RatePaymentPeriod period, RatesProvider provider, double discountFactor) {
+    // forecastValue * discountFactor
+    return forecastValue(period, provider) * discountFactor;
   }
 
   @Override
@@ -228,11 +233,20 @@ public class DiscountingRatePaymentPeriodPricer
     DiscountFactors discountFactors = provider.discountFactors(ccy);
     LocalDate paymentDate = period.getPaymentDate();
     double df = discountFactors.discountFactor(paymentDate);
+    return presentValueSensitivity(period, provider, df, discountFactors.zeroRatePointSensitivity(paymentDate));
+  }
+
+  @Override
+  public PointSensitivityBuilder presentValueSensitivity(
+      RatePaymentPeriod period,
+      RatesProvider provider,
+      double discountFactor,
+      PointSensitivityBuilder zeroRateSensitivity) {
+
     PointSensitivityBuilder forecastSensitivity = forecastValueSensitivity(period, provider);
-    forecastSensitivity = forecastSensitivity.multipliedBy(df);
+    forecastSensitivity = forecastSensitivity.multipliedBy(discountFactor);
     double forecastValue = forecastValue(period, provider);
-    PointSensitivityBuilder dscSensitivity = discountFactors.zeroRatePointSensitivity(paymentDate);
-    dscSensitivity = dscSensitivity.multipliedBy(forecastValue);
+    PointSensitivityBuilder dscSensitivity = zeroRateSensitivity.multipliedBy(forecastValue);
     return forecastSensitivity.combinedWith(dscSensitivity);
   }
 
@@ -65,6 +65,19 @@ public class DispatchingSwapPaymentPeriodPricer
     }
   }
 
+  @Override
+  public double presentValue(SwapPaymentPeriod paymentPeriod, RatesProvider provider, double discountFactor) {
+    // dispatch by runtime type
+    if (paymentPeriod instanceof RatePaymentPeriod) {
+      return ratePaymentPeriodPricer.presentValue((RatePaymentPeriod) paymentPeriod, provider, discountFactor);
+    } else if (paymentPeriod instanceof KnownAmountSwapPaymentPeriod) {
+      return knownAmountPaymentPeriodPricer.presentValue(
+          (KnownAmountSwapPaymentPeriod) paymentPeriod, provider, discountFactor);
+    } else {
+      throw new IllegalArgumentException("Unknown PaymentPeriod type: " + paymentPeriod.getClass().getSimpleName());
+    }
+  }
+
   @Override
   public PointSensitivityBuilder presentValueSensitivity(SwapPaymentPeriod paymentPeriod, RatesProvider provider) {
     // dispatch by runtime type
@@ -77,6 +90,25 @@ public class DispatchingSwapPaymentPeriodPricer
     }
   }
 
+  @Override
+  public PointSensitivityBuilder presentValueSensitivity(
+      SwapPaymentPeriod paymentPeriod,
+      RatesProvider provider,
+      double discountFactor,
+      PointSensitivityBuilder zeroRateSensitivity) {
+
+    // dispatch by runtime type
+    if (paymentPeriod instanceof RatePaymentPeriod) {
+      return ratePaymentPeriodPricer.presentValueSensitivity(
+          (RatePaymentPeriod) paymentPeriod, provider, discountFactor, zeroRateSensitivity);
+    } else if (paymentPeriod instanceof KnownAmountSwapPaymentPeriod) {
+      return knownAmountPaymentPeriodPricer.presentValueSensitivity(
+          (KnownAmountSwapPaymentPeriod) paymentPeriod, provider, discountFactor, zeroRateSensitivity);
+    } else {
+      throw new IllegalArgumentException("Unknown PaymentPeriod type: " + paymentPeriod.getClass().getSimpleName());
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public double forecastValue(SwapPaymentPeriod paymentPeriod, RatesProvider provider) {
@@ -24,6 +24,7 @@ import org.joda.beans.impl.direct.DirectPrivateBeanBuilder;
 
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.product.common.PutCall;
 
 /**
@@ -84,6 +85,61 @@ public final class EuropeanVanillaOptionFunction
     return DoubleArray.ofUnsafe(values);
   }
 
+  @Override
+  public void getPayoffAtExpiryTrinomial(
+      double spot,
+      double downFactor,
+      double middleFactor,
+      double[] stateValue,
+      double[] result) {
+
+    getPayoffAtExpiryTrinomial(stateValue, 2 * getNumberOfSteps() + 1, result);
+  }
+
+  @Override
+  public void getPayoffAtExpiryTrinomial(double[] stateValue, int nNodes, double[] result) {
+    for (int i = 0; i < nNodes; ++i) {
+      result[i] = Math.max(sign * (stateValue[i] - strike), 0d);
+    }
+  }
+
+  @Override
+  public void getNextOptionValues(
+      double discountFactor,
+      double upProbability,
+      double middleProbability,
+      double downProbability,
+      double spot,
+      double downFactor,
+      double middleFactor,
+      double[] stateValue,
+      double[] value,
+      double[] result,
+      int i) {
+
+    int nNodes = 2 * i + 1;
+    for (int j = 0; j < nNodes; ++j) {
+      result[j] = discountFactor * (upProbability * value[j + 2] + middleProbability * value[j + 1] +
+          downProbability * value[j]);
+    }
+  }
+
+  @Override
+  public void getNextOptionValues(
+      double discountFactor,
+      DoubleMatrix transitionProbability,
+      double[] stateValue,
+      double[] value,
+      double[] result,
+      int i) {
+
+    int nNodes = 2 * i + 1;
+    for (int j = 0; j < nNodes; ++j) {
+      result[j] = discountFactor * (transitionProbability.get(j, 2) * value[j + 2] +
+          transitionProbability.get(j, 1) * value[j + 1] + transitionProbability.get(j, 0) * value[j]);
+    }
+  }
+
   //------------------------- AUTOGENERATED START -------------------------
   /**
    * The meta-bean for {@code EuropeanVanillaOptionFunction}.
@@ -12,6 +12,12 @@ import com.opengamma.strata.collect.array.DoubleMatrix;
 
 /**
  * Option function interface used in trinomial tree option pricing.
+ * <p>
+ * The methods returning {@code DoubleArray} create the option values of each layer.
+ * The methods writing into a {@code double[]} are used with {@link TrinomialTreeWorkspace} and update
+ * the option values in place. By default, these delegate to the former methods and copy the result.
+ * Implementations should override the in-place methods consistently to avoid the allocation,
+ * producing the same values.
  */
 public interface OptionFunction {
 
@@ -131,4 +137,131 @@ public interface OptionFunction {
         transitionProbability.get(j, 1) * value.get(j + 1) + transitionProbability.get(j, 0) * value.get(j)));
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes payoff at expiry for trinomial tree, writing into the specified array.
+   * <p>
+   * The first {@code nNodes} elements of {@code stateValue} are the state values at the final layer.
+   * The payoff values are written in the first {@code nNodes} elements of {@code result}.
+   * <p>
+   * The result must be the same as {@link #getPayoffAtExpiryTrinomial(DoubleArray)}.
+   * 
+   * @param stateValue  the state values
+   * @param nNodes  the number of nodes
+   * @param result  the array to write the payoff at expiry into
+   */
+  public default void getPayoffAtExpiryTrinomial(double[] stateValue, int nNodes, double[] result) {
+    getPayoffAtExpiryTrinomial(DoubleArray.ofUnsafe(Arrays.copyOf(stateValue, nNodes))).copyInto(result, 0);
+  }
+
+  /**
+   * Computes payoff at expiry for trinomial tree with constant parameters, writing into the specified array.
+   * <p>
+   * The first (2*n+1) elements of {@code stateValue} are the state values at the final layer,
+   * derived from the spot and factors, where {@code n} is the number of steps.
+   * The payoff values are written in the first (2*n+1) elements of {@code result}.
+   * <p>
+   * The result must be the same as {@link #getPayoffAtExpiryTrinomial(double, double, double)}.
+   * 
+   * @param spot  the spot
+   * @param downFactor  the down factor
+   * @param middleFactor  the middle factor
+   * @param stateValue  the state values
+   * @param result  the array to write the payoff at expiry into
+   */
+  public default void getPayoffAtExpiryTrinomial(
+      double spot,
+      double downFactor,
+      double middleFactor,
+      double[] stateValue,
+      double[] result) {
+
+    getPayoffAtExpiryTrinomial(spot, downFactor, middleFactor).copyInto(result, 0);
+  }
+
+  /**
+   * Computes the option values in the intermediate nodes, writing into the specified array.
+   * <p>
+   * Given a set of option values in the (i+1)-th layer, option values in the i-th layer are derived.
+   * The probabilities are the same for all the nodes, as for a tree with constant parameters.
+   * The first (2*i+1) elements of {@code stateValue} are the state values in the i-th layer,
+   * derived from the spot and factors.
+   * The option values are read from the first (2*i+3) elements of {@code value} and written
+   * in the first (2*i+1) elements of {@code result}.
+   * <p>
+   * The result must be the same as
+   * {@link #getNextOptionValues(double, double, double, double, DoubleArray, double, double, double, int)}.
+   * 
+   * @param discountFactor  the discount factor between the two layers
+   * @param upProbability  the up probability
+   * @param middleProbability  the middle probability
+   * @param downProbability  the down probability
+   * @param spot  the spot
+   * @param downFactor  the down factor
+   * @param middleFactor  the middle factor
+   * @param stateValue  the state values in the i-th layer
+   * @param value  the option values in the (i+1)-th layer
+   * @param result  the array to write the option values in the i-th layer into
+   * @param i  the step number for which the next option values are computed
+   */
+  public default void getNextOptionValues(
+      double discountFactor,
+      double upProbability,
+      double middleProbability,
+      double downProbability,
+      double spot,
+      double downFactor,
+      double middleFactor,
+      double[] stateValue,
+      double[] value,
+      double[] result,
+      int i) {
+
+    DoubleArray next = getNextOptionValues(
+        discountFactor,
+        upProbability,
+        middleProbability,
+        downProbability,
+        DoubleArray.ofUnsafe(Arrays.copyOf(value, 2 * i + 3)),
+        spot,
+        downFactor,
+        middleFactor,
+        i);
+    next.copyInto(result, 0);
+  }
+
+  /**
+   * Computes the option values in the intermediate nodes, writing into the specified array.
+   * <p>
+   * Given a set of option values in the (i+1)-th layer, option values in the i-th layer are derived.
+   * The first (2*i+1) elements of {@code stateValue} are the state values in the i-th layer.
+   * The option values are read from the first (2*i+3) elements of {@code value} and written
+   * in the first (2*i+1) elements of {@code result}.
+   * <p>
+   * The result must be the same as {@link #getNextOptionValues(double, DoubleMatrix, DoubleArray, DoubleArray, int)}.
+   * 
+   * @param discountFactor  the discount factor between the two layers
+   * @param transitionProbability  the transition probability
+   * @param stateValue  the state values in the i-th layer
+   * @param value  the option values in the (i+1)-th layer
+   * @param result  the array to write the option values in the i-th layer into
+   * @param i  the step number for which the next option values are computed
+   */
+  public default void getNextOptionValues(
+      double discountFactor,
+      DoubleMatrix transitionProbability,
+      double[] stateValue,
+      double[] value,
+      double[] result,
+      int i) {
+
+    DoubleArray next = getNextOptionValues(
+        discountFactor,
+        transitionProbability,
+        DoubleArray.ofUnsafe(Arrays.copyOf(stateValue, 2 * i + 1)),
+        DoubleArray.ofUnsafe(Arrays.copyOf(value, 2 * i + 3)),
+        i);
+    next.copyInto(result, 0);
+  }
+
 }
@@ -17,6 +17,9 @@ import com.opengamma.strata.pricer.fxopt.RecombiningTrinomialTreeData;
  * and the option to price is specified by {@code OptionFunction}. 
  * <p>
  * Option pricing with non-uniform tree is realised by specifying {@code RecombiningTrinomialTreeData}.
+ * <p>
+ * The backward induction updates the option values in the arrays of a {@link TrinomialTreeWorkspace}.
+ * The methods without workspace use the workspace of the current thread.
  */
 public class TrinomialTree {
 
@@ -42,6 +45,33 @@ public class TrinomialTree {
       double interestRate,
       double dividendRate) {
 
+    return optionPrice(function, lattice, spot, volatility, interestRate, dividendRate, TrinomialTreeWorkspace.current());
+  }
+
+  /**
+   * Price an option under the specified trinomial lattice, using the specified workspace.
+   * <p>
+   * It is assumed that the volatility, interest rate and continuous dividend rate are constant 
+   * over the lifetime of the option.
+   * 
+   * @param function  the option
+   * @param lattice  the lattice specification
+   * @param spot  the spot
+   * @param volatility  the volatility
+   * @param interestRate  the interest rate
+   * @param dividendRate  the dividend rate
+   * @param workspace  the workspace
+   * @return the option price
+   */
+  public double optionPrice(
+      OptionFunction function,
+      LatticeSpecification lattice,
+      double spot,
+      double volatility,
+      double interestRate,
+      double dividendRate,
+      TrinomialTreeWorkspace workspace) {
+
     int nSteps = function.getNumberOfSteps();
     double timeToExpiry = function.getTimeToExpiry();
     double dt = timeToExpiry / (double) nSteps;
@@ -57,12 +87,28 @@ public class TrinomialTree {
     ArgChecker.isTrue(midProbability > 0d, "midProbability should be greater than 0");
     ArgChecker.isTrue(midProbability < 1d, "midProbability should be smaller than 1");
     ArgChecker.isTrue(downProbability > 0d, "downProbability should be greater than 0");
-    DoubleArray values = function.getPayoffAtExpiryTrinomial(spot, downFactor, middleFactor);
+    int nNodes = 2 * nSteps + 1;
+    workspace.ensureCapacity(nNodes);
+    double[] stateValue = workspace.stateValue();
+    fillStateValue(stateValue, spot, downFactor, middleFactor, nSteps);
+    function.getPayoffAtExpiryTrinomial(spot, downFactor, middleFactor, stateValue, workspace.values());
     for (int i = nSteps - 1; i > -1; --i) {
-      values = function.getNextOptionValues(discount, upProbability, midProbability, downProbability, values, spot,
-          downFactor, middleFactor, i);
+      fillStateValue(stateValue, spot, downFactor, middleFactor, i);
+      function.getNextOptionValues(
+          discount,
+          upProbability,
+          midProbability,
+          downProbability,
+          spot,
+          downFactor,
+          middleFactor,
+          stateValue,
+          workspace.values(),
+          workspace.nextValues(),
+          i);
+      workspace.swap();
     }
-    return values.get(0);
+    return workspace.values()[0];
   }
 
   /**
@@ -76,14 +122,26 @@ public class TrinomialTree {
       OptionFunction function,
       RecombiningTrinomialTreeData data) {
 
+    return optionPrice(function, data, TrinomialTreeWorkspace.current());
+  }
+
+  /**
+   * Price an option under the specified trinomial tree gird, using the specified workspace.
+   * 
+   * @param function  the option
+   * @param data  the trinomial tree data
+   * @param workspace  the workspace
+   * @return the option price
+   */
+  public double optionPrice(
+      OptionFunction function,
+      RecombiningTrinomialTreeData data,
+      TrinomialTreeWorkspace workspace) {
+
     int nSteps = data.getNumberOfSteps();
     ArgChecker.isTrue(nSteps == function.getNumberOfSteps(), "mismatch in number of steps");
-    DoubleArray values = function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps));
-    for (int i = nSteps - 1; i > -1; --i) {
-      values = function.getNextOptionValues(
-          data.getDiscountFactorAtLayer(i), data.getProbabilityAtLayer(i), data.getStateValueAtLayer(i), values, i);
-    }
-    return values.get(0);
+    backwardInduction(function, data, workspace, 0);
+    return workspace.values()[0];
   }
 
   /**
@@ -100,21 +158,82 @@ public class TrinomialTree {
       OptionFunction function,
       RecombiningTrinomialTreeData data) {
 
+    return optionPriceAdjoint(function, data, TrinomialTreeWorkspace.current());
+  }
+
+  /**
+   * Compute option price and delta under the specified trinomial tree gird, using the specified workspace.
+   * <p>
+   * The delta is the first derivative of the price with respect to spot, and approximated by the data embedded in 
+   * the trinomial tree.
+   * 
+   * @param function  the option
+   * @param data  the trinomial tree data
+   * @param workspace  the workspace
+   * @return the option price and spot delta
+   */
+  public ValueDerivatives optionPriceAdjoint(
+      OptionFunction function,
+      RecombiningTrinomialTreeData data,
+      TrinomialTreeWorkspace workspace) {
+
     int nSteps = data.getNumberOfSteps();
     ArgChecker.isTrue(nSteps == function.getNumberOfSteps(), "mismatch in number of steps");
-    DoubleArray values = function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps));
     double delta = 0d;
-    for (int i = nSteps - 1; i > -1; --i) {
-      values = function.getNextOptionValues(
-          data.getDiscountFactorAtLayer(i), data.getProbabilityAtLayer(i), data.getStateValueAtLayer(i), values, i);
-      if (i == 1) {
-        DoubleArray stateValue = data.getStateValueAtLayer(1);
-        double d1 = (values.get(2) - values.get(1)) / (stateValue.get(2) - stateValue.get(1));
-        double d2 = (values.get(1) - values.get(0)) / (stateValue.get(1) - stateValue.get(0));
-        delta = 0.5 * (d1 + d2);
-      }
+    if (nSteps > 1) {
+      backwardInduction(function, data, workspace, 1);
+      double[] values = workspace.values();
+      DoubleArray stateValue = data.getStateValueAtLayer(1);
+      double d1 = (values[2] - values[1]) / (stateValue.get(2) - stateValue.get(1));
+      double d2 = (values[1] - values[0]) / (stateValue.get(1) - stateValue.get(0));
+      delta = 0.5 * (d1 + d2);
+      nextLayer(function, data, workspace, 0);
+    } else {
+      backwardInduction(function, data, workspace, 0);
+    }
+    return ValueDerivatives.of(workspace.values()[0], DoubleArray.of(delta));
+  }
+
+  //-------------------------------------------------------------------------
+  // computes the option values from expiry to the specified layer, the result is in the values of the workspace
+  private void backwardInduction(
+      OptionFunction function,
+      RecombiningTrinomialTreeData data,
+      TrinomialTreeWorkspace workspace,
+      int lastLayer) {
+
+    int nSteps = data.getNumberOfSteps();
+    int nNodes = 2 * nSteps + 1;
+    workspace.ensureCapacity(nNodes);
+    function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps).toArrayUnsafe(), nNodes, workspace.values());
+    for (int i = nSteps - 1; i >= lastLayer; --i) {
+      nextLayer(function, data, workspace, i);
+    }
+  }
+
+  // computes the option values in the i-th layer
+  private void nextLayer(
+      OptionFunction function,
+      RecombiningTrinomialTreeData data,
+      TrinomialTreeWorkspace workspace,
+      int i) {
+
+    function.getNextOptionValues(
+        data.getDiscountFactorAtLayer(i),
+        data.getProbabilityAtLayer(i),
+        data.getStateValueAtLayer(i).toArrayUnsafe(),
+        workspace.values(),
+        workspace.nextValues(),
+        i);
+    workspace.swap();
+  }
+
+  // the state values of the i-th layer of a lattice
+  private static void fillStateValue(double[] stateValue, double spot, double downFactor, double middleFactor, int i) {
+    int nNodes = 2 * i + 1;
+    for (int k = 0; k < nNodes; ++k) {
+      stateValue[k] = spot * Math.pow(downFactor, i - k) * Math.pow(middleFactor, k);
     }
-    return ValueDerivatives.of(values.get(0), DoubleArray.of(delta));
   }
 
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.tree;
+
+/**
+ * Reusable workspace for the backward induction of {@link TrinomialTree}.
+ * <p>
+ * The workspace holds the option values of two consecutive layers and the state values of a layer
+ * as primitive arrays, which grow to the largest tree priced and are then reused.
+ * Thus pricing with a workspace does not allocate per time step.
+ * <p>
+ * A workspace must only be used by one thread at a time.
+ * The instance returned by {@link #current()} is specific to the calling thread.
+ */
+public final class TrinomialTreeWorkspace {
+
+  /**
+   * The workspace of each thread.
+   */
+  private static final ThreadLocal<TrinomialTreeWorkspace> CURRENT = ThreadLocal.withInitial(TrinomialTreeWorkspace::new);
+
+  /**
+   * The option values of the layer to read.
+   */
+  private double[] values = new double[0];
+  /**
+   * The option values of the layer to write.
+   */
+  private double[] nextValues = new double[0];
+  /**
+   * The state values of a layer.
+   */
+  private double[] stateValue = new double[0];
+
+  /**
+   * Creates an empty workspace.
+   */
+  public TrinomialTreeWorkspace() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the workspace of the current thread.
+   *
+   * @return the workspace
+   */
+  public static TrinomialTreeWorkspace current() {
+    return CURRENT.get();
+  }
+
+  //-------------------------------------------------------------------------
+  // ensures the arrays hold the specified number of nodes
+  void ensureCapacity(int nNodes) {
+    if (values.length < nNodes) {
+      values = new double[nNodes];
+      nextValues = new double[nNodes];
+      stateValue = new double[nNodes];
+    }
+  }
+
+  // the option values of the layer to read
+  double[] values() {
+    return values;
+  }
+
+  // the option values of the layer to write
+  double[] nextValues() {
+    return nextValues;
+  }
+
+  // the state values of a layer
+  double[] stateValue() {
+    return stateValue;
+  }
+
+  // swaps the layers, after the next values are written
+  void swap() {
+    double[] temp = values;
+    values = nextValues;
+    nextValues = temp;
+  }
+
+}
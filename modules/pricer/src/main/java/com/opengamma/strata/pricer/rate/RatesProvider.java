@@ -5,10 +5,13 @@
  */
 package com.opengamma.strata.pricer.rate;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyPair;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.basics.index.FxIndex;
@@ -18,10 +21,13 @@ import com.opengamma.strata.basics.index.OvernightIndex;
 import com.opengamma.strata.basics.index.PriceIndex;
 import com.opengamma.strata.collect.Guavate;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveName;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.sensitivity.ColumnarPointSensitivities;
+import com.opengamma.strata.market.sensitivity.MutablePointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivity;
 import com.opengamma.strata.pricer.BaseProvider;
@@ -217,6 +223,49 @@ public interface RatesProvider
     return sens;
   }
 
+  /**
+   * Computes the parameter sensitivity from columnar point sensitivities.
+   * <p>
+   * The result is the same as calling {@link #parameterSensitivity(PointSensitivities)} with the built
+   * point sensitivities. The zero rate sensitivities to each discount curve are projected in a single pass,
+   * see {@link DiscountFactors#parameterSensitivity(Currency, double[], double[])}, without creating
+   * individual point sensitivities. The other point sensitivities are created once for each key.
+   * 
+   * @param pointSensitivities  the point sensitivities
+   * @return the sensitivity to the curve parameters
+   */
+  public default CurrencyParameterSensitivities parameterSensitivity(ColumnarPointSensitivities pointSensitivities) {
+    // count the zero rate sensitivities by curve currency and sensitivity currency
+    Map<Pair<Currency, Currency>, int[]> counts = new LinkedHashMap<>();
+    pointSensitivities.forEach(ZeroRateSensitivity.class, (key, amount) ->
+        counts.computeIfAbsent(Pair.of(key.getCurveCurrency(), key.getCurrency()), k -> new int[1])[0]++);
+    // gather the year fractions and sensitivities in primitive arrays
+    Map<Pair<Currency, Currency>, double[][]> zeroRates = new LinkedHashMap<>();
+    counts.forEach((group, count) -> zeroRates.put(group, new double[2][count[0]]));
+    counts.values().forEach(count -> count[0] = 0);
+    pointSensitivities.forEach(ZeroRateSensitivity.class, (key, amount) -> {
+      Pair<Currency, Currency> group = Pair.of(key.getCurveCurrency(), key.getCurrency());
+      int index = counts.get(group)[0]++;
+      double[][] values = zeroRates.get(group);
+      values[0][index] = key.getYearFraction();
+      values[1][index] = amount;
+    });
+    CurrencyParameterSensitivities sens = CurrencyParameterSensitivities.empty();
+    for (Map.Entry<Pair<Currency, Currency>, double[][]> entry : zeroRates.entrySet()) {
+      DiscountFactors factors = discountFactors(entry.getKey().getFirst());
+      double[][] values = entry.getValue();
+      sens = sens.combinedWith(factors.parameterSensitivity(entry.getKey().getSecond(), values[0], values[1]));
+    }
+    // other types of point sensitivity
+    MutablePointSensitivities others = new MutablePointSensitivities();
+    pointSensitivities.forEach((key, amount) -> {
+      if (!(key instanceof ZeroRateSensitivity)) {
+        others.add(key.withSensitivity(amount));
+      }
+    });
+    return others.size() == 0 ? sens : sens.combinedWith(parameterSensitivity(others.build()));
+  }
+
   /**
    * Computes the currency exposure.
    * <p>
@@ -10,41 +10,61 @@ import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.primitives.Doubles;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.basics.index.OvernightIndexObservation;
 import com.opengamma.strata.basics.index.PriceIndex;
 import com.opengamma.strata.basics.index.RateIndex;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.data.MarketDataName;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
 import com.opengamma.strata.market.curve.LegalEntityGroup;
 import com.opengamma.strata.market.curve.ParallelShiftedCurve;
 import com.opengamma.strata.market.curve.RepoGroup;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CrossGammaParameterSensitivities;
 import com.opengamma.strata.market.param.CrossGammaParameterSensitivity;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.ParameterMetadata;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivity;
 import com.opengamma.strata.math.impl.differentiation.FiniteDifferenceType;
 import com.opengamma.strata.math.impl.differentiation.VectorFieldFirstOrderDifferentiator;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.SimpleDiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateDiscountFactors;
 import com.opengamma.strata.pricer.ZeroRatePeriodicDiscountFactors;
+import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.pricer.bond.ImmutableLegalEntityDiscountingProvider;
 import com.opengamma.strata.pricer.bond.LegalEntityDiscountingProvider;
+import com.opengamma.strata.pricer.rate.DiscountIborIndexRates;
+import com.opengamma.strata.pricer.rate.DiscountOvernightIndexRates;
+import com.opengamma.strata.pricer.rate.IborIndexRates;
+import com.opengamma.strata.pricer.rate.IborRateSensitivity;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.OvernightIndexRates;
+import com.opengamma.strata.pricer.rate.OvernightRateSensitivity;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 
 /**
@@ -62,6 +82,23 @@ public final class CurveGammaCalculator {
    */
   public static final CurveGammaCalculator DEFAULT = new CurveGammaCalculator(FiniteDifferenceType.FORWARD, 1e-4);
 
+  /**
+   * The interpolators that are linear in the curve parameters.
+   */
+  private static final Set<CurveInterpolator> LINEAR_INTERPOLATORS = ImmutableSet.of(
+      CurveInterpolators.LINEAR,
+      CurveInterpolators.DOUBLE_QUADRATIC,
+      CurveInterpolators.NATURAL_CUBIC_SPLINE,
+      CurveInterpolators.STEP_UPPER);
+  /**
+   * The extrapolators that are linear in the curve parameters.
+   */
+  private static final Set<CurveExtrapolator> LINEAR_EXTRAPOLATORS = ImmutableSet.of(
+      CurveExtrapolators.FLAT,
+      CurveExtrapolators.LINEAR,
+      CurveExtrapolators.INTERPOLATOR,
+      CurveExtrapolators.EXCEPTION);
+
   /**
    * The first order finite difference calculator.
    */
@@ -186,6 +223,185 @@ public final class CurveGammaCalculator {
     return result;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Computes intra-curve cross gamma by algorithmic differentiation of discounted cash flows.
+   * <p>
+   * This computes the same intra-curve cross gamma as
+   * {@link #calculateCrossGammaIntraCurve(RatesProvider, Function)}, for the trades whose periods are
+   * discounted cash flows, such as swaps, FRAs and deposits. Each cash flow is described by its point sensitivity,
+   * see {@link DiscountedCashFlowSensitivity}. The second order derivative is built from the parameter sensitivities
+   * of the discount factors and of the forward rates, thus its cost is a small multiple of the cost of the delta,
+   * whereas the finite difference method computes the delta once for each curve parameter.
+   * <p>
+   * The derivative of the parameter sensitivity of the point sensitivities is computed in closed form for the curves
+   * that are zero rate curves, interpolated linearly in the parameters, and used as discount factors or to compute
+   * the forward rates from discount factors. This is the case of the standard calibrated curves.
+   * For the other curves, this term is computed by finite difference on the parameter sensitivity of the
+   * point sensitivities, without pricing the trade again, using the finite difference type and shift of this calculator.
+   * <p>
+   * The periods that are not discounted cash flows, for example with FX reset or compounding of floating rates,
+   * are provided by {@code otherSensitivitiesFn} and their gamma is computed by finite difference.
+   *
+   * @param ratesProvider  the rates provider
+   * @param cashFlowSensitivities  the sensitivities of the discounted cash flows
+   * @param otherSensitivitiesFn  the sensitivity function of the other periods, returning no sensitivity if there are none
+   * @return the cross gamma
+   * @throws IllegalArgumentException if a cash flow sensitivity is not of the discounted cash flow form
+   */
+  public CrossGammaParameterSensitivities calculateCrossGammaIntraCurve(
+      RatesProvider ratesProvider,
+      List<DiscountedCashFlowSensitivity> cashFlowSensitivities,
+      Function<ImmutableRatesProvider, CurrencyParameterSensitivities> otherSensitivitiesFn) {
+
+    ImmutableRatesProvider immProv = ratesProvider.toImmutableRatesProvider();
+    Map<Pair<MarketDataName<?>, Currency>, GammaBlock> blocks = new LinkedHashMap<>();
+    List<PointSensitivity> differencedSensitivities = new ArrayList<>();
+    for (DiscountedCashFlowSensitivity cashFlow : cashFlowSensitivities) {
+      List<ZeroRateSensitivity> discounting = new ArrayList<>();
+      List<PointSensitivity> forecast = new ArrayList<>();
+      for (PointSensitivity point : cashFlow.getSensitivity().getSensitivities()) {
+        if (point instanceof ZeroRateSensitivity) {
+          ZeroRateSensitivity zeroRatePoint = (ZeroRateSensitivity) point;
+          // the discount factor is exp(-t z), with second order derivative t^2 exp(-t z)
+          CurrencyParameterSensitivities u = immProv.parameterSensitivity(zeroRatePoint.withSensitivity(1d).build());
+          addOuterProduct(blocks, u, u, -zeroRatePoint.getYearFraction() * zeroRatePoint.getSensitivity());
+          if (!isZeroRateLinear(immProv.discountFactors(zeroRatePoint.getCurveCurrency()))) {
+            differencedSensitivities.add(zeroRatePoint);
+          }
+          discounting.add(zeroRatePoint);
+        } else if (point instanceof IborRateSensitivity || point instanceof OvernightRateSensitivity) {
+          if (!addForwardRateConvexity(blocks, immProv, point)) {
+            differencedSensitivities.add(point);
+          }
+          forecast.add(point);
+        } else {
+          throw new IllegalArgumentException(
+              "Sensitivity is not of the discounted cash flow form: " + point.getClass().getSimpleName());
+        }
+      }
+      if (!forecast.isEmpty() && !discounting.isEmpty()) {
+        ZeroRateSensitivity payment = discounting.get(0);
+        ArgChecker.isTrue(discounting.stream().allMatch(point -> point.compareKey(payment) == 0),
+            "Forward rate sensitivity must be discounted from a single payment date");
+        // cross derivative of the discount factor and of the forecast amount
+        CurrencyParameterSensitivities u = immProv.parameterSensitivity(payment.withSensitivity(1d).build());
+        CurrencyParameterSensitivities v = immProv.parameterSensitivity(PointSensitivities.of(forecast));
+        addOuterProduct(blocks, u, v, -payment.getYearFraction());
+        addOuterProduct(blocks, v, u, -payment.getYearFraction());
+        if (cashFlow.getForecastConvexity() != 0d) {
+          addOuterProduct(blocks, v, v, cashFlow.getForecastConvexity());
+        }
+      }
+    }
+    CrossGammaParameterSensitivities result = CrossGammaParameterSensitivities.empty();
+    for (GammaBlock block : blocks.values()) {
+      result = result.combinedWith(block.toSensitivity());
+    }
+    // finite difference on the curves not handled in closed form, and on the other periods
+    PointSensitivities differenced = PointSensitivities.of(differencedSensitivities);
+    CrossGammaParameterSensitivities differencedGamma = calculateCrossGammaIntraCurve(
+        immProv,
+        p -> p.parameterSensitivity(differenced).combinedWith(otherSensitivitiesFn.apply(p)));
+    return result.combinedWith(differencedGamma);
+  }
+
+  // adds the second order derivative of the forward rate, when computed in closed form
+  private static boolean addForwardRateConvexity(
+      Map<Pair<MarketDataName<?>, Currency>, GammaBlock> blocks,
+      ImmutableRatesProvider provider,
+      PointSensitivity point) {
+
+    // the forward rate is (P(s) / P(e) - 1) / d, with second order derivative d / (1 + d F) times the squared gradient
+    double rate;
+    double accrualFactor;
+    if (point instanceof IborRateSensitivity) {
+      IborRateSensitivity iborPoint = (IborRateSensitivity) point;
+      IborIndexRates rates = provider.iborIndexRates(iborPoint.getIndex());
+      if (!(rates instanceof DiscountIborIndexRates) ||
+          !isZeroRateLinear(((DiscountIborIndexRates) rates).getDiscountFactors())) {
+        return false;
+      }
+      rate = rates.rateIgnoringFixings(iborPoint.getObservation());
+      accrualFactor = iborPoint.getObservation().getYearFraction();
+    } else {
+      OvernightRateSensitivity overnightPoint = (OvernightRateSensitivity) point;
+      OvernightIndexRates rates = provider.overnightIndexRates(overnightPoint.getIndex());
+      if (!(rates instanceof DiscountOvernightIndexRates) ||
+          !isZeroRateLinear(((DiscountOvernightIndexRates) rates).getDiscountFactors())) {
+        return false;
+      }
+      OvernightIndexObservation observation = overnightPoint.getObservation();
+      rate = rates.periodRate(observation, overnightPoint.getEndDate());
+      accrualFactor = overnightPoint.getIndex().getDayCount()
+          .yearFraction(observation.getEffectiveDate(), overnightPoint.getEndDate());
+    }
+    CurrencyParameterSensitivities gradient = provider.parameterSensitivity(
+        PointSensitivities.of(point.withSensitivity(1d)));
+    addOuterProduct(blocks, gradient, gradient, point.getSensitivity() * accrualFactor / (1d + accrualFactor * rate));
+    return true;
+  }
+
+  // checks if the discount factors are based on zero rates that are linear in the curve parameters
+  private static boolean isZeroRateLinear(DiscountFactors discountFactors) {
+    if (!(discountFactors instanceof ZeroRateDiscountFactors)) {
+      return false;
+    }
+    Curve curve = ((ZeroRateDiscountFactors) discountFactors).getCurve();
+    if (!(curve instanceof InterpolatedNodalCurve)) {
+      return false;
+    }
+    InterpolatedNodalCurve nodalCurve = (InterpolatedNodalCurve) curve;
+    return LINEAR_INTERPOLATORS.contains(nodalCurve.getInterpolator()) &&
+        LINEAR_EXTRAPOLATORS.contains(nodalCurve.getExtrapolatorLeft()) &&
+        LINEAR_EXTRAPOLATORS.contains(nodalCurve.getExtrapolatorRight());
+  }
+
+  // adds factor * a b^T to the diagonal blocks
+  private static void addOuterProduct(
+      Map<Pair<MarketDataName<?>, Currency>, GammaBlock> blocks,
+      CurrencyParameterSensitivities a,
+      CurrencyParameterSensitivities b,
+      double factor) {
+
+    for (CurrencyParameterSensitivity aSingle : a.getSensitivities()) {
+      Optional<CurrencyParameterSensitivity> bSingle = b.findSensitivity(aSingle.getMarketDataName(), aSingle.getCurrency());
+      if (bSingle.isPresent()) {
+        blocks.computeIfAbsent(
+            Pair.of(aSingle.getMarketDataName(), aSingle.getCurrency()), k -> new GammaBlock(aSingle))
+            .add(aSingle.getSensitivity(), bSingle.get().getSensitivity(), factor);
+      }
+    }
+  }
+
+  // the mutable second order derivative with respect to the parameters of one curve
+  private static final class GammaBlock {
+    private final CurrencyParameterSensitivity delta;
+    private final double[][] values;
+
+    private GammaBlock(CurrencyParameterSensitivity delta) {
+      this.delta = delta;
+      this.values = new double[delta.getParameterCount()][delta.getParameterCount()];
+    }
+
+    private void add(DoubleArray a, DoubleArray b, double factor) {
+      for (int i = 0; i < values.length; i++) {
+        double ai = factor * a.get(i);
+        if (ai != 0d) {
+          double[] row = values[i];
+          for (int j = 0; j < row.length; j++) {
+            row[j] += ai * b.get(j);
+          }
+        }
+      }
+    }
+
+    private CrossGammaParameterSensitivity toSensitivity() {
+      return CrossGammaParameterSensitivity.of(
+          delta.getMarketDataName(), delta.getParameterMetadata(), delta.getCurrency(), DoubleMatrix.ofUnsafe(values));
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Computes intra-curve cross gamma for bond curves by applying finite difference method to curve delta.
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.sensitivity;
+
+import java.util.Objects;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+
+/**
+ * The present value point sensitivity of a discounted cash flow.
+ * <p>
+ * The present value of the cash flow is the product of a forecast amount and the discount factor of its payment date.
+ * The forecast amount is an affine function of the forward rates, such as Ibor and overnight rates,
+ * possibly with a convexity along its own gradient, as for a FRA.
+ * The point sensitivity is thus made of the {@code ZeroRateSensitivity} of the payment date
+ * and of the sensitivity to the forward rates, multiplied by the discount factor.
+ * Fixed amounts, which have no sensitivity to forward rates, may be combined into a single instance.
+ * <p>
+ * This is the form of the periods of the linear rates products, such as swaps, FRAs and deposits,
+ * which allows {@link CurveGammaCalculator} to compute the gamma by algorithmic differentiation.
+ * <p>
+ * This class is immutable.
+ */
+public final class DiscountedCashFlowSensitivity {
+
+  /**
+   * The present value point sensitivity.
+   */
+  private final PointSensitivities sensitivity;
+  /**
+   * The convexity of the forecast amount.
+   */
+  private final double forecastConvexity;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance for a cash flow whose forecast amount is affine in the forward rates.
+   *
+   * @param sensitivity  the present value point sensitivity
+   * @return the cash flow sensitivity
+   */
+  public static DiscountedCashFlowSensitivity of(PointSensitivities sensitivity) {
+    return new DiscountedCashFlowSensitivity(sensitivity, 0d);
+  }
+
+  /**
+   * Obtains an instance for a cash flow whose forecast amount has a convexity along its gradient.
+   * <p>
+   * If the forecast amount is a function {@code f(x)} of a forward rate {@code x}, discounted with
+   * the discount factor {@code P}, the convexity is {@code f''(x) / (P * f'(x)^2)}.
+   * The second order derivative of the present value then includes the term {@code convexity * v v^T},
+   * where {@code v} is the parameter sensitivity of the forward rate part of the point sensitivity.
+   *
+   * @param sensitivity  the present value point sensitivity
+   * @param forecastConvexity  the convexity of the forecast amount
+   * @return the cash flow sensitivity
+   */
+  public static DiscountedCashFlowSensitivity of(PointSensitivities sensitivity, double forecastConvexity) {
+    return new DiscountedCashFlowSensitivity(sensitivity, forecastConvexity);
+  }
+
+  // restricted constructor
+  private DiscountedCashFlowSensitivity(PointSensitivities sensitivity, double forecastConvexity) {
+    this.sensitivity = ArgChecker.notNull(sensitivity, "sensitivity");
+    this.forecastConvexity = ArgChecker.notNaN(forecastConvexity, "forecastConvexity");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the present value point sensitivity.
+   *
+   * @return the point sensitivity
+   */
+  public PointSensitivities getSensitivity() {
+    return sensitivity;
+  }
+
+  /**
+   * Gets the convexity of the forecast amount, zero if the amount is affine in the forward rates.
+   *
+   * @return the convexity
+   */
+  public double getForecastConvexity() {
+    return forecastConvexity;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof DiscountedCashFlowSensitivity) {
+      DiscountedCashFlowSensitivity other = (DiscountedCashFlowSensitivity) obj;
+      return sensitivity.equals(other.sensitivity) &&
+          Double.compare(forecastConvexity, other.forecastConvexity) == 0;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(sensitivity, forecastConvexity);
+  }
+
+  @Override
+  public String toString() {
+    return "DiscountedCashFlowSensitivity[sensitivity=" + sensitivity + ", forecastConvexity=" + forecastConvexity + "]";
+  }
+
+}
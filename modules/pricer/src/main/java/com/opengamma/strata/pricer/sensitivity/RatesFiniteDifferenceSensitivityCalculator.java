@@ -5,9 +5,15 @@
  */
 package com.opengamma.strata.pricer.sensitivity;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -16,11 +22,14 @@ import org.joda.beans.MetaProperty;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.market.curve.Curve;
 import com.opengamma.strata.market.curve.NodalCurve;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.math.impl.differentiation.FiniteDifferenceType;
 import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.SimpleDiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateDiscountFactors;
@@ -32,6 +41,7 @@ import com.opengamma.strata.pricer.credit.ImmutableCreditRatesProvider;
 import com.opengamma.strata.pricer.credit.IsdaCreditDiscountFactors;
 import com.opengamma.strata.pricer.credit.LegalEntitySurvivalProbabilities;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProviderBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 
 /**
@@ -39,6 +49,12 @@ import com.opengamma.strata.pricer.rate.RatesProvider;
  * <p>
  * This is based on an {@link ImmutableRatesProvider}, {@link LegalEntityDiscountingProvider} or {@link CreditRatesProvider}.
  * The sensitivities are calculated by finite difference.
+ * <p>
+ * Each curve parameter is bumped in turn and the function is evaluated again.
+ * The bumps are independent, thus they can be evaluated concurrently by an {@link Executor},
+ * see {@link #withExecutor(Executor)}. The function must then be thread-safe.
+ * The bumps of the same curve can also be grouped in batches, see {@link #withBatchSize(int)}.
+ * Each batch is evaluated by a single task, which reuses its own copy of the provider data from one bump to the next.
  */
 public class RatesFiniteDifferenceSensitivityCalculator {
 
@@ -52,21 +68,112 @@ public class RatesFiniteDifferenceSensitivityCalculator {
    * The shift used for finite difference.
    */
   private final double shift;
+  /**
+   * The finite difference type.
+   */
+  private final FiniteDifferenceType fdType;
+  /**
+   * The executor used to evaluate the bumps, null if evaluated in the calling thread.
+   */
+  private final Executor executor;
+  /**
+   * The number of bumps of a curve evaluated by a single task, zero if not batched.
+   */
+  private final int batchSize;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance of the finite difference calculator using forward differencing.
+   * 
+   * @param shift  the shift used in the finite difference computation
+   * @return the calculator
+   */
+  public static RatesFiniteDifferenceSensitivityCalculator ofForwardDifference(double shift) {
+    return new RatesFiniteDifferenceSensitivityCalculator(shift, FiniteDifferenceType.FORWARD, null, 0);
+  }
+
+  /**
+   * Obtains an instance of the finite difference calculator using central differencing.
+   * <p>
+   * Each parameter is bumped up and down, thus the function is evaluated twice as many times as forward differencing.
+   * 
+   * @param shift  the shift used in the finite difference computation
+   * @return the calculator
+   */
+  public static RatesFiniteDifferenceSensitivityCalculator ofCentralDifference(double shift) {
+    return new RatesFiniteDifferenceSensitivityCalculator(shift, FiniteDifferenceType.CENTRAL, null, 0);
+  }
+
+  /**
+   * Obtains an instance of the finite difference calculator using backward differencing.
+   * 
+   * @param shift  the shift used in the finite difference computation
+   * @return the calculator
+   */
+  public static RatesFiniteDifferenceSensitivityCalculator ofBackwardDifference(double shift) {
+    return new RatesFiniteDifferenceSensitivityCalculator(shift, FiniteDifferenceType.BACKWARD, null, 0);
+  }
 
   /**
    * Create an instance of the finite difference calculator.
+   * <p>
+   * The finite difference is computed by forward type.
    * 
    * @param shift  the shift used in the finite difference computation
    */
   public RatesFiniteDifferenceSensitivityCalculator(double shift) {
+    this(shift, FiniteDifferenceType.FORWARD, null, 0);
+  }
+
+  // creates an instance
+  private RatesFiniteDifferenceSensitivityCalculator(
+      double shift,
+      FiniteDifferenceType fdType,
+      Executor executor,
+      int batchSize) {
+
     this.shift = shift;
+    this.fdType = ArgChecker.notNull(fdType, "fdType");
+    this.executor = executor;
+    this.batchSize = ArgChecker.notNegative(batchSize, "batchSize");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a copy of this calculator that evaluates the bumps using the specified executor.
+   * <p>
+   * Each bump, or each batch of bumps if {@linkplain #withBatchSize(int) batched}, is submitted to the executor
+   * as an independent task. The function for which the sensitivity is computed must be thread-safe.
+   * The result is the same as when the bumps are evaluated in the calling thread.
+   * 
+   * @param executor  the executor
+   * @return the calculator
+   */
+  public RatesFiniteDifferenceSensitivityCalculator withExecutor(Executor executor) {
+    ArgChecker.notNull(executor, "executor");
+    return new RatesFiniteDifferenceSensitivityCalculator(shift, fdType, executor, batchSize);
+  }
+
+  /**
+   * Returns a copy of this calculator that evaluates the bumps in batches of the specified size.
+   * <p>
+   * A batch is made of consecutive parameters of the same curve. The bumps of a batch are evaluated in turn by
+   * a single task, which reuses its builder of the bumped provider, instead of copying the provider for each bump.
+   * Without an {@linkplain #withExecutor(Executor) executor}, all the bumps of a curve are evaluated as one batch.
+   * 
+   * @param batchSize  the number of bumps evaluated by a single task
+   * @return the calculator
+   */
+  public RatesFiniteDifferenceSensitivityCalculator withBatchSize(int batchSize) {
+    ArgChecker.notNegativeOrZero(batchSize, "batchSize");
+    return new RatesFiniteDifferenceSensitivityCalculator(shift, fdType, executor, batchSize);
   }
 
   //-------------------------------------------------------------------------
   /**
    * Computes the first order sensitivities of a function of a RatesProvider to a double by finite difference.
    * <p>
-   * The finite difference is computed by forward type.
+   * The finite difference is computed by the type of this calculator, forward by default.
    * The function should return a value in the same currency for any rate provider.
    * 
    * @param provider  the rates provider
@@ -82,13 +189,13 @@ public class RatesFiniteDifferenceSensitivityCalculator {
     CurrencyParameterSensitivities discounting = sensitivity(
         immProv,
         immProv.getDiscountCurves(),
-        (base, bumped) -> base.toBuilder().discountCurves(bumped).build(),
+        (builder, bumped) -> builder.discountCurves(bumped),
         valueFn,
         valueInit);
     CurrencyParameterSensitivities forward = sensitivity(
         immProv,
         immProv.getIndexCurves(),
-        (base, bumped) -> base.toBuilder().indexCurves(bumped).build(),
+        (builder, bumped) -> builder.indexCurves(bumped),
         valueFn,
         valueInit);
     return discounting.combinedWith(forward);
@@ -98,21 +205,26 @@ public class RatesFiniteDifferenceSensitivityCalculator {
   private <T> CurrencyParameterSensitivities sensitivity(
       ImmutableRatesProvider provider,
       Map<T, Curve> baseCurves,
-      BiFunction<ImmutableRatesProvider, Map<T, Curve>, ImmutableRatesProvider> storeBumpedFn,
+      BiFunction<ImmutableRatesProviderBuilder, Map<T, Curve>, ImmutableRatesProviderBuilder> storeBumpedFn,
       Function<ImmutableRatesProvider, CurrencyAmount> valueFn,
       CurrencyAmount valueInit) {
 
+    Map<T, DoubleArray> sensitivities = derivatives(
+        baseCurves,
+        key -> {
+          ImmutableRatesProviderBuilder builder = provider.toBuilder();
+          Map<T, Curve> mapBumped = new HashMap<>(baseCurves);
+          return bumped -> {
+            mapBumped.put(key, bumped);
+            return storeBumpedFn.apply(builder, mapBumped).build();
+          };
+        },
+        valueFn,
+        valueInit.getAmount());
     CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
     for (Entry<T, Curve> entry : baseCurves.entrySet()) {
-      Curve curve = entry.getValue();
-      DoubleArray sensitivity = DoubleArray.of(curve.getParameterCount(), i -> {
-        Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
-        Map<T, Curve> mapBumped = new HashMap<>(baseCurves);
-        mapBumped.put(entry.getKey(), dscBumped);
-        ImmutableRatesProvider providerDscBumped = storeBumpedFn.apply(provider, mapBumped);
-        return (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
-      });
-      result = result.combinedWith(curve.createParameterSensitivity(valueInit.getCurrency(), sensitivity));
+      result = result.combinedWith(
+          entry.getValue().createParameterSensitivity(valueInit.getCurrency(), sensitivities.get(entry.getKey())));
     }
     return result;
   }
@@ -121,7 +233,7 @@ public class RatesFiniteDifferenceSensitivityCalculator {
   /**
    * Computes the first order sensitivities of a function of a LegalEntityDiscountingProvider to a double by finite difference.
    * <p>
-   * The finite difference is computed by forward type.
+   * The finite difference is computed by the type of this calculator, forward by default.
    * The function should return a value in the same currency for any rates provider of LegalEntityDiscountingProvider.
    * 
    * @param provider  the rates provider
@@ -148,21 +260,26 @@ public class RatesFiniteDifferenceSensitivityCalculator {
       CurrencyAmount valueInit) {
 
     ImmutableMap<Pair<T, Currency>, DiscountFactors> baseCurves = metaProperty.get(provider);
-    CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
+    Map<Pair<T, Currency>, Curve> curves = new LinkedHashMap<>();
     for (Pair<T, Currency> key : baseCurves.keySet()) {
-      DiscountFactors discountFactors = baseCurves.get(key);
-      Curve curve = checkDiscountFactors(discountFactors);
-      int paramCount = curve.getParameterCount();
-      double[] sensitivity = new double[paramCount];
-      for (int i = 0; i < paramCount; i++) {
-        Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
-        Map<Pair<T, Currency>, DiscountFactors> mapBumped = new HashMap<>(baseCurves);
-        mapBumped.put(key, createDiscountFactors(discountFactors, dscBumped));
-        ImmutableLegalEntityDiscountingProvider providerDscBumped = provider.toBuilder().set(metaProperty, mapBumped).build();
-        sensitivity[i] = (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
-      }
+      curves.put(key, checkDiscountFactors(baseCurves.get(key)));
+    }
+    Map<Pair<T, Currency>, DoubleArray> sensitivities = derivatives(
+        curves,
+        key -> {
+          ImmutableLegalEntityDiscountingProvider.Builder builder = provider.toBuilder();
+          Map<Pair<T, Currency>, DiscountFactors> mapBumped = new HashMap<>(baseCurves);
+          return bumped -> {
+            mapBumped.put(key, createDiscountFactors(baseCurves.get(key), bumped));
+            return builder.set(metaProperty, mapBumped).build();
+          };
+        },
+        valueFn,
+        valueInit.getAmount());
+    CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
+    for (Entry<Pair<T, Currency>, Curve> entry : curves.entrySet()) {
       result = result.combinedWith(
-          curve.createParameterSensitivity(valueInit.getCurrency(), DoubleArray.copyOf(sensitivity)));
+          entry.getValue().createParameterSensitivity(valueInit.getCurrency(), sensitivities.get(entry.getKey())));
     }
     return result;
   }
@@ -171,7 +288,7 @@ public class RatesFiniteDifferenceSensitivityCalculator {
   /**
    * Computes the first order sensitivities of a function of a {@code CreditRatesProvider} to a double by finite difference.
    * <p>
-   * The finite difference is computed by forward type.
+   * The finite difference is computed by the type of this calculator, forward by default.
    * The function should return a value in the same currency for any rates provider of {@code CreditRatesProvider}.
    * 
    * @param provider  the rates provider
@@ -198,22 +315,26 @@ public class RatesFiniteDifferenceSensitivityCalculator {
       CurrencyAmount valueInit) {
 
     ImmutableMap<T, CreditDiscountFactors> baseCurves = metaProperty.get(provider);
-    CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
+    Map<T, Curve> curves = new LinkedHashMap<>();
     for (T key : baseCurves.keySet()) {
-      CreditDiscountFactors creditDiscountFactors = baseCurves.get(key);
-      DiscountFactors discountFactors = creditDiscountFactors.toDiscountFactors();
-      Curve curve = checkDiscountFactors(discountFactors);
-      int paramCount = curve.getParameterCount();
-      double[] sensitivity = new double[paramCount];
-      for (int i = 0; i < paramCount; i++) {
-        Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
-        Map<T, CreditDiscountFactors> mapBumped = new HashMap<>(baseCurves);
-        mapBumped.put(key, createCreditDiscountFactors(creditDiscountFactors, dscBumped));
-        ImmutableCreditRatesProvider providerDscBumped = provider.toBuilder().set(metaProperty, mapBumped).build();
-        sensitivity[i] = (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
-      }
+      curves.put(key, checkDiscountFactors(baseCurves.get(key).toDiscountFactors()));
+    }
+    Map<T, DoubleArray> sensitivities = derivatives(
+        curves,
+        key -> {
+          ImmutableCreditRatesProvider.Builder builder = provider.toBuilder();
+          Map<T, CreditDiscountFactors> mapBumped = new HashMap<>(baseCurves);
+          return bumped -> {
+            mapBumped.put(key, createCreditDiscountFactors(baseCurves.get(key), bumped));
+            return builder.set(metaProperty, mapBumped).build();
+          };
+        },
+        valueFn,
+        valueInit.getAmount());
+    CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
+    for (Entry<T, Curve> entry : curves.entrySet()) {
       result = result.combinedWith(
-          curve.createParameterSensitivity(valueInit.getCurrency(), DoubleArray.copyOf(sensitivity)));
+          entry.getValue().createParameterSensitivity(valueInit.getCurrency(), sensitivities.get(entry.getKey())));
     }
     return result;
   }
@@ -225,28 +346,111 @@ public class RatesFiniteDifferenceSensitivityCalculator {
       CurrencyAmount valueInit) {
 
     ImmutableMap<T, LegalEntitySurvivalProbabilities> baseCurves = metaProperty.get(provider);
-    CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
+    Map<T, Curve> curves = new LinkedHashMap<>();
     for (T key : baseCurves.keySet()) {
-      LegalEntitySurvivalProbabilities credit = baseCurves.get(key);
-      CreditDiscountFactors creditDiscountFactors = credit.getSurvivalProbabilities();
-      DiscountFactors discountFactors = creditDiscountFactors.toDiscountFactors();
-      Curve curve = checkDiscountFactors(discountFactors);
+      curves.put(key, checkDiscountFactors(baseCurves.get(key).getSurvivalProbabilities().toDiscountFactors()));
+    }
+    Map<T, DoubleArray> sensitivities = derivatives(
+        curves,
+        key -> {
+          ImmutableCreditRatesProvider.Builder builder = provider.toBuilder();
+          Map<T, LegalEntitySurvivalProbabilities> mapBumped = new HashMap<>(baseCurves);
+          LegalEntitySurvivalProbabilities credit = baseCurves.get(key);
+          return bumped -> {
+            mapBumped.put(key, LegalEntitySurvivalProbabilities.of(
+                credit.getLegalEntityId(), createCreditDiscountFactors(credit.getSurvivalProbabilities(), bumped)));
+            return builder.set(metaProperty, mapBumped).build();
+          };
+        },
+        valueFn,
+        valueInit.getAmount());
+    CurrencyParameterSensitivities result = CurrencyParameterSensitivities.empty();
+    for (Entry<T, Curve> entry : curves.entrySet()) {
+      result = result.combinedWith(
+          entry.getValue().createParameterSensitivity(valueInit.getCurrency(), sensitivities.get(entry.getKey())));
+    }
+    return result;
+  }
+
+  //-------------------------------------------------------------------------
+  // computes the derivatives with respect to the parameters of each curve
+  // the bump function of a curve is created once for each task, and stores the bumped curve in a provider
+  private <K, P> Map<K, DoubleArray> derivatives(
+      Map<K, Curve> curves,
+      Function<K, Function<Curve, P>> bumpFnFactory,
+      Function<P, CurrencyAmount> valueFn,
+      double valueInit) {
+
+    Map<K, double[]> derivatives = new LinkedHashMap<>();
+    List<Runnable> tasks = new ArrayList<>();
+    for (Entry<K, Curve> entry : curves.entrySet()) {
+      K key = entry.getKey();
+      Curve curve = entry.getValue();
       int paramCount = curve.getParameterCount();
-      double[] sensitivity = new double[paramCount];
-      for (int i = 0; i < paramCount; i++) {
-        Curve dscBumped = curve.withParameter(i, curve.getParameter(i) + shift);
-        Map<T, LegalEntitySurvivalProbabilities> mapBumped = new HashMap<>(baseCurves);
-        mapBumped.put(key, LegalEntitySurvivalProbabilities.of(
-            credit.getLegalEntityId(), createCreditDiscountFactors(creditDiscountFactors, dscBumped)));
-        ImmutableCreditRatesProvider providerDscBumped = provider.toBuilder().set(metaProperty, mapBumped).build();
-        sensitivity[i] = (valueFn.apply(providerDscBumped).getAmount() - valueInit.getAmount()) / shift;
+      double[] curveDerivatives = new double[paramCount];
+      derivatives.put(key, curveDerivatives);
+      int taskSize = executor == null ? paramCount : Math.max(batchSize, 1);
+      for (int start = 0; start < paramCount; start += taskSize) {
+        int first = start;
+        int last = Math.min(start + taskSize, paramCount);
+        tasks.add(() -> {
+          Function<Curve, P> bumpFn = bumpFnFactory.apply(key);
+          for (int i = first; i < last; i++) {
+            curveDerivatives[i] = derivative(curve, i, bumpFn, valueFn, valueInit);
+          }
+        });
       }
-      result = result.combinedWith(
-          curve.createParameterSensitivity(valueInit.getCurrency(), DoubleArray.copyOf(sensitivity)));
     }
+    run(tasks);
+    Map<K, DoubleArray> result = new LinkedHashMap<>();
+    derivatives.forEach((key, values) -> result.put(key, DoubleArray.ofUnsafe(values)));
     return result;
   }
 
+  // computes the derivative with respect to one parameter
+  private <P> double derivative(
+      Curve curve,
+      int index,
+      Function<Curve, P> bumpFn,
+      Function<P, CurrencyAmount> valueFn,
+      double valueInit) {
+
+    double parameter = curve.getParameter(index);
+    switch (fdType) {
+      case FORWARD: {
+        double valueUp = valueFn.apply(bumpFn.apply(curve.withParameter(index, parameter + shift))).getAmount();
+        return (valueUp - valueInit) / shift;
+      }
+      case CENTRAL: {
+        double valueUp = valueFn.apply(bumpFn.apply(curve.withParameter(index, parameter + shift))).getAmount();
+        double valueDown = valueFn.apply(bumpFn.apply(curve.withParameter(index, parameter - shift))).getAmount();
+        return (valueUp - valueDown) / (2d * shift);
+      }
+      case BACKWARD: {
+        double valueDown = valueFn.apply(bumpFn.apply(curve.withParameter(index, parameter - shift))).getAmount();
+        return (valueInit - valueDown) / shift;
+      }
+      default:
+        throw new IllegalArgumentException("Unsupported finite difference type: " + fdType);
+    }
+  }
+
+  // runs the tasks, using the executor if present
+  private void run(List<Runnable> tasks) {
+    if (executor == null) {
+      tasks.forEach(Runnable::run);
+      return;
+    }
+    CompletableFuture<?>[] futures = tasks.stream()
+        .map(task -> CompletableFuture.runAsync(task, executor))
+        .toArray(CompletableFuture[]::new);
+    try {
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException ex) {
+      throw Unchecked.propagate(ex);
+    }
+  }
+
   //-------------------------------------------------------------------------
   // check that the discountFactors is ZeroRateDiscountFactors or SimpleDiscountFactors
   private Curve checkDiscountFactors(DiscountFactors discountFactors) {
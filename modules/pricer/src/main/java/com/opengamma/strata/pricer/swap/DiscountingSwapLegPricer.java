@@ -5,7 +5,10 @@
  */
 package com.opengamma.strata.pricer.swap;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
 
@@ -22,8 +25,22 @@ import com.opengamma.strata.market.explain.ExplainKey;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountFactors;
+import com.opengamma.strata.pricer.ZeroRateSensitivity;
+import com.opengamma.strata.pricer.impl.swap.DispatchingSwapPaymentPeriodPricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
+import com.opengamma.strata.pricer.sensitivity.DiscountedCashFlowSensitivity;
+import com.opengamma.strata.product.rate.FixedRateComputation;
+import com.opengamma.strata.product.rate.IborInterpolatedRateComputation;
+import com.opengamma.strata.product.rate.IborRateComputation;
+import com.opengamma.strata.product.rate.OvernightCompoundedRateComputation;
+import com.opengamma.strata.product.rate.RateComputation;
+import com.opengamma.strata.product.swap.CompoundingMethod;
 import com.opengamma.strata.product.swap.KnownAmountSwapPaymentPeriod;
+import com.opengamma.strata.product.swap.NegativeRateMethod;
+import com.opengamma.strata.product.swap.NotionalExchange;
+import com.opengamma.strata.product.swap.RateAccrualPeriod;
 import com.opengamma.strata.product.swap.RatePaymentPeriod;
 import com.opengamma.strata.product.swap.ResolvedSwapLeg;
 import com.opengamma.strata.product.swap.SwapPaymentEvent;
@@ -52,6 +69,13 @@ public class DiscountingSwapLegPricer {
    * Pricer for {@link SwapPaymentEvent}.
    */
   private final SwapPaymentEventPricer<SwapPaymentEvent> paymentEventPricer;
+  /**
+   * Whether the discount factors of the periods of a leg are obtained together.
+   * This is the case for the standard period pricer, which accepts the discount factors,
+   * other period pricers are called for each period with the provider only.
+   * Subclasses of the standard period pricer are excluded, as they may override the methods taking the provider only.
+   */
+  private final boolean bulkDiscounting;
 
   /* Small parameter below which the cash annuity formula is modified. */
   private static final double MIN_YIELD = 1.0E-4;
@@ -67,6 +91,7 @@ public class DiscountingSwapLegPricer {
       SwapPaymentEventPricer<SwapPaymentEvent> paymentEventPricer) {
     this.paymentPeriodPricer = ArgChecker.notNull(paymentPeriodPricer, "paymentPeriodPricer");
     this.paymentEventPricer = ArgChecker.notNull(paymentEventPricer, "paymentEventPricer");
+    this.bulkDiscounting = paymentPeriodPricer.getClass() == DispatchingSwapPaymentPeriodPricer.class;
   }
 
   //-------------------------------------------------------------------------
@@ -265,6 +290,108 @@ public class DiscountingSwapLegPricer {
     return builder;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the present value sensitivity of the discounted cash flows of the swap leg.
+   * <p>
+   * This returns the present value sensitivity of each period and event that is a discounted cash flow,
+   * with a forecast amount that is affine in the forward rates, see {@link DiscountedCashFlowSensitivity}.
+   * These are the known amounts, the notional exchanges, and the rate periods without FX reset
+   * based on fixed, Ibor or forward overnight compounded rates, unless several floating rates are compounded.
+   * The sensitivity of the other periods and events is returned by
+   * {@link #presentValueSensitivityNonCashFlows(ResolvedSwapLeg, RatesProvider)}.
+   * <p>
+   * This is used to compute the gamma by algorithmic differentiation, see {@link CurveGammaCalculator}.
+   * 
+   * @param leg  the leg
+   * @param provider  the rates provider
+   * @return the present value curve sensitivities of the discounted cash flows of the swap leg
+   */
+  public List<DiscountedCashFlowSensitivity> presentValueSensitivityCashFlows(ResolvedSwapLeg leg, RatesProvider provider) {
+    ImmutableList.Builder<DiscountedCashFlowSensitivity> builder = ImmutableList.builder();
+    for (SwapPaymentPeriod period : unpaidPeriods(leg, provider)) {
+      if (isCashFlow(period, provider)) {
+        builder.add(DiscountedCashFlowSensitivity.of(paymentPeriodPricer.presentValueSensitivity(period, provider).build()));
+      }
+    }
+    for (SwapPaymentEvent event : leg.getPaymentEvents()) {
+      if (!event.getPaymentDate().isBefore(provider.getValuationDate()) && isCashFlow(event)) {
+        builder.add(DiscountedCashFlowSensitivity.of(paymentEventPricer.presentValueSensitivity(event, provider).build()));
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Calculates the present value sensitivity of the periods and events of the swap leg
+   * that are not discounted cash flows.
+   * <p>
+   * This is the complement of {@link #presentValueSensitivityCashFlows(ResolvedSwapLeg, RatesProvider)},
+   * the two sensitivities add up to the present value sensitivity of the leg.
+   * 
+   * @param leg  the leg
+   * @param provider  the rates provider
+   * @return the present value curve sensitivity of the other periods and events of the swap leg
+   */
+  public PointSensitivityBuilder presentValueSensitivityNonCashFlows(ResolvedSwapLeg leg, RatesProvider provider) {
+    PointSensitivityBuilder builder = PointSensitivityBuilder.none();
+    for (SwapPaymentPeriod period : unpaidPeriods(leg, provider)) {
+      if (!isCashFlow(period, provider)) {
+        builder = builder.combinedWith(paymentPeriodPricer.presentValueSensitivity(period, provider));
+      }
+    }
+    for (SwapPaymentEvent event : leg.getPaymentEvents()) {
+      if (!event.getPaymentDate().isBefore(provider.getValuationDate()) && !isCashFlow(event)) {
+        builder = builder.combinedWith(paymentEventPricer.presentValueSensitivity(event, provider));
+      }
+    }
+    return builder;
+  }
+
+  // checks if the period is priced by the standard pricer as an amount affine in the forward rates, discounted
+  private boolean isCashFlow(SwapPaymentPeriod period, RatesProvider provider) {
+    if (paymentPeriodPricer != SwapPaymentPeriodPricer.standard()) {
+      return false;
+    }
+    if (period instanceof KnownAmountSwapPaymentPeriod) {
+      return true;
+    }
+    if (!(period instanceof RatePaymentPeriod)) {
+      return false;
+    }
+    RatePaymentPeriod ratePeriod = (RatePaymentPeriod) period;
+    if (ratePeriod.getFxReset().isPresent()) {
+      return false;
+    }
+    boolean compounded = ratePeriod.getAccrualPeriods().size() > 1 &&
+        ratePeriod.getCompoundingMethod() != CompoundingMethod.NONE;
+    for (RateAccrualPeriod accrualPeriod : ratePeriod.getAccrualPeriods()) {
+      RateComputation computation = accrualPeriod.getRateComputation();
+      if (computation instanceof FixedRateComputation) {
+        continue;
+      }
+      if (compounded || accrualPeriod.getNegativeRateMethod() != NegativeRateMethod.ALLOW_NEGATIVE) {
+        return false;
+      }
+      if (computation instanceof OvernightCompoundedRateComputation) {
+        // the rate is affine in the forward rate if all the fixings are in the future and there is no rate cut-off
+        OvernightCompoundedRateComputation overnight = (OvernightCompoundedRateComputation) computation;
+        if (overnight.getRateCutOffDays() > 1 ||
+            !overnight.calculatePublicationFromFixing(overnight.getStartDate()).isAfter(provider.getValuationDate())) {
+          return false;
+        }
+      } else if (!(computation instanceof IborRateComputation || computation instanceof IborInterpolatedRateComputation)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // checks if the event is priced by the standard pricer as a discounted amount
+  private boolean isCashFlow(SwapPaymentEvent event) {
+    return paymentEventPricer == SwapPaymentEventPricer.standard() && event instanceof NotionalExchange;
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the Present Value of a Basis Point curve sensitivity for a fixed swap leg.
@@ -525,11 +652,17 @@ public class DiscountingSwapLegPricer {
 
   // calculates the present value of the periods composing the leg in the currency of the swap leg
   double presentValuePeriodsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
+    List<SwapPaymentPeriod> periods = unpaidPeriods(leg, provider);
     double total = 0d;
-    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
-      if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
+    if (!bulkDiscounting) {
+      for (SwapPaymentPeriod period : periods) {
         total += paymentPeriodPricer.presentValue(period, provider);
       }
+      return total;
+    }
+    double[] discountFactors = provider.discountFactors(leg.getCurrency()).discountFactors(paymentDates(periods));
+    for (int i = 0; i < discountFactors.length; i++) {
+      total += paymentPeriodPricer.presentValue(periods.get(i), provider, discountFactors[i]);
     }
     return total;
   }
@@ -547,11 +680,21 @@ public class DiscountingSwapLegPricer {
 
   // calculates the present value curve sensitivity of the periods composing the leg in the currency of the swap leg
   PointSensitivityBuilder presentValueSensitivityPeriodsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
+    List<SwapPaymentPeriod> periods = unpaidPeriods(leg, provider);
     PointSensitivityBuilder builder = PointSensitivityBuilder.none();
-    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
-      if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
+    if (!bulkDiscounting) {
+      for (SwapPaymentPeriod period : periods) {
         builder = builder.combinedWith(paymentPeriodPricer.presentValueSensitivity(period, provider));
       }
+      return builder;
+    }
+    DiscountFactors discountFactors = provider.discountFactors(leg.getCurrency());
+    double[] yearFractions = discountFactors.relativeYearFractions(paymentDates(periods));
+    double[] dfs = discountFactors.discountFactors(yearFractions);
+    List<ZeroRateSensitivity> dscSensitivities = discountFactors.zeroRatePointSensitivities(yearFractions);
+    for (int i = 0; i < dfs.length; i++) {
+      builder = builder.combinedWith(
+          paymentPeriodPricer.presentValueSensitivity(periods.get(i), provider, dfs[i], dscSensitivities.get(i)));
     }
     return builder;
   }
@@ -559,17 +702,20 @@ public class DiscountingSwapLegPricer {
   //-------------------------------------------------------------------------
   // calculates the cash flow of the periods composing the leg in the currency of the swap leg
   CashFlows cashFlowPeriodsInternal(ResolvedSwapLeg leg, RatesProvider provider) {
+    List<SwapPaymentPeriod> periods = unpaidPeriods(leg, provider);
+    double[] discountFactors = bulkDiscounting ?
+        provider.discountFactors(leg.getCurrency()).discountFactors(paymentDates(periods)) :
+        null;
     ImmutableList.Builder<CashFlow> builder = ImmutableList.builder();
-    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
-      if (!period.getPaymentDate().isBefore(provider.getValuationDate())) {
-        double forecastValue = paymentPeriodPricer.forecastValue(period, provider);
-        if (forecastValue != 0d) {
-          Currency currency = period.getCurrency();
-          LocalDate paymentDate = period.getPaymentDate();
-          double discountFactor = provider.discountFactor(currency, paymentDate);
-          CashFlow singleCashFlow = CashFlow.ofForecastValue(paymentDate, currency, forecastValue, discountFactor);
-          builder.add(singleCashFlow);
-        }
+    for (int i = 0; i < periods.size(); i++) {
+      SwapPaymentPeriod period = periods.get(i);
+      double forecastValue = paymentPeriodPricer.forecastValue(period, provider);
+      if (forecastValue != 0d) {
+        Currency currency = period.getCurrency();
+        LocalDate paymentDate = period.getPaymentDate();
+        double discountFactor = bulkDiscounting ? discountFactors[i] : provider.discountFactor(currency, paymentDate);
+        CashFlow singleCashFlow = CashFlow.ofForecastValue(paymentDate, currency, forecastValue, discountFactor);
+        builder.add(singleCashFlow);
       }
     }
     return CashFlows.of(builder.build());
@@ -593,6 +739,21 @@ public class DiscountingSwapLegPricer {
     return CashFlows.of(builder.build());
   }
 
+  // the periods with a payment date that is not before the valuation date
+  private static List<SwapPaymentPeriod> unpaidPeriods(ResolvedSwapLeg leg, RatesProvider provider) {
+    LocalDate valuationDate = provider.getValuationDate();
+    return leg.getPaymentPeriods().stream()
+        .filter(period -> !period.getPaymentDate().isBefore(valuationDate))
+        .collect(toImmutableList());
+  }
+
+  // the payment dates of the periods
+  private static List<LocalDate> paymentDates(List<SwapPaymentPeriod> periods) {
+    return periods.stream()
+        .map(SwapPaymentPeriod::getPaymentDate)
+        .collect(toImmutableList());
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Explain present value builder used to build large explain map from the individual legs.
@@ -25,6 +25,8 @@ import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
+import com.opengamma.strata.pricer.sensitivity.DiscountedCashFlowSensitivity;
 import com.opengamma.strata.product.rate.FixedOvernightCompoundedAnnualRateComputation;
 import com.opengamma.strata.product.rate.FixedRateComputation;
 import com.opengamma.strata.product.swap.CompoundingMethod;
@@ -375,6 +377,40 @@ public class DiscountingSwapProductPricer {
     return builder;
   }
 
+  /**
+   * Calculates the present value sensitivity of the discounted cash flows of the swap product.
+   * <p>
+   * This returns the present value sensitivity of each period and event of the legs that is a discounted cash flow,
+   * see {@link DiscountingSwapLegPricer#presentValueSensitivityCashFlows(ResolvedSwapLeg, RatesProvider)}.
+   * This is used to compute the gamma by algorithmic differentiation, see {@link CurveGammaCalculator}.
+   * 
+   * @param swap  the product
+   * @param provider  the rates provider
+   * @return the present value curve sensitivities of the discounted cash flows of the swap product
+   */
+  public List<DiscountedCashFlowSensitivity> presentValueSensitivityCashFlows(ResolvedSwap swap, RatesProvider provider) {
+    ImmutableList.Builder<DiscountedCashFlowSensitivity> builder = ImmutableList.builder();
+    for (ResolvedSwapLeg leg : swap.getLegs()) {
+      builder.addAll(legPricer.presentValueSensitivityCashFlows(leg, provider));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Calculates the present value sensitivity of the periods and events of the swap product
+   * that are not discounted cash flows.
+   * <p>
+   * This is the complement of {@link #presentValueSensitivityCashFlows(ResolvedSwap, RatesProvider)},
+   * the two sensitivities add up to the present value sensitivity of the product.
+   * 
+   * @param swap  the product
+   * @param provider  the rates provider
+   * @return the present value curve sensitivity of the other periods and events of the swap product
+   */
+  public PointSensitivityBuilder presentValueSensitivityNonCashFlows(ResolvedSwap swap, RatesProvider provider) {
+    return swapValueSensitivity(swap, provider, legPricer::presentValueSensitivityNonCashFlows);
+  }
+
   /**
    * Calculates the par rate curve sensitivity for a swap with a fixed leg.
    * <p>
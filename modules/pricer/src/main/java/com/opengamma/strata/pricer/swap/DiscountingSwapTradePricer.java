@@ -5,6 +5,8 @@
  */
 package com.opengamma.strata.pricer.swap;
 
+import java.util.List;
+
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
@@ -13,7 +15,10 @@ import com.opengamma.strata.market.amount.CashFlows;
 import com.opengamma.strata.market.explain.ExplainMap;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.sensitivity.CurveGammaCalculator;
+import com.opengamma.strata.pricer.sensitivity.DiscountedCashFlowSensitivity;
 import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.ResolvedSwapLeg;
 import com.opengamma.strata.product.swap.ResolvedSwapTrade;
 
 /**
@@ -113,6 +118,39 @@ public class DiscountingSwapTradePricer {
     return productPricer.presentValueSensitivity(trade.getProduct(), provider).build();
   }
 
+  /**
+   * Calculates the present value sensitivity of the discounted cash flows of the swap trade.
+   * <p>
+   * This returns the present value sensitivity of each period and event of the legs that is a discounted cash flow,
+   * see {@link DiscountingSwapLegPricer#presentValueSensitivityCashFlows(ResolvedSwapLeg, RatesProvider)}.
+   * This is used to compute the gamma by algorithmic differentiation, see {@link CurveGammaCalculator}.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider
+   * @return the present value curve sensitivities of the discounted cash flows of the swap trade
+   */
+  public List<DiscountedCashFlowSensitivity> presentValueSensitivityCashFlows(
+      ResolvedSwapTrade trade,
+      RatesProvider provider) {
+
+    return productPricer.presentValueSensitivityCashFlows(trade.getProduct(), provider);
+  }
+
+  /**
+   * Calculates the present value sensitivity of the periods and events of the swap trade
+   * that are not discounted cash flows.
+   * <p>
+   * This is the complement of {@link #presentValueSensitivityCashFlows(ResolvedSwapTrade, RatesProvider)},
+   * the two sensitivities add up to the present value sensitivity of the trade.
+   * 
+   * @param trade  the trade
+   * @param provider  the rates provider
+   * @return the present value curve sensitivity of the other periods and events of the swap trade
+   */
+  public PointSensitivities presentValueSensitivityNonCashFlows(ResolvedSwapTrade trade, RatesProvider provider) {
+    return productPricer.presentValueSensitivityNonCashFlows(trade.getProduct(), provider).build();
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the forecast value of the swap trade.
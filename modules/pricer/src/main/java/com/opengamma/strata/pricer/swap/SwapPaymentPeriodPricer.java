@@ -5,9 +5,12 @@
  */
 package com.opengamma.strata.pricer.swap;
 
+import java.util.List;
+
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.market.explain.ExplainMapBuilder;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.impl.swap.DispatchingSwapPaymentPeriodPricer;
 import com.opengamma.strata.pricer.rate.RatesProvider;
 import com.opengamma.strata.product.swap.SwapPaymentPeriod;
@@ -62,6 +65,50 @@ public interface SwapPaymentPeriodPricer<T extends SwapPaymentPeriod> {
    */
   public abstract PointSensitivityBuilder presentValueSensitivity(T period, RatesProvider provider);
 
+  /**
+   * Calculates the present value of a single payment period, given the discount factor.
+   * <p>
+   * This is used when the discount factors of the payment dates of many periods have been obtained together,
+   * see {@link DiscountFactors#discountFactors(List)}. The discount factor must be that of
+   * the currency of the period at the payment date, as used by {@link #presentValue(SwapPaymentPeriod, RatesProvider)}.
+   * <p>
+   * The default implementation ignores the discount factor and calls {@code presentValue(period, provider)}.
+   * 
+   * @param period  the period
+   * @param provider  the rates provider
+   * @param discountFactor  the discount factor at the payment date
+   * @return the present value of the period
+   */
+  public default double presentValue(T period, RatesProvider provider, double discountFactor) {
+    return presentValue(period, provider);
+  }
+
+  /**
+   * Calculates the present value sensitivity of a single payment period, given the discount factor.
+   * <p>
+   * This is used when the discount factors and zero rate sensitivities of the payment dates of many periods
+   * have been obtained together, see {@link DiscountFactors#zeroRatePointSensitivities(double[])}.
+   * The discount factor and zero rate sensitivity must be those of the currency of the period at the payment date,
+   * as used by {@link #presentValueSensitivity(SwapPaymentPeriod, RatesProvider)}.
+   * <p>
+   * The default implementation ignores the discount factor and sensitivity
+   * and calls {@code presentValueSensitivity(period, provider)}.
+   * 
+   * @param period  the period
+   * @param provider  the rates provider
+   * @param discountFactor  the discount factor at the payment date
+   * @param zeroRateSensitivity  the zero rate point sensitivity of the discount factor
+   * @return the present value curve sensitivity of the period
+   */
+  public default PointSensitivityBuilder presentValueSensitivity(
+      T period,
+      RatesProvider provider,
+      double discountFactor,
+      PointSensitivityBuilder zeroRateSensitivity) {
+
+    return presentValueSensitivity(period, provider);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Calculates the forecast value of a single payment period.
@@ -18,10 +18,12 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.CurveMetadata;
@@ -104,6 +106,17 @@ public class SimpleDiscountFactorsTest {
     assertThat(test.discountFactor(DATE_AFTER)).isEqualTo(expected);
   }
 
+  @Test
+  public void test_discountFactors_bulk() {
+    SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    List<LocalDate> dates = ImmutableList.of(DATE_BEFORE, DATE_VAL, DATE_AFTER, date(2016, 6, 4), date(2015, 9, 4));
+    double[] computed = test.discountFactors(dates);
+    assertThat(computed).hasSize(dates.size());
+    for (int i = 0; i < dates.size(); i++) {
+      assertThat(computed[i]).isEqualTo(test.discountFactor(dates.get(i)));
+    }
+  }
+
   @Test
   public void test_discountFactor_beforeValDate() {
     SimpleDiscountFactors test = SimpleDiscountFactors.of(GBP, DATE_VAL, CURVE);
@@ -18,10 +18,12 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.ValueType;
 import com.opengamma.strata.market.curve.CurveMetadata;
@@ -124,6 +126,20 @@ public class ZeroRateDiscountFactorsTest {
     assertThat(test.discountFactorTimeDerivative(relativeYearFraction)).isEqualTo(0d);
   }
 
+  @Test
+  public void test_discountFactors_bulk() {
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    List<LocalDate> dates = ImmutableList.of(DATE_BEFORE, DATE_VAL, DATE_AFTER, date(2016, 6, 4), date(2015, 9, 4));
+    double[] yearFractions = test.relativeYearFractions(dates);
+    double[] computed = test.discountFactors(dates);
+    assertThat(computed).hasSize(dates.size());
+    for (int i = 0; i < dates.size(); i++) {
+      assertThat(yearFractions[i]).isEqualTo(test.relativeYearFraction(dates.get(i)));
+      assertThat(computed[i]).isEqualTo(test.discountFactor(dates.get(i)));
+    }
+    assertThat(test.discountFactors(new double[0])).isEmpty();
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_zeroRate() {
@@ -187,6 +203,17 @@ public class ZeroRateDiscountFactorsTest {
     assertThat(test.zeroRatePointSensitivity(DATE_AFTER)).isEqualTo(expected);
   }
 
+  @Test
+  public void test_zeroRatePointSensitivities() {
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    List<LocalDate> dates = ImmutableList.of(DATE_BEFORE, DATE_VAL, DATE_AFTER, date(2016, 6, 4));
+    List<ZeroRateSensitivity> computed = test.zeroRatePointSensitivities(test.relativeYearFractions(dates));
+    assertThat(computed).hasSize(dates.size());
+    for (int i = 0; i < dates.size(); i++) {
+      assertThat(computed.get(i)).isEqualTo(test.zeroRatePointSensitivity(dates.get(i)));
+    }
+  }
+
   @Test
   public void test_zeroRatePointSensitivity_beforeValDate() {
     ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
@@ -323,6 +350,21 @@ public class ZeroRateDiscountFactorsTest {
     assertThat(test.parameterSensitivity(sens)).isEqualTo(expected);
   }
 
+  @Test
+  public void test_parameterSensitivity_bulk() {
+    ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
+    double[] yearFractions = {0d, 0.5d, 3.2d, 1.7d, 12d};
+    double[] sensitivities = {10d, -20d, 30d, 40d, 50d};
+    CurrencyParameterSensitivities expected = CurrencyParameterSensitivities.empty();
+    for (int i = 0; i < yearFractions.length; i++) {
+      expected = expected.combinedWith(
+          test.parameterSensitivity(ZeroRateSensitivity.of(GBP, yearFractions[i], USD, sensitivities[i])));
+    }
+    assertThat(test.parameterSensitivity(USD, yearFractions, sensitivities).equalWithTolerance(expected, TOL)).isTrue();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.parameterSensitivity(USD, yearFractions, new double[1]));
+  }
+
   @Test
   public void test_currencyParameterSensitivity_beforeValDate() {
     ZeroRateDiscountFactors test = ZeroRateDiscountFactors.of(GBP, DATE_VAL, CURVE);
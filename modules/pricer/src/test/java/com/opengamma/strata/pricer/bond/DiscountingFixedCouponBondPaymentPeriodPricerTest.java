@@ -15,9 +15,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.curve.CurveMetadata;
 import com.opengamma.strata.market.curve.CurveName;
@@ -71,6 +73,13 @@ public class DiscountingFixedCouponBondPaymentPeriodPricerTest {
       .fixedRate(FIXED_RATE)
       .yearFraction(YEAR_FRACTION)
       .build();
+  private static final FixedCouponBondPaymentPeriod PAYMENT_PERIOD_2 = PAYMENT_PERIOD.toBuilder()
+      .startDate(END_ADJUSTED)
+      .unadjustedStartDate(END)
+      .endDate(LocalDate.of(2016, 2, 2))
+      .unadjustedEndDate(LocalDate.of(2016, 2, 2))
+      .build();
+  private static final List<FixedCouponBondPaymentPeriod> PAYMENT_PERIODS = ImmutableList.of(PAYMENT_PERIOD, PAYMENT_PERIOD_2);
   /// z-spread
   private static final double Z_SPREAD = 0.02;
   private static final int PERIOD_PER_YEAR = 4;
@@ -87,6 +96,15 @@ public class DiscountingFixedCouponBondPaymentPeriodPricerTest {
     assertThat(computed).isEqualTo(expected);
   }
 
+  @Test
+  public void test_presentValue_periods() {
+    double computed = PRICER.presentValue(PAYMENT_PERIODS, ISSUER_CURVE);
+    double expected = PRICER.presentValue(PAYMENT_PERIOD, ISSUER_CURVE) + PRICER.presentValue(PAYMENT_PERIOD_2, ISSUER_CURVE);
+    assertThat(computed).isEqualTo(expected);
+    double computedAfter = PRICER.presentValue(PAYMENT_PERIODS, ISSUER_CURVE_AFTER);
+    assertThat(computedAfter).isEqualTo(PRICER.presentValue(PAYMENT_PERIOD_2, ISSUER_CURVE_AFTER));
+  }
+
   @Test
   public void test_presentValueWithSpread() {
     double computed = PRICER.presentValueWithSpread(
@@ -131,6 +149,16 @@ public class DiscountingFixedCouponBondPaymentPeriodPricerTest {
     assertThat(computed).isEqualTo(expected);
   }
 
+  @Test
+  public void test_presentValueSensitivity_periods() {
+    PointSensitivityBuilder computed = PRICER.presentValueSensitivity(PAYMENT_PERIODS, ISSUER_CURVE);
+    PointSensitivityBuilder expected = PRICER.presentValueSensitivity(PAYMENT_PERIOD, ISSUER_CURVE)
+        .combinedWith(PRICER.presentValueSensitivity(PAYMENT_PERIOD_2, ISSUER_CURVE));
+    assertThat(computed.build()).isEqualTo(expected.build());
+    PointSensitivityBuilder computedAfter = PRICER.presentValueSensitivity(PAYMENT_PERIODS, ISSUER_CURVE_AFTER);
+    assertThat(computedAfter).isEqualTo(PRICER.presentValueSensitivity(PAYMENT_PERIOD_2, ISSUER_CURVE_AFTER));
+  }
+
   @Test
   public void test_presentValueSensitivityWithSpread() {
     PointSensitivityBuilder computed = PRICER.presentValueSensitivityWithSpread(
@@ -14,9 +14,11 @@ import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.market.curve.CurveMetadata;
 import com.opengamma.strata.market.curve.CurveName;
@@ -53,6 +55,15 @@ public class IssuerCurveDiscountFactorsTest {
     assertThat(test.discountFactor(DATE_AFTER)).isEqualTo(DSC_FACTORS.discountFactor(DATE_AFTER));
   }
 
+  @Test
+  public void test_discountFactors_bulk() {
+    IssuerCurveDiscountFactors base = IssuerCurveDiscountFactors.of(DSC_FACTORS, GROUP);
+    List<LocalDate> dates = ImmutableList.of(DATE, DATE_AFTER, date(2016, 6, 4));
+    double[] computed = base.discountFactors(dates);
+    assertThat(computed).containsExactly(
+        DSC_FACTORS.discountFactor(DATE), DSC_FACTORS.discountFactor(DATE_AFTER), DSC_FACTORS.discountFactor(date(2016, 6, 4)));
+  }
+
   @Test
   public void test_zeroRatePointSensitivity() {
     IssuerCurveDiscountFactors base = IssuerCurveDiscountFactors.of(DSC_FACTORS, GROUP);
@@ -62,6 +73,15 @@ public class IssuerCurveDiscountFactorsTest {
     assertThat(computed).isEqualTo(expected);
   }
 
+  @Test
+  public void test_zeroRatePointSensitivities() {
+    IssuerCurveDiscountFactors base = IssuerCurveDiscountFactors.of(DSC_FACTORS, GROUP);
+    List<LocalDate> dates = ImmutableList.of(DATE, DATE_AFTER, date(2016, 6, 4));
+    List<IssuerCurveZeroRateSensitivity> computed = base.zeroRatePointSensitivities(dates);
+    assertThat(computed).containsExactly(
+        base.zeroRatePointSensitivity(DATE), base.zeroRatePointSensitivity(DATE_AFTER), base.zeroRatePointSensitivity(date(2016, 6, 4)));
+  }
+
   @Test
   public void test_zeroRatePointSensitivity_USD() {
     IssuerCurveDiscountFactors base = IssuerCurveDiscountFactors.of(DSC_FACTORS, GROUP);
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.curve;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveParameterSize;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.UnitParameterSensitivities;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+import com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions;
+
+/**
+ * Benchmark of the calculation of the calibration Jacobian, writing the sensitivities directly
+ * into the rows using {@link ParameterSensitivitySink}, against the previous path that combined
+ * the parameter sensitivities of each trade and concatenated them in curve order.
+ * <p>
+ * The Jacobian is calculated for a set of overnight swaps, one for each node of a pair of curves.
+ * <p>
+ * Run using the main method, or via the JMH runner on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalibrationDerivativeBenchmark {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VAL_DATE = LocalDate.of(2020, 1, 6);
+  private static final CurveName DSC_NAME = CurveName.of("USD-DSC");
+  private static final CurveName ON_NAME = CurveName.of("USD-FEDFUND");
+  private static final CalibrationMeasures MEASURES = CalibrationMeasures.PAR_SPREAD;
+
+  /** The number of nodes of each curve. */
+  @Param({"20", "60", "120"})
+  private int nodeCount;
+
+  private ImmutableRatesProvider provider;
+  private ImmutableList<ResolvedSwapTrade> trades;
+  private ImmutableList<CurveParameterSize> curveOrder;
+
+  //-------------------------------------------------------------------------
+  @Setup(Level.Trial)
+  public void setUp() {
+    DoubleArray times = DoubleArray.of(nodeCount, i -> 30d * (i + 1) / nodeCount);
+    DoubleArray rates = DoubleArray.of(nodeCount, i -> 0.01 + 0.0005 * i / nodeCount);
+    InterpolatedNodalCurve dscCurve =
+        InterpolatedNodalCurve.of(Curves.zeroRates(DSC_NAME, ACT_365F), times, rates, CurveInterpolators.LINEAR);
+    InterpolatedNodalCurve onCurve = InterpolatedNodalCurve.of(
+        Curves.zeroRates(ON_NAME, ACT_365F), times, rates.plus(0.001), CurveInterpolators.LINEAR);
+    provider = ImmutableRatesProvider.builder(VAL_DATE)
+        .discountCurve(USD, dscCurve)
+        .overnightIndexCurve(USD_FED_FUND, onCurve)
+        .build();
+    trades = IntStream.range(0, 2 * nodeCount)
+        .mapToObj(i -> FixedOvernightSwapConventions.USD_FIXED_1Y_FED_FUND_OIS
+            .createTrade(VAL_DATE, Tenor.ofMonths(Math.max(1, 360 * (i + 1) / (2 * nodeCount))),
+                BuySell.BUY, 1_000_000d, 0.01, REF_DATA)
+            .resolve(REF_DATA))
+        .collect(toImmutableList());
+    curveOrder = ImmutableList.of(CurveParameterSize.of(DSC_NAME, nodeCount), CurveParameterSize.of(ON_NAME, nodeCount));
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public DoubleMatrix sink() {
+    ParameterSensitivitySink sink = ParameterSensitivitySink.of(curveOrder);
+    double[][] rows = new double[trades.size()][sink.getParameterCount()];
+    for (int i = 0; i < trades.size(); i++) {
+      MEASURES.derivative(trades.get(i), provider, sink, rows[i]);
+    }
+    return DoubleMatrix.ofUnsafe(rows);
+  }
+
+  @Benchmark
+  public DoubleMatrix combined() {
+    return DoubleMatrix.ofArrayObjects(
+        trades.size(),
+        2 * nodeCount,
+        i -> combinedDerivative(trades.get(i), curveOrder));
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(CalibrationDerivativeBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  //-------------------------------------------------------------------------
+  // the previous implementation of CalibrationMeasures.derivative
+  private DoubleArray combinedDerivative(ResolvedSwapTrade trade, List<CurveParameterSize> curveOrder) {
+    CurrencyParameterSensitivities paramSens = TradeCalibrationMeasure.SWAP_PAR_SPREAD.sensitivities(trade, provider);
+    UnitParameterSensitivities unitSens = UnitParameterSensitivities.empty();
+    for (CurrencyParameterSensitivity ccySens : paramSens.getSensitivities()) {
+      unitSens = unitSens.combinedWith(ccySens.toUnitParameterSensitivity());
+    }
+    DoubleArray result = DoubleArray.EMPTY;
+    for (CurveParameterSize curveParams : curveOrder) {
+      DoubleArray sens = unitSens.findSensitivity(curveParams.getName())
+          .map(s -> s.getSensitivity())
+          .orElseGet(() -> DoubleArray.filled(curveParams.getParameterCount()));
+      result = result.concat(sens);
+    }
+    return result;
+  }
+
+}
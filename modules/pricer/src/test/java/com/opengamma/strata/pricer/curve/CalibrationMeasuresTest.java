@@ -5,26 +5,41 @@
  */
 package com.opengamma.strata.pricer.curve;
 
+import static com.opengamma.strata.basics.currency.Currency.EUR;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveParameterSize;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.pricer.datasets.ImmutableRatesProviderSimpleData;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.swap.SwapDummyData;
+import com.opengamma.strata.product.common.BuySell;
 import com.opengamma.strata.product.deposit.ResolvedIborFixingDepositTrade;
 import com.opengamma.strata.product.deposit.ResolvedTermDepositTrade;
 import com.opengamma.strata.product.fra.ResolvedFraTrade;
 import com.opengamma.strata.product.fx.ResolvedFxSwapTrade;
 import com.opengamma.strata.product.index.ResolvedIborFutureTrade;
 import com.opengamma.strata.product.swap.ResolvedSwapTrade;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
 
 /**
  * Test {@link CalibrationMeasures}.
  */
 public class CalibrationMeasuresTest {
 
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final double TOLERANCE = 1e-12;
+
   //-------------------------------------------------------------------------
   @Test
   public void test_PAR_SPREAD() {
@@ -81,6 +96,31 @@ public class CalibrationMeasuresTest {
             "Test", ImmutableList.of(TradeCalibrationMeasure.FRA_PAR_SPREAD, TradeCalibrationMeasure.FRA_PAR_SPREAD)));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_derivative() {
+    ImmutableRatesProvider provider = ImmutableRatesProviderSimpleData.IMM_PROV_EUR_FIX;
+    ResolvedSwapTrade trade = FixedIborSwapConventions.EUR_FIXED_1Y_EURIBOR_6M
+        .createTrade(provider.getValuationDate(), Tenor.TENOR_1Y, BuySell.BUY, 1_000_000d, 0.01, REF_DATA)
+        .resolve(REF_DATA);
+    CurrencyParameterSensitivities paramSens = TradeCalibrationMeasure.SWAP_PAR_SPREAD.sensitivities(trade, provider);
+    CurveParameterSize dscOrder = CurveParameterSize.of(CurveName.of("EUR-Discount"), 7);
+    CurveParameterSize fwdOrder = CurveParameterSize.of(CurveName.of("EUR-EURIBOR6M"), 4);
+    CurveParameterSize otherOrder = CurveParameterSize.of(CurveName.of("Other"), 2);
+    List<CurveParameterSize> curveOrder = ImmutableList.of(fwdOrder, otherOrder, dscOrder);
+    DoubleArray expected = paramSens.getSensitivity(fwdOrder.getName(), EUR).getSensitivity()
+        .concat(DoubleArray.filled(2))
+        .concat(paramSens.getSensitivity(dscOrder.getName(), EUR).getSensitivity());
+
+    DoubleArray test = CalibrationMeasures.PAR_SPREAD.derivative(trade, provider, curveOrder);
+    assertThat(test.equalWithTolerance(expected, TOLERANCE)).isTrue();
+
+    ParameterSensitivitySink sink = ParameterSensitivitySink.of(curveOrder);
+    double[] row = new double[sink.getParameterCount()];
+    CalibrationMeasures.PAR_SPREAD.derivative(trade, provider, sink, row);
+    assertThat(DoubleArray.ofUnsafe(row).equalWithTolerance(expected, TOLERANCE)).isTrue();
+  }
+
   @Test
   public void test_measureNotKnown() {
     CalibrationMeasures test = CalibrationMeasures.of("Test", TradeCalibrationMeasure.FRA_PAR_SPREAD);
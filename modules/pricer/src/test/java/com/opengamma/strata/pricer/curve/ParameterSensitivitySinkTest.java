@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.curve;
+
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveParameterSize;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.ZeroRateSensitivity;
+import com.opengamma.strata.pricer.datasets.ImmutableRatesProviderSimpleData;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+
+/**
+ * Test {@link ParameterSensitivitySink}.
+ */
+public class ParameterSensitivitySinkTest {
+
+  private static final CurveName NAME1 = CurveName.of("EUR-Discount");
+  private static final CurveName NAME2 = CurveName.of("Other");
+  private static final CurveName NAME3 = CurveName.of("Unknown");
+  private static final ImmutableList<CurveParameterSize> ORDER = ImmutableList.of(
+      CurveParameterSize.of(NAME2, 2),
+      CurveParameterSize.of(NAME1, 7));
+  private static final double TOLERANCE = 1e-12;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    ParameterSensitivitySink test = ParameterSensitivitySink.of(ORDER);
+    assertThat(test.getCurveOrder()).isEqualTo(ORDER);
+    assertThat(test.getParameterCount()).isEqualTo(9);
+    assertThat(test.findStartIndex(NAME2)).isEqualTo(OptionalInt.of(0));
+    assertThat(test.findStartIndex(NAME1)).isEqualTo(OptionalInt.of(2));
+    assertThat(test.findStartIndex(NAME3)).isEqualTo(OptionalInt.empty());
+    assertThat(test.toString()).isEqualTo("ParameterSensitivitySink[parameters=9]");
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_add_parameterSensitivities() {
+    ParameterSensitivitySink test = ParameterSensitivitySink.of(ORDER);
+    CurrencyParameterSensitivities sens = CurrencyParameterSensitivities.of(
+        CurrencyParameterSensitivity.of(NAME1, EUR, DoubleArray.of(1, 2, 3, 4, 5, 6, 7)),
+        CurrencyParameterSensitivity.of(NAME1, USD, DoubleArray.of(1, 1, 1, 1, 1, 1, 1)),
+        CurrencyParameterSensitivity.of(NAME2, EUR, DoubleArray.of(10, 20)),
+        CurrencyParameterSensitivity.of(NAME3, EUR, DoubleArray.of(100, 200, 300)));
+    double[] row = new double[9];
+    row[0] = 1;
+    test.add(sens, row);
+    assertThat(row).containsExactly(11, 20, 2, 3, 4, 5, 6, 7, 8);
+  }
+
+  @Test
+  public void test_add_pointSensitivities() {
+    ImmutableRatesProvider provider = ImmutableRatesProviderSimpleData.IMM_PROV_EUR_FIX;
+    PointSensitivities pts = PointSensitivities.of(
+        ZeroRateSensitivity.of(EUR, 0.3, 100d),
+        ZeroRateSensitivity.of(EUR, 1.2, -50d),
+        ZeroRateSensitivity.of(EUR, 0.3, 25d));
+    DoubleArray expected = DoubleArray.filled(2)
+        .concat(provider.parameterSensitivity(pts).getSensitivity(NAME1, EUR).getSensitivity());
+
+    ParameterSensitivitySink test = ParameterSensitivitySink.of(ORDER);
+    double[] row = new double[9];
+    test.add(pts, provider, row);
+    assertThat(DoubleArray.ofUnsafe(row).equalWithTolerance(expected, TOLERANCE)).isTrue();
+  }
+
+  @Test
+  public void test_add_pointSensitivities_noParameterSensitivityPerPoint() {
+    ImmutableRatesProvider provider = ImmutableRatesProviderSimpleData.IMM_PROV_EUR_FIX;
+    PointSensitivities pts = PointSensitivities.of(
+        ZeroRateSensitivity.of(EUR, 0.3, 100d),
+        ZeroRateSensitivity.of(EUR, 1.2, -50d),
+        ZeroRateSensitivity.of(EUR, 0.3, 25d));
+    DoubleArray expected = DoubleArray.filled(2)
+        .concat(provider.parameterSensitivity(pts).getSensitivity(NAME1, EUR).getSensitivity());
+    RatesProvider mockProvider = mock(RatesProvider.class);
+    when(mockProvider.discountFactors(EUR)).thenReturn(provider.discountFactors(EUR));
+
+    ParameterSensitivitySink test = ParameterSensitivitySink.of(ORDER);
+    double[] row = new double[9];
+    test.add(pts, mockProvider, row);
+    assertThat(DoubleArray.ofUnsafe(row).equalWithTolerance(expected, TOLERANCE)).isTrue();
+    verify(mockProvider, times(1)).discountFactors(EUR);
+    verify(mockProvider, never()).parameterSensitivity(any(PointSensitivities.class));
+  }
+
+  @Test
+  public void test_add_wrongRowLength() {
+    ParameterSensitivitySink test = ParameterSensitivitySink.of(ORDER);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.add(CurrencyParameterSensitivities.empty(), new double[8]));
+  }
+
+}
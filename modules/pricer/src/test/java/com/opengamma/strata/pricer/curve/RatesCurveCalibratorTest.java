@@ -5,18 +5,436 @@
  */
 package com.opengamma.strata.pricer.curve;
 
+import static com.opengamma.strata.basics.currency.Currency.EUR;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.basics.index.OvernightIndices.EUR_EONIA;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static com.opengamma.strata.product.swap.type.FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M;
+import static com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions.EUR_FIXED_1Y_EONIA_OIS;
+import static com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions.USD_FIXED_1Y_FED_FUND_OIS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.ImmutableMarketDataBuilder;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+import com.opengamma.strata.market.ValueType;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveInfoType;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.CurveNode;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurveDefinition;
+import com.opengamma.strata.market.curve.RatesCurveGroupDefinition;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolators;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.curve.node.FixedIborSwapCurveNode;
+import com.opengamma.strata.market.curve.node.FixedOvernightSwapCurveNode;
+import com.opengamma.strata.market.curve.node.IborFixingDepositCurveNode;
+import com.opengamma.strata.market.observable.QuoteId;
+import com.opengamma.strata.math.rootfind.NewtonVectorRootFinder;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.product.deposit.type.IborFixingDepositTemplate;
+import com.opengamma.strata.product.swap.type.FixedIborSwapTemplate;
+import com.opengamma.strata.product.swap.type.FixedOvernightSwapTemplate;
+
 /**
  * Tests {@link RatesCurveCalibrator}.
  */
 public class RatesCurveCalibratorTest {
 
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VAL_DATE = LocalDate.of(2015, 7, 21);
+  private static final String SCHEME = "CALIBRATION";
+  private static final CurveName DSC_NAME = CurveName.of("USD-DSCON-OIS");
+  private static final CurveName FWD3_NAME = CurveName.of("USD-LIBOR3M-IRS");
+  private static final CurveName EUR_DSC_NAME = CurveName.of("EUR-DSCON-OIS");
+  private static final CurveGroupName GROUP_NAME = CurveGroupName.of("USD-DSCON-LIBOR3M");
+
+  private static final Period[] DSC_TENORS = new Period[] {
+      Period.ofMonths(1), Period.ofMonths(3), Period.ofMonths(6), Period.ofYears(1),
+      Period.ofYears(2), Period.ofYears(5), Period.ofYears(10)};
+  private static final double[] DSC_QUOTES = new double[] {
+      0.0007, 0.0009, 0.0010, 0.0012, 0.0032, 0.0112, 0.0267};
+  private static final Period[] FWD3_TENORS = new Period[] {
+      Period.ofYears(1), Period.ofYears(2), Period.ofYears(5), Period.ofYears(10)};
+  private static final double[] FWD3_QUOTES = new double[] {
+      0.0024, 0.0045, 0.0065, 0.0173, 0.0293};
+  private static final double[] EUR_DSC_QUOTES = new double[] {
+      -0.0010, -0.0011, -0.0012, -0.0013, -0.0010, 0.0005, 0.0040};
+
+  private static final RatesCurveCalibrator CALIBRATOR = RatesCurveCalibrator.of(1e-9, 1e-9, 100);
+  private static final double TOLERANCE = 1e-8;
+
+  //-------------------------------------------------------------------------
   @Test
   public void test_toString() {
     assertThat(RatesCurveCalibrator.standard().toString()).isEqualTo("CurveCalibrator[ParSpread]");
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_recalibrate_unchanged() {
+    MarketData quotes = quotes(0d);
+    ImmutableRatesProvider prior = CALIBRATOR.calibrate(groupDefinition(), quotes, REF_DATA);
+
+    RecordingRootFinder rootFinder = new RecordingRootFinder();
+    RatesCurveCalibrator calibrator =
+        RatesCurveCalibrator.of(rootFinder, CalibrationMeasures.PAR_SPREAD, CalibrationMeasures.PRESENT_VALUE);
+    ImmutableRatesProvider test = calibrator.recalibrate(groupDefinition(), quotes, REF_DATA, prior);
+    // the root finder starts from the prior parameters, seeded with the prior derivatives
+    assertThat(rootFinder.warmStarts).isEqualTo(1);
+    assertThat(rootFinder.coldStarts).isEqualTo(0);
+    assertThat(rootFinder.startPosition).isEqualTo(parameters(prior, DSC_NAME).concat(parameters(prior, FWD3_NAME)));
+    assertCurvesEqual(test, prior);
+  }
+
+  @Test
+  public void test_recalibrate_quoteMove() {
+    MarketData quotes = quotes(0d);
+    MarketData movedQuotes = quotes(0.0001);
+    ImmutableRatesProvider prior = CALIBRATOR.calibrate(groupDefinition(), quotes, REF_DATA);
+
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(groupDefinition(), movedQuotes, REF_DATA);
+    ImmutableRatesProvider test = CALIBRATOR.recalibrate(groupDefinition(), movedQuotes, REF_DATA, prior);
+    assertCurvesEqual(test, expected);
+  }
+
+  @Test
+  public void test_recalibrate_multipleGroups() {
+    MarketData quotes = quotes(0d);
+    MarketData movedQuotes = quotes(0.0001);
+    ImmutableRatesProvider knownData = ImmutableRatesProvider.builder(VAL_DATE).build();
+    List<RatesCurveGroupDefinition> groups = ImmutableList.of(
+        RatesCurveGroupDefinition.builder().name(GROUP_NAME).addDiscountCurve(dscDefinition(), USD)
+            .addForwardCurve(dscDefinition(), USD_FED_FUND).build(),
+        RatesCurveGroupDefinition.builder().name(GROUP_NAME).addForwardCurve(fwd3Definition(), USD_LIBOR_3M).build());
+    ImmutableRatesProvider prior = CALIBRATOR.calibrate(groups, knownData, quotes, REF_DATA);
+
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(groups, knownData, movedQuotes, REF_DATA);
+    ImmutableRatesProvider test = CALIBRATOR.recalibrate(groups, knownData, movedQuotes, REF_DATA, prior);
+    assertCurvesEqual(test, expected);
+  }
+
+  @Test
+  public void test_recalibrate_missingPriorCurve() {
+    MarketData quotes = quotes(0d);
+    ImmutableRatesProvider prior = ImmutableRatesProvider.builder(VAL_DATE).build();
+
+    RecordingRootFinder rootFinder = new RecordingRootFinder();
+    RatesCurveCalibrator calibrator =
+        RatesCurveCalibrator.of(rootFinder, CalibrationMeasures.PAR_SPREAD, CalibrationMeasures.PRESENT_VALUE);
+    ImmutableRatesProvider test = calibrator.recalibrate(groupDefinition(), quotes, REF_DATA, prior);
+    // the root finder starts from the initial guesses of the definition
+    assertThat(rootFinder.warmStarts).isEqualTo(0);
+    assertThat(rootFinder.coldStarts).isEqualTo(1);
+    assertCurvesEqual(test, CALIBRATOR.calibrate(groupDefinition(), quotes, REF_DATA));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_calibrate_scenarios() {
+    double[] shifts = {0d, 0.0001, 0.0002, -0.0001, 0.0005};
+    Map<QuoteId, MarketDataBox<?>> values = new HashMap<>();
+    List<MarketData> scenarios = new ArrayList<>();
+    for (double shift : shifts) {
+      scenarios.add(quotes(shift));
+    }
+    for (MarketDataId<?> id : scenarios.get(0).getIds()) {
+      QuoteId quoteId = (QuoteId) id;
+      values.put(quoteId, MarketDataBox.ofScenarioValues(
+          scenarios.stream().map(md -> md.getValue(quoteId)).collect(toImmutableList())));
+    }
+    ScenarioMarketData marketData = ScenarioMarketData.of(shifts.length, VAL_DATE, values, ImmutableMap.of());
+
+    MarketDataBox<ImmutableRatesProvider> test = CALIBRATOR.calibrate(groupDefinition(), marketData, REF_DATA);
+    assertThat(test.getScenarioCount()).isEqualTo(shifts.length);
+    for (int i = 0; i < shifts.length; i++) {
+      ImmutableRatesProvider expected = CALIBRATOR.calibrate(groupDefinition(), scenarios.get(i), REF_DATA);
+      assertCurvesEqual(test.getValue(i), expected);
+    }
+  }
+
+  @Test
+  public void test_calibrate_scenarios_noScenarios() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CALIBRATOR.calibrate(groupDefinition(), ScenarioMarketData.empty(), REF_DATA));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_parallel_independentBlocks() {
+    MarketData quotes = quotes(0d);
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(multiCurrencyGroupDefinition(), quotes, REF_DATA);
+
+    RecordingRootFinder rootFinder = new RecordingRootFinder();
+    RatesCurveCalibrator calibrator = RatesCurveCalibrator.of(
+        rootFinder, CalibrationMeasures.PAR_SPREAD, CalibrationMeasures.PRESENT_VALUE).parallel();
+    ImmutableRatesProvider test = calibrator.calibrate(multiCurrencyGroupDefinition(), quotes, REF_DATA);
+    // the USD curves are calibrated together, the EUR curve separately
+    assertThat(rootFinder.coldStarts).isEqualTo(0);
+    assertThat(rootFinder.warmStarts).isEqualTo(2);
+    assertThat(rootFinder.startSizes).containsExactlyInAnyOrder(
+        DSC_QUOTES.length + FWD3_QUOTES.length, EUR_DSC_QUOTES.length);
+    assertCurvesEqual(test, expected, DSC_NAME, FWD3_NAME, EUR_DSC_NAME);
+  }
+
+  @Test
+  public void test_parallel_singleBlock() {
+    MarketData quotes = quotes(0d);
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(groupDefinition(), quotes, REF_DATA);
+
+    RecordingRootFinder rootFinder = new RecordingRootFinder();
+    RatesCurveCalibrator calibrator = RatesCurveCalibrator.of(
+        rootFinder, CalibrationMeasures.PAR_SPREAD, CalibrationMeasures.PRESENT_VALUE).parallel();
+    ImmutableRatesProvider test = calibrator.calibrate(groupDefinition(), quotes, REF_DATA);
+    assertThat(rootFinder.warmStarts).isEqualTo(1);
+    assertThat(rootFinder.startSizes).containsExactly(DSC_QUOTES.length + FWD3_QUOTES.length);
+    assertCurvesEqual(test, expected);
+  }
+
+  @Test
+  public void test_parallel_recalibrate() {
+    MarketData quotes = quotes(0d);
+    MarketData movedQuotes = quotes(0.0001);
+    RatesCurveCalibrator calibrator = CALIBRATOR.parallel();
+    ImmutableRatesProvider prior = calibrator.calibrate(multiCurrencyGroupDefinition(), quotes, REF_DATA);
+
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(multiCurrencyGroupDefinition(), movedQuotes, REF_DATA);
+    ImmutableRatesProvider test = calibrator.recalibrate(multiCurrencyGroupDefinition(), movedQuotes, REF_DATA, prior);
+    assertCurvesEqual(test, expected, DSC_NAME, FWD3_NAME, EUR_DSC_NAME);
+  }
+
+  @Test
+  public void test_parallel_multipleGroups() {
+    MarketData quotes = quotes(0d);
+    ImmutableRatesProvider knownData = ImmutableRatesProvider.builder(VAL_DATE).build();
+    List<RatesCurveGroupDefinition> groups = ImmutableList.of(
+        RatesCurveGroupDefinition.builder().name(GROUP_NAME).addCurve(dscDefinition(), USD, USD_FED_FUND)
+            .addCurve(eurDscDefinition(), EUR, EUR_EONIA).build(),
+        RatesCurveGroupDefinition.builder().name(GROUP_NAME).addForwardCurve(fwd3Definition(), USD_LIBOR_3M).build());
+
+    ImmutableRatesProvider expected = CALIBRATOR.calibrate(groups, knownData, quotes, REF_DATA);
+    ImmutableRatesProvider test = CALIBRATOR.parallel().calibrate(groups, knownData, quotes, REF_DATA);
+    assertCurvesEqual(test, expected, DSC_NAME, FWD3_NAME, EUR_DSC_NAME);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_jacobian_independentBlocks() {
+    MarketData quotes = quotes(0d);
+    ImmutableRatesProvider test = CALIBRATOR.calibrate(multiCurrencyGroupDefinition(), quotes, REF_DATA);
+    ImmutableRatesProvider usd = CALIBRATOR.calibrate(groupDefinition(), quotes, REF_DATA);
+    ImmutableRatesProvider eur = CALIBRATOR.calibrate(
+        RatesCurveGroupDefinition.builder().name(GROUP_NAME).addCurve(eurDscDefinition(), EUR, EUR_EONIA).build(),
+        quotes,
+        REF_DATA);
+    // the Jacobian of the group is block-diagonal, with each block matching the separate calibration
+    int usdCount = DSC_QUOTES.length + FWD3_QUOTES.length;
+    int eurCount = EUR_DSC_QUOTES.length;
+    for (CurveName name : ImmutableList.of(DSC_NAME, FWD3_NAME)) {
+      DoubleMatrix testJacobian = jacobian(test, name);
+      DoubleMatrix expectedJacobian = jacobian(usd, name);
+      assertThat(testJacobian.columnCount()).isEqualTo(usdCount + eurCount);
+      for (int i = 0; i < testJacobian.rowCount(); i++) {
+        for (int j = 0; j < usdCount; j++) {
+          assertThat(testJacobian.get(i, j)).isCloseTo(expectedJacobian.get(i, j), offset(1e-6));
+        }
+        for (int j = usdCount; j < usdCount + eurCount; j++) {
+          assertThat(testJacobian.get(i, j)).isEqualTo(0d);
+        }
+      }
+    }
+    DoubleMatrix testJacobian = jacobian(test, EUR_DSC_NAME);
+    DoubleMatrix expectedJacobian = jacobian(eur, EUR_DSC_NAME);
+    for (int i = 0; i < eurCount; i++) {
+      for (int j = 0; j < usdCount; j++) {
+        assertThat(testJacobian.get(i, j)).isEqualTo(0d);
+      }
+      for (int j = 0; j < eurCount; j++) {
+        assertThat(testJacobian.get(i, usdCount + j)).isCloseTo(expectedJacobian.get(i, j), offset(1e-6));
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  private static void assertCurvesEqual(ImmutableRatesProvider test, ImmutableRatesProvider expected) {
+    assertCurvesEqual(test, expected, DSC_NAME, FWD3_NAME);
+  }
+
+  private static void assertCurvesEqual(
+      ImmutableRatesProvider test,
+      ImmutableRatesProvider expected,
+      CurveName... names) {
+
+    for (CurveName name : names) {
+      DoubleArray testParams = parameters(test, name);
+      DoubleArray expectedParams = parameters(expected, name);
+      assertThat(testParams.equalWithTolerance(expectedParams, TOLERANCE)).isTrue();
+      DoubleMatrix testJacobian = jacobian(test, name);
+      DoubleMatrix expectedJacobian = jacobian(expected, name);
+      assertThat(testJacobian.rowCount()).isEqualTo(expectedJacobian.rowCount());
+      assertThat(testJacobian.columnCount()).isEqualTo(expectedJacobian.columnCount());
+      for (int i = 0; i < testJacobian.rowCount(); i++) {
+        for (int j = 0; j < testJacobian.columnCount(); j++) {
+          assertThat(testJacobian.get(i, j)).isCloseTo(expectedJacobian.get(i, j), offset(1e-6));
+        }
+      }
+    }
+  }
+
+  private static DoubleArray parameters(ImmutableRatesProvider provider, CurveName name) {
+    Curve curve = provider.getCurves().get(name);
+    return DoubleArray.of(curve.getParameterCount(), i -> curve.getParameter(i));
+  }
+
+  private static DoubleMatrix jacobian(ImmutableRatesProvider provider, CurveName name) {
+    return provider.getCurves().get(name).getMetadata().getInfo(CurveInfoType.JACOBIAN).getJacobianMatrix();
+  }
+
+  private static MarketData quotes(double shift) {
+    ImmutableMarketDataBuilder builder = ImmutableMarketData.builder(VAL_DATE);
+    for (int i = 0; i < DSC_QUOTES.length; i++) {
+      builder.addValue(QuoteId.of(StandardId.of(SCHEME, "DSC-" + i)), DSC_QUOTES[i] + shift);
+    }
+    for (int i = 0; i < FWD3_QUOTES.length; i++) {
+      builder.addValue(QuoteId.of(StandardId.of(SCHEME, "FWD3-" + i)), FWD3_QUOTES[i] + shift);
+    }
+    for (int i = 0; i < EUR_DSC_QUOTES.length; i++) {
+      builder.addValue(QuoteId.of(StandardId.of(SCHEME, "EUR-DSC-" + i)), EUR_DSC_QUOTES[i] + shift);
+    }
+    return builder.build();
+  }
+
+  private static RatesCurveGroupDefinition groupDefinition() {
+    return RatesCurveGroupDefinition.builder()
+        .name(GROUP_NAME)
+        .addCurve(dscDefinition(), USD, USD_FED_FUND)
+        .addForwardCurve(fwd3Definition(), USD_LIBOR_3M)
+        .build();
+  }
+
+  private static RatesCurveGroupDefinition multiCurrencyGroupDefinition() {
+    return RatesCurveGroupDefinition.builder()
+        .name(GROUP_NAME)
+        .addCurve(dscDefinition(), USD, USD_FED_FUND)
+        .addForwardCurve(fwd3Definition(), USD_LIBOR_3M)
+        .addCurve(eurDscDefinition(), EUR, EUR_EONIA)
+        .build();
+  }
+
+  private static InterpolatedNodalCurveDefinition eurDscDefinition() {
+    List<CurveNode> nodes = new ArrayList<>();
+    for (int i = 0; i < DSC_TENORS.length; i++) {
+      nodes.add(FixedOvernightSwapCurveNode.of(
+          FixedOvernightSwapTemplate.of(Tenor.of(DSC_TENORS[i]), EUR_FIXED_1Y_EONIA_OIS),
+          QuoteId.of(StandardId.of(SCHEME, "EUR-DSC-" + i))));
+    }
+    return curveDefinition(EUR_DSC_NAME, nodes);
+  }
+
+  private static InterpolatedNodalCurveDefinition dscDefinition() {
+    List<CurveNode> nodes = new ArrayList<>();
+    for (int i = 0; i < DSC_TENORS.length; i++) {
+      nodes.add(FixedOvernightSwapCurveNode.of(
+          FixedOvernightSwapTemplate.of(Tenor.of(DSC_TENORS[i]), USD_FIXED_1Y_FED_FUND_OIS),
+          QuoteId.of(StandardId.of(SCHEME, "DSC-" + i))));
+    }
+    return curveDefinition(DSC_NAME, nodes);
+  }
+
+  private static InterpolatedNodalCurveDefinition fwd3Definition() {
+    List<CurveNode> nodes = new ArrayList<>();
+    nodes.add(IborFixingDepositCurveNode.of(
+        IborFixingDepositTemplate.of(USD_LIBOR_3M), QuoteId.of(StandardId.of(SCHEME, "FWD3-0"))));
+    for (int i = 0; i < FWD3_TENORS.length; i++) {
+      nodes.add(FixedIborSwapCurveNode.of(
+          FixedIborSwapTemplate.of(Period.ZERO, Tenor.of(FWD3_TENORS[i]), USD_FIXED_6M_LIBOR_3M),
+          QuoteId.of(StandardId.of(SCHEME, "FWD3-" + (i + 1)))));
+    }
+    return curveDefinition(FWD3_NAME, nodes);
+  }
+
+  private static InterpolatedNodalCurveDefinition curveDefinition(CurveName name, List<CurveNode> nodes) {
+    return InterpolatedNodalCurveDefinition.builder()
+        .name(name)
+        .xValueType(ValueType.YEAR_FRACTION)
+        .yValueType(ValueType.ZERO_RATE)
+        .dayCount(ACT_365F)
+        .interpolator(CurveInterpolators.LINEAR)
+        .extrapolatorLeft(CurveExtrapolators.FLAT)
+        .extrapolatorRight(CurveExtrapolators.FLAT)
+        .nodes(nodes)
+        .build();
+  }
+
+  //-------------------------------------------------------------------------
+  // root finder that records how it was started
+  private static final class RecordingRootFinder implements NewtonVectorRootFinder {
+
+    private final NewtonVectorRootFinder underlying = NewtonVectorRootFinder.broyden(1e-9, 1e-9, 100);
+    private int coldStarts;
+    private int warmStarts;
+    private DoubleArray startPosition;
+    private final List<Integer> startSizes = new ArrayList<>();
+
+    @Override
+    public DoubleArray findRoot(Function<DoubleArray, DoubleArray> function, DoubleArray startPosition) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public DoubleArray findRoot(
+        Function<DoubleArray, DoubleArray> function,
+        Function<DoubleArray, DoubleMatrix> jacobianFunction,
+        DoubleArray startPosition) {
+
+      synchronized (this) {
+        coldStarts++;
+        this.startPosition = startPosition;
+        startSizes.add(startPosition.size());
+      }
+      return underlying.findRoot(function, jacobianFunction, startPosition);
+    }
+
+    @Override
+    public DoubleArray findRoot(
+        Function<DoubleArray, DoubleArray> function,
+        Function<DoubleArray, DoubleMatrix> jacobianFunction,
+        DoubleArray startPosition,
+        DoubleMatrix initialJacobian) {
+
+      synchronized (this) {
+        warmStarts++;
+        this.startPosition = startPosition;
+        startSizes.add(startPosition.size());
+      }
+      return underlying.findRoot(function, jacobianFunction, startPosition, initialJacobian);
+    }
+  }
+
 }
@@ -8,6 +8,7 @@ package com.opengamma.strata.pricer.fxopt;
 import static com.opengamma.strata.basics.currency.Currency.EUR;
 import static com.opengamma.strata.basics.currency.Currency.USD;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
@@ -89,4 +90,38 @@ public class ImpliedTrinomialTreeFxOptionCalibratorTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_cache() {
+    ImpliedTrinomialTreeFxOptionCalibrator test = new ImpliedTrinomialTreeFxOptionCalibrator(39, 2);
+    assertThat(test.getNumberOfSteps()).isEqualTo(39);
+    assertThat(test.getCacheSize()).isEqualTo(2);
+    assertThat(CALIB.getCacheSize()).isEqualTo(0);
+    RecombiningTrinomialTreeData tree = test.calibrateTrinomialTree(CALL, RATE_PROVIDER, VOLS);
+    assertThat(tree).isEqualTo(TREE_DATA);
+    // equal inputs, distinct instances
+    ImmutableRatesProvider ratesCopy = RATE_PROVIDER.toBuilder().build();
+    assertThat(test.calibrateTrinomialTree(CALL, ratesCopy, VOLS)).isSameAs(tree);
+    // different volatilities and expiry
+    RecombiningTrinomialTreeData treeMrkt = test.calibrateTrinomialTree(CALL, RATE_PROVIDER, VOLS_MRKT);
+    assertThat(treeMrkt).isEqualTo(TREE_DATA_MRKT);
+    assertThat(test.calibrateTrinomialTree(CALL, RATE_PROVIDER, VOLS)).isSameAs(tree);
+    double timeToExpiry = VOLS.relativeTime(EXPIRY_DATETIME) * 0.5;
+    RecombiningTrinomialTreeData treeShort =
+        test.calibrateTrinomialTree(timeToExpiry, FX_PRODUCT.getCurrencyPair(), RATE_PROVIDER, VOLS);
+    assertThat(treeShort.getTime(39)).isEqualTo(timeToExpiry);
+    // least recently used evicted
+    assertThat(test.calibrateTrinomialTree(CALL, RATE_PROVIDER, VOLS)).isSameAs(tree);
+    RecombiningTrinomialTreeData treeMrktRecalibrated = test.calibrateTrinomialTree(CALL, RATE_PROVIDER, VOLS_MRKT);
+    assertThat(treeMrktRecalibrated).isNotSameAs(treeMrkt).isEqualTo(treeMrkt);
+  }
+
+  @Test
+  public void test_cache_noCache() {
+    ImpliedTrinomialTreeFxOptionCalibrator test = new ImpliedTrinomialTreeFxOptionCalibrator(39, 0);
+    RecombiningTrinomialTreeData tree = test.calibrateTrinomialTree(CALL, RATE_PROVIDER, VOLS);
+    assertThat(test.calibrateTrinomialTree(CALL, RATE_PROVIDER, VOLS)).isNotSameAs(tree).isEqualTo(tree);
+    assertThatIllegalArgumentException().isThrownBy(() -> new ImpliedTrinomialTreeFxOptionCalibrator(39, -1));
+  }
+
 }
@@ -332,6 +332,23 @@ public class ImpliedTrinomialTreeFxSingleBarrierOptionProductPricerTest {
     assertThat(ce).isEqualTo(ceWithData);
   }
 
+  @Test
+  public void test_cachedCalibration() {
+    ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer pricer =
+        new ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(21);
+    ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer cachedPricer =
+        new ImpliedTrinomialTreeFxSingleBarrierOptionProductPricer(new ImpliedTrinomialTreeFxOptionCalibrator(21, 10));
+    assertThat(cachedPricer.getCalibrator().getCacheSize()).isEqualTo(10);
+    assertThat(cachedPricer.presentValue(CALL_DKO, RATE_PROVIDER, VOLS))
+        .isEqualTo(pricer.presentValue(CALL_DKO, RATE_PROVIDER, VOLS));
+    assertThat(cachedPricer.presentValue(CALL_UKI_C, RATE_PROVIDER, VOLS))
+        .isEqualTo(pricer.presentValue(CALL_UKI_C, RATE_PROVIDER, VOLS));
+    assertThat(cachedPricer.currencyExposure(CALL_UKI_C, RATE_PROVIDER, VOLS))
+        .isEqualTo(pricer.currencyExposure(CALL_UKI_C, RATE_PROVIDER, VOLS));
+    assertThat(cachedPricer.presentValueSensitivityRates(CALL_UKI_C, RATE_PROVIDER, VOLS))
+        .isEqualTo(pricer.presentValueSensitivityRates(CALL_UKI_C, RATE_PROVIDER, VOLS));
+  }
+
   @Test
   public void test_expired_calibration() {
     assertThatIllegalArgumentException()
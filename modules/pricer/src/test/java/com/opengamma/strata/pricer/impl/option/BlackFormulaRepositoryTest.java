@@ -8956,4 +8956,94 @@ public class BlackFormulaRepositoryTest {
     assertThat(bsD2[1][2]).as("AD Second order: 2nd - str-vol").isCloseTo(bsD2[2][1], offset(TOLERANCE_1));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_batch() {
+    double[] forwards = {0d, 1e-14, 85d, FORWARD, 2e13};
+    double[] strikes = {0d, 1e-14, FORWARD, 250d, 3e13};
+    double[] times = {0d, 1e-30, 0.25, TIME_TO_EXPIRY};
+    double[] vols = {0d, 0.2, 0.8, 1e14};
+    int size = 2 * forwards.length * strikes.length * times.length * vols.length;
+    double[] forward = new double[size];
+    double[] strike = new double[size];
+    double[] time = new double[size];
+    double[] vol = new double[size];
+    boolean[] isCall = new boolean[size];
+    int n = 0;
+    for (double f : forwards) {
+      for (double k : strikes) {
+        for (double t : times) {
+          for (double v : vols) {
+            for (int c = 0; c < 2; c++) {
+              forward[n] = f;
+              strike[n] = k;
+              time[n] = t;
+              vol[n] = v;
+              isCall[n] = c == 0;
+              n++;
+            }
+          }
+        }
+      }
+    }
+    double[] prices = new double[size];
+    BlackFormulaRepository.price(forward, strike, time, vol, isCall, prices);
+    double[] prices2 = new double[size];
+    double[] vegas = new double[size];
+    BlackFormulaRepository.priceAndVega(forward, strike, time, vol, isCall, prices2, vegas);
+    double[] prices3 = new double[size];
+    double[][] derivatives = new double[4][size];
+    BlackFormulaRepository.priceAdjoint(forward, strike, time, vol, isCall, prices3, derivatives);
+    for (int i = 0; i < size; i++) {
+      double price = BlackFormulaRepository.price(forward[i], strike[i], time[i], vol[i], isCall[i]);
+      double vega = BlackFormulaRepository.vega(forward[i], strike[i], time[i], vol[i]);
+      ValueDerivatives adjoint = BlackFormulaRepository.priceAdjoint(forward[i], strike[i], time[i], vol[i], isCall[i]);
+      assertThat(prices[i]).isEqualTo(price);
+      assertThat(prices2[i]).isEqualTo(price);
+      assertThat(vegas[i]).isEqualTo(vega);
+      assertThat(prices3[i]).isEqualTo(adjoint.getValue());
+      for (int j = 0; j < 4; j++) {
+        assertThat(derivatives[j][i]).isEqualTo(adjoint.getDerivative(j));
+      }
+    }
+  }
+
+  @Test
+  public void test_batch_impliedVolatility() {
+    double[] forward = {0.01, 0.01, 0.01, 85d, 85d};
+    double[] strike = {0.004, 0.00972, 0.026, 85d, 250d};
+    double[] time = {0.1, 0.1, 0.1, 2d, 10d};
+    double[] vol = {0.4342, 0.4342, 0.4342, 0.25, 0.6};
+    boolean[] isCall = {false, true, true, true, false};
+    double[] prices = new double[5];
+    BlackFormulaRepository.price(forward, strike, time, vol, isCall, prices);
+    double[] impliedVols = new double[5];
+    BlackFormulaRepository.impliedVolatility(prices, forward, strike, time, isCall, impliedVols);
+    for (int i = 0; i < 5; i++) {
+      assertThat(impliedVols[i])
+          .isEqualTo(BlackFormulaRepository.impliedVolatility(prices[i], forward[i], strike[i], time[i], isCall[i]))
+          .isCloseTo(vol[i], offset(1e-10));
+    }
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackFormulaRepository.impliedVolatility(prices, forward, strike, time, isCall, new double[4]));
+  }
+
+  @Test
+  public void test_batch_invalid() {
+    double[] one = {1d};
+    boolean[] call = {true};
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackFormulaRepository.price(one, new double[2], one, one, call, new double[1]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackFormulaRepository.price(one, one, one, one, call, new double[2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackFormulaRepository.price(new double[] {-1d}, one, one, one, call, new double[1]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackFormulaRepository.priceAndVega(one, one, one, one, call, new double[1], new double[0]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackFormulaRepository.priceAdjoint(one, one, one, one, call, new double[1], new double[3][1]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlackFormulaRepository.priceAdjoint(one, one, one, one, call, new double[1], new double[4][2]));
+  }
+
 }
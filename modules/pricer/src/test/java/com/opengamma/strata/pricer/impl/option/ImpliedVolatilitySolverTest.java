@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static com.opengamma.strata.product.common.PutCall.CALL;
+import static com.opengamma.strata.product.common.PutCall.PUT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link ImpliedVolatilitySolver}.
+ */
+public class ImpliedVolatilitySolverTest {
+
+  private static final double FORWARD = 0.01;
+  private static final double[] LOGNORMAL_VOLS = {0.005, 0.05, 0.2, 0.4342, 1d, 2d};
+  private static final double[] NORMAL_VOLS = {0.0001, 0.005, 0.01, 0.05};
+  private static final double[] TIMES = {0.01, 0.1, 1d, 5d, 30d};
+  private static final double TOL = 1e-9;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_black_roundTrip() {
+    for (double vol : LOGNORMAL_VOLS) {
+      for (double time : TIMES) {
+        double totalVol = vol * Math.sqrt(time);
+        for (int i = -60; i <= 60; i++) {
+          double strike = FORWARD * Math.exp(0.1 * i * totalVol);
+          double otmPrice = BlackFormulaRepository.price(FORWARD, strike, time, vol, strike >= FORWARD);
+          // the volatility is not defined by prices below or close to the bounds
+          if (otmPrice < 1e-280 || Math.min(FORWARD, strike) - otmPrice < 1e-8 * Math.min(FORWARD, strike)) {
+            continue;
+          }
+          double x = -Math.abs(Math.log(FORWARD / strike));
+          double computed = ImpliedVolatilitySolver.blackTotalVolatility(otmPrice / Math.sqrt(FORWARD * strike), x);
+          assertThat(computed).isCloseTo(totalVol, offset(TOL * totalVol));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void test_black_atm() {
+    double price = BlackFormulaRepository.price(FORWARD, FORWARD, 2d, 0.3, true);
+    assertThat(ImpliedVolatilitySolver.blackTotalVolatility(price / FORWARD, 0d))
+        .isCloseTo(0.3 * Math.sqrt(2d), offset(1e-14));
+  }
+
+  @Test
+  public void test_black_zeroPrice() {
+    assertThat(ImpliedVolatilitySolver.blackTotalVolatility(0d, -0.5)).isEqualTo(0d);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_bachelier_roundTrip() {
+    for (double vol : NORMAL_VOLS) {
+      for (double time : TIMES) {
+        double totalVol = vol * Math.sqrt(time);
+        for (int i = -60; i <= 60; i++) {
+          double strike = FORWARD + 0.1 * i * totalVol;
+          double otmPrice = NormalFormulaRepository.price(FORWARD, strike, time, vol, strike >= FORWARD ? CALL : PUT);
+          if (otmPrice < 1e-280) {
+            continue;
+          }
+          double computed = ImpliedVolatilitySolver.bachelierTotalVolatility(otmPrice, Math.abs(FORWARD - strike));
+          assertThat(computed).isCloseTo(totalVol, offset(TOL * totalVol));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void test_bachelier_atm() {
+    double price = NormalFormulaRepository.price(FORWARD, FORWARD, 2d, 0.01, CALL);
+    assertThat(ImpliedVolatilitySolver.bachelierTotalVolatility(price, 0d))
+        .isCloseTo(0.01 * Math.sqrt(2d), offset(1e-16));
+  }
+
+  @Test
+  public void test_bachelier_zeroPrice() {
+    assertThat(ImpliedVolatilitySolver.bachelierTotalVolatility(0d, 0.01)).isEqualTo(0d);
+  }
+
+}
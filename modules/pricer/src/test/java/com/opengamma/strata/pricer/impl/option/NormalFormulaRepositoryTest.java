@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static com.opengamma.strata.product.common.PutCall.CALL;
+import static com.opengamma.strata.product.common.PutCall.PUT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Test {@link NormalFormulaRepository}.
+ */
+public class NormalFormulaRepositoryTest {
+
+  private static final double[] FORWARDS = {-0.01, 0d, 0.02, 0.025};
+  private static final double[] STRIKES = {-0.005, 0d, 0.02, 0.05};
+  private static final double[] TIMES = {0d, 0.25, 4.5};
+  private static final double[] VOLS = {0d, 1e-20, 0.01};
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_batch() {
+    int size = 2 * FORWARDS.length * STRIKES.length * TIMES.length * VOLS.length;
+    double[] forward = new double[size];
+    double[] strike = new double[size];
+    double[] time = new double[size];
+    double[] vol = new double[size];
+    boolean[] isCall = new boolean[size];
+    int n = 0;
+    for (double f : FORWARDS) {
+      for (double k : STRIKES) {
+        for (double t : TIMES) {
+          for (double v : VOLS) {
+            for (int c = 0; c < 2; c++) {
+              forward[n] = f;
+              strike[n] = k;
+              time[n] = t;
+              vol[n] = v;
+              isCall[n] = c == 0;
+              n++;
+            }
+          }
+        }
+      }
+    }
+    double[] prices = new double[size];
+    NormalFormulaRepository.price(forward, strike, time, vol, isCall, prices);
+    double[] prices2 = new double[size];
+    double[] vegas = new double[size];
+    NormalFormulaRepository.priceAndVega(forward, strike, time, vol, isCall, prices2, vegas);
+    double[] prices3 = new double[size];
+    double[][] derivatives = new double[3][size];
+    NormalFormulaRepository.priceAdjoint(forward, strike, time, vol, isCall, prices3, derivatives);
+    for (int i = 0; i < size; i++) {
+      PutCall putCall = isCall[i] ? CALL : PUT;
+      double price = NormalFormulaRepository.price(forward[i], strike[i], time[i], vol[i], putCall);
+      double vega = NormalFormulaRepository.vega(forward[i], strike[i], time[i], vol[i], putCall);
+      ValueDerivatives adjoint = NormalFormulaRepository.priceAdjoint(forward[i], strike[i], time[i], vol[i], 1d, putCall);
+      assertThat(prices[i]).isEqualTo(price);
+      assertThat(prices2[i]).isEqualTo(price);
+      assertThat(vegas[i]).isEqualTo(vega);
+      assertThat(prices3[i]).isEqualTo(adjoint.getValue());
+      for (int j = 0; j < 3; j++) {
+        assertThat(derivatives[j][i]).isEqualTo(adjoint.getDerivative(j));
+      }
+    }
+  }
+
+  @Test
+  public void test_batch_impliedVolatility() {
+    double[] forward = {-0.01, 0.02, 0.02, 0.025, 0.025};
+    double[] strike = {-0.005, 0.02, 0.05, 0d, 0.026};
+    double[] time = {0.25, 0.25, 4.5, 4.5, 10d};
+    double[] vol = {0.004, 0.01, 0.0075, 0.012, 0.006};
+    boolean[] isCall = {false, true, true, false, true};
+    double[] prices = new double[5];
+    NormalFormulaRepository.price(forward, strike, time, vol, isCall, prices);
+    double[] impliedVols = new double[5];
+    NormalFormulaRepository.impliedVolatility(prices, forward, strike, time, isCall, impliedVols);
+    for (int i = 0; i < 5; i++) {
+      PutCall putCall = isCall[i] ? CALL : PUT;
+      assertThat(impliedVols[i])
+          .isEqualTo(NormalFormulaRepository.impliedVolatility(prices[i], forward[i], strike[i], time[i], 0d, 1d, putCall))
+          .isCloseTo(vol[i], offset(1e-12));
+    }
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NormalFormulaRepository.impliedVolatility(prices, forward, strike, time, isCall, new double[4]));
+  }
+
+  @Test
+  public void test_batch_invalid() {
+    double[] one = {1d};
+    boolean[] call = {true};
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NormalFormulaRepository.price(one, one, one, one, new boolean[2], new double[1]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NormalFormulaRepository.price(one, one, one, one, call, new double[2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NormalFormulaRepository.priceAndVega(one, one, one, one, call, new double[1], new double[0]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NormalFormulaRepository.priceAdjoint(one, one, one, one, call, new double[1], new double[4][1]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NormalFormulaRepository.priceAdjoint(one, one, one, one, call, new double[1], new double[3][2]));
+  }
+
+}
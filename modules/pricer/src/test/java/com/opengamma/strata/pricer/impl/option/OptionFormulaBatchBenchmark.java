@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Benchmark of the batch Black and normal formulas, writing into caller supplied arrays,
+ * against calling the scalar formulas for each option.
+ * <p>
+ * The options are a strip of calls and puts over a range of strikes and expiries,
+ * as found in caplet stripping and smile calibration.
+ * <p>
+ * Run using the main method, or via the JMH runner on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionFormulaBatchBenchmark {
+
+  /** The number of options. */
+  @Param({"100", "10000"})
+  private int size;
+
+  private double[] forward;
+  private double[] strike;
+  private double[] normalStrike;
+  private double[] timeToExpiry;
+  private double[] lognormalVol;
+  private double[] normalVol;
+  private boolean[] isCall;
+  private double[] prices;
+  private double[] vegas;
+  private double[][] blackDerivatives;
+  private double[][] normalDerivatives;
+
+  //-------------------------------------------------------------------------
+  @Setup(Level.Trial)
+  public void setUp() {
+    forward = new double[size];
+    strike = new double[size];
+    normalStrike = new double[size];
+    timeToExpiry = new double[size];
+    lognormalVol = new double[size];
+    normalVol = new double[size];
+    isCall = new boolean[size];
+    for (int i = 0; i < size; i++) {
+      forward[i] = 0.02 + 0.00001 * (i % 100);
+      strike[i] = 0.005 + 0.0005 * (i % 80);
+      normalStrike[i] = -0.01 + 0.0005 * (i % 80);
+      timeToExpiry[i] = 0.25 + 0.25 * (i % 120);
+      lognormalVol[i] = 0.15 + 0.002 * (i % 50);
+      normalVol[i] = 0.004 + 0.00005 * (i % 50);
+      isCall[i] = strike[i] >= forward[i];
+    }
+    prices = new double[size];
+    vegas = new double[size];
+    blackDerivatives = new double[4][size];
+    normalDerivatives = new double[3][size];
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public void blackPriceScalar(Blackhole bh) {
+    for (int i = 0; i < size; i++) {
+      bh.consume(BlackFormulaRepository.price(forward[i], strike[i], timeToExpiry[i], lognormalVol[i], isCall[i]));
+    }
+  }
+
+  @Benchmark
+  public double[] blackPriceBatch() {
+    BlackFormulaRepository.price(forward, strike, timeToExpiry, lognormalVol, isCall, prices);
+    return prices;
+  }
+
+  @Benchmark
+  public void blackPriceAndVegaScalar(Blackhole bh) {
+    for (int i = 0; i < size; i++) {
+      bh.consume(BlackFormulaRepository.price(forward[i], strike[i], timeToExpiry[i], lognormalVol[i], isCall[i]));
+      bh.consume(BlackFormulaRepository.vega(forward[i], strike[i], timeToExpiry[i], lognormalVol[i]));
+    }
+  }
+
+  @Benchmark
+  public double[] blackPriceAndVegaBatch() {
+    BlackFormulaRepository.priceAndVega(forward, strike, timeToExpiry, lognormalVol, isCall, prices, vegas);
+    return vegas;
+  }
+
+  @Benchmark
+  public void blackPriceAdjointScalar(Blackhole bh) {
+    for (int i = 0; i < size; i++) {
+      ValueDerivatives result =
+          BlackFormulaRepository.priceAdjoint(forward[i], strike[i], timeToExpiry[i], lognormalVol[i], isCall[i]);
+      bh.consume(result);
+    }
+  }
+
+  @Benchmark
+  public double[][] blackPriceAdjointBatch() {
+    BlackFormulaRepository.priceAdjoint(forward, strike, timeToExpiry, lognormalVol, isCall, prices, blackDerivatives);
+    return blackDerivatives;
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  public void normalPriceScalar(Blackhole bh) {
+    for (int i = 0; i < size; i++) {
+      PutCall putCall = PutCall.ofPut(!isCall[i]);
+      bh.consume(NormalFormulaRepository.price(forward[i], normalStrike[i], timeToExpiry[i], normalVol[i], putCall));
+    }
+  }
+
+  @Benchmark
+  public double[] normalPriceBatch() {
+    NormalFormulaRepository.price(forward, normalStrike, timeToExpiry, normalVol, isCall, prices);
+    return prices;
+  }
+
+  @Benchmark
+  public void normalPriceAdjointScalar(Blackhole bh) {
+    for (int i = 0; i < size; i++) {
+      PutCall putCall = PutCall.ofPut(!isCall[i]);
+      ValueDerivatives result =
+          NormalFormulaRepository.priceAdjoint(forward[i], normalStrike[i], timeToExpiry[i], normalVol[i], 1d, putCall);
+      bh.consume(result);
+    }
+  }
+
+  @Benchmark
+  public double[][] normalPriceAdjointBatch() {
+    NormalFormulaRepository.priceAdjoint(forward, normalStrike, timeToExpiry, normalVol, isCall, prices, normalDerivatives);
+    return normalDerivatives;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(OptionFormulaBatchBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+
+/**
+ * Benchmark of the throughput of the Hull-White Monte Carlo engine, in paths per second.
+ * <p>
+ * The product is a 10 year Bermudan receiver swaption, exercisable yearly after one year into
+ * the co-terminal swap with semi-annual cash flows.
+ * The serial engine gives the throughput per core.
+ * <p>
+ * Run using the main method, or via the JMH runner on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HullWhiteOneFactorMonteCarloEngineBenchmark {
+
+  /** The number of paths. */
+  private static final int PATH_COUNT = 1 << 16;
+  private static final HullWhiteOneFactorPiecewiseConstantParameters PARAMETERS =
+      HullWhiteOneFactorPiecewiseConstantParameters.of(
+          0.03, DoubleArray.of(0.008, 0.009, 0.01, 0.011), DoubleArray.of(1d, 3d, 5d));
+
+  /** The sampling. */
+  @Param({"PSEUDO_RANDOM", "ANTITHETIC", "SOBOL"})
+  private String sampling;
+  /** Whether to use the parallel engine. */
+  @Param({"false", "true"})
+  private boolean parallel;
+
+  private HullWhiteOneFactorMonteCarloEngine engine;
+  private DoubleArray exerciseTimes;
+  private DoubleArray cashFlowTimes;
+  private DoubleArray discountFactors;
+  private DoubleMatrix cashFlowAmounts;
+
+  //-------------------------------------------------------------------------
+  @Setup(Level.Trial)
+  public void setUp() {
+    switch (sampling) {
+      case "SOBOL":
+        engine = HullWhiteOneFactorMonteCarloEngine.ofSobol(PATH_COUNT);
+        break;
+      case "ANTITHETIC":
+        engine = HullWhiteOneFactorMonteCarloEngine.ofAntithetic(PATH_COUNT, 1L);
+        break;
+      default:
+        engine = HullWhiteOneFactorMonteCarloEngine.ofPseudoRandom(PATH_COUNT, 1L);
+        break;
+    }
+    if (parallel) {
+      engine = engine.parallel();
+    }
+    exerciseTimes = DoubleArray.of(9, j -> j + 1d);
+    cashFlowTimes = DoubleArray.of(19, i -> 1d + 0.5 * i);
+    discountFactors = cashFlowTimes.map(t -> Math.exp(-0.02 * t));
+    // on exercise at time j + 1, pay the notional then receive the semi-annual coupons and the notional
+    cashFlowAmounts = DoubleMatrix.of(9, 19, (j, i) -> i < 2 * j ? 0d : i == 2 * j ? -1d : i == 18 ? 1.0125 : 0.0125);
+  }
+
+  //-------------------------------------------------------------------------
+  @Benchmark
+  @OperationsPerInvocation(PATH_COUNT)
+  public double presentValue() {
+    return engine.presentValue(PARAMETERS, exerciseTimes, cashFlowTimes, discountFactors, cashFlowAmounts);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PATH_COUNT)
+  public ValueDerivatives presentValueAdjoint() {
+    return engine.presentValueAdjoint(PARAMETERS, exerciseTimes, cashFlowTimes, discountFactors, cashFlowAmounts);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(HullWhiteOneFactorMonteCarloEngineBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+}
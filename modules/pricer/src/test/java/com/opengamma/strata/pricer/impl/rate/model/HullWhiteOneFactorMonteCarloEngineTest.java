@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.rate.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
+import com.opengamma.strata.pricer.model.HullWhiteOneFactorPiecewiseConstantParameters;
+
+/**
+ * Test {@link HullWhiteOneFactorMonteCarloEngine}.
+ */
+public class HullWhiteOneFactorMonteCarloEngineTest {
+
+  private static final HullWhiteOneFactorPiecewiseConstantParameters PARAMETERS =
+      HullWhiteOneFactorPiecewiseConstantParameters.of(
+          0.01, DoubleArray.of(0.01, 0.011, 0.012, 0.013, 0.014), DoubleArray.of(0.5, 1.0, 2.0, 5.0));
+  private static final HullWhiteOneFactorPiecewiseConstantInterestRateModel MODEL =
+      HullWhiteOneFactorPiecewiseConstantInterestRateModel.DEFAULT;
+  private static final double RATE = 0.025;
+  private static final double STRIKE = 0.028;
+  // the co-terminal receiver swaps, from each exercise time to 10 years
+  private static final DoubleArray EXERCISE_TIMES = DoubleArray.of(5d, 6d, 7d, 8d, 9d);
+  private static final DoubleArray CASH_FLOW_TIMES = DoubleArray.of(5d, 6d, 7d, 8d, 9d, 10d);
+  private static final DoubleArray DISCOUNT_FACTORS = CASH_FLOW_TIMES.map(t -> Math.exp(-RATE * t));
+  private static final DoubleMatrix CASH_FLOWS = DoubleMatrix.of(5, 6, (j, i) -> i < j ? 0d : i == j ? -1d : i == 5 ? 1d + STRIKE : STRIKE);
+  private static final int PATH_COUNT = 1 << 14;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_european() {
+    for (int j = 0; j < EXERCISE_TIMES.size(); j++) {
+      double expected = europeanAnalytic(j);
+      double sobol = HullWhiteOneFactorMonteCarloEngine.ofSobol(PATH_COUNT)
+          .presentValue(PARAMETERS, exerciseTime(j), CASH_FLOW_TIMES, DISCOUNT_FACTORS, cashFlows(j));
+      double pseudo = HullWhiteOneFactorMonteCarloEngine.ofPseudoRandom(4 * PATH_COUNT, 1L)
+          .presentValue(PARAMETERS, exerciseTime(j), CASH_FLOW_TIMES, DISCOUNT_FACTORS, cashFlows(j));
+      double antithetic = HullWhiteOneFactorMonteCarloEngine.ofAntithetic(4 * PATH_COUNT, 1L)
+          .presentValue(PARAMETERS, exerciseTime(j), CASH_FLOW_TIMES, DISCOUNT_FACTORS, cashFlows(j));
+      assertThat(sobol).isCloseTo(expected, offset(2e-3 * expected));
+      assertThat(pseudo).isCloseTo(expected, offset(2e-2 * expected));
+      assertThat(antithetic).isCloseTo(expected, offset(2e-2 * expected));
+    }
+  }
+
+  @Test
+  public void test_european_sensitivity() {
+    HullWhiteOneFactorMonteCarloEngine engine = HullWhiteOneFactorMonteCarloEngine.ofSobol(PATH_COUNT);
+    ValueDerivatives computed =
+        engine.presentValueAdjoint(PARAMETERS, exerciseTime(1), CASH_FLOW_TIMES, DISCOUNT_FACTORS, cashFlows(1));
+    assertThat(computed.getValue())
+        .isEqualTo(engine.presentValue(PARAMETERS, exerciseTime(1), CASH_FLOW_TIMES, DISCOUNT_FACTORS, cashFlows(1)));
+    double shift = 1e-7;
+    for (int i = 0; i < CASH_FLOW_TIMES.size(); i++) {
+      DoubleArray bumped = DISCOUNT_FACTORS.with(i, DISCOUNT_FACTORS.get(i) + shift);
+      double expected = (engine.presentValue(PARAMETERS, exerciseTime(1), CASH_FLOW_TIMES, bumped, cashFlows(1)) -
+          computed.getValue()) / shift;
+      assertThat(computed.getDerivative(i)).isCloseTo(expected, offset(1e-5));
+    }
+    assertThat(computed.getDerivative(0)).isEqualTo(0d);
+  }
+
+  @Test
+  public void test_bermudan() {
+    double maxEuropean = 0d;
+    double sumEuropean = 0d;
+    for (int j = 0; j < EXERCISE_TIMES.size(); j++) {
+      maxEuropean = Math.max(maxEuropean, europeanAnalytic(j));
+      sumEuropean += europeanAnalytic(j);
+    }
+    HullWhiteOneFactorMonteCarloEngine engine = HullWhiteOneFactorMonteCarloEngine.ofSobol(PATH_COUNT);
+    ValueDerivatives computed =
+        engine.presentValueAdjoint(PARAMETERS, EXERCISE_TIMES, CASH_FLOW_TIMES, DISCOUNT_FACTORS, CASH_FLOWS);
+    assertThat(computed.getValue()).isGreaterThan(maxEuropean * 1.05).isLessThan(sumEuropean);
+    // the sensitivities are those of the cash flows with the exercise decisions fixed
+    double shift = 1e-7;
+    for (int i = 0; i < CASH_FLOW_TIMES.size(); i++) {
+      DoubleArray bumped = DISCOUNT_FACTORS.with(i, DISCOUNT_FACTORS.get(i) + shift);
+      double expected = (engine.presentValue(PARAMETERS, EXERCISE_TIMES, CASH_FLOW_TIMES, bumped, CASH_FLOWS) -
+          computed.getValue()) / shift;
+      assertThat(computed.getDerivative(i)).isCloseTo(expected, offset(1e-2 * Math.abs(expected)));
+    }
+  }
+
+  @Test
+  public void test_parallel() {
+    HullWhiteOneFactorMonteCarloEngine[] engines = {
+        HullWhiteOneFactorMonteCarloEngine.ofSobol(PATH_COUNT + 100),
+        HullWhiteOneFactorMonteCarloEngine.ofPseudoRandom(PATH_COUNT + 100, 7L),
+        HullWhiteOneFactorMonteCarloEngine.ofAntithetic(PATH_COUNT + 100, 7L)};
+    for (HullWhiteOneFactorMonteCarloEngine engine : engines) {
+      ValueDerivatives serial =
+          engine.presentValueAdjoint(PARAMETERS, EXERCISE_TIMES, CASH_FLOW_TIMES, DISCOUNT_FACTORS, CASH_FLOWS);
+      ValueDerivatives parallel = engine.parallel()
+          .presentValueAdjoint(PARAMETERS, EXERCISE_TIMES, CASH_FLOW_TIMES, DISCOUNT_FACTORS, CASH_FLOWS);
+      assertThat(parallel).isEqualTo(serial);
+      assertThat(engine.parallel().getPathCount()).isEqualTo(PATH_COUNT + 100);
+    }
+  }
+
+  @Test
+  public void test_seed() {
+    double first = HullWhiteOneFactorMonteCarloEngine.ofPseudoRandom(PATH_COUNT, 1L)
+        .presentValue(PARAMETERS, EXERCISE_TIMES, CASH_FLOW_TIMES, DISCOUNT_FACTORS, CASH_FLOWS);
+    double same = HullWhiteOneFactorMonteCarloEngine.ofPseudoRandom(PATH_COUNT, 1L)
+        .presentValue(PARAMETERS, EXERCISE_TIMES, CASH_FLOW_TIMES, DISCOUNT_FACTORS, CASH_FLOWS);
+    double other = HullWhiteOneFactorMonteCarloEngine.ofPseudoRandom(PATH_COUNT, 2L)
+        .presentValue(PARAMETERS, EXERCISE_TIMES, CASH_FLOW_TIMES, DISCOUNT_FACTORS, CASH_FLOWS);
+    assertThat(same).isEqualTo(first);
+    assertThat(other).isNotEqualTo(first).isCloseTo(first, offset(0.05 * first));
+  }
+
+  @Test
+  public void test_invalid() {
+    HullWhiteOneFactorMonteCarloEngine engine = HullWhiteOneFactorMonteCarloEngine.ofSobol(PATH_COUNT);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HullWhiteOneFactorMonteCarloEngine.ofAntithetic(3, 1L));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> HullWhiteOneFactorMonteCarloEngine.ofPseudoRandom(0, 1L));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> engine.presentValue(
+            PARAMETERS, EXERCISE_TIMES, CASH_FLOW_TIMES, DISCOUNT_FACTORS.subArray(1), CASH_FLOWS));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> engine.presentValue(
+            PARAMETERS, DoubleArray.of(6d, 5d), CASH_FLOW_TIMES, DISCOUNT_FACTORS, cashFlows(0, 1)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> engine.presentValue(
+            PARAMETERS, DoubleArray.of(6d), CASH_FLOW_TIMES, DISCOUNT_FACTORS, cashFlows(0)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> engine.presentValue(
+            PARAMETERS, DoubleArray.filled(40, 1d), CASH_FLOW_TIMES, DISCOUNT_FACTORS, DoubleMatrix.filled(40, 6)));
+  }
+
+  //-------------------------------------------------------------------------
+  private static DoubleArray exerciseTime(int exercise) {
+    return DoubleArray.of(EXERCISE_TIMES.get(exercise));
+  }
+
+  private static DoubleMatrix cashFlows(int... exercises) {
+    return DoubleMatrix.of(exercises.length, CASH_FLOW_TIMES.size(), (j, i) -> CASH_FLOWS.get(exercises[j], i));
+  }
+
+  // the explicit formula for the European receiver swaption
+  private static double europeanAnalytic(int exercise) {
+    double expiry = EXERCISE_TIMES.get(exercise);
+    int count = CASH_FLOW_TIMES.size() - exercise;
+    double[] discountedCashFlow = new double[count];
+    double[] alpha = new double[count];
+    for (int i = 0; i < count; i++) {
+      discountedCashFlow[i] = CASH_FLOWS.get(exercise, i + exercise) * DISCOUNT_FACTORS.get(i + exercise);
+      alpha[i] = MODEL.alpha(PARAMETERS, 0d, expiry, expiry, CASH_FLOW_TIMES.get(i + exercise));
+    }
+    double kappa = MODEL.kappa(DoubleArray.ofUnsafe(discountedCashFlow), DoubleArray.ofUnsafe(alpha));
+    double pv = 0d;
+    for (int i = 0; i < count; i++) {
+      pv += discountedCashFlow[i] * NormalDistribution.standardCdf(kappa + alpha[i]);
+    }
+    return pv;
+  }
+
+}
@@ -19,6 +19,7 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.pricer.fxopt.RecombiningTrinomialTreeData;
 import com.opengamma.strata.product.common.PutCall;
+import com.opengamma.strata.product.option.BarrierType;
 
 /**
  * Test {@link TrinomialTree}.
@@ -83,4 +84,206 @@ public class TrinomialTreeTest {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Test the workspace reproduces the backward induction with the array-returning methods exactly.
+   */
+  @Test
+  public void test_workspace() {
+    LatticeSpecification lattice = new CoxRossRubinsteinLatticeSpecification();
+    TrinomialTreeWorkspace workspace = new TrinomialTreeWorkspace();
+    for (int nSteps : new int[] {1, 2, 57, 20}) {
+      double dt = TIME / nSteps;
+      double[] params = lattice.getParametersTrinomial(0.1, 0.03, dt).toArray();
+      RecombiningTrinomialTreeData treeData = treeData(nSteps, params, 0.03);
+      List<OptionFunction> functions = new ArrayList<>();
+      functions.add(EuropeanVanillaOptionFunction.of(105., TIME, PutCall.CALL, nSteps));
+      functions.add(EuropeanVanillaOptionFunction.of(97., TIME, PutCall.PUT, nSteps));
+      functions.add(new AmericanPutFunction(110., nSteps));
+      if (nSteps > 2) {
+        DoubleArray rebate = DoubleArray.of(nSteps + 1, i -> 2d);
+        functions.add(ConstantContinuousSingleBarrierKnockoutFunction.of(
+            105., TIME, PutCall.CALL, nSteps, BarrierType.DOWN, 100.2, rebate));
+        functions.add(ConstantContinuousSingleBarrierKnockoutFunction.of(
+            97., TIME, PutCall.PUT, nSteps, BarrierType.UP, 110.3, rebate));
+      }
+      for (OptionFunction function : functions) {
+        double expectedLattice = latticePrice(function, params, Math.exp(-0.03 * dt));
+        assertThat(TRINOMIAL_TREE.optionPrice(function, lattice, SPOT, 0.1, 0.03, 0d, workspace))
+            .isEqualTo(expectedLattice);
+        assertThat(TRINOMIAL_TREE.optionPrice(function, lattice, SPOT, 0.1, 0.03, 0d)).isEqualTo(expectedLattice);
+        ValueDerivatives expected = dataPriceAdjoint(function, treeData);
+        assertThat(TRINOMIAL_TREE.optionPrice(function, treeData, workspace)).isEqualTo(expected.getValue());
+        assertThat(TRINOMIAL_TREE.optionPrice(function, treeData)).isEqualTo(expected.getValue());
+        assertThat(TRINOMIAL_TREE.optionPriceAdjoint(function, treeData, workspace)).isEqualTo(expected);
+        assertThat(TRINOMIAL_TREE.optionPriceAdjoint(function, treeData)).isEqualTo(expected);
+      }
+    }
+    assertThat(TrinomialTreeWorkspace.current()).isSameAs(TrinomialTreeWorkspace.current());
+  }
+
+  @Test
+  public void test_workspace_latticeOnly() {
+    LatticeSpecification lattice = new CoxRossRubinsteinLatticeSpecification();
+    TrinomialTreeWorkspace workspace = new TrinomialTreeWorkspace();
+    for (int nSteps : new int[] {1, 2, 57, 20}) {
+      double dt = TIME / nSteps;
+      double[] params = lattice.getParametersTrinomial(0.1, 0.03, dt).toArray();
+      OptionFunction function = new LatticeAmericanCallFunction(102., nSteps);
+      double expected = latticePrice(function, params, Math.exp(-0.03 * dt));
+      assertThat(TRINOMIAL_TREE.optionPrice(function, lattice, SPOT, 0.1, 0.03, 0d, workspace)).isEqualTo(expected);
+      assertThat(TRINOMIAL_TREE.optionPrice(function, lattice, SPOT, 0.1, 0.03, 0d)).isEqualTo(expected);
+    }
+  }
+
+  // the tree data equivalent to the lattice
+  private static RecombiningTrinomialTreeData treeData(int nSteps, double[] params, double interest) {
+    double dt = TIME / nSteps;
+    DoubleArray time = DoubleArray.of(nSteps + 1, i -> dt * i);
+    DoubleArray df = DoubleArray.of(nSteps, i -> Math.exp(-interest * dt));
+    double[][] stateValue = new double[nSteps + 1][];
+    stateValue[0] = new double[] {SPOT };
+    List<DoubleMatrix> prob = new ArrayList<DoubleMatrix>();
+    double[] probs = new double[] {params[5], params[4], params[3] };
+    for (int i = 0; i < nSteps; ++i) {
+      int index = i;
+      stateValue[i + 1] = DoubleArray.of(2 * i + 3,
+          j -> SPOT * Math.pow(params[2], index + 1 - j) * Math.pow(params[1], j)).toArray();
+      double[][] probMatrix = new double[2 * i + 1][];
+      Arrays.fill(probMatrix, probs);
+      prob.add(DoubleMatrix.ofUnsafe(probMatrix));
+    }
+    return RecombiningTrinomialTreeData.of(DoubleMatrix.ofUnsafe(stateValue), prob, df, time);
+  }
+
+  // the backward induction with the array-returning methods, constant parameters
+  private static double latticePrice(OptionFunction function, double[] params, double discount) {
+    int nSteps = function.getNumberOfSteps();
+    DoubleArray values = function.getPayoffAtExpiryTrinomial(SPOT, params[2], params[1]);
+    for (int i = nSteps - 1; i > -1; --i) {
+      values = function.getNextOptionValues(
+          discount, params[3], params[4], params[5], values, SPOT, params[2], params[1], i);
+    }
+    return values.get(0);
+  }
+
+  // the backward induction with the array-returning methods, tree data
+  private static ValueDerivatives dataPriceAdjoint(OptionFunction function, RecombiningTrinomialTreeData data) {
+    int nSteps = data.getNumberOfSteps();
+    DoubleArray values = function.getPayoffAtExpiryTrinomial(data.getStateValueAtLayer(nSteps));
+    double delta = 0d;
+    for (int i = nSteps - 1; i > -1; --i) {
+      values = function.getNextOptionValues(
+          data.getDiscountFactorAtLayer(i), data.getProbabilityAtLayer(i), data.getStateValueAtLayer(i), values, i);
+      if (i == 1) {
+        DoubleArray stateValue = data.getStateValueAtLayer(1);
+        double d1 = (values.get(2) - values.get(1)) / (stateValue.get(2) - stateValue.get(1));
+        double d2 = (values.get(1) - values.get(0)) / (stateValue.get(1) - stateValue.get(0));
+        delta = 0.5 * (d1 + d2);
+      }
+    }
+    return ValueDerivatives.of(values.get(0), DoubleArray.of(delta));
+  }
+
+  // an option function overriding only the array-returning methods
+  private static final class AmericanPutFunction implements OptionFunction {
+    private final double strike;
+    private final int nSteps;
+
+    private AmericanPutFunction(double strike, int nSteps) {
+      this.strike = strike;
+      this.nSteps = nSteps;
+    }
+
+    @Override
+    public double getTimeToExpiry() {
+      return TIME;
+    }
+
+    @Override
+    public int getNumberOfSteps() {
+      return nSteps;
+    }
+
+    @Override
+    public DoubleArray getPayoffAtExpiryTrinomial(DoubleArray stateValue) {
+      return stateValue.map(s -> Math.max(strike - s, 0d));
+    }
+
+    @Override
+    public DoubleArray getNextOptionValues(
+        double discountFactor,
+        DoubleMatrix transitionProbability,
+        DoubleArray stateValue,
+        DoubleArray value,
+        int i) {
+
+      DoubleArray continuation = OptionFunction.super.getNextOptionValues(
+          discountFactor, transitionProbability, stateValue, value, i);
+      return continuation.mapWithIndex((j, v) -> Math.max(v, strike - stateValue.get(j)));
+    }
+  }
+
+  // an option function overriding only the array-returning methods with constant parameters
+  private static final class LatticeAmericanCallFunction implements OptionFunction {
+    private final double strike;
+    private final int nSteps;
+
+    private LatticeAmericanCallFunction(double strike, int nSteps) {
+      this.strike = strike;
+      this.nSteps = nSteps;
+    }
+
+    @Override
+    public double getTimeToExpiry() {
+      return TIME;
+    }
+
+    @Override
+    public int getNumberOfSteps() {
+      return nSteps;
+    }
+
+    @Override
+    public DoubleArray getPayoffAtExpiryTrinomial(double spot, double downFactor, double middleFactor) {
+      return DoubleArray.of(
+          2 * nSteps + 1,
+          j -> Math.max(spot * Math.pow(downFactor, nSteps - j) * Math.pow(middleFactor, j) - strike, 0d));
+    }
+
+    @Override
+    public DoubleArray getPayoffAtExpiryTrinomial(DoubleArray stateValue) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public DoubleArray getNextOptionValues(
+        double discountFactor,
+        double upProbability,
+        double middleProbability,
+        double downProbability,
+        DoubleArray value,
+        double spot,
+        double downFactor,
+        double middleFactor,
+        int i) {
+
+      return DoubleArray.of(2 * i + 1, j -> Math.max(
+          discountFactor * (upProbability * value.get(j + 2) + middleProbability * value.get(j + 1) +
+              downProbability * value.get(j)),
+          spot * Math.pow(downFactor, i - j) * Math.pow(middleFactor, j) - strike));
+    }
+
+    @Override
+    public DoubleArray getNextOptionValues(
+        double discountFactor,
+        DoubleMatrix transitionProbability,
+        DoubleArray stateValue,
+        DoubleArray value,
+        int i) {
+
+      throw new UnsupportedOperationException();
+    }
+  }
+
 }
@@ -41,6 +41,7 @@ import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.UnitParameterSensitivity;
+import com.opengamma.strata.market.sensitivity.ColumnarPointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
@@ -122,6 +123,20 @@ public class ImmutableRatesProviderParameterSensitivityTest {
     assertThat(psComputed.equalWithTolerance(psExpected, TOLERANCE_SENSI)).isTrue();
   }
 
+  @Test
+  public void pointToParameterColumnar() {
+    ColumnarPointSensitivities columnar = new ColumnarPointSensitivities();
+    for (int i = 0; i < POINTS.length; i++) {
+      columnar.addAll(POINTS[i]).addAll(POINTS[(i * 5) % POINTS.length]);
+    }
+    assertThat(columnar.size()).isEqualTo(POINTS.length);
+    CurrencyParameterSensitivities psComputed = PROVIDER.parameterSensitivity(columnar);
+    CurrencyParameterSensitivities psExpected = PROVIDER.parameterSensitivity(POINT.multipliedBy(2d));
+    assertThat(psComputed.equalWithTolerance(psExpected, TOLERANCE_SENSI)).isTrue();
+    assertThat(PROVIDER.parameterSensitivity(new ColumnarPointSensitivities()))
+        .isEqualTo(CurrencyParameterSensitivities.empty());
+  }
+
   //-------------------------------------------------------------------------
   private static final double GBP_DSC = 0.99d;
   private static final double USD_DSC = 0.95d;
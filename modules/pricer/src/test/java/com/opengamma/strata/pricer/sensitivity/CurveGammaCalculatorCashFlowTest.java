@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.sensitivity;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.BusinessDayConventions.MODIFIED_FOLLOWING;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_360;
+import static com.opengamma.strata.basics.date.HolidayCalendarIds.USNY;
+import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
+import static com.opengamma.strata.basics.index.OvernightIndices.USD_FED_FUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.date.BusinessDayAdjustment;
+import com.opengamma.strata.basics.date.DaysAdjustment;
+import com.opengamma.strata.basics.index.FxIndexObservation;
+import com.opengamma.strata.basics.index.FxIndices;
+import com.opengamma.strata.basics.schedule.Frequency;
+import com.opengamma.strata.basics.schedule.PeriodicSchedule;
+import com.opengamma.strata.basics.schedule.StubConvention;
+import com.opengamma.strata.basics.value.ValueSchedule;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveName;
+import com.opengamma.strata.market.curve.Curves;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.param.CrossGammaParameterSensitivities;
+import com.opengamma.strata.market.param.CrossGammaParameterSensitivity;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.ZeroRateSensitivity;
+import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
+import com.opengamma.strata.pricer.deposit.DiscountingIborFixingDepositProductPricer;
+import com.opengamma.strata.pricer.deposit.DiscountingTermDepositProductPricer;
+import com.opengamma.strata.pricer.fra.DiscountingFraProductPricer;
+import com.opengamma.strata.pricer.fx.FxIndexSensitivity;
+import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
+import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.swap.DiscountingSwapProductPricer;
+import com.opengamma.strata.product.common.BuySell;
+import com.opengamma.strata.product.common.PayReceive;
+import com.opengamma.strata.product.deposit.ResolvedIborFixingDeposit;
+import com.opengamma.strata.product.deposit.ResolvedTermDeposit;
+import com.opengamma.strata.product.deposit.type.IborFixingDepositTemplate;
+import com.opengamma.strata.product.deposit.type.TermDepositConventions;
+import com.opengamma.strata.product.deposit.type.TermDepositTemplate;
+import com.opengamma.strata.product.fra.FraDiscountingMethod;
+import com.opengamma.strata.product.fra.ResolvedFra;
+import com.opengamma.strata.product.fra.type.FraTemplate;
+import com.opengamma.strata.product.swap.CompoundingMethod;
+import com.opengamma.strata.product.swap.IborRateCalculation;
+import com.opengamma.strata.product.swap.NotionalSchedule;
+import com.opengamma.strata.product.swap.PaymentSchedule;
+import com.opengamma.strata.product.swap.RateCalculationSwapLeg;
+import com.opengamma.strata.product.swap.ResolvedSwap;
+import com.opengamma.strata.product.swap.Swap;
+import com.opengamma.strata.product.swap.type.FixedIborSwapConventions;
+import com.opengamma.strata.product.swap.type.FixedOvernightSwapConventions;
+
+/**
+ * Test {@link CurveGammaCalculator} cross-gamma computed from discounted cash flows.
+ */
+public class CurveGammaCalculatorCashFlowTest {
+
+  private static final ReferenceData REF_DATA = ReferenceData.standard();
+  private static final LocalDate VAL_DATE = RatesProviderDataSets.VAL_DATE_2014_01_22;
+  private static final double NOTIONAL = 1.0e6;
+  private static final double TOL = 1.0e-7;
+  private static final CurveGammaCalculator CENTRAL = CurveGammaCalculator.ofCentralDifference(1.0e-6);
+  private static final DiscountingSwapProductPricer SWAP_PRICER = DiscountingSwapProductPricer.DEFAULT;
+
+  private static final ResolvedSwap SWAP_IBOR = FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M
+      .toTrade(VAL_DATE, LocalDate.of(2014, 3, 10), LocalDate.of(2024, 3, 10), BuySell.BUY, NOTIONAL, 0.015)
+      .getProduct()
+      .resolve(REF_DATA);
+  private static final ResolvedSwap SWAP_OIS = FixedOvernightSwapConventions.USD_FIXED_1Y_FED_FUND_OIS
+      .toTrade(VAL_DATE, LocalDate.of(2014, 1, 24), LocalDate.of(2019, 1, 24), BuySell.SELL, NOTIONAL, 0.01)
+      .getProduct()
+      .resolve(REF_DATA);
+  private static final ResolvedSwap SWAP_COMPOUNDED = Swap.of(
+      FixedIborSwapConventions.USD_FIXED_6M_LIBOR_3M
+          .toTrade(VAL_DATE, LocalDate.of(2014, 3, 10), LocalDate.of(2019, 3, 10), BuySell.SELL, NOTIONAL, 0.012)
+          .getProduct()
+          .getLegs()
+          .get(0),
+      RateCalculationSwapLeg.builder()
+          .payReceive(PayReceive.RECEIVE)
+          .accrualSchedule(PeriodicSchedule.builder()
+              .startDate(LocalDate.of(2014, 3, 10))
+              .endDate(LocalDate.of(2019, 3, 10))
+              .frequency(Frequency.P3M)
+              .businessDayAdjustment(BusinessDayAdjustment.of(MODIFIED_FOLLOWING, USNY))
+              .stubConvention(StubConvention.NONE)
+              .build())
+          .paymentSchedule(PaymentSchedule.builder()
+              .paymentFrequency(Frequency.P6M)
+              .paymentDateOffset(DaysAdjustment.NONE)
+              .compoundingMethod(CompoundingMethod.STRAIGHT)
+              .build())
+          .notionalSchedule(NotionalSchedule.of(USD, NOTIONAL))
+          .calculation(IborRateCalculation.builder()
+              .dayCount(ACT_360)
+              .index(USD_LIBOR_3M)
+              .fixingDateOffset(DaysAdjustment.ofBusinessDays(-2, USNY))
+              .spread(ValueSchedule.of(0.001))
+              .build())
+          .build())
+      .resolve(REF_DATA);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void swap_multiCurve() {
+    assertSwap(SWAP_IBOR, RatesProviderDataSets.MULTI_USD);
+  }
+
+  @Test
+  public void swap_singleCurve() {
+    assertSwap(SWAP_IBOR, RatesProviderDataSets.SINGLE_USD);
+  }
+
+  @Test
+  public void swap_overnight() {
+    assertThat(SWAP_PRICER.presentValueSensitivityNonCashFlows(SWAP_OIS, RatesProviderDataSets.MULTI_USD).build().size())
+        .isEqualTo(0);
+    assertSwap(SWAP_OIS, RatesProviderDataSets.MULTI_USD);
+    assertSwap(SWAP_OIS, RatesProviderDataSets.SINGLE_USD);
+  }
+
+  @Test
+  public void swap_compounded() {
+    // the compounded floating periods are not discounted cash flows, their gamma is computed by finite difference
+    assertThat(SWAP_PRICER.presentValueSensitivityNonCashFlows(SWAP_COMPOUNDED, RatesProviderDataSets.MULTI_USD).build().size())
+        .isGreaterThan(0);
+    assertSwap(SWAP_COMPOUNDED, RatesProviderDataSets.MULTI_USD);
+  }
+
+  @Test
+  public void swap_combinedCurve() {
+    assertSwap(SWAP_IBOR, RatesProviderDataSets.MULTI_CPI_USD_COMBINED);
+  }
+
+  @Test
+  public void swap_nonLinearCurve() {
+    // curves interpolated non-linearly, the curvature of the curves is computed by finite difference
+    ImmutableRatesProvider multi = RatesProviderDataSets.MULTI_USD;
+    Curve dsc = InterpolatedNodalCurve.of(
+        Curves.zeroRates(CurveName.of("USD-DSC-PCHIP"), ACT_360),
+        RatesProviderDataSets.TIMES_1,
+        RatesProviderDataSets.RATES_1_1,
+        CurveInterpolators.PCHIP);
+    Curve fwd = InterpolatedNodalCurve.of(
+        Curves.zeroRates(CurveName.of("USD-L3-LOGLINEAR"), ACT_360),
+        RatesProviderDataSets.TIMES_2,
+        RatesProviderDataSets.RATES_2_1,
+        CurveInterpolators.LOG_LINEAR);
+    ImmutableRatesProvider provider = multi.toBuilder()
+        .discountCurve(USD, dsc)
+        .overnightIndexCurve(USD_FED_FUND, dsc)
+        .iborIndexCurve(USD_LIBOR_3M, fwd)
+        .build();
+    assertSwap(SWAP_IBOR, provider);
+    assertSwap(SWAP_OIS, provider);
+  }
+
+  @Test
+  public void fra() {
+    RatesProvider provider = RatesProviderDataSets.MULTI_USD;
+    DiscountingFraProductPricer pricer = DiscountingFraProductPricer.DEFAULT;
+    ResolvedFra fraIsda = FraTemplate.of(Period.ofMonths(6), USD_LIBOR_3M)
+        .createTrade(VAL_DATE, BuySell.BUY, NOTIONAL, 0.01, REF_DATA)
+        .getProduct()
+        .resolve(REF_DATA);
+    ResolvedFra fraAfma = fraIsda.toBuilder().discounting(FraDiscountingMethod.AFMA).build();
+    ResolvedFra fraNone = fraIsda.toBuilder().discounting(FraDiscountingMethod.NONE).build();
+    for (ResolvedFra fra : ImmutableList.of(fraIsda, fraAfma, fraNone)) {
+      DiscountedCashFlowSensitivity cashFlow = pricer.presentValueSensitivityCashFlow(fra, provider);
+      assertThat(cashFlow.getSensitivity()).isEqualTo(pricer.presentValueSensitivity(fra, provider));
+      assertThat(cashFlow.getForecastConvexity() == 0d).isEqualTo(fra.getDiscounting() == FraDiscountingMethod.NONE);
+      assertGamma(
+          CENTRAL.calculateCrossGammaIntraCurve(provider, ImmutableList.of(cashFlow), p -> none()),
+          CENTRAL.calculateCrossGammaIntraCurve(provider, p -> p.parameterSensitivity(pricer.presentValueSensitivity(fra, p))));
+    }
+  }
+
+  @Test
+  public void deposits() {
+    RatesProvider provider = RatesProviderDataSets.MULTI_USD;
+    DiscountingTermDepositProductPricer termPricer = DiscountingTermDepositProductPricer.DEFAULT;
+    ResolvedTermDeposit term = TermDepositTemplate.of(Period.ofMonths(6), TermDepositConventions.USD_DEPOSIT_T2)
+        .createTrade(VAL_DATE, BuySell.BUY, NOTIONAL, 0.01, REF_DATA)
+        .getProduct()
+        .resolve(REF_DATA);
+    assertGamma(
+        CENTRAL.calculateCrossGammaIntraCurve(
+            provider, ImmutableList.of(termPricer.presentValueSensitivityCashFlow(term, provider)), p -> none()),
+        CENTRAL.calculateCrossGammaIntraCurve(provider, p -> p.parameterSensitivity(termPricer.presentValueSensitivity(term, p))));
+    DiscountingIborFixingDepositProductPricer fixingPricer = DiscountingIborFixingDepositProductPricer.DEFAULT;
+    ResolvedIborFixingDeposit fixing = IborFixingDepositTemplate.of(USD_LIBOR_3M)
+        .createTrade(VAL_DATE, BuySell.BUY, NOTIONAL, 0.01, REF_DATA)
+        .getProduct()
+        .resolve(REF_DATA);
+    assertGamma(
+        CENTRAL.calculateCrossGammaIntraCurve(
+            provider, ImmutableList.of(fixingPricer.presentValueSensitivityCashFlow(fixing, provider)), p -> none()),
+        CENTRAL.calculateCrossGammaIntraCurve(
+            provider, p -> p.parameterSensitivity(fixingPricer.presentValueSensitivity(fixing, p))));
+  }
+
+  @Test
+  public void invalid() {
+    RatesProvider provider = RatesProviderDataSets.MULTI_USD;
+    FxIndexSensitivity fxSensitivity = FxIndexSensitivity.of(
+        FxIndexObservation.of(FxIndices.EUR_USD_ECB, LocalDate.of(2014, 6, 20), REF_DATA), USD, 1d);
+    List<DiscountedCashFlowSensitivity> fx = ImmutableList.of(DiscountedCashFlowSensitivity.of(fxSensitivity.build()));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CENTRAL.calculateCrossGammaIntraCurve(provider, fx, p -> none()));
+    PointSensitivities twoDates = SWAP_PRICER.presentValueSensitivity(SWAP_IBOR, provider).build()
+        .combinedWith(ZeroRateSensitivity.of(USD, 0.5d, 1d).build());
+    List<DiscountedCashFlowSensitivity> several = ImmutableList.of(DiscountedCashFlowSensitivity.of(twoDates));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CENTRAL.calculateCrossGammaIntraCurve(provider, several, p -> none()));
+  }
+
+  //-------------------------------------------------------------------------
+  private static CurrencyParameterSensitivities none() {
+    return CurrencyParameterSensitivities.empty();
+  }
+
+  // compares the gamma from the cash flows to the gamma by finite difference on the delta
+  private static void assertSwap(ResolvedSwap swap, RatesProvider provider) {
+    CrossGammaParameterSensitivities computed = CENTRAL.calculateCrossGammaIntraCurve(
+        provider,
+        SWAP_PRICER.presentValueSensitivityCashFlows(swap, provider),
+        p -> p.parameterSensitivity(SWAP_PRICER.presentValueSensitivityNonCashFlows(swap, p).build()));
+    Function<ImmutableRatesProvider, CurrencyParameterSensitivities> sensitivityFn =
+        p -> p.parameterSensitivity(SWAP_PRICER.presentValueSensitivity(swap, p).build());
+    assertGamma(computed, CENTRAL.calculateCrossGammaIntraCurve(provider, sensitivityFn));
+  }
+
+  private static void assertGamma(CrossGammaParameterSensitivities computed, CrossGammaParameterSensitivities expected) {
+    assertThat(computed.size()).isEqualTo(expected.size());
+    for (CrossGammaParameterSensitivity expectedSingle : expected.getSensitivities()) {
+      Currency currency = expectedSingle.getCurrency();
+      DoubleMatrix expectedMatrix = expectedSingle.getSensitivity();
+      DoubleMatrix computedMatrix = computed.getSensitivity(expectedSingle.getMarketDataName(), currency).getSensitivity();
+      double scale = 0d;
+      for (int i = 0; i < expectedMatrix.rowCount(); i++) {
+        for (int j = 0; j < expectedMatrix.columnCount(); j++) {
+          scale = Math.max(scale, Math.abs(expectedMatrix.get(i, j)));
+        }
+      }
+      assertThat(scale).isGreaterThan(0d);
+      for (int i = 0; i < expectedMatrix.rowCount(); i++) {
+        for (int j = 0; j < expectedMatrix.columnCount(); j++) {
+          assertThat(computedMatrix.get(i, j)).isCloseTo(expectedMatrix.get(i, j), offset(scale * TOL));
+        }
+      }
+    }
+  }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.sensitivity;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.market.sensitivity.PointSensitivities;
+import com.opengamma.strata.pricer.ZeroRateSensitivity;
+
+/**
+ * Test {@link DiscountedCashFlowSensitivity}.
+ */
+public class DiscountedCashFlowSensitivityTest {
+
+  private static final PointSensitivities SENSITIVITY = ZeroRateSensitivity.of(USD, 2d, -150d).build();
+
+  @Test
+  public void test_of() {
+    DiscountedCashFlowSensitivity test = DiscountedCashFlowSensitivity.of(SENSITIVITY);
+    assertThat(test.getSensitivity()).isEqualTo(SENSITIVITY);
+    assertThat(test.getForecastConvexity()).isEqualTo(0d);
+    DiscountedCashFlowSensitivity test2 = DiscountedCashFlowSensitivity.of(SENSITIVITY, -0.5d);
+    assertThat(test2.getSensitivity()).isEqualTo(SENSITIVITY);
+    assertThat(test2.getForecastConvexity()).isEqualTo(-0.5d);
+  }
+
+  @Test
+  public void test_of_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> DiscountedCashFlowSensitivity.of(null));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> DiscountedCashFlowSensitivity.of(SENSITIVITY, Double.NaN));
+  }
+
+  @Test
+  public void test_equalsHashCodeToString() {
+    DiscountedCashFlowSensitivity test = DiscountedCashFlowSensitivity.of(SENSITIVITY, -0.5d);
+    assertThat(test)
+        .isEqualTo(test)
+        .isEqualTo(DiscountedCashFlowSensitivity.of(SENSITIVITY, -0.5d))
+        .isNotEqualTo(DiscountedCashFlowSensitivity.of(SENSITIVITY))
+        .isNotEqualTo(DiscountedCashFlowSensitivity.of(PointSensitivities.empty(), -0.5d))
+        .isNotEqualTo("")
+        .isNotEqualTo(null)
+        .hasSameHashCodeAs(DiscountedCashFlowSensitivity.of(SENSITIVITY, -0.5d));
+    assertThat(test.toString()).contains("forecastConvexity=-0.5");
+  }
+
+}
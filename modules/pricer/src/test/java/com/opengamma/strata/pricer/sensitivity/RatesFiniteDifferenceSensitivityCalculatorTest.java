@@ -7,14 +7,19 @@ package com.opengamma.strata.pricer.sensitivity;
 
 import static com.opengamma.strata.basics.currency.Currency.USD;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.data.Offset.offset;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.basics.currency.Currency;
@@ -95,6 +100,90 @@ public class RatesFiniteDifferenceSensitivityCalculatorTest {
     }
   }
 
+  @Test
+  public void sensitivity_differenceType() {
+    RatesFiniteDifferenceSensitivityCalculator central = RatesFiniteDifferenceSensitivityCalculator.ofCentralDifference(1.0E-4);
+    RatesFiniteDifferenceSensitivityCalculator forward = RatesFiniteDifferenceSensitivityCalculator.ofForwardDifference(1.0E-4);
+    RatesFiniteDifferenceSensitivityCalculator backward = RatesFiniteDifferenceSensitivityCalculator.ofBackwardDifference(1.0E-4);
+    ImmutableRatesProvider provider = RatesProviderDataSets.SINGLE_USD;
+    DoubleArray centralSensi = central.sensitivity(provider, this::fnSquare).getSensitivities().get(0).getSensitivity();
+    DoubleArray forwardSensi = forward.sensitivity(provider, this::fnSquare).getSensitivities().get(0).getSensitivity();
+    DoubleArray backwardSensi = backward.sensitivity(provider, this::fnSquare).getSensitivities().get(0).getSensitivity();
+    assertThat(forward.sensitivity(provider, this::fn)).isEqualTo(FD_CALCULATOR.sensitivity(provider, this::fn));
+    InterpolatedNodalCurve curve = checkInterpolated(provider.getDiscountCurves().get(USD));
+    for (int i = 0; i < curve.getParameterCount(); i++) {
+      double x = curve.getXValues().get(i);
+      // the curve is used for discounting and for the three indices
+      double expected = 4d * 2d * x * curve.getYValues().get(i);
+      // the function is quadratic, thus the central difference is exact
+      assertThat(centralSensi.get(i)).isCloseTo(expected, offset(TOLERANCE_DELTA));
+      assertThat(forwardSensi.get(i)).isCloseTo(expected + 4d * x * 1.0E-4, offset(TOLERANCE_DELTA));
+      assertThat(backwardSensi.get(i)).isCloseTo(expected - 4d * x * 1.0E-4, offset(TOLERANCE_DELTA));
+    }
+  }
+
+  @Test
+  public void sensitivity_executor() {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      RatesFiniteDifferenceSensitivityCalculator serial = RatesFiniteDifferenceSensitivityCalculator.ofCentralDifference(1.0E-5);
+      LocalDate valuationDate = LocalDate.of(2014, 1, 3);
+      CreditRatesProvider credit = CreditRatesProviderDataSets.createCreditRatesProvider(valuationDate);
+      List<RatesFiniteDifferenceSensitivityCalculator> calculators = ImmutableList.of(
+          serial.withExecutor(executor),
+          serial.withExecutor(executor).withBatchSize(4),
+          serial.withBatchSize(4));
+      for (RatesFiniteDifferenceSensitivityCalculator calculator : calculators) {
+        assertThat(calculator.sensitivity(RatesProviderDataSets.MULTI_CPI_USD, this::fnSquare))
+            .isEqualTo(serial.sensitivity(RatesProviderDataSets.MULTI_CPI_USD, this::fnSquare));
+        assertThat(calculator.sensitivity(LegalEntityDiscountingProviderDataSets.ISSUER_REPO_ZERO, this::fn))
+            .isEqualTo(serial.sensitivity(LegalEntityDiscountingProviderDataSets.ISSUER_REPO_ZERO, this::fn));
+        assertThat(calculator.sensitivity(credit, this::creditFunction))
+            .isEqualTo(serial.sensitivity(credit, this::creditFunction));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void sensitivity_executor_exception() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      ImmutableRatesProvider provider = RatesProviderDataSets.MULTI_CPI_USD;
+      RatesFiniteDifferenceSensitivityCalculator calculator = FD_CALCULATOR.withExecutor(executor);
+      assertThatIllegalStateException()
+          .isThrownBy(() -> calculator.sensitivity(provider, p -> {
+            if (p != provider) {
+              throw new IllegalStateException("Bumped");
+            }
+            return fn(p);
+          }));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> FD_CALCULATOR.withExecutor(null));
+    assertThatIllegalArgumentException().isThrownBy(() -> FD_CALCULATOR.withBatchSize(0));
+  }
+
+  // private function for testing. Returns the sum of squared rates multiplied by time
+  private CurrencyAmount fnSquare(ImmutableRatesProvider provider) {
+    double result = 0.0;
+    for (Curve curve : provider.getDiscountCurves().values()) {
+      InterpolatedNodalCurve curveInt = checkInterpolated(curve);
+      result += sumProduct(curveInt.withYValues(curveInt.getYValues().multipliedBy(curveInt.getYValues())));
+    }
+    for (Curve curve : provider.getIndexCurves().values()) {
+      InterpolatedNodalCurve curveInt = checkInterpolated(curve);
+      result += sumProduct(curveInt.withYValues(curveInt.getYValues().multipliedBy(curveInt.getYValues())));
+    }
+    return CurrencyAmount.of(USD, result);
+  }
+
   // private function for testing. Returns the sum of rates multiplied by time
   private CurrencyAmount fn(ImmutableRatesProvider provider) {
     double result = 0.0;
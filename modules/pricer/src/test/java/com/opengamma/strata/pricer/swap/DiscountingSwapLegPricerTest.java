@@ -76,12 +76,16 @@ import com.opengamma.strata.market.param.CurrencyParameterSensitivities;
 import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.sensitivity.PointSensitivities;
 import com.opengamma.strata.market.sensitivity.PointSensitivityBuilder;
+import com.opengamma.strata.pricer.DiscountFactors;
 import com.opengamma.strata.pricer.ZeroRateSensitivity;
 import com.opengamma.strata.pricer.datasets.RatesProviderDataSets;
 import com.opengamma.strata.pricer.impl.MockRatesProvider;
 import com.opengamma.strata.pricer.impl.rate.ForwardInflationInterpolatedRateComputationFn;
 import com.opengamma.strata.pricer.impl.rate.ForwardInflationMonthlyRateComputationFn;
+import com.opengamma.strata.pricer.impl.swap.DiscountingKnownAmountPaymentPeriodPricer;
+import com.opengamma.strata.pricer.impl.swap.DiscountingRatePaymentPeriodPricer;
 import com.opengamma.strata.pricer.impl.swap.DispatchingSwapPaymentEventPricer;
+import com.opengamma.strata.pricer.impl.swap.DispatchingSwapPaymentPeriodPricer;
 import com.opengamma.strata.pricer.rate.IborRateSensitivity;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RatesProvider;
@@ -152,6 +156,11 @@ public class DiscountingSwapLegPricerTest {
     double df2 = 0.98d;
     when(mockProv.discountFactor(USD, FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2.getPaymentDate()))
         .thenReturn(df2);
+    DiscountFactors mockDf = mock(DiscountFactors.class);
+    when(mockProv.discountFactors(USD)).thenReturn(mockDf);
+    when(mockDf.discountFactors(ImmutableList.of(
+        FIXED_RATE_PAYMENT_PERIOD_PAY_USD.getPaymentDate(), FIXED_RATE_PAYMENT_PERIOD_PAY_USD_2.getPaymentDate())))
+        .thenReturn(new double[] {df1, df2});
     when(mockProv.getValuationDate()).thenReturn(RatesProviderDataSets.VAL_DATE_2014_01_22);
     double pvbp = PRICER_LEG.pvbp(leg, mockProv);
     double ceExpected = PRICER_LEG.presentValuePeriodsInternal(leg, mockProv) / pvbp;
@@ -203,6 +212,9 @@ public class DiscountingSwapLegPricerTest {
     double df1 = 0.99d;
     when(mockProv.discountFactor(GBP, p.getPaymentDate()))
         .thenReturn(df1);
+    DiscountFactors mockDf = mock(DiscountFactors.class);
+    when(mockProv.discountFactors(GBP)).thenReturn(mockDf);
+    when(mockDf.discountFactors(ImmutableList.of(p.getPaymentDate()))).thenReturn(new double[] {df1});
     double spread = 1.0E-6;
     RateAccrualPeriod ap1 = FIXED_RATE_ACCRUAL_PERIOD.toBuilder().spread(spread).build();
     RateAccrualPeriod ap2 = FIXED_RATE_ACCRUAL_PERIOD_2.toBuilder().spread(spread).build();
@@ -317,6 +329,47 @@ public class DiscountingSwapLegPricerTest {
     assertThat(test.presentValuePeriodsInternal(IBOR_SWAP_LEG_REC_GBP, MOCK_PROV)).isEqualTo(500d);
   }
 
+  @Test
+  public void test_presentValue_periods_bulkDiscounting() {
+    LocalDate tradeDate = RATES_USD.getValuationDate();
+    LocalDate effectiveDate = USD_LIBOR_3M_LIBOR_6M.calculateSpotDateFromTradeDate(tradeDate, REF_DATA);
+    ResolvedSwapLeg leg = IborIborSwapConventions.USD_LIBOR_3M_LIBOR_6M.getSpreadLeg()
+        .toLeg(effectiveDate, effectiveDate.plus(TENOR_10Y), RECEIVE, NOTIONAL, 0.0015)
+        .resolve(REF_DATA);
+    SwapPaymentPeriodPricer<SwapPaymentPeriod> periodPricer = SwapPaymentPeriodPricer.standard();
+    double pvExpected = 0d;
+    PointSensitivityBuilder sensiExpected = PointSensitivityBuilder.none();
+    for (SwapPaymentPeriod period : leg.getPaymentPeriods()) {
+      pvExpected += periodPricer.presentValue(period, RATES_USD);
+      sensiExpected = sensiExpected.combinedWith(periodPricer.presentValueSensitivity(period, RATES_USD));
+    }
+    assertThat(PRICER_LEG.presentValuePeriodsInternal(leg, RATES_USD)).isEqualTo(pvExpected);
+    assertThat(PRICER_LEG.presentValueSensitivityPeriodsInternal(leg, RATES_USD).build())
+        .isEqualTo(sensiExpected.build());
+    for (CashFlow cashFlow : PRICER_LEG.cashFlowPeriodsInternal(leg, RATES_USD).getCashFlows()) {
+      assertThat(cashFlow.getDiscountFactor()).isEqualTo(RATES_USD.discountFactor(USD, cashFlow.getPaymentDate()));
+    }
+  }
+
+  @Test
+  public void test_presentValue_periods_bulkDiscounting_subclass() {
+    LocalDate tradeDate = RATES_USD.getValuationDate();
+    LocalDate effectiveDate = USD_LIBOR_3M_LIBOR_6M.calculateSpotDateFromTradeDate(tradeDate, REF_DATA);
+    ResolvedSwapLeg leg = IborIborSwapConventions.USD_LIBOR_3M_LIBOR_6M.getSpreadLeg()
+        .toLeg(effectiveDate, effectiveDate.plus(TENOR_10Y), RECEIVE, NOTIONAL, 0.0015)
+        .resolve(REF_DATA);
+    // a subclass overriding the method taking the provider only must be called
+    DispatchingSwapPaymentPeriodPricer periodPricer = new DispatchingSwapPaymentPeriodPricer(
+        DiscountingRatePaymentPeriodPricer.DEFAULT, DiscountingKnownAmountPaymentPeriodPricer.DEFAULT) {
+      @Override
+      public double presentValue(SwapPaymentPeriod paymentPeriod, RatesProvider provider) {
+        return 1d;
+      }
+    };
+    DiscountingSwapLegPricer test = new DiscountingSwapLegPricer(periodPricer, SwapPaymentEventPricer.standard());
+    assertThat(test.presentValuePeriodsInternal(leg, RATES_USD)).isEqualTo(leg.getPaymentPeriods().size());
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_forecastValue() {
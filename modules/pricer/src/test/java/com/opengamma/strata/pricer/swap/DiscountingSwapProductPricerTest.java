@@ -56,6 +56,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -97,6 +98,7 @@ import com.opengamma.strata.pricer.impl.MockRatesProvider;
 import com.opengamma.strata.pricer.rate.IborRateSensitivity;
 import com.opengamma.strata.pricer.rate.ImmutableRatesProvider;
 import com.opengamma.strata.pricer.rate.RatesProvider;
+import com.opengamma.strata.pricer.sensitivity.DiscountedCashFlowSensitivity;
 import com.opengamma.strata.pricer.sensitivity.RatesFiniteDifferenceSensitivityCalculator;
 import com.opengamma.strata.product.swap.CompoundingMethod;
 import com.opengamma.strata.product.swap.FixedAccrualMethod;
@@ -803,6 +805,41 @@ public class DiscountingSwapProductPricerTest {
         .equalWithTolerance(pvSensiExpected.build().normalized(), TOLERANCE_RATE * NOTIONAL)).isTrue();
   }
 
+  @Test
+  public void test_presentValueSensitivityCashFlows() {
+    ResolvedSwapTrade trade = SWAP_USD_FIXED_6M_LIBOR_3M_5Y.resolve(REF_DATA);
+    ResolvedSwap swap = trade.getProduct();
+    List<DiscountedCashFlowSensitivity> cashFlows = SWAP_PRODUCT_PRICER.presentValueSensitivityCashFlows(swap, MULTI_USD);
+    assertThat(cashFlows).hasSize(swap.getLegs().stream().mapToInt(leg -> leg.getPaymentPeriods().size()).sum());
+    PointSensitivities nonCashFlows = SWAP_PRODUCT_PRICER.presentValueSensitivityNonCashFlows(swap, MULTI_USD).build();
+    assertThat(nonCashFlows.size()).isEqualTo(0);
+    PointSensitivities combined = cashFlows.stream()
+        .map(DiscountedCashFlowSensitivity::getSensitivity)
+        .reduce(nonCashFlows, PointSensitivities::combinedWith);
+    PointSensitivities expected = SWAP_PRODUCT_PRICER.presentValueSensitivity(swap, MULTI_USD).build();
+    assertThat(combined.normalized().equalWithTolerance(expected.normalized(), TOLERANCE_RATE * NOTIONAL)).isTrue();
+    // test via SwapTrade
+    DiscountingSwapTradePricer pricerTrade = DiscountingSwapTradePricer.DEFAULT;
+    assertThat(pricerTrade.presentValueSensitivityCashFlows(trade, MULTI_USD)).isEqualTo(cashFlows);
+    assertThat(pricerTrade.presentValueSensitivityNonCashFlows(trade, MULTI_USD)).isEqualTo(nonCashFlows);
+  }
+
+  @Test
+  public void test_presentValueSensitivityCashFlows_inflation() {
+    ImmutableRatesProvider prov = ImmutableRatesProvider.builder(VAL_DATE_INFLATION)
+        .discountCurves(RATES_GBP_INFLATION.getDiscountCurves())
+        .priceIndexCurve(GB_RPI, PRICE_CURVE)
+        .timeSeries(GB_RPI, TS_INFLATION)
+        .build();
+    // the inflation periods are not discounted cash flows
+    PointSensitivities combined = SWAP_PRODUCT_PRICER.presentValueSensitivityCashFlows(SWAP_INFLATION, prov).stream()
+        .map(DiscountedCashFlowSensitivity::getSensitivity)
+        .reduce(SWAP_PRODUCT_PRICER.presentValueSensitivityNonCashFlows(SWAP_INFLATION, prov).build(),
+            PointSensitivities::combinedWith);
+    PointSensitivities expected = SWAP_PRODUCT_PRICER.presentValueSensitivity(SWAP_INFLATION, prov).build();
+    assertThat(combined.normalized().equalWithTolerance(expected.normalized(), TOLERANCE_RATE * NOTIONAL)).isTrue();
+  }
+
   @Test
   public void test_presentValueSensitivity_brl_swap() {
     DiscountingSwapLegPricer pricerLeg = DiscountingSwapLegPricer.DEFAULT;